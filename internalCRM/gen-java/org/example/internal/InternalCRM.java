@@ -6,19 +6,35 @@
  */
 package org.example.internal;
 
-@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.17.0)", date = "2025-10-10")
+@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.17.0)", date = "2026-10-18")
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
 public class InternalCRM {
 
   public interface Iface {
 
-    public java.util.List<InternalLeadDTO> findLeads(double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state) throws org.apache.thrift.TException;
+    public java.util.List<InternalLeadDTO> findLeads(double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state) throws ThriftServerBusyException, org.apache.thrift.TException;
 
-    public java.util.List<InternalLeadDTO> findLeadsByDate(java.lang.String startDate, java.lang.String endDate) throws org.apache.thrift.TException;
+    public java.util.List<InternalLeadDTO> findLeadsByDate(java.lang.String startDate, java.lang.String endDate) throws ThriftServerBusyException, org.apache.thrift.TException;
 
-    public long createLead(InternalLeadDTO lead) throws org.apache.thrift.TException;
+    public long createLead(InternalLeadDTO lead) throws ThriftServerBusyException, org.apache.thrift.TException;
 
-    public void deleteLead(InternalLeadDTO leadDto) throws org.apache.thrift.TException;
+    public void deleteLead(InternalLeadDTO leadDto) throws ThriftNoSuchLeadException, ThriftServerBusyException, org.apache.thrift.TException;
+
+    public void deleteLeadById(long id) throws ThriftNoSuchLeadException, ThriftServerBusyException, org.apache.thrift.TException;
+
+    public InternalLeadPage findLeadsPage(double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state, int pageSize, java.lang.String pageToken) throws ThriftWrongOrderForRevenueException, ThriftWrongStateException, ThriftInvalidPageTokenException, ThriftServerBusyException, org.apache.thrift.TException;
+
+    public InternalLeadPage findLeadsByDatePage(java.lang.String startDate, java.lang.String endDate, int pageSize, java.lang.String pageToken) throws ThriftWrongDateFormatException, ThriftWrongOrderForDateException, ThriftInvalidPageTokenException, ThriftServerBusyException, org.apache.thrift.TException;
+
+    public InternalBatchResult createLeads(java.util.List<InternalLeadDTO> leads) throws ThriftServerBusyException, org.apache.thrift.TException;
+
+    public InternalBatchResult deleteLeads(java.util.List<java.lang.Long> ids) throws ThriftServerBusyException, org.apache.thrift.TException;
+
+    public long countLeads(double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state) throws ThriftWrongOrderForRevenueException, ThriftWrongStateException, ThriftServerBusyException, org.apache.thrift.TException;
+
+    public InternalRevenueStats revenueStats(double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state) throws ThriftWrongOrderForRevenueException, ThriftWrongStateException, ThriftServerBusyException, org.apache.thrift.TException;
+
+    public java.util.List<InternalLeadBucket> leadHistogram(java.lang.String groupBy, double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state) throws ThriftWrongOrderForRevenueException, ThriftWrongStateException, ThriftInvalidGroupByException, ThriftServerBusyException, org.apache.thrift.TException;
 
   }
 
@@ -32,6 +48,22 @@ public class InternalCRM {
 
     public void deleteLead(InternalLeadDTO leadDto, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
+    public void deleteLeadById(long id, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
+
+    public void findLeadsPage(double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state, int pageSize, java.lang.String pageToken, org.apache.thrift.async.AsyncMethodCallback<InternalLeadPage> resultHandler) throws org.apache.thrift.TException;
+
+    public void findLeadsByDatePage(java.lang.String startDate, java.lang.String endDate, int pageSize, java.lang.String pageToken, org.apache.thrift.async.AsyncMethodCallback<InternalLeadPage> resultHandler) throws org.apache.thrift.TException;
+
+    public void createLeads(java.util.List<InternalLeadDTO> leads, org.apache.thrift.async.AsyncMethodCallback<InternalBatchResult> resultHandler) throws org.apache.thrift.TException;
+
+    public void deleteLeads(java.util.List<java.lang.Long> ids, org.apache.thrift.async.AsyncMethodCallback<InternalBatchResult> resultHandler) throws org.apache.thrift.TException;
+
+    public void countLeads(double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state, org.apache.thrift.async.AsyncMethodCallback<java.lang.Long> resultHandler) throws org.apache.thrift.TException;
+
+    public void revenueStats(double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state, org.apache.thrift.async.AsyncMethodCallback<InternalRevenueStats> resultHandler) throws org.apache.thrift.TException;
+
+    public void leadHistogram(java.lang.String groupBy, double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state, org.apache.thrift.async.AsyncMethodCallback<java.util.List<InternalLeadBucket>> resultHandler) throws org.apache.thrift.TException;
+
   }
 
   public static class Client extends org.apache.thrift.TServiceClient implements Iface {
@@ -57,7 +89,7 @@ public class InternalCRM {
     }
 
     @Override
-    public java.util.List<InternalLeadDTO> findLeads(double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state) throws org.apache.thrift.TException
+    public java.util.List<InternalLeadDTO> findLeads(double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state) throws ThriftServerBusyException, org.apache.thrift.TException
     {
       send_findLeads(lowAnnualRevenue, highAnnualRevenue, state);
       return recv_findLeads();
@@ -72,18 +104,21 @@ public class InternalCRM {
       sendBase("findLeads", args);
     }
 
-    public java.util.List<InternalLeadDTO> recv_findLeads() throws org.apache.thrift.TException
+    public java.util.List<InternalLeadDTO> recv_findLeads() throws ThriftServerBusyException, org.apache.thrift.TException
     {
       findLeads_result result = new findLeads_result();
       receiveBase(result, "findLeads");
       if (result.isSetSuccess()) {
         return result.success;
       }
+      if (result.busy != null) {
+        throw result.busy;
+      }
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "findLeads failed: unknown result");
     }
 
     @Override
-    public java.util.List<InternalLeadDTO> findLeadsByDate(java.lang.String startDate, java.lang.String endDate) throws org.apache.thrift.TException
+    public java.util.List<InternalLeadDTO> findLeadsByDate(java.lang.String startDate, java.lang.String endDate) throws ThriftServerBusyException, org.apache.thrift.TException
     {
       send_findLeadsByDate(startDate, endDate);
       return recv_findLeadsByDate();
@@ -97,18 +132,21 @@ public class InternalCRM {
       sendBase("findLeadsByDate", args);
     }
 
-    public java.util.List<InternalLeadDTO> recv_findLeadsByDate() throws org.apache.thrift.TException
+    public java.util.List<InternalLeadDTO> recv_findLeadsByDate() throws ThriftServerBusyException, org.apache.thrift.TException
     {
       findLeadsByDate_result result = new findLeadsByDate_result();
       receiveBase(result, "findLeadsByDate");
       if (result.isSetSuccess()) {
         return result.success;
       }
+      if (result.busy != null) {
+        throw result.busy;
+      }
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "findLeadsByDate failed: unknown result");
     }
 
     @Override
-    public long createLead(InternalLeadDTO lead) throws org.apache.thrift.TException
+    public long createLead(InternalLeadDTO lead) throws ThriftServerBusyException, org.apache.thrift.TException
     {
       send_createLead(lead);
       return recv_createLead();
@@ -121,18 +159,21 @@ public class InternalCRM {
       sendBase("createLead", args);
     }
 
-    public long recv_createLead() throws org.apache.thrift.TException
+    public long recv_createLead() throws ThriftServerBusyException, org.apache.thrift.TException
     {
       createLead_result result = new createLead_result();
       receiveBase(result, "createLead");
       if (result.isSetSuccess()) {
         return result.success;
       }
+      if (result.busy != null) {
+        throw result.busy;
+      }
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "createLead failed: unknown result");
     }
 
     @Override
-    public void deleteLead(InternalLeadDTO leadDto) throws org.apache.thrift.TException
+    public void deleteLead(InternalLeadDTO leadDto) throws ThriftNoSuchLeadException, ThriftServerBusyException, org.apache.thrift.TException
     {
       send_deleteLead(leadDto);
       recv_deleteLead();
@@ -145,13 +186,288 @@ public class InternalCRM {
       sendBase("deleteLead", args);
     }
 
-    public void recv_deleteLead() throws org.apache.thrift.TException
+    public void recv_deleteLead() throws ThriftNoSuchLeadException, ThriftServerBusyException, org.apache.thrift.TException
     {
       deleteLead_result result = new deleteLead_result();
       receiveBase(result, "deleteLead");
+      if (result.e != null) {
+        throw result.e;
+      }
+      if (result.busy != null) {
+        throw result.busy;
+      }
+      return;
+    }
+
+    @Override
+    public void deleteLeadById(long id) throws ThriftNoSuchLeadException, ThriftServerBusyException, org.apache.thrift.TException
+    {
+      send_deleteLeadById(id);
+      recv_deleteLeadById();
+    }
+
+    public void send_deleteLeadById(long id) throws org.apache.thrift.TException
+    {
+      deleteLeadById_args args = new deleteLeadById_args();
+      args.setId(id);
+      sendBase("deleteLeadById", args);
+    }
+
+    public void recv_deleteLeadById() throws ThriftNoSuchLeadException, ThriftServerBusyException, org.apache.thrift.TException
+    {
+      deleteLeadById_result result = new deleteLeadById_result();
+      receiveBase(result, "deleteLeadById");
+      if (result.e != null) {
+        throw result.e;
+      }
+      if (result.busy != null) {
+        throw result.busy;
+      }
       return;
     }
 
+    @Override
+    public InternalLeadPage findLeadsPage(double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state, int pageSize, java.lang.String pageToken) throws ThriftWrongOrderForRevenueException, ThriftWrongStateException, ThriftInvalidPageTokenException, ThriftServerBusyException, org.apache.thrift.TException
+    {
+      send_findLeadsPage(lowAnnualRevenue, highAnnualRevenue, state, pageSize, pageToken);
+      return recv_findLeadsPage();
+    }
+
+    public void send_findLeadsPage(double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state, int pageSize, java.lang.String pageToken) throws org.apache.thrift.TException
+    {
+      findLeadsPage_args args = new findLeadsPage_args();
+      args.setLowAnnualRevenue(lowAnnualRevenue);
+      args.setHighAnnualRevenue(highAnnualRevenue);
+      args.setState(state);
+      args.setPageSize(pageSize);
+      args.setPageToken(pageToken);
+      sendBase("findLeadsPage", args);
+    }
+
+    public InternalLeadPage recv_findLeadsPage() throws ThriftWrongOrderForRevenueException, ThriftWrongStateException, ThriftInvalidPageTokenException, ThriftServerBusyException, org.apache.thrift.TException
+    {
+      findLeadsPage_result result = new findLeadsPage_result();
+      receiveBase(result, "findLeadsPage");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e1 != null) {
+        throw result.e1;
+      }
+      if (result.e2 != null) {
+        throw result.e2;
+      }
+      if (result.e3 != null) {
+        throw result.e3;
+      }
+      if (result.busy != null) {
+        throw result.busy;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "findLeadsPage failed: unknown result");
+    }
+
+    @Override
+    public InternalLeadPage findLeadsByDatePage(java.lang.String startDate, java.lang.String endDate, int pageSize, java.lang.String pageToken) throws ThriftWrongDateFormatException, ThriftWrongOrderForDateException, ThriftInvalidPageTokenException, ThriftServerBusyException, org.apache.thrift.TException
+    {
+      send_findLeadsByDatePage(startDate, endDate, pageSize, pageToken);
+      return recv_findLeadsByDatePage();
+    }
+
+    public void send_findLeadsByDatePage(java.lang.String startDate, java.lang.String endDate, int pageSize, java.lang.String pageToken) throws org.apache.thrift.TException
+    {
+      findLeadsByDatePage_args args = new findLeadsByDatePage_args();
+      args.setStartDate(startDate);
+      args.setEndDate(endDate);
+      args.setPageSize(pageSize);
+      args.setPageToken(pageToken);
+      sendBase("findLeadsByDatePage", args);
+    }
+
+    public InternalLeadPage recv_findLeadsByDatePage() throws ThriftWrongDateFormatException, ThriftWrongOrderForDateException, ThriftInvalidPageTokenException, ThriftServerBusyException, org.apache.thrift.TException
+    {
+      findLeadsByDatePage_result result = new findLeadsByDatePage_result();
+      receiveBase(result, "findLeadsByDatePage");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e1 != null) {
+        throw result.e1;
+      }
+      if (result.e2 != null) {
+        throw result.e2;
+      }
+      if (result.e3 != null) {
+        throw result.e3;
+      }
+      if (result.busy != null) {
+        throw result.busy;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "findLeadsByDatePage failed: unknown result");
+    }
+
+    @Override
+    public InternalBatchResult createLeads(java.util.List<InternalLeadDTO> leads) throws ThriftServerBusyException, org.apache.thrift.TException
+    {
+      send_createLeads(leads);
+      return recv_createLeads();
+    }
+
+    public void send_createLeads(java.util.List<InternalLeadDTO> leads) throws org.apache.thrift.TException
+    {
+      createLeads_args args = new createLeads_args();
+      args.setLeads(leads);
+      sendBase("createLeads", args);
+    }
+
+    public InternalBatchResult recv_createLeads() throws ThriftServerBusyException, org.apache.thrift.TException
+    {
+      createLeads_result result = new createLeads_result();
+      receiveBase(result, "createLeads");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.busy != null) {
+        throw result.busy;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "createLeads failed: unknown result");
+    }
+
+    @Override
+    public InternalBatchResult deleteLeads(java.util.List<java.lang.Long> ids) throws ThriftServerBusyException, org.apache.thrift.TException
+    {
+      send_deleteLeads(ids);
+      return recv_deleteLeads();
+    }
+
+    public void send_deleteLeads(java.util.List<java.lang.Long> ids) throws org.apache.thrift.TException
+    {
+      deleteLeads_args args = new deleteLeads_args();
+      args.setIds(ids);
+      sendBase("deleteLeads", args);
+    }
+
+    public InternalBatchResult recv_deleteLeads() throws ThriftServerBusyException, org.apache.thrift.TException
+    {
+      deleteLeads_result result = new deleteLeads_result();
+      receiveBase(result, "deleteLeads");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.busy != null) {
+        throw result.busy;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "deleteLeads failed: unknown result");
+    }
+
+    @Override
+    public long countLeads(double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state) throws ThriftWrongOrderForRevenueException, ThriftWrongStateException, ThriftServerBusyException, org.apache.thrift.TException
+    {
+      send_countLeads(lowAnnualRevenue, highAnnualRevenue, state);
+      return recv_countLeads();
+    }
+
+    public void send_countLeads(double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state) throws org.apache.thrift.TException
+    {
+      countLeads_args args = new countLeads_args();
+      args.setLowAnnualRevenue(lowAnnualRevenue);
+      args.setHighAnnualRevenue(highAnnualRevenue);
+      args.setState(state);
+      sendBase("countLeads", args);
+    }
+
+    public long recv_countLeads() throws ThriftWrongOrderForRevenueException, ThriftWrongStateException, ThriftServerBusyException, org.apache.thrift.TException
+    {
+      countLeads_result result = new countLeads_result();
+      receiveBase(result, "countLeads");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e1 != null) {
+        throw result.e1;
+      }
+      if (result.e2 != null) {
+        throw result.e2;
+      }
+      if (result.busy != null) {
+        throw result.busy;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "countLeads failed: unknown result");
+    }
+
+    @Override
+    public InternalRevenueStats revenueStats(double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state) throws ThriftWrongOrderForRevenueException, ThriftWrongStateException, ThriftServerBusyException, org.apache.thrift.TException
+    {
+      send_revenueStats(lowAnnualRevenue, highAnnualRevenue, state);
+      return recv_revenueStats();
+    }
+
+    public void send_revenueStats(double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state) throws org.apache.thrift.TException
+    {
+      revenueStats_args args = new revenueStats_args();
+      args.setLowAnnualRevenue(lowAnnualRevenue);
+      args.setHighAnnualRevenue(highAnnualRevenue);
+      args.setState(state);
+      sendBase("revenueStats", args);
+    }
+
+    public InternalRevenueStats recv_revenueStats() throws ThriftWrongOrderForRevenueException, ThriftWrongStateException, ThriftServerBusyException, org.apache.thrift.TException
+    {
+      revenueStats_result result = new revenueStats_result();
+      receiveBase(result, "revenueStats");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e1 != null) {
+        throw result.e1;
+      }
+      if (result.e2 != null) {
+        throw result.e2;
+      }
+      if (result.busy != null) {
+        throw result.busy;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "revenueStats failed: unknown result");
+    }
+
+    @Override
+    public java.util.List<InternalLeadBucket> leadHistogram(java.lang.String groupBy, double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state) throws ThriftWrongOrderForRevenueException, ThriftWrongStateException, ThriftInvalidGroupByException, ThriftServerBusyException, org.apache.thrift.TException
+    {
+      send_leadHistogram(groupBy, lowAnnualRevenue, highAnnualRevenue, state);
+      return recv_leadHistogram();
+    }
+
+    public void send_leadHistogram(java.lang.String groupBy, double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state) throws org.apache.thrift.TException
+    {
+      leadHistogram_args args = new leadHistogram_args();
+      args.setGroupBy(groupBy);
+      args.setLowAnnualRevenue(lowAnnualRevenue);
+      args.setHighAnnualRevenue(highAnnualRevenue);
+      args.setState(state);
+      sendBase("leadHistogram", args);
+    }
+
+    public java.util.List<InternalLeadBucket> recv_leadHistogram() throws ThriftWrongOrderForRevenueException, ThriftWrongStateException, ThriftInvalidGroupByException, ThriftServerBusyException, org.apache.thrift.TException
+    {
+      leadHistogram_result result = new leadHistogram_result();
+      receiveBase(result, "leadHistogram");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e1 != null) {
+        throw result.e1;
+      }
+      if (result.e2 != null) {
+        throw result.e2;
+      }
+      if (result.e3 != null) {
+        throw result.e3;
+      }
+      if (result.busy != null) {
+        throw result.busy;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "leadHistogram failed: unknown result");
+    }
+
   }
   public static class AsyncClient extends org.apache.thrift.async.TAsyncClient implements AsyncIface {
     public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
@@ -202,7 +518,7 @@ public class InternalCRM {
       }
 
       @Override
-      public java.util.List<InternalLeadDTO> getResult() throws org.apache.thrift.TException {
+      public java.util.List<InternalLeadDTO> getResult() throws ThriftServerBusyException, org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new java.lang.IllegalStateException("Method call not finished!");
         }
@@ -240,7 +556,7 @@ public class InternalCRM {
       }
 
       @Override
-      public java.util.List<InternalLeadDTO> getResult() throws org.apache.thrift.TException {
+      public java.util.List<InternalLeadDTO> getResult() throws ThriftServerBusyException, org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new java.lang.IllegalStateException("Method call not finished!");
         }
@@ -275,7 +591,7 @@ public class InternalCRM {
       }
 
       @Override
-      public java.lang.Long getResult() throws org.apache.thrift.TException {
+      public java.lang.Long getResult() throws ThriftServerBusyException, org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new java.lang.IllegalStateException("Method call not finished!");
         }
@@ -310,7 +626,7 @@ public class InternalCRM {
       }
 
       @Override
-      public Void getResult() throws org.apache.thrift.TException {
+      public Void getResult() throws ThriftNoSuchLeadException, ThriftServerBusyException, org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new java.lang.IllegalStateException("Method call not finished!");
         }
@@ -321,160 +637,358 @@ public class InternalCRM {
       }
     }
 
-  }
-
-  public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
-    private static final org.slf4j.Logger _LOGGER = org.slf4j.LoggerFactory.getLogger(Processor.class.getName());
-    public Processor(I iface) {
-      super(iface, getProcessMap(new java.util.HashMap<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>>()));
-    }
-
-    protected Processor(I iface, java.util.Map<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>> processMap) {
-      super(iface, getProcessMap(processMap));
-    }
-
-    private static <I extends Iface> java.util.Map<java.lang.String,  org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>> getProcessMap(java.util.Map<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
-      processMap.put("findLeads", new findLeads());
-      processMap.put("findLeadsByDate", new findLeadsByDate());
-      processMap.put("createLead", new createLead());
-      processMap.put("deleteLead", new deleteLead());
-      return processMap;
+    @Override
+    public void deleteLeadById(long id, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      deleteLeadById_call method_call = new deleteLeadById_call(id, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
     }
 
-    public static class findLeads<I extends Iface> extends org.apache.thrift.ProcessFunction<I, findLeads_args> {
-      public findLeads() {
-        super("findLeads");
+    public static class deleteLeadById_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+      private long id;
+      public deleteLeadById_call(long id, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.id = id;
       }
 
       @Override
-      public findLeads_args getEmptyArgsInstance() {
-        return new findLeads_args();
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("deleteLeadById", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        deleteLeadById_args args = new deleteLeadById_args();
+        args.setId(id);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
       @Override
-      protected boolean isOneway() {
-        return false;
+      public Void getResult() throws ThriftNoSuchLeadException, ThriftServerBusyException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_deleteLeadById();
+        return null;
+      }
+    }
+
+    @Override
+    public void findLeadsPage(double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state, int pageSize, java.lang.String pageToken, org.apache.thrift.async.AsyncMethodCallback<InternalLeadPage> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      findLeadsPage_call method_call = new findLeadsPage_call(lowAnnualRevenue, highAnnualRevenue, state, pageSize, pageToken, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class findLeadsPage_call extends org.apache.thrift.async.TAsyncMethodCall<InternalLeadPage> {
+      private double lowAnnualRevenue;
+      private double highAnnualRevenue;
+      private java.lang.String state;
+      private int pageSize;
+      private java.lang.String pageToken;
+      public findLeadsPage_call(double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state, int pageSize, java.lang.String pageToken, org.apache.thrift.async.AsyncMethodCallback<InternalLeadPage> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.lowAnnualRevenue = lowAnnualRevenue;
+        this.highAnnualRevenue = highAnnualRevenue;
+        this.state = state;
+        this.pageSize = pageSize;
+        this.pageToken = pageToken;
       }
 
       @Override
-      protected boolean rethrowUnhandledExceptions() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("findLeadsPage", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        findLeadsPage_args args = new findLeadsPage_args();
+        args.setLowAnnualRevenue(lowAnnualRevenue);
+        args.setHighAnnualRevenue(highAnnualRevenue);
+        args.setState(state);
+        args.setPageSize(pageSize);
+        args.setPageToken(pageToken);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
       @Override
-      public findLeads_result getResult(I iface, findLeads_args args) throws org.apache.thrift.TException {
-        findLeads_result result = new findLeads_result();
-        result.success = iface.findLeads(args.lowAnnualRevenue, args.highAnnualRevenue, args.state);
-        return result;
+      public InternalLeadPage getResult() throws ThriftWrongOrderForRevenueException, ThriftWrongStateException, ThriftInvalidPageTokenException, ThriftServerBusyException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_findLeadsPage();
       }
     }
 
-    public static class findLeadsByDate<I extends Iface> extends org.apache.thrift.ProcessFunction<I, findLeadsByDate_args> {
-      public findLeadsByDate() {
-        super("findLeadsByDate");
-      }
+    @Override
+    public void findLeadsByDatePage(java.lang.String startDate, java.lang.String endDate, int pageSize, java.lang.String pageToken, org.apache.thrift.async.AsyncMethodCallback<InternalLeadPage> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      findLeadsByDatePage_call method_call = new findLeadsByDatePage_call(startDate, endDate, pageSize, pageToken, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-      @Override
-      public findLeadsByDate_args getEmptyArgsInstance() {
-        return new findLeadsByDate_args();
+    public static class findLeadsByDatePage_call extends org.apache.thrift.async.TAsyncMethodCall<InternalLeadPage> {
+      private java.lang.String startDate;
+      private java.lang.String endDate;
+      private int pageSize;
+      private java.lang.String pageToken;
+      public findLeadsByDatePage_call(java.lang.String startDate, java.lang.String endDate, int pageSize, java.lang.String pageToken, org.apache.thrift.async.AsyncMethodCallback<InternalLeadPage> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.pageSize = pageSize;
+        this.pageToken = pageToken;
       }
 
       @Override
-      protected boolean isOneway() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("findLeadsByDatePage", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        findLeadsByDatePage_args args = new findLeadsByDatePage_args();
+        args.setStartDate(startDate);
+        args.setEndDate(endDate);
+        args.setPageSize(pageSize);
+        args.setPageToken(pageToken);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
       @Override
-      protected boolean rethrowUnhandledExceptions() {
-        return false;
+      public InternalLeadPage getResult() throws ThriftWrongDateFormatException, ThriftWrongOrderForDateException, ThriftInvalidPageTokenException, ThriftServerBusyException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_findLeadsByDatePage();
+      }
+    }
+
+    @Override
+    public void createLeads(java.util.List<InternalLeadDTO> leads, org.apache.thrift.async.AsyncMethodCallback<InternalBatchResult> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      createLeads_call method_call = new createLeads_call(leads, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class createLeads_call extends org.apache.thrift.async.TAsyncMethodCall<InternalBatchResult> {
+      private java.util.List<InternalLeadDTO> leads;
+      public createLeads_call(java.util.List<InternalLeadDTO> leads, org.apache.thrift.async.AsyncMethodCallback<InternalBatchResult> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.leads = leads;
       }
 
       @Override
-      public findLeadsByDate_result getResult(I iface, findLeadsByDate_args args) throws org.apache.thrift.TException {
-        findLeadsByDate_result result = new findLeadsByDate_result();
-        result.success = iface.findLeadsByDate(args.startDate, args.endDate);
-        return result;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("createLeads", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        createLeads_args args = new createLeads_args();
+        args.setLeads(leads);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      @Override
+      public InternalBatchResult getResult() throws ThriftServerBusyException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_createLeads();
       }
     }
 
-    public static class createLead<I extends Iface> extends org.apache.thrift.ProcessFunction<I, createLead_args> {
-      public createLead() {
-        super("createLead");
+    @Override
+    public void deleteLeads(java.util.List<java.lang.Long> ids, org.apache.thrift.async.AsyncMethodCallback<InternalBatchResult> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      deleteLeads_call method_call = new deleteLeads_call(ids, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class deleteLeads_call extends org.apache.thrift.async.TAsyncMethodCall<InternalBatchResult> {
+      private java.util.List<java.lang.Long> ids;
+      public deleteLeads_call(java.util.List<java.lang.Long> ids, org.apache.thrift.async.AsyncMethodCallback<InternalBatchResult> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.ids = ids;
       }
 
       @Override
-      public createLead_args getEmptyArgsInstance() {
-        return new createLead_args();
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("deleteLeads", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        deleteLeads_args args = new deleteLeads_args();
+        args.setIds(ids);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
       @Override
-      protected boolean isOneway() {
-        return false;
+      public InternalBatchResult getResult() throws ThriftServerBusyException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_deleteLeads();
+      }
+    }
+
+    @Override
+    public void countLeads(double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state, org.apache.thrift.async.AsyncMethodCallback<java.lang.Long> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      countLeads_call method_call = new countLeads_call(lowAnnualRevenue, highAnnualRevenue, state, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class countLeads_call extends org.apache.thrift.async.TAsyncMethodCall<java.lang.Long> {
+      private double lowAnnualRevenue;
+      private double highAnnualRevenue;
+      private java.lang.String state;
+      public countLeads_call(double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state, org.apache.thrift.async.AsyncMethodCallback<java.lang.Long> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.lowAnnualRevenue = lowAnnualRevenue;
+        this.highAnnualRevenue = highAnnualRevenue;
+        this.state = state;
       }
 
       @Override
-      protected boolean rethrowUnhandledExceptions() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("countLeads", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        countLeads_args args = new countLeads_args();
+        args.setLowAnnualRevenue(lowAnnualRevenue);
+        args.setHighAnnualRevenue(highAnnualRevenue);
+        args.setState(state);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
       @Override
-      public createLead_result getResult(I iface, createLead_args args) throws org.apache.thrift.TException {
-        createLead_result result = new createLead_result();
-        result.success = iface.createLead(args.lead);
-        result.setSuccessIsSet(true);
-        return result;
+      public java.lang.Long getResult() throws ThriftWrongOrderForRevenueException, ThriftWrongStateException, ThriftServerBusyException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_countLeads();
       }
     }
 
-    public static class deleteLead<I extends Iface> extends org.apache.thrift.ProcessFunction<I, deleteLead_args> {
-      public deleteLead() {
-        super("deleteLead");
+    @Override
+    public void revenueStats(double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state, org.apache.thrift.async.AsyncMethodCallback<InternalRevenueStats> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      revenueStats_call method_call = new revenueStats_call(lowAnnualRevenue, highAnnualRevenue, state, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class revenueStats_call extends org.apache.thrift.async.TAsyncMethodCall<InternalRevenueStats> {
+      private double lowAnnualRevenue;
+      private double highAnnualRevenue;
+      private java.lang.String state;
+      public revenueStats_call(double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state, org.apache.thrift.async.AsyncMethodCallback<InternalRevenueStats> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.lowAnnualRevenue = lowAnnualRevenue;
+        this.highAnnualRevenue = highAnnualRevenue;
+        this.state = state;
       }
 
       @Override
-      public deleteLead_args getEmptyArgsInstance() {
-        return new deleteLead_args();
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("revenueStats", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        revenueStats_args args = new revenueStats_args();
+        args.setLowAnnualRevenue(lowAnnualRevenue);
+        args.setHighAnnualRevenue(highAnnualRevenue);
+        args.setState(state);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
       @Override
-      protected boolean isOneway() {
-        return false;
+      public InternalRevenueStats getResult() throws ThriftWrongOrderForRevenueException, ThriftWrongStateException, ThriftServerBusyException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_revenueStats();
+      }
+    }
+
+    @Override
+    public void leadHistogram(java.lang.String groupBy, double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state, org.apache.thrift.async.AsyncMethodCallback<java.util.List<InternalLeadBucket>> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      leadHistogram_call method_call = new leadHistogram_call(groupBy, lowAnnualRevenue, highAnnualRevenue, state, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class leadHistogram_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<InternalLeadBucket>> {
+      private java.lang.String groupBy;
+      private double lowAnnualRevenue;
+      private double highAnnualRevenue;
+      private java.lang.String state;
+      public leadHistogram_call(java.lang.String groupBy, double lowAnnualRevenue, double highAnnualRevenue, java.lang.String state, org.apache.thrift.async.AsyncMethodCallback<java.util.List<InternalLeadBucket>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.groupBy = groupBy;
+        this.lowAnnualRevenue = lowAnnualRevenue;
+        this.highAnnualRevenue = highAnnualRevenue;
+        this.state = state;
       }
 
       @Override
-      protected boolean rethrowUnhandledExceptions() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("leadHistogram", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        leadHistogram_args args = new leadHistogram_args();
+        args.setGroupBy(groupBy);
+        args.setLowAnnualRevenue(lowAnnualRevenue);
+        args.setHighAnnualRevenue(highAnnualRevenue);
+        args.setState(state);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
       @Override
-      public deleteLead_result getResult(I iface, deleteLead_args args) throws org.apache.thrift.TException {
-        deleteLead_result result = new deleteLead_result();
-        iface.deleteLead(args.leadDto);
-        return result;
+      public java.util.List<InternalLeadBucket> getResult() throws ThriftWrongOrderForRevenueException, ThriftWrongStateException, ThriftInvalidGroupByException, ThriftServerBusyException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_leadHistogram();
       }
     }
 
   }
 
-  public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
-    private static final org.slf4j.Logger _LOGGER = org.slf4j.LoggerFactory.getLogger(AsyncProcessor.class.getName());
-    public AsyncProcessor(I iface) {
-      super(iface, getProcessMap(new java.util.HashMap<java.lang.String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>>()));
+  public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
+    private static final org.slf4j.Logger _LOGGER = org.slf4j.LoggerFactory.getLogger(Processor.class.getName());
+    public Processor(I iface) {
+      super(iface, getProcessMap(new java.util.HashMap<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>>()));
     }
 
-    protected AsyncProcessor(I iface, java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+    protected Processor(I iface, java.util.Map<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>> processMap) {
       super(iface, getProcessMap(processMap));
     }
 
-    private static <I extends AsyncIface> java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+    private static <I extends Iface> java.util.Map<java.lang.String,  org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>> getProcessMap(java.util.Map<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
       processMap.put("findLeads", new findLeads());
       processMap.put("findLeadsByDate", new findLeadsByDate());
       processMap.put("createLead", new createLead());
       processMap.put("deleteLead", new deleteLead());
+      processMap.put("deleteLeadById", new deleteLeadById());
+      processMap.put("findLeadsPage", new findLeadsPage());
+      processMap.put("findLeadsByDatePage", new findLeadsByDatePage());
+      processMap.put("createLeads", new createLeads());
+      processMap.put("deleteLeads", new deleteLeads());
+      processMap.put("countLeads", new countLeads());
+      processMap.put("revenueStats", new revenueStats());
+      processMap.put("leadHistogram", new leadHistogram());
       return processMap;
     }
 
-    public static class findLeads<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, findLeads_args, java.util.List<InternalLeadDTO>> {
+    public static class findLeads<I extends Iface> extends org.apache.thrift.ProcessFunction<I, findLeads_args> {
       public findLeads() {
         super("findLeads");
       }
@@ -485,63 +999,28 @@ public class InternalCRM {
       }
 
       @Override
-      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<InternalLeadDTO>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<InternalLeadDTO>>() { 
-          @Override
-          public void onComplete(java.util.List<InternalLeadDTO> o) {
-            findLeads_result result = new findLeads_result();
-            result.success = o;
-            try {
-              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-            } catch (org.apache.thrift.transport.TTransportException e) {
-              _LOGGER.error("TTransportException writing to internal frame buffer", e);
-              fb.close();
-            } catch (java.lang.Exception e) {
-              _LOGGER.error("Exception writing to internal frame buffer", e);
-              onError(e);
-            }
-          }
-          @Override
-          public void onError(java.lang.Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TSerializable msg;
-            findLeads_result result = new findLeads_result();
-            if (e instanceof org.apache.thrift.transport.TTransportException) {
-              _LOGGER.error("TTransportException inside handler", e);
-              fb.close();
-              return;
-            } else if (e instanceof org.apache.thrift.TApplicationException) {
-              _LOGGER.error("TApplicationException inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TApplicationException)e;
-            } else {
-              _LOGGER.error("Exception inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-            } catch (java.lang.Exception ex) {
-              _LOGGER.error("Exception writing to internal frame buffer", ex);
-              fb.close();
-            }
-          }
-        };
+      protected boolean isOneway() {
+        return false;
       }
 
       @Override
-      protected boolean isOneway() {
+      protected boolean rethrowUnhandledExceptions() {
         return false;
       }
 
       @Override
-      public void start(I iface, findLeads_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<InternalLeadDTO>> resultHandler) throws org.apache.thrift.TException {
-        iface.findLeads(args.lowAnnualRevenue, args.highAnnualRevenue, args.state,resultHandler);
+      public findLeads_result getResult(I iface, findLeads_args args) throws org.apache.thrift.TException {
+        findLeads_result result = new findLeads_result();
+        try {
+          result.success = iface.findLeads(args.lowAnnualRevenue, args.highAnnualRevenue, args.state);
+        } catch (ThriftServerBusyException busy) {
+          result.busy = busy;
+        }
+        return result;
       }
     }
 
-    public static class findLeadsByDate<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, findLeadsByDate_args, java.util.List<InternalLeadDTO>> {
+    public static class findLeadsByDate<I extends Iface> extends org.apache.thrift.ProcessFunction<I, findLeadsByDate_args> {
       public findLeadsByDate() {
         super("findLeadsByDate");
       }
@@ -552,63 +1031,28 @@ public class InternalCRM {
       }
 
       @Override
-      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<InternalLeadDTO>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<InternalLeadDTO>>() { 
-          @Override
-          public void onComplete(java.util.List<InternalLeadDTO> o) {
-            findLeadsByDate_result result = new findLeadsByDate_result();
-            result.success = o;
-            try {
-              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-            } catch (org.apache.thrift.transport.TTransportException e) {
-              _LOGGER.error("TTransportException writing to internal frame buffer", e);
-              fb.close();
-            } catch (java.lang.Exception e) {
-              _LOGGER.error("Exception writing to internal frame buffer", e);
-              onError(e);
-            }
-          }
-          @Override
-          public void onError(java.lang.Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TSerializable msg;
-            findLeadsByDate_result result = new findLeadsByDate_result();
-            if (e instanceof org.apache.thrift.transport.TTransportException) {
-              _LOGGER.error("TTransportException inside handler", e);
-              fb.close();
-              return;
-            } else if (e instanceof org.apache.thrift.TApplicationException) {
-              _LOGGER.error("TApplicationException inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TApplicationException)e;
-            } else {
-              _LOGGER.error("Exception inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-            } catch (java.lang.Exception ex) {
-              _LOGGER.error("Exception writing to internal frame buffer", ex);
-              fb.close();
-            }
-          }
-        };
+      protected boolean isOneway() {
+        return false;
       }
 
       @Override
-      protected boolean isOneway() {
+      protected boolean rethrowUnhandledExceptions() {
         return false;
       }
 
       @Override
-      public void start(I iface, findLeadsByDate_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<InternalLeadDTO>> resultHandler) throws org.apache.thrift.TException {
-        iface.findLeadsByDate(args.startDate, args.endDate,resultHandler);
+      public findLeadsByDate_result getResult(I iface, findLeadsByDate_args args) throws org.apache.thrift.TException {
+        findLeadsByDate_result result = new findLeadsByDate_result();
+        try {
+          result.success = iface.findLeadsByDate(args.startDate, args.endDate);
+        } catch (ThriftServerBusyException busy) {
+          result.busy = busy;
+        }
+        return result;
       }
     }
 
-    public static class createLead<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, createLead_args, java.lang.Long> {
+    public static class createLead<I extends Iface> extends org.apache.thrift.ProcessFunction<I, createLead_args> {
       public createLead() {
         super("createLead");
       }
@@ -619,151 +1063,10051 @@ public class InternalCRM {
       }
 
       @Override
-      public org.apache.thrift.async.AsyncMethodCallback<java.lang.Long> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.Long>() { 
-          @Override
-          public void onComplete(java.lang.Long o) {
-            createLead_result result = new createLead_result();
-            result.success = o;
-            result.setSuccessIsSet(true);
-            try {
-              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-            } catch (org.apache.thrift.transport.TTransportException e) {
-              _LOGGER.error("TTransportException writing to internal frame buffer", e);
-              fb.close();
-            } catch (java.lang.Exception e) {
-              _LOGGER.error("Exception writing to internal frame buffer", e);
-              onError(e);
-            }
-          }
-          @Override
-          public void onError(java.lang.Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TSerializable msg;
-            createLead_result result = new createLead_result();
-            if (e instanceof org.apache.thrift.transport.TTransportException) {
-              _LOGGER.error("TTransportException inside handler", e);
-              fb.close();
-              return;
-            } else if (e instanceof org.apache.thrift.TApplicationException) {
-              _LOGGER.error("TApplicationException inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TApplicationException)e;
-            } else {
-              _LOGGER.error("Exception inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-            } catch (java.lang.Exception ex) {
-              _LOGGER.error("Exception writing to internal frame buffer", ex);
-              fb.close();
-            }
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      @Override
+      public createLead_result getResult(I iface, createLead_args args) throws org.apache.thrift.TException {
+        createLead_result result = new createLead_result();
+        try {
+          result.success = iface.createLead(args.lead);
+          result.setSuccessIsSet(true);
+        } catch (ThriftServerBusyException busy) {
+          result.busy = busy;
+        }
+        return result;
+      }
+    }
+
+    public static class deleteLead<I extends Iface> extends org.apache.thrift.ProcessFunction<I, deleteLead_args> {
+      public deleteLead() {
+        super("deleteLead");
+      }
+
+      @Override
+      public deleteLead_args getEmptyArgsInstance() {
+        return new deleteLead_args();
+      }
+
+      @Override
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      @Override
+      public deleteLead_result getResult(I iface, deleteLead_args args) throws org.apache.thrift.TException {
+        deleteLead_result result = new deleteLead_result();
+        try {
+          iface.deleteLead(args.leadDto);
+        } catch (ThriftNoSuchLeadException e) {
+          result.e = e;
+        } catch (ThriftServerBusyException busy) {
+          result.busy = busy;
+        }
+        return result;
+      }
+    }
+
+    public static class deleteLeadById<I extends Iface> extends org.apache.thrift.ProcessFunction<I, deleteLeadById_args> {
+      public deleteLeadById() {
+        super("deleteLeadById");
+      }
+
+      @Override
+      public deleteLeadById_args getEmptyArgsInstance() {
+        return new deleteLeadById_args();
+      }
+
+      @Override
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      @Override
+      public deleteLeadById_result getResult(I iface, deleteLeadById_args args) throws org.apache.thrift.TException {
+        deleteLeadById_result result = new deleteLeadById_result();
+        try {
+          iface.deleteLeadById(args.id);
+        } catch (ThriftNoSuchLeadException e) {
+          result.e = e;
+        } catch (ThriftServerBusyException busy) {
+          result.busy = busy;
+        }
+        return result;
+      }
+    }
+
+    public static class findLeadsPage<I extends Iface> extends org.apache.thrift.ProcessFunction<I, findLeadsPage_args> {
+      public findLeadsPage() {
+        super("findLeadsPage");
+      }
+
+      @Override
+      public findLeadsPage_args getEmptyArgsInstance() {
+        return new findLeadsPage_args();
+      }
+
+      @Override
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      @Override
+      public findLeadsPage_result getResult(I iface, findLeadsPage_args args) throws org.apache.thrift.TException {
+        findLeadsPage_result result = new findLeadsPage_result();
+        try {
+          result.success = iface.findLeadsPage(args.lowAnnualRevenue, args.highAnnualRevenue, args.state, args.pageSize, args.pageToken);
+        } catch (ThriftWrongOrderForRevenueException e1) {
+          result.e1 = e1;
+        } catch (ThriftWrongStateException e2) {
+          result.e2 = e2;
+        } catch (ThriftInvalidPageTokenException e3) {
+          result.e3 = e3;
+        } catch (ThriftServerBusyException busy) {
+          result.busy = busy;
+        }
+        return result;
+      }
+    }
+
+    public static class findLeadsByDatePage<I extends Iface> extends org.apache.thrift.ProcessFunction<I, findLeadsByDatePage_args> {
+      public findLeadsByDatePage() {
+        super("findLeadsByDatePage");
+      }
+
+      @Override
+      public findLeadsByDatePage_args getEmptyArgsInstance() {
+        return new findLeadsByDatePage_args();
+      }
+
+      @Override
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      @Override
+      public findLeadsByDatePage_result getResult(I iface, findLeadsByDatePage_args args) throws org.apache.thrift.TException {
+        findLeadsByDatePage_result result = new findLeadsByDatePage_result();
+        try {
+          result.success = iface.findLeadsByDatePage(args.startDate, args.endDate, args.pageSize, args.pageToken);
+        } catch (ThriftWrongDateFormatException e1) {
+          result.e1 = e1;
+        } catch (ThriftWrongOrderForDateException e2) {
+          result.e2 = e2;
+        } catch (ThriftInvalidPageTokenException e3) {
+          result.e3 = e3;
+        } catch (ThriftServerBusyException busy) {
+          result.busy = busy;
+        }
+        return result;
+      }
+    }
+
+    public static class createLeads<I extends Iface> extends org.apache.thrift.ProcessFunction<I, createLeads_args> {
+      public createLeads() {
+        super("createLeads");
+      }
+
+      @Override
+      public createLeads_args getEmptyArgsInstance() {
+        return new createLeads_args();
+      }
+
+      @Override
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      @Override
+      public createLeads_result getResult(I iface, createLeads_args args) throws org.apache.thrift.TException {
+        createLeads_result result = new createLeads_result();
+        try {
+          result.success = iface.createLeads(args.leads);
+        } catch (ThriftServerBusyException busy) {
+          result.busy = busy;
+        }
+        return result;
+      }
+    }
+
+    public static class deleteLeads<I extends Iface> extends org.apache.thrift.ProcessFunction<I, deleteLeads_args> {
+      public deleteLeads() {
+        super("deleteLeads");
+      }
+
+      @Override
+      public deleteLeads_args getEmptyArgsInstance() {
+        return new deleteLeads_args();
+      }
+
+      @Override
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      @Override
+      public deleteLeads_result getResult(I iface, deleteLeads_args args) throws org.apache.thrift.TException {
+        deleteLeads_result result = new deleteLeads_result();
+        try {
+          result.success = iface.deleteLeads(args.ids);
+        } catch (ThriftServerBusyException busy) {
+          result.busy = busy;
+        }
+        return result;
+      }
+    }
+
+    public static class countLeads<I extends Iface> extends org.apache.thrift.ProcessFunction<I, countLeads_args> {
+      public countLeads() {
+        super("countLeads");
+      }
+
+      @Override
+      public countLeads_args getEmptyArgsInstance() {
+        return new countLeads_args();
+      }
+
+      @Override
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      @Override
+      public countLeads_result getResult(I iface, countLeads_args args) throws org.apache.thrift.TException {
+        countLeads_result result = new countLeads_result();
+        try {
+          result.success = iface.countLeads(args.lowAnnualRevenue, args.highAnnualRevenue, args.state);
+          result.setSuccessIsSet(true);
+        } catch (ThriftWrongOrderForRevenueException e1) {
+          result.e1 = e1;
+        } catch (ThriftWrongStateException e2) {
+          result.e2 = e2;
+        } catch (ThriftServerBusyException busy) {
+          result.busy = busy;
+        }
+        return result;
+      }
+    }
+
+    public static class revenueStats<I extends Iface> extends org.apache.thrift.ProcessFunction<I, revenueStats_args> {
+      public revenueStats() {
+        super("revenueStats");
+      }
+
+      @Override
+      public revenueStats_args getEmptyArgsInstance() {
+        return new revenueStats_args();
+      }
+
+      @Override
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      @Override
+      public revenueStats_result getResult(I iface, revenueStats_args args) throws org.apache.thrift.TException {
+        revenueStats_result result = new revenueStats_result();
+        try {
+          result.success = iface.revenueStats(args.lowAnnualRevenue, args.highAnnualRevenue, args.state);
+        } catch (ThriftWrongOrderForRevenueException e1) {
+          result.e1 = e1;
+        } catch (ThriftWrongStateException e2) {
+          result.e2 = e2;
+        } catch (ThriftServerBusyException busy) {
+          result.busy = busy;
+        }
+        return result;
+      }
+    }
+
+    public static class leadHistogram<I extends Iface> extends org.apache.thrift.ProcessFunction<I, leadHistogram_args> {
+      public leadHistogram() {
+        super("leadHistogram");
+      }
+
+      @Override
+      public leadHistogram_args getEmptyArgsInstance() {
+        return new leadHistogram_args();
+      }
+
+      @Override
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      @Override
+      public leadHistogram_result getResult(I iface, leadHistogram_args args) throws org.apache.thrift.TException {
+        leadHistogram_result result = new leadHistogram_result();
+        try {
+          result.success = iface.leadHistogram(args.groupBy, args.lowAnnualRevenue, args.highAnnualRevenue, args.state);
+        } catch (ThriftWrongOrderForRevenueException e1) {
+          result.e1 = e1;
+        } catch (ThriftWrongStateException e2) {
+          result.e2 = e2;
+        } catch (ThriftInvalidGroupByException e3) {
+          result.e3 = e3;
+        } catch (ThriftServerBusyException busy) {
+          result.busy = busy;
+        }
+        return result;
+      }
+    }
+
+  }
+
+  public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
+    private static final org.slf4j.Logger _LOGGER = org.slf4j.LoggerFactory.getLogger(AsyncProcessor.class.getName());
+    public AsyncProcessor(I iface) {
+      super(iface, getProcessMap(new java.util.HashMap<java.lang.String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>>()));
+    }
+
+    protected AsyncProcessor(I iface, java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+      super(iface, getProcessMap(processMap));
+    }
+
+    private static <I extends AsyncIface> java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+      processMap.put("findLeads", new findLeads());
+      processMap.put("findLeadsByDate", new findLeadsByDate());
+      processMap.put("createLead", new createLead());
+      processMap.put("deleteLead", new deleteLead());
+      processMap.put("deleteLeadById", new deleteLeadById());
+      processMap.put("findLeadsPage", new findLeadsPage());
+      processMap.put("findLeadsByDatePage", new findLeadsByDatePage());
+      processMap.put("createLeads", new createLeads());
+      processMap.put("deleteLeads", new deleteLeads());
+      processMap.put("countLeads", new countLeads());
+      processMap.put("revenueStats", new revenueStats());
+      processMap.put("leadHistogram", new leadHistogram());
+      return processMap;
+    }
+
+    public static class findLeads<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, findLeads_args, java.util.List<InternalLeadDTO>> {
+      public findLeads() {
+        super("findLeads");
+      }
+
+      @Override
+      public findLeads_args getEmptyArgsInstance() {
+        return new findLeads_args();
+      }
+
+      @Override
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<InternalLeadDTO>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<InternalLeadDTO>>() { 
+          @Override
+          public void onComplete(java.util.List<InternalLeadDTO> o) {
+            findLeads_result result = new findLeads_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          @Override
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            findLeads_result result = new findLeads_result();
+            if (e instanceof ThriftServerBusyException) {
+              result.busy = (ThriftServerBusyException) e;
+              result.setBusyIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      @Override
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      public void start(I iface, findLeads_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<InternalLeadDTO>> resultHandler) throws org.apache.thrift.TException {
+        iface.findLeads(args.lowAnnualRevenue, args.highAnnualRevenue, args.state,resultHandler);
+      }
+    }
+
+    public static class findLeadsByDate<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, findLeadsByDate_args, java.util.List<InternalLeadDTO>> {
+      public findLeadsByDate() {
+        super("findLeadsByDate");
+      }
+
+      @Override
+      public findLeadsByDate_args getEmptyArgsInstance() {
+        return new findLeadsByDate_args();
+      }
+
+      @Override
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<InternalLeadDTO>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<InternalLeadDTO>>() { 
+          @Override
+          public void onComplete(java.util.List<InternalLeadDTO> o) {
+            findLeadsByDate_result result = new findLeadsByDate_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          @Override
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            findLeadsByDate_result result = new findLeadsByDate_result();
+            if (e instanceof ThriftServerBusyException) {
+              result.busy = (ThriftServerBusyException) e;
+              result.setBusyIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      @Override
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      public void start(I iface, findLeadsByDate_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<InternalLeadDTO>> resultHandler) throws org.apache.thrift.TException {
+        iface.findLeadsByDate(args.startDate, args.endDate,resultHandler);
+      }
+    }
+
+    public static class createLead<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, createLead_args, java.lang.Long> {
+      public createLead() {
+        super("createLead");
+      }
+
+      @Override
+      public createLead_args getEmptyArgsInstance() {
+        return new createLead_args();
+      }
+
+      @Override
+      public org.apache.thrift.async.AsyncMethodCallback<java.lang.Long> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.Long>() { 
+          @Override
+          public void onComplete(java.lang.Long o) {
+            createLead_result result = new createLead_result();
+            result.success = o;
+            result.setSuccessIsSet(true);
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          @Override
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            createLead_result result = new createLead_result();
+            if (e instanceof ThriftServerBusyException) {
+              result.busy = (ThriftServerBusyException) e;
+              result.setBusyIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      @Override
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      public void start(I iface, createLead_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.Long> resultHandler) throws org.apache.thrift.TException {
+        iface.createLead(args.lead,resultHandler);
+      }
+    }
+
+    public static class deleteLead<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, deleteLead_args, Void> {
+      public deleteLead() {
+        super("deleteLead");
+      }
+
+      @Override
+      public deleteLead_args getEmptyArgsInstance() {
+        return new deleteLead_args();
+      }
+
+      @Override
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          @Override
+          public void onComplete(Void o) {
+            deleteLead_result result = new deleteLead_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          @Override
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            deleteLead_result result = new deleteLead_result();
+            if (e instanceof ThriftNoSuchLeadException) {
+              result.e = (ThriftNoSuchLeadException) e;
+              result.setEIsSet(true);
+              msg = result;
+            } else if (e instanceof ThriftServerBusyException) {
+              result.busy = (ThriftServerBusyException) e;
+              result.setBusyIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      @Override
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      public void start(I iface, deleteLead_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.deleteLead(args.leadDto,resultHandler);
+      }
+    }
+
+    public static class deleteLeadById<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, deleteLeadById_args, Void> {
+      public deleteLeadById() {
+        super("deleteLeadById");
+      }
+
+      @Override
+      public deleteLeadById_args getEmptyArgsInstance() {
+        return new deleteLeadById_args();
+      }
+
+      @Override
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          @Override
+          public void onComplete(Void o) {
+            deleteLeadById_result result = new deleteLeadById_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          @Override
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            deleteLeadById_result result = new deleteLeadById_result();
+            if (e instanceof ThriftNoSuchLeadException) {
+              result.e = (ThriftNoSuchLeadException) e;
+              result.setEIsSet(true);
+              msg = result;
+            } else if (e instanceof ThriftServerBusyException) {
+              result.busy = (ThriftServerBusyException) e;
+              result.setBusyIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      @Override
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      public void start(I iface, deleteLeadById_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.deleteLeadById(args.id,resultHandler);
+      }
+    }
+
+    public static class findLeadsPage<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, findLeadsPage_args, InternalLeadPage> {
+      public findLeadsPage() {
+        super("findLeadsPage");
+      }
+
+      @Override
+      public findLeadsPage_args getEmptyArgsInstance() {
+        return new findLeadsPage_args();
+      }
+
+      @Override
+      public org.apache.thrift.async.AsyncMethodCallback<InternalLeadPage> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<InternalLeadPage>() { 
+          @Override
+          public void onComplete(InternalLeadPage o) {
+            findLeadsPage_result result = new findLeadsPage_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          @Override
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            findLeadsPage_result result = new findLeadsPage_result();
+            if (e instanceof ThriftWrongOrderForRevenueException) {
+              result.e1 = (ThriftWrongOrderForRevenueException) e;
+              result.setE1IsSet(true);
+              msg = result;
+            } else if (e instanceof ThriftWrongStateException) {
+              result.e2 = (ThriftWrongStateException) e;
+              result.setE2IsSet(true);
+              msg = result;
+            } else if (e instanceof ThriftInvalidPageTokenException) {
+              result.e3 = (ThriftInvalidPageTokenException) e;
+              result.setE3IsSet(true);
+              msg = result;
+            } else if (e instanceof ThriftServerBusyException) {
+              result.busy = (ThriftServerBusyException) e;
+              result.setBusyIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      @Override
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      public void start(I iface, findLeadsPage_args args, org.apache.thrift.async.AsyncMethodCallback<InternalLeadPage> resultHandler) throws org.apache.thrift.TException {
+        iface.findLeadsPage(args.lowAnnualRevenue, args.highAnnualRevenue, args.state, args.pageSize, args.pageToken,resultHandler);
+      }
+    }
+
+    public static class findLeadsByDatePage<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, findLeadsByDatePage_args, InternalLeadPage> {
+      public findLeadsByDatePage() {
+        super("findLeadsByDatePage");
+      }
+
+      @Override
+      public findLeadsByDatePage_args getEmptyArgsInstance() {
+        return new findLeadsByDatePage_args();
+      }
+
+      @Override
+      public org.apache.thrift.async.AsyncMethodCallback<InternalLeadPage> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<InternalLeadPage>() { 
+          @Override
+          public void onComplete(InternalLeadPage o) {
+            findLeadsByDatePage_result result = new findLeadsByDatePage_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          @Override
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            findLeadsByDatePage_result result = new findLeadsByDatePage_result();
+            if (e instanceof ThriftWrongDateFormatException) {
+              result.e1 = (ThriftWrongDateFormatException) e;
+              result.setE1IsSet(true);
+              msg = result;
+            } else if (e instanceof ThriftWrongOrderForDateException) {
+              result.e2 = (ThriftWrongOrderForDateException) e;
+              result.setE2IsSet(true);
+              msg = result;
+            } else if (e instanceof ThriftInvalidPageTokenException) {
+              result.e3 = (ThriftInvalidPageTokenException) e;
+              result.setE3IsSet(true);
+              msg = result;
+            } else if (e instanceof ThriftServerBusyException) {
+              result.busy = (ThriftServerBusyException) e;
+              result.setBusyIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      @Override
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      public void start(I iface, findLeadsByDatePage_args args, org.apache.thrift.async.AsyncMethodCallback<InternalLeadPage> resultHandler) throws org.apache.thrift.TException {
+        iface.findLeadsByDatePage(args.startDate, args.endDate, args.pageSize, args.pageToken,resultHandler);
+      }
+    }
+
+    public static class createLeads<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, createLeads_args, InternalBatchResult> {
+      public createLeads() {
+        super("createLeads");
+      }
+
+      @Override
+      public createLeads_args getEmptyArgsInstance() {
+        return new createLeads_args();
+      }
+
+      @Override
+      public org.apache.thrift.async.AsyncMethodCallback<InternalBatchResult> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<InternalBatchResult>() { 
+          @Override
+          public void onComplete(InternalBatchResult o) {
+            createLeads_result result = new createLeads_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          @Override
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            createLeads_result result = new createLeads_result();
+            if (e instanceof ThriftServerBusyException) {
+              result.busy = (ThriftServerBusyException) e;
+              result.setBusyIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      @Override
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      public void start(I iface, createLeads_args args, org.apache.thrift.async.AsyncMethodCallback<InternalBatchResult> resultHandler) throws org.apache.thrift.TException {
+        iface.createLeads(args.leads,resultHandler);
+      }
+    }
+
+    public static class deleteLeads<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, deleteLeads_args, InternalBatchResult> {
+      public deleteLeads() {
+        super("deleteLeads");
+      }
+
+      @Override
+      public deleteLeads_args getEmptyArgsInstance() {
+        return new deleteLeads_args();
+      }
+
+      @Override
+      public org.apache.thrift.async.AsyncMethodCallback<InternalBatchResult> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<InternalBatchResult>() { 
+          @Override
+          public void onComplete(InternalBatchResult o) {
+            deleteLeads_result result = new deleteLeads_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          @Override
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            deleteLeads_result result = new deleteLeads_result();
+            if (e instanceof ThriftServerBusyException) {
+              result.busy = (ThriftServerBusyException) e;
+              result.setBusyIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      @Override
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      public void start(I iface, deleteLeads_args args, org.apache.thrift.async.AsyncMethodCallback<InternalBatchResult> resultHandler) throws org.apache.thrift.TException {
+        iface.deleteLeads(args.ids,resultHandler);
+      }
+    }
+
+    public static class countLeads<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, countLeads_args, java.lang.Long> {
+      public countLeads() {
+        super("countLeads");
+      }
+
+      @Override
+      public countLeads_args getEmptyArgsInstance() {
+        return new countLeads_args();
+      }
+
+      @Override
+      public org.apache.thrift.async.AsyncMethodCallback<java.lang.Long> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.Long>() { 
+          @Override
+          public void onComplete(java.lang.Long o) {
+            countLeads_result result = new countLeads_result();
+            result.success = o;
+            result.setSuccessIsSet(true);
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          @Override
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            countLeads_result result = new countLeads_result();
+            if (e instanceof ThriftWrongOrderForRevenueException) {
+              result.e1 = (ThriftWrongOrderForRevenueException) e;
+              result.setE1IsSet(true);
+              msg = result;
+            } else if (e instanceof ThriftWrongStateException) {
+              result.e2 = (ThriftWrongStateException) e;
+              result.setE2IsSet(true);
+              msg = result;
+            } else if (e instanceof ThriftServerBusyException) {
+              result.busy = (ThriftServerBusyException) e;
+              result.setBusyIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      @Override
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      public void start(I iface, countLeads_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.Long> resultHandler) throws org.apache.thrift.TException {
+        iface.countLeads(args.lowAnnualRevenue, args.highAnnualRevenue, args.state,resultHandler);
+      }
+    }
+
+    public static class revenueStats<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, revenueStats_args, InternalRevenueStats> {
+      public revenueStats() {
+        super("revenueStats");
+      }
+
+      @Override
+      public revenueStats_args getEmptyArgsInstance() {
+        return new revenueStats_args();
+      }
+
+      @Override
+      public org.apache.thrift.async.AsyncMethodCallback<InternalRevenueStats> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<InternalRevenueStats>() { 
+          @Override
+          public void onComplete(InternalRevenueStats o) {
+            revenueStats_result result = new revenueStats_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          @Override
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            revenueStats_result result = new revenueStats_result();
+            if (e instanceof ThriftWrongOrderForRevenueException) {
+              result.e1 = (ThriftWrongOrderForRevenueException) e;
+              result.setE1IsSet(true);
+              msg = result;
+            } else if (e instanceof ThriftWrongStateException) {
+              result.e2 = (ThriftWrongStateException) e;
+              result.setE2IsSet(true);
+              msg = result;
+            } else if (e instanceof ThriftServerBusyException) {
+              result.busy = (ThriftServerBusyException) e;
+              result.setBusyIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      @Override
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      public void start(I iface, revenueStats_args args, org.apache.thrift.async.AsyncMethodCallback<InternalRevenueStats> resultHandler) throws org.apache.thrift.TException {
+        iface.revenueStats(args.lowAnnualRevenue, args.highAnnualRevenue, args.state,resultHandler);
+      }
+    }
+
+    public static class leadHistogram<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, leadHistogram_args, java.util.List<InternalLeadBucket>> {
+      public leadHistogram() {
+        super("leadHistogram");
+      }
+
+      @Override
+      public leadHistogram_args getEmptyArgsInstance() {
+        return new leadHistogram_args();
+      }
+
+      @Override
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<InternalLeadBucket>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<InternalLeadBucket>>() { 
+          @Override
+          public void onComplete(java.util.List<InternalLeadBucket> o) {
+            leadHistogram_result result = new leadHistogram_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          @Override
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            leadHistogram_result result = new leadHistogram_result();
+            if (e instanceof ThriftWrongOrderForRevenueException) {
+              result.e1 = (ThriftWrongOrderForRevenueException) e;
+              result.setE1IsSet(true);
+              msg = result;
+            } else if (e instanceof ThriftWrongStateException) {
+              result.e2 = (ThriftWrongStateException) e;
+              result.setE2IsSet(true);
+              msg = result;
+            } else if (e instanceof ThriftInvalidGroupByException) {
+              result.e3 = (ThriftInvalidGroupByException) e;
+              result.setE3IsSet(true);
+              msg = result;
+            } else if (e instanceof ThriftServerBusyException) {
+              result.busy = (ThriftServerBusyException) e;
+              result.setBusyIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      @Override
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      public void start(I iface, leadHistogram_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<InternalLeadBucket>> resultHandler) throws org.apache.thrift.TException {
+        iface.leadHistogram(args.groupBy, args.lowAnnualRevenue, args.highAnnualRevenue, args.state,resultHandler);
+      }
+    }
+
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class findLeads_args implements org.apache.thrift.TBase<findLeads_args, findLeads_args._Fields>, java.io.Serializable, Cloneable, Comparable<findLeads_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("findLeads_args");
+
+    private static final org.apache.thrift.protocol.TField LOW_ANNUAL_REVENUE_FIELD_DESC = new org.apache.thrift.protocol.TField("lowAnnualRevenue", org.apache.thrift.protocol.TType.DOUBLE, (short)1);
+    private static final org.apache.thrift.protocol.TField HIGH_ANNUAL_REVENUE_FIELD_DESC = new org.apache.thrift.protocol.TField("highAnnualRevenue", org.apache.thrift.protocol.TType.DOUBLE, (short)2);
+    private static final org.apache.thrift.protocol.TField STATE_FIELD_DESC = new org.apache.thrift.protocol.TField("state", org.apache.thrift.protocol.TType.STRING, (short)3);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new findLeads_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new findLeads_argsTupleSchemeFactory();
+
+    public double lowAnnualRevenue; // required
+    public double highAnnualRevenue; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String state; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      LOW_ANNUAL_REVENUE((short)1, "lowAnnualRevenue"),
+      HIGH_ANNUAL_REVENUE((short)2, "highAnnualRevenue"),
+      STATE((short)3, "state");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // LOW_ANNUAL_REVENUE
+            return LOW_ANNUAL_REVENUE;
+          case 2: // HIGH_ANNUAL_REVENUE
+            return HIGH_ANNUAL_REVENUE;
+          case 3: // STATE
+            return STATE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __LOWANNUALREVENUE_ISSET_ID = 0;
+    private static final int __HIGHANNUALREVENUE_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.LOW_ANNUAL_REVENUE, new org.apache.thrift.meta_data.FieldMetaData("lowAnnualRevenue", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+      tmpMap.put(_Fields.HIGH_ANNUAL_REVENUE, new org.apache.thrift.meta_data.FieldMetaData("highAnnualRevenue", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+      tmpMap.put(_Fields.STATE, new org.apache.thrift.meta_data.FieldMetaData("state", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(findLeads_args.class, metaDataMap);
+    }
+
+    public findLeads_args() {
+    }
+
+    public findLeads_args(
+      double lowAnnualRevenue,
+      double highAnnualRevenue,
+      java.lang.String state)
+    {
+      this();
+      this.lowAnnualRevenue = lowAnnualRevenue;
+      setLowAnnualRevenueIsSet(true);
+      this.highAnnualRevenue = highAnnualRevenue;
+      setHighAnnualRevenueIsSet(true);
+      this.state = state;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public findLeads_args(findLeads_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.lowAnnualRevenue = other.lowAnnualRevenue;
+      this.highAnnualRevenue = other.highAnnualRevenue;
+      if (other.isSetState()) {
+        this.state = other.state;
+      }
+    }
+
+    @Override
+    public findLeads_args deepCopy() {
+      return new findLeads_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setLowAnnualRevenueIsSet(false);
+      this.lowAnnualRevenue = 0.0;
+      setHighAnnualRevenueIsSet(false);
+      this.highAnnualRevenue = 0.0;
+      this.state = null;
+    }
+
+    public double getLowAnnualRevenue() {
+      return this.lowAnnualRevenue;
+    }
+
+    public findLeads_args setLowAnnualRevenue(double lowAnnualRevenue) {
+      this.lowAnnualRevenue = lowAnnualRevenue;
+      setLowAnnualRevenueIsSet(true);
+      return this;
+    }
+
+    public void unsetLowAnnualRevenue() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __LOWANNUALREVENUE_ISSET_ID);
+    }
+
+    /** Returns true if field lowAnnualRevenue is set (has been assigned a value) and false otherwise */
+    public boolean isSetLowAnnualRevenue() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __LOWANNUALREVENUE_ISSET_ID);
+    }
+
+    public void setLowAnnualRevenueIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __LOWANNUALREVENUE_ISSET_ID, value);
+    }
+
+    public double getHighAnnualRevenue() {
+      return this.highAnnualRevenue;
+    }
+
+    public findLeads_args setHighAnnualRevenue(double highAnnualRevenue) {
+      this.highAnnualRevenue = highAnnualRevenue;
+      setHighAnnualRevenueIsSet(true);
+      return this;
+    }
+
+    public void unsetHighAnnualRevenue() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __HIGHANNUALREVENUE_ISSET_ID);
+    }
+
+    /** Returns true if field highAnnualRevenue is set (has been assigned a value) and false otherwise */
+    public boolean isSetHighAnnualRevenue() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __HIGHANNUALREVENUE_ISSET_ID);
+    }
+
+    public void setHighAnnualRevenueIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __HIGHANNUALREVENUE_ISSET_ID, value);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getState() {
+      return this.state;
+    }
+
+    public findLeads_args setState(@org.apache.thrift.annotation.Nullable java.lang.String state) {
+      this.state = state;
+      return this;
+    }
+
+    public void unsetState() {
+      this.state = null;
+    }
+
+    /** Returns true if field state is set (has been assigned a value) and false otherwise */
+    public boolean isSetState() {
+      return this.state != null;
+    }
+
+    public void setStateIsSet(boolean value) {
+      if (!value) {
+        this.state = null;
+      }
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case LOW_ANNUAL_REVENUE:
+        if (value == null) {
+          unsetLowAnnualRevenue();
+        } else {
+          setLowAnnualRevenue((java.lang.Double)value);
+        }
+        break;
+
+      case HIGH_ANNUAL_REVENUE:
+        if (value == null) {
+          unsetHighAnnualRevenue();
+        } else {
+          setHighAnnualRevenue((java.lang.Double)value);
+        }
+        break;
+
+      case STATE:
+        if (value == null) {
+          unsetState();
+        } else {
+          setState((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case LOW_ANNUAL_REVENUE:
+        return getLowAnnualRevenue();
+
+      case HIGH_ANNUAL_REVENUE:
+        return getHighAnnualRevenue();
+
+      case STATE:
+        return getState();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case LOW_ANNUAL_REVENUE:
+        return isSetLowAnnualRevenue();
+      case HIGH_ANNUAL_REVENUE:
+        return isSetHighAnnualRevenue();
+      case STATE:
+        return isSetState();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof findLeads_args)
+        return this.equals((findLeads_args)that);
+      return false;
+    }
+
+    public boolean equals(findLeads_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_lowAnnualRevenue = true;
+      boolean that_present_lowAnnualRevenue = true;
+      if (this_present_lowAnnualRevenue || that_present_lowAnnualRevenue) {
+        if (!(this_present_lowAnnualRevenue && that_present_lowAnnualRevenue))
+          return false;
+        if (this.lowAnnualRevenue != that.lowAnnualRevenue)
+          return false;
+      }
+
+      boolean this_present_highAnnualRevenue = true;
+      boolean that_present_highAnnualRevenue = true;
+      if (this_present_highAnnualRevenue || that_present_highAnnualRevenue) {
+        if (!(this_present_highAnnualRevenue && that_present_highAnnualRevenue))
+          return false;
+        if (this.highAnnualRevenue != that.highAnnualRevenue)
+          return false;
+      }
+
+      boolean this_present_state = true && this.isSetState();
+      boolean that_present_state = true && that.isSetState();
+      if (this_present_state || that_present_state) {
+        if (!(this_present_state && that_present_state))
+          return false;
+        if (!this.state.equals(that.state))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(lowAnnualRevenue);
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(highAnnualRevenue);
+
+      hashCode = hashCode * 8191 + ((isSetState()) ? 131071 : 524287);
+      if (isSetState())
+        hashCode = hashCode * 8191 + state.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(findLeads_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetLowAnnualRevenue(), other.isSetLowAnnualRevenue());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLowAnnualRevenue()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.lowAnnualRevenue, other.lowAnnualRevenue);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetHighAnnualRevenue(), other.isSetHighAnnualRevenue());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetHighAnnualRevenue()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.highAnnualRevenue, other.highAnnualRevenue);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetState(), other.isSetState());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetState()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.state, other.state);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    @Override
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("findLeads_args(");
+      boolean first = true;
+
+      sb.append("lowAnnualRevenue:");
+      sb.append(this.lowAnnualRevenue);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("highAnnualRevenue:");
+      sb.append(this.highAnnualRevenue);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("state:");
+      if (this.state == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.state);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class findLeads_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public findLeads_argsStandardScheme getScheme() {
+        return new findLeads_argsStandardScheme();
+      }
+    }
+
+    private static class findLeads_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<findLeads_args> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, findLeads_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // LOW_ANNUAL_REVENUE
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.lowAnnualRevenue = iprot.readDouble();
+                struct.setLowAnnualRevenueIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // HIGH_ANNUAL_REVENUE
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.highAnnualRevenue = iprot.readDouble();
+                struct.setHighAnnualRevenueIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // STATE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.state = iprot.readString();
+                struct.setStateIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, findLeads_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(LOW_ANNUAL_REVENUE_FIELD_DESC);
+        oprot.writeDouble(struct.lowAnnualRevenue);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(HIGH_ANNUAL_REVENUE_FIELD_DESC);
+        oprot.writeDouble(struct.highAnnualRevenue);
+        oprot.writeFieldEnd();
+        if (struct.state != null) {
+          oprot.writeFieldBegin(STATE_FIELD_DESC);
+          oprot.writeString(struct.state);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class findLeads_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public findLeads_argsTupleScheme getScheme() {
+        return new findLeads_argsTupleScheme();
+      }
+    }
+
+    private static class findLeads_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<findLeads_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, findLeads_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetLowAnnualRevenue()) {
+          optionals.set(0);
+        }
+        if (struct.isSetHighAnnualRevenue()) {
+          optionals.set(1);
+        }
+        if (struct.isSetState()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetLowAnnualRevenue()) {
+          oprot.writeDouble(struct.lowAnnualRevenue);
+        }
+        if (struct.isSetHighAnnualRevenue()) {
+          oprot.writeDouble(struct.highAnnualRevenue);
+        }
+        if (struct.isSetState()) {
+          oprot.writeString(struct.state);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, findLeads_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.lowAnnualRevenue = iprot.readDouble();
+          struct.setLowAnnualRevenueIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.highAnnualRevenue = iprot.readDouble();
+          struct.setHighAnnualRevenueIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.state = iprot.readString();
+          struct.setStateIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class findLeads_result implements org.apache.thrift.TBase<findLeads_result, findLeads_result._Fields>, java.io.Serializable, Cloneable, Comparable<findLeads_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("findLeads_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField BUSY_FIELD_DESC = new org.apache.thrift.protocol.TField("busy", org.apache.thrift.protocol.TType.STRUCT, (short)9);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new findLeads_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new findLeads_resultTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.util.List<InternalLeadDTO> success; // required
+    public @org.apache.thrift.annotation.Nullable ThriftServerBusyException busy; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      BUSY((short)9, "busy");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 9: // BUSY
+            return BUSY;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InternalLeadDTO.class))));
+      tmpMap.put(_Fields.BUSY, new org.apache.thrift.meta_data.FieldMetaData("busy", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftServerBusyException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(findLeads_result.class, metaDataMap);
+    }
+
+    public findLeads_result() {
+    }
+
+    public findLeads_result(
+      java.util.List<InternalLeadDTO> success,
+      ThriftServerBusyException busy)
+    {
+      this();
+      this.success = success;
+      this.busy = busy;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public findLeads_result(findLeads_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<InternalLeadDTO> __this__success = new java.util.ArrayList<InternalLeadDTO>(other.success.size());
+        for (InternalLeadDTO other_element : other.success) {
+          __this__success.add(new InternalLeadDTO(other_element));
+        }
+        this.success = __this__success;
+      }
+      if (other.isSetBusy()) {
+        this.busy = new ThriftServerBusyException(other.busy);
+      }
+    }
+
+    @Override
+    public findLeads_result deepCopy() {
+      return new findLeads_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.busy = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<InternalLeadDTO> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(InternalLeadDTO elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<InternalLeadDTO>();
+      }
+      this.success.add(elem);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<InternalLeadDTO> getSuccess() {
+      return this.success;
+    }
+
+    public findLeads_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<InternalLeadDTO> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ThriftServerBusyException getBusy() {
+      return this.busy;
+    }
+
+    public findLeads_result setBusy(@org.apache.thrift.annotation.Nullable ThriftServerBusyException busy) {
+      this.busy = busy;
+      return this;
+    }
+
+    public void unsetBusy() {
+      this.busy = null;
+    }
+
+    /** Returns true if field busy is set (has been assigned a value) and false otherwise */
+    public boolean isSetBusy() {
+      return this.busy != null;
+    }
+
+    public void setBusyIsSet(boolean value) {
+      if (!value) {
+        this.busy = null;
+      }
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.util.List<InternalLeadDTO>)value);
+        }
+        break;
+
+      case BUSY:
+        if (value == null) {
+          unsetBusy();
+        } else {
+          setBusy((ThriftServerBusyException)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case BUSY:
+        return getBusy();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case BUSY:
+        return isSetBusy();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof findLeads_result)
+        return this.equals((findLeads_result)that);
+      return false;
+    }
+
+    public boolean equals(findLeads_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_busy = true && this.isSetBusy();
+      boolean that_present_busy = true && that.isSetBusy();
+      if (this_present_busy || that_present_busy) {
+        if (!(this_present_busy && that_present_busy))
+          return false;
+        if (!this.busy.equals(that.busy))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetBusy()) ? 131071 : 524287);
+      if (isSetBusy())
+        hashCode = hashCode * 8191 + busy.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(findLeads_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetSuccess(), other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetBusy(), other.isSetBusy());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBusy()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.busy, other.busy);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("findLeads_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("busy:");
+      if (this.busy == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.busy);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class findLeads_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public findLeads_resultStandardScheme getScheme() {
+        return new findLeads_resultStandardScheme();
+      }
+    }
+
+    private static class findLeads_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<findLeads_result> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, findLeads_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list24 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<InternalLeadDTO>(_list24.size);
+                  @org.apache.thrift.annotation.Nullable InternalLeadDTO _elem25;
+                  for (int _i26 = 0; _i26 < _list24.size; ++_i26)
+                  {
+                    _elem25 = new InternalLeadDTO();
+                    _elem25.read(iprot);
+                    struct.success.add(_elem25);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 9: // BUSY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.busy = new ThriftServerBusyException();
+                struct.busy.read(iprot);
+                struct.setBusyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, findLeads_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (InternalLeadDTO _iter27 : struct.success)
+            {
+              _iter27.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.busy != null) {
+          oprot.writeFieldBegin(BUSY_FIELD_DESC);
+          struct.busy.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class findLeads_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public findLeads_resultTupleScheme getScheme() {
+        return new findLeads_resultTupleScheme();
+      }
+    }
+
+    private static class findLeads_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<findLeads_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, findLeads_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetBusy()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (InternalLeadDTO _iter28 : struct.success)
+            {
+              _iter28.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetBusy()) {
+          struct.busy.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, findLeads_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list29 = iprot.readListBegin(org.apache.thrift.protocol.TType.STRUCT);
+            struct.success = new java.util.ArrayList<InternalLeadDTO>(_list29.size);
+            @org.apache.thrift.annotation.Nullable InternalLeadDTO _elem30;
+            for (int _i31 = 0; _i31 < _list29.size; ++_i31)
+            {
+              _elem30 = new InternalLeadDTO();
+              _elem30.read(iprot);
+              struct.success.add(_elem30);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.busy = new ThriftServerBusyException();
+          struct.busy.read(iprot);
+          struct.setBusyIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class findLeadsByDate_args implements org.apache.thrift.TBase<findLeadsByDate_args, findLeadsByDate_args._Fields>, java.io.Serializable, Cloneable, Comparable<findLeadsByDate_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("findLeadsByDate_args");
+
+    private static final org.apache.thrift.protocol.TField START_DATE_FIELD_DESC = new org.apache.thrift.protocol.TField("startDate", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField END_DATE_FIELD_DESC = new org.apache.thrift.protocol.TField("endDate", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new findLeadsByDate_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new findLeadsByDate_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.lang.String startDate; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String endDate; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      START_DATE((short)1, "startDate"),
+      END_DATE((short)2, "endDate");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // START_DATE
+            return START_DATE;
+          case 2: // END_DATE
+            return END_DATE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.START_DATE, new org.apache.thrift.meta_data.FieldMetaData("startDate", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.END_DATE, new org.apache.thrift.meta_data.FieldMetaData("endDate", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(findLeadsByDate_args.class, metaDataMap);
+    }
+
+    public findLeadsByDate_args() {
+    }
+
+    public findLeadsByDate_args(
+      java.lang.String startDate,
+      java.lang.String endDate)
+    {
+      this();
+      this.startDate = startDate;
+      this.endDate = endDate;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public findLeadsByDate_args(findLeadsByDate_args other) {
+      if (other.isSetStartDate()) {
+        this.startDate = other.startDate;
+      }
+      if (other.isSetEndDate()) {
+        this.endDate = other.endDate;
+      }
+    }
+
+    @Override
+    public findLeadsByDate_args deepCopy() {
+      return new findLeadsByDate_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.startDate = null;
+      this.endDate = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getStartDate() {
+      return this.startDate;
+    }
+
+    public findLeadsByDate_args setStartDate(@org.apache.thrift.annotation.Nullable java.lang.String startDate) {
+      this.startDate = startDate;
+      return this;
+    }
+
+    public void unsetStartDate() {
+      this.startDate = null;
+    }
+
+    /** Returns true if field startDate is set (has been assigned a value) and false otherwise */
+    public boolean isSetStartDate() {
+      return this.startDate != null;
+    }
+
+    public void setStartDateIsSet(boolean value) {
+      if (!value) {
+        this.startDate = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getEndDate() {
+      return this.endDate;
+    }
+
+    public findLeadsByDate_args setEndDate(@org.apache.thrift.annotation.Nullable java.lang.String endDate) {
+      this.endDate = endDate;
+      return this;
+    }
+
+    public void unsetEndDate() {
+      this.endDate = null;
+    }
+
+    /** Returns true if field endDate is set (has been assigned a value) and false otherwise */
+    public boolean isSetEndDate() {
+      return this.endDate != null;
+    }
+
+    public void setEndDateIsSet(boolean value) {
+      if (!value) {
+        this.endDate = null;
+      }
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case START_DATE:
+        if (value == null) {
+          unsetStartDate();
+        } else {
+          setStartDate((java.lang.String)value);
+        }
+        break;
+
+      case END_DATE:
+        if (value == null) {
+          unsetEndDate();
+        } else {
+          setEndDate((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case START_DATE:
+        return getStartDate();
+
+      case END_DATE:
+        return getEndDate();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case START_DATE:
+        return isSetStartDate();
+      case END_DATE:
+        return isSetEndDate();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof findLeadsByDate_args)
+        return this.equals((findLeadsByDate_args)that);
+      return false;
+    }
+
+    public boolean equals(findLeadsByDate_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_startDate = true && this.isSetStartDate();
+      boolean that_present_startDate = true && that.isSetStartDate();
+      if (this_present_startDate || that_present_startDate) {
+        if (!(this_present_startDate && that_present_startDate))
+          return false;
+        if (!this.startDate.equals(that.startDate))
+          return false;
+      }
+
+      boolean this_present_endDate = true && this.isSetEndDate();
+      boolean that_present_endDate = true && that.isSetEndDate();
+      if (this_present_endDate || that_present_endDate) {
+        if (!(this_present_endDate && that_present_endDate))
+          return false;
+        if (!this.endDate.equals(that.endDate))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetStartDate()) ? 131071 : 524287);
+      if (isSetStartDate())
+        hashCode = hashCode * 8191 + startDate.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetEndDate()) ? 131071 : 524287);
+      if (isSetEndDate())
+        hashCode = hashCode * 8191 + endDate.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(findLeadsByDate_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetStartDate(), other.isSetStartDate());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetStartDate()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.startDate, other.startDate);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetEndDate(), other.isSetEndDate());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEndDate()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.endDate, other.endDate);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    @Override
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("findLeadsByDate_args(");
+      boolean first = true;
+
+      sb.append("startDate:");
+      if (this.startDate == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.startDate);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("endDate:");
+      if (this.endDate == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.endDate);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class findLeadsByDate_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public findLeadsByDate_argsStandardScheme getScheme() {
+        return new findLeadsByDate_argsStandardScheme();
+      }
+    }
+
+    private static class findLeadsByDate_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<findLeadsByDate_args> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, findLeadsByDate_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // START_DATE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.startDate = iprot.readString();
+                struct.setStartDateIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // END_DATE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.endDate = iprot.readString();
+                struct.setEndDateIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, findLeadsByDate_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.startDate != null) {
+          oprot.writeFieldBegin(START_DATE_FIELD_DESC);
+          oprot.writeString(struct.startDate);
+          oprot.writeFieldEnd();
+        }
+        if (struct.endDate != null) {
+          oprot.writeFieldBegin(END_DATE_FIELD_DESC);
+          oprot.writeString(struct.endDate);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class findLeadsByDate_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public findLeadsByDate_argsTupleScheme getScheme() {
+        return new findLeadsByDate_argsTupleScheme();
+      }
+    }
+
+    private static class findLeadsByDate_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<findLeadsByDate_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, findLeadsByDate_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetStartDate()) {
+          optionals.set(0);
+        }
+        if (struct.isSetEndDate()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetStartDate()) {
+          oprot.writeString(struct.startDate);
+        }
+        if (struct.isSetEndDate()) {
+          oprot.writeString(struct.endDate);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, findLeadsByDate_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.startDate = iprot.readString();
+          struct.setStartDateIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.endDate = iprot.readString();
+          struct.setEndDateIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class findLeadsByDate_result implements org.apache.thrift.TBase<findLeadsByDate_result, findLeadsByDate_result._Fields>, java.io.Serializable, Cloneable, Comparable<findLeadsByDate_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("findLeadsByDate_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField BUSY_FIELD_DESC = new org.apache.thrift.protocol.TField("busy", org.apache.thrift.protocol.TType.STRUCT, (short)9);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new findLeadsByDate_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new findLeadsByDate_resultTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.util.List<InternalLeadDTO> success; // required
+    public @org.apache.thrift.annotation.Nullable ThriftServerBusyException busy; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      BUSY((short)9, "busy");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 9: // BUSY
+            return BUSY;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InternalLeadDTO.class))));
+      tmpMap.put(_Fields.BUSY, new org.apache.thrift.meta_data.FieldMetaData("busy", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftServerBusyException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(findLeadsByDate_result.class, metaDataMap);
+    }
+
+    public findLeadsByDate_result() {
+    }
+
+    public findLeadsByDate_result(
+      java.util.List<InternalLeadDTO> success,
+      ThriftServerBusyException busy)
+    {
+      this();
+      this.success = success;
+      this.busy = busy;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public findLeadsByDate_result(findLeadsByDate_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<InternalLeadDTO> __this__success = new java.util.ArrayList<InternalLeadDTO>(other.success.size());
+        for (InternalLeadDTO other_element : other.success) {
+          __this__success.add(new InternalLeadDTO(other_element));
+        }
+        this.success = __this__success;
+      }
+      if (other.isSetBusy()) {
+        this.busy = new ThriftServerBusyException(other.busy);
+      }
+    }
+
+    @Override
+    public findLeadsByDate_result deepCopy() {
+      return new findLeadsByDate_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.busy = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<InternalLeadDTO> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(InternalLeadDTO elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<InternalLeadDTO>();
+      }
+      this.success.add(elem);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<InternalLeadDTO> getSuccess() {
+      return this.success;
+    }
+
+    public findLeadsByDate_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<InternalLeadDTO> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ThriftServerBusyException getBusy() {
+      return this.busy;
+    }
+
+    public findLeadsByDate_result setBusy(@org.apache.thrift.annotation.Nullable ThriftServerBusyException busy) {
+      this.busy = busy;
+      return this;
+    }
+
+    public void unsetBusy() {
+      this.busy = null;
+    }
+
+    /** Returns true if field busy is set (has been assigned a value) and false otherwise */
+    public boolean isSetBusy() {
+      return this.busy != null;
+    }
+
+    public void setBusyIsSet(boolean value) {
+      if (!value) {
+        this.busy = null;
+      }
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.util.List<InternalLeadDTO>)value);
+        }
+        break;
+
+      case BUSY:
+        if (value == null) {
+          unsetBusy();
+        } else {
+          setBusy((ThriftServerBusyException)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case BUSY:
+        return getBusy();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case BUSY:
+        return isSetBusy();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof findLeadsByDate_result)
+        return this.equals((findLeadsByDate_result)that);
+      return false;
+    }
+
+    public boolean equals(findLeadsByDate_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_busy = true && this.isSetBusy();
+      boolean that_present_busy = true && that.isSetBusy();
+      if (this_present_busy || that_present_busy) {
+        if (!(this_present_busy && that_present_busy))
+          return false;
+        if (!this.busy.equals(that.busy))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetBusy()) ? 131071 : 524287);
+      if (isSetBusy())
+        hashCode = hashCode * 8191 + busy.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(findLeadsByDate_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetSuccess(), other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetBusy(), other.isSetBusy());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBusy()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.busy, other.busy);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("findLeadsByDate_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("busy:");
+      if (this.busy == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.busy);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class findLeadsByDate_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public findLeadsByDate_resultStandardScheme getScheme() {
+        return new findLeadsByDate_resultStandardScheme();
+      }
+    }
+
+    private static class findLeadsByDate_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<findLeadsByDate_result> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, findLeadsByDate_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list32 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<InternalLeadDTO>(_list32.size);
+                  @org.apache.thrift.annotation.Nullable InternalLeadDTO _elem33;
+                  for (int _i34 = 0; _i34 < _list32.size; ++_i34)
+                  {
+                    _elem33 = new InternalLeadDTO();
+                    _elem33.read(iprot);
+                    struct.success.add(_elem33);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 9: // BUSY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.busy = new ThriftServerBusyException();
+                struct.busy.read(iprot);
+                struct.setBusyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, findLeadsByDate_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (InternalLeadDTO _iter35 : struct.success)
+            {
+              _iter35.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.busy != null) {
+          oprot.writeFieldBegin(BUSY_FIELD_DESC);
+          struct.busy.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class findLeadsByDate_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public findLeadsByDate_resultTupleScheme getScheme() {
+        return new findLeadsByDate_resultTupleScheme();
+      }
+    }
+
+    private static class findLeadsByDate_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<findLeadsByDate_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, findLeadsByDate_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetBusy()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (InternalLeadDTO _iter36 : struct.success)
+            {
+              _iter36.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetBusy()) {
+          struct.busy.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, findLeadsByDate_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list37 = iprot.readListBegin(org.apache.thrift.protocol.TType.STRUCT);
+            struct.success = new java.util.ArrayList<InternalLeadDTO>(_list37.size);
+            @org.apache.thrift.annotation.Nullable InternalLeadDTO _elem38;
+            for (int _i39 = 0; _i39 < _list37.size; ++_i39)
+            {
+              _elem38 = new InternalLeadDTO();
+              _elem38.read(iprot);
+              struct.success.add(_elem38);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.busy = new ThriftServerBusyException();
+          struct.busy.read(iprot);
+          struct.setBusyIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class createLead_args implements org.apache.thrift.TBase<createLead_args, createLead_args._Fields>, java.io.Serializable, Cloneable, Comparable<createLead_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createLead_args");
+
+    private static final org.apache.thrift.protocol.TField LEAD_FIELD_DESC = new org.apache.thrift.protocol.TField("lead", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new createLead_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new createLead_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable InternalLeadDTO lead; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      LEAD((short)1, "lead");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // LEAD
+            return LEAD;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.LEAD, new org.apache.thrift.meta_data.FieldMetaData("lead", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InternalLeadDTO.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createLead_args.class, metaDataMap);
+    }
+
+    public createLead_args() {
+    }
+
+    public createLead_args(
+      InternalLeadDTO lead)
+    {
+      this();
+      this.lead = lead;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public createLead_args(createLead_args other) {
+      if (other.isSetLead()) {
+        this.lead = new InternalLeadDTO(other.lead);
+      }
+    }
+
+    @Override
+    public createLead_args deepCopy() {
+      return new createLead_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.lead = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public InternalLeadDTO getLead() {
+      return this.lead;
+    }
+
+    public createLead_args setLead(@org.apache.thrift.annotation.Nullable InternalLeadDTO lead) {
+      this.lead = lead;
+      return this;
+    }
+
+    public void unsetLead() {
+      this.lead = null;
+    }
+
+    /** Returns true if field lead is set (has been assigned a value) and false otherwise */
+    public boolean isSetLead() {
+      return this.lead != null;
+    }
+
+    public void setLeadIsSet(boolean value) {
+      if (!value) {
+        this.lead = null;
+      }
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case LEAD:
+        if (value == null) {
+          unsetLead();
+        } else {
+          setLead((InternalLeadDTO)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case LEAD:
+        return getLead();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case LEAD:
+        return isSetLead();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof createLead_args)
+        return this.equals((createLead_args)that);
+      return false;
+    }
+
+    public boolean equals(createLead_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_lead = true && this.isSetLead();
+      boolean that_present_lead = true && that.isSetLead();
+      if (this_present_lead || that_present_lead) {
+        if (!(this_present_lead && that_present_lead))
+          return false;
+        if (!this.lead.equals(that.lead))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetLead()) ? 131071 : 524287);
+      if (isSetLead())
+        hashCode = hashCode * 8191 + lead.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(createLead_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetLead(), other.isSetLead());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLead()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.lead, other.lead);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    @Override
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("createLead_args(");
+      boolean first = true;
+
+      sb.append("lead:");
+      if (this.lead == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.lead);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (lead != null) {
+        lead.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class createLead_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public createLead_argsStandardScheme getScheme() {
+        return new createLead_argsStandardScheme();
+      }
+    }
+
+    private static class createLead_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<createLead_args> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createLead_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // LEAD
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.lead = new InternalLeadDTO();
+                struct.lead.read(iprot);
+                struct.setLeadIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createLead_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.lead != null) {
+          oprot.writeFieldBegin(LEAD_FIELD_DESC);
+          struct.lead.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class createLead_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public createLead_argsTupleScheme getScheme() {
+        return new createLead_argsTupleScheme();
+      }
+    }
+
+    private static class createLead_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<createLead_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, createLead_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetLead()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetLead()) {
+          struct.lead.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, createLead_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.lead = new InternalLeadDTO();
+          struct.lead.read(iprot);
+          struct.setLeadIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class createLead_result implements org.apache.thrift.TBase<createLead_result, createLead_result._Fields>, java.io.Serializable, Cloneable, Comparable<createLead_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createLead_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
+    private static final org.apache.thrift.protocol.TField BUSY_FIELD_DESC = new org.apache.thrift.protocol.TField("busy", org.apache.thrift.protocol.TType.STRUCT, (short)9);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new createLead_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new createLead_resultTupleSchemeFactory();
+
+    public long success; // required
+    public @org.apache.thrift.annotation.Nullable ThriftServerBusyException busy; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      BUSY((short)9, "busy");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 9: // BUSY
+            return BUSY;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.BUSY, new org.apache.thrift.meta_data.FieldMetaData("busy", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftServerBusyException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createLead_result.class, metaDataMap);
+    }
+
+    public createLead_result() {
+    }
+
+    public createLead_result(
+      long success,
+      ThriftServerBusyException busy)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+      this.busy = busy;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public createLead_result(createLead_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+      if (other.isSetBusy()) {
+        this.busy = new ThriftServerBusyException(other.busy);
+      }
+    }
+
+    @Override
+    public createLead_result deepCopy() {
+      return new createLead_result(this);
+    }
+
+    @Override
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = 0;
+      this.busy = null;
+    }
+
+    public long getSuccess() {
+      return this.success;
+    }
+
+    public createLead_result setSuccess(long success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ThriftServerBusyException getBusy() {
+      return this.busy;
+    }
+
+    public createLead_result setBusy(@org.apache.thrift.annotation.Nullable ThriftServerBusyException busy) {
+      this.busy = busy;
+      return this;
+    }
+
+    public void unsetBusy() {
+      this.busy = null;
+    }
+
+    /** Returns true if field busy is set (has been assigned a value) and false otherwise */
+    public boolean isSetBusy() {
+      return this.busy != null;
+    }
+
+    public void setBusyIsSet(boolean value) {
+      if (!value) {
+        this.busy = null;
+      }
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.lang.Long)value);
+        }
+        break;
+
+      case BUSY:
+        if (value == null) {
+          unsetBusy();
+        } else {
+          setBusy((ThriftServerBusyException)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case BUSY:
+        return getBusy();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case BUSY:
+        return isSetBusy();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof createLead_result)
+        return this.equals((createLead_result)that);
+      return false;
+    }
+
+    public boolean equals(createLead_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      boolean this_present_busy = true && this.isSetBusy();
+      boolean that_present_busy = true && that.isSetBusy();
+      if (this_present_busy || that_present_busy) {
+        if (!(this_present_busy && that_present_busy))
+          return false;
+        if (!this.busy.equals(that.busy))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(success);
+
+      hashCode = hashCode * 8191 + ((isSetBusy()) ? 131071 : 524287);
+      if (isSetBusy())
+        hashCode = hashCode * 8191 + busy.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(createLead_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetSuccess(), other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetBusy(), other.isSetBusy());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBusy()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.busy, other.busy);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("createLead_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("busy:");
+      if (this.busy == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.busy);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class createLead_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public createLead_resultStandardScheme getScheme() {
+        return new createLead_resultStandardScheme();
+      }
+    }
+
+    private static class createLead_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<createLead_result> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createLead_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.success = iprot.readI64();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 9: // BUSY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.busy = new ThriftServerBusyException();
+                struct.busy.read(iprot);
+                struct.setBusyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createLead_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeI64(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.busy != null) {
+          oprot.writeFieldBegin(BUSY_FIELD_DESC);
+          struct.busy.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class createLead_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public createLead_resultTupleScheme getScheme() {
+        return new createLead_resultTupleScheme();
+      }
+    }
+
+    private static class createLead_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<createLead_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, createLead_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetBusy()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeI64(struct.success);
+        }
+        if (struct.isSetBusy()) {
+          struct.busy.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, createLead_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = iprot.readI64();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.busy = new ThriftServerBusyException();
+          struct.busy.read(iprot);
+          struct.setBusyIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class deleteLead_args implements org.apache.thrift.TBase<deleteLead_args, deleteLead_args._Fields>, java.io.Serializable, Cloneable, Comparable<deleteLead_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteLead_args");
+
+    private static final org.apache.thrift.protocol.TField LEAD_DTO_FIELD_DESC = new org.apache.thrift.protocol.TField("leadDto", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new deleteLead_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new deleteLead_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable InternalLeadDTO leadDto; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      LEAD_DTO((short)1, "leadDto");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // LEAD_DTO
+            return LEAD_DTO;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.LEAD_DTO, new org.apache.thrift.meta_data.FieldMetaData("leadDto", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InternalLeadDTO.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteLead_args.class, metaDataMap);
+    }
+
+    public deleteLead_args() {
+    }
+
+    public deleteLead_args(
+      InternalLeadDTO leadDto)
+    {
+      this();
+      this.leadDto = leadDto;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public deleteLead_args(deleteLead_args other) {
+      if (other.isSetLeadDto()) {
+        this.leadDto = new InternalLeadDTO(other.leadDto);
+      }
+    }
+
+    @Override
+    public deleteLead_args deepCopy() {
+      return new deleteLead_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.leadDto = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public InternalLeadDTO getLeadDto() {
+      return this.leadDto;
+    }
+
+    public deleteLead_args setLeadDto(@org.apache.thrift.annotation.Nullable InternalLeadDTO leadDto) {
+      this.leadDto = leadDto;
+      return this;
+    }
+
+    public void unsetLeadDto() {
+      this.leadDto = null;
+    }
+
+    /** Returns true if field leadDto is set (has been assigned a value) and false otherwise */
+    public boolean isSetLeadDto() {
+      return this.leadDto != null;
+    }
+
+    public void setLeadDtoIsSet(boolean value) {
+      if (!value) {
+        this.leadDto = null;
+      }
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case LEAD_DTO:
+        if (value == null) {
+          unsetLeadDto();
+        } else {
+          setLeadDto((InternalLeadDTO)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case LEAD_DTO:
+        return getLeadDto();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case LEAD_DTO:
+        return isSetLeadDto();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof deleteLead_args)
+        return this.equals((deleteLead_args)that);
+      return false;
+    }
+
+    public boolean equals(deleteLead_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_leadDto = true && this.isSetLeadDto();
+      boolean that_present_leadDto = true && that.isSetLeadDto();
+      if (this_present_leadDto || that_present_leadDto) {
+        if (!(this_present_leadDto && that_present_leadDto))
+          return false;
+        if (!this.leadDto.equals(that.leadDto))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetLeadDto()) ? 131071 : 524287);
+      if (isSetLeadDto())
+        hashCode = hashCode * 8191 + leadDto.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(deleteLead_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetLeadDto(), other.isSetLeadDto());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLeadDto()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.leadDto, other.leadDto);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    @Override
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("deleteLead_args(");
+      boolean first = true;
+
+      sb.append("leadDto:");
+      if (this.leadDto == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.leadDto);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (leadDto != null) {
+        leadDto.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class deleteLead_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public deleteLead_argsStandardScheme getScheme() {
+        return new deleteLead_argsStandardScheme();
+      }
+    }
+
+    private static class deleteLead_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<deleteLead_args> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteLead_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // LEAD_DTO
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.leadDto = new InternalLeadDTO();
+                struct.leadDto.read(iprot);
+                struct.setLeadDtoIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteLead_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.leadDto != null) {
+          oprot.writeFieldBegin(LEAD_DTO_FIELD_DESC);
+          struct.leadDto.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class deleteLead_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public deleteLead_argsTupleScheme getScheme() {
+        return new deleteLead_argsTupleScheme();
+      }
+    }
+
+    private static class deleteLead_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<deleteLead_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, deleteLead_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetLeadDto()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetLeadDto()) {
+          struct.leadDto.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, deleteLead_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.leadDto = new InternalLeadDTO();
+          struct.leadDto.read(iprot);
+          struct.setLeadDtoIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class deleteLead_result implements org.apache.thrift.TBase<deleteLead_result, deleteLead_result._Fields>, java.io.Serializable, Cloneable, Comparable<deleteLead_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteLead_result");
+
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField BUSY_FIELD_DESC = new org.apache.thrift.protocol.TField("busy", org.apache.thrift.protocol.TType.STRUCT, (short)9);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new deleteLead_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new deleteLead_resultTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable ThriftNoSuchLeadException e; // required
+    public @org.apache.thrift.annotation.Nullable ThriftServerBusyException busy; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      E((short)1, "e"),
+      BUSY((short)9, "busy");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // E
+            return E;
+          case 9: // BUSY
+            return BUSY;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftNoSuchLeadException.class)));
+      tmpMap.put(_Fields.BUSY, new org.apache.thrift.meta_data.FieldMetaData("busy", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftServerBusyException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteLead_result.class, metaDataMap);
+    }
+
+    public deleteLead_result() {
+    }
+
+    public deleteLead_result(
+      ThriftNoSuchLeadException e,
+      ThriftServerBusyException busy)
+    {
+      this();
+      this.e = e;
+      this.busy = busy;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public deleteLead_result(deleteLead_result other) {
+      if (other.isSetE()) {
+        this.e = new ThriftNoSuchLeadException(other.e);
+      }
+      if (other.isSetBusy()) {
+        this.busy = new ThriftServerBusyException(other.busy);
+      }
+    }
+
+    @Override
+    public deleteLead_result deepCopy() {
+      return new deleteLead_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.e = null;
+      this.busy = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ThriftNoSuchLeadException getE() {
+      return this.e;
+    }
+
+    public deleteLead_result setE(@org.apache.thrift.annotation.Nullable ThriftNoSuchLeadException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ThriftServerBusyException getBusy() {
+      return this.busy;
+    }
+
+    public deleteLead_result setBusy(@org.apache.thrift.annotation.Nullable ThriftServerBusyException busy) {
+      this.busy = busy;
+      return this;
+    }
+
+    public void unsetBusy() {
+      this.busy = null;
+    }
+
+    /** Returns true if field busy is set (has been assigned a value) and false otherwise */
+    public boolean isSetBusy() {
+      return this.busy != null;
+    }
+
+    public void setBusyIsSet(boolean value) {
+      if (!value) {
+        this.busy = null;
+      }
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((ThriftNoSuchLeadException)value);
+        }
+        break;
+
+      case BUSY:
+        if (value == null) {
+          unsetBusy();
+        } else {
+          setBusy((ThriftServerBusyException)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case E:
+        return getE();
+
+      case BUSY:
+        return getBusy();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case E:
+        return isSetE();
+      case BUSY:
+        return isSetBusy();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof deleteLead_result)
+        return this.equals((deleteLead_result)that);
+      return false;
+    }
+
+    public boolean equals(deleteLead_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      boolean this_present_busy = true && this.isSetBusy();
+      boolean that_present_busy = true && that.isSetBusy();
+      if (this_present_busy || that_present_busy) {
+        if (!(this_present_busy && that_present_busy))
+          return false;
+        if (!this.busy.equals(that.busy))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetE()) ? 131071 : 524287);
+      if (isSetE())
+        hashCode = hashCode * 8191 + e.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetBusy()) ? 131071 : 524287);
+      if (isSetBusy())
+        hashCode = hashCode * 8191 + busy.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(deleteLead_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetE(), other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetBusy(), other.isSetBusy());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBusy()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.busy, other.busy);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("deleteLead_result(");
+      boolean first = true;
+
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("busy:");
+      if (this.busy == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.busy);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class deleteLead_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public deleteLead_resultStandardScheme getScheme() {
+        return new deleteLead_resultStandardScheme();
+      }
+    }
+
+    private static class deleteLead_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<deleteLead_result> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteLead_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new ThriftNoSuchLeadException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 9: // BUSY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.busy = new ThriftServerBusyException();
+                struct.busy.read(iprot);
+                struct.setBusyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteLead_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.busy != null) {
+          oprot.writeFieldBegin(BUSY_FIELD_DESC);
+          struct.busy.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class deleteLead_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public deleteLead_resultTupleScheme getScheme() {
+        return new deleteLead_resultTupleScheme();
+      }
+    }
+
+    private static class deleteLead_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<deleteLead_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, deleteLead_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetE()) {
+          optionals.set(0);
+        }
+        if (struct.isSetBusy()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+        if (struct.isSetBusy()) {
+          struct.busy.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, deleteLead_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.e = new ThriftNoSuchLeadException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.busy = new ThriftServerBusyException();
+          struct.busy.read(iprot);
+          struct.setBusyIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class deleteLeadById_args implements org.apache.thrift.TBase<deleteLeadById_args, deleteLeadById_args._Fields>, java.io.Serializable, Cloneable, Comparable<deleteLeadById_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteLeadById_args");
+
+    private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I64, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new deleteLeadById_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new deleteLeadById_argsTupleSchemeFactory();
+
+    public long id; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      ID((short)1, "id");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // ID
+            return ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __ID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteLeadById_args.class, metaDataMap);
+    }
+
+    public deleteLeadById_args() {
+    }
+
+    public deleteLeadById_args(
+      long id)
+    {
+      this();
+      this.id = id;
+      setIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public deleteLeadById_args(deleteLeadById_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.id = other.id;
+    }
+
+    @Override
+    public deleteLeadById_args deepCopy() {
+      return new deleteLeadById_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setIdIsSet(false);
+      this.id = 0;
+    }
+
+    public long getId() {
+      return this.id;
+    }
+
+    public deleteLeadById_args setId(long id) {
+      this.id = id;
+      setIdIsSet(true);
+      return this;
+    }
+
+    public void unsetId() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __ID_ISSET_ID);
+    }
+
+    /** Returns true if field id is set (has been assigned a value) and false otherwise */
+    public boolean isSetId() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __ID_ISSET_ID);
+    }
+
+    public void setIdIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case ID:
+        if (value == null) {
+          unsetId();
+        } else {
+          setId((java.lang.Long)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case ID:
+        return getId();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case ID:
+        return isSetId();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof deleteLeadById_args)
+        return this.equals((deleteLeadById_args)that);
+      return false;
+    }
+
+    public boolean equals(deleteLeadById_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_id = true;
+      boolean that_present_id = true;
+      if (this_present_id || that_present_id) {
+        if (!(this_present_id && that_present_id))
+          return false;
+        if (this.id != that.id)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(id);
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(deleteLeadById_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetId(), other.isSetId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.id, other.id);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    @Override
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("deleteLeadById_args(");
+      boolean first = true;
+
+      sb.append("id:");
+      sb.append(this.id);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class deleteLeadById_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public deleteLeadById_argsStandardScheme getScheme() {
+        return new deleteLeadById_argsStandardScheme();
+      }
+    }
+
+    private static class deleteLeadById_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<deleteLeadById_args> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteLeadById_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.id = iprot.readI64();
+                struct.setIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteLeadById_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(ID_FIELD_DESC);
+        oprot.writeI64(struct.id);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class deleteLeadById_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public deleteLeadById_argsTupleScheme getScheme() {
+        return new deleteLeadById_argsTupleScheme();
+      }
+    }
+
+    private static class deleteLeadById_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<deleteLeadById_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, deleteLeadById_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetId()) {
+          oprot.writeI64(struct.id);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, deleteLeadById_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.id = iprot.readI64();
+          struct.setIdIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class deleteLeadById_result implements org.apache.thrift.TBase<deleteLeadById_result, deleteLeadById_result._Fields>, java.io.Serializable, Cloneable, Comparable<deleteLeadById_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteLeadById_result");
+
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField BUSY_FIELD_DESC = new org.apache.thrift.protocol.TField("busy", org.apache.thrift.protocol.TType.STRUCT, (short)9);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new deleteLeadById_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new deleteLeadById_resultTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable ThriftNoSuchLeadException e; // required
+    public @org.apache.thrift.annotation.Nullable ThriftServerBusyException busy; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      E((short)1, "e"),
+      BUSY((short)9, "busy");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // E
+            return E;
+          case 9: // BUSY
+            return BUSY;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftNoSuchLeadException.class)));
+      tmpMap.put(_Fields.BUSY, new org.apache.thrift.meta_data.FieldMetaData("busy", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftServerBusyException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteLeadById_result.class, metaDataMap);
+    }
+
+    public deleteLeadById_result() {
+    }
+
+    public deleteLeadById_result(
+      ThriftNoSuchLeadException e,
+      ThriftServerBusyException busy)
+    {
+      this();
+      this.e = e;
+      this.busy = busy;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public deleteLeadById_result(deleteLeadById_result other) {
+      if (other.isSetE()) {
+        this.e = new ThriftNoSuchLeadException(other.e);
+      }
+      if (other.isSetBusy()) {
+        this.busy = new ThriftServerBusyException(other.busy);
+      }
+    }
+
+    @Override
+    public deleteLeadById_result deepCopy() {
+      return new deleteLeadById_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.e = null;
+      this.busy = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ThriftNoSuchLeadException getE() {
+      return this.e;
+    }
+
+    public deleteLeadById_result setE(@org.apache.thrift.annotation.Nullable ThriftNoSuchLeadException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ThriftServerBusyException getBusy() {
+      return this.busy;
+    }
+
+    public deleteLeadById_result setBusy(@org.apache.thrift.annotation.Nullable ThriftServerBusyException busy) {
+      this.busy = busy;
+      return this;
+    }
+
+    public void unsetBusy() {
+      this.busy = null;
+    }
+
+    /** Returns true if field busy is set (has been assigned a value) and false otherwise */
+    public boolean isSetBusy() {
+      return this.busy != null;
+    }
+
+    public void setBusyIsSet(boolean value) {
+      if (!value) {
+        this.busy = null;
+      }
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((ThriftNoSuchLeadException)value);
+        }
+        break;
+
+      case BUSY:
+        if (value == null) {
+          unsetBusy();
+        } else {
+          setBusy((ThriftServerBusyException)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case E:
+        return getE();
+
+      case BUSY:
+        return getBusy();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case E:
+        return isSetE();
+      case BUSY:
+        return isSetBusy();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof deleteLeadById_result)
+        return this.equals((deleteLeadById_result)that);
+      return false;
+    }
+
+    public boolean equals(deleteLeadById_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      boolean this_present_busy = true && this.isSetBusy();
+      boolean that_present_busy = true && that.isSetBusy();
+      if (this_present_busy || that_present_busy) {
+        if (!(this_present_busy && that_present_busy))
+          return false;
+        if (!this.busy.equals(that.busy))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetE()) ? 131071 : 524287);
+      if (isSetE())
+        hashCode = hashCode * 8191 + e.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetBusy()) ? 131071 : 524287);
+      if (isSetBusy())
+        hashCode = hashCode * 8191 + busy.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(deleteLeadById_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetE(), other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetBusy(), other.isSetBusy());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBusy()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.busy, other.busy);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("deleteLeadById_result(");
+      boolean first = true;
+
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("busy:");
+      if (this.busy == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.busy);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class deleteLeadById_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public deleteLeadById_resultStandardScheme getScheme() {
+        return new deleteLeadById_resultStandardScheme();
+      }
+    }
+
+    private static class deleteLeadById_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<deleteLeadById_result> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteLeadById_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new ThriftNoSuchLeadException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 9: // BUSY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.busy = new ThriftServerBusyException();
+                struct.busy.read(iprot);
+                struct.setBusyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteLeadById_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.busy != null) {
+          oprot.writeFieldBegin(BUSY_FIELD_DESC);
+          struct.busy.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class deleteLeadById_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public deleteLeadById_resultTupleScheme getScheme() {
+        return new deleteLeadById_resultTupleScheme();
+      }
+    }
+
+    private static class deleteLeadById_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<deleteLeadById_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, deleteLeadById_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetE()) {
+          optionals.set(0);
+        }
+        if (struct.isSetBusy()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+        if (struct.isSetBusy()) {
+          struct.busy.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, deleteLeadById_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.e = new ThriftNoSuchLeadException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.busy = new ThriftServerBusyException();
+          struct.busy.read(iprot);
+          struct.setBusyIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class findLeadsPage_args implements org.apache.thrift.TBase<findLeadsPage_args, findLeadsPage_args._Fields>, java.io.Serializable, Cloneable, Comparable<findLeadsPage_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("findLeadsPage_args");
+
+    private static final org.apache.thrift.protocol.TField LOW_ANNUAL_REVENUE_FIELD_DESC = new org.apache.thrift.protocol.TField("lowAnnualRevenue", org.apache.thrift.protocol.TType.DOUBLE, (short)1);
+    private static final org.apache.thrift.protocol.TField HIGH_ANNUAL_REVENUE_FIELD_DESC = new org.apache.thrift.protocol.TField("highAnnualRevenue", org.apache.thrift.protocol.TType.DOUBLE, (short)2);
+    private static final org.apache.thrift.protocol.TField STATE_FIELD_DESC = new org.apache.thrift.protocol.TField("state", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField PAGE_SIZE_FIELD_DESC = new org.apache.thrift.protocol.TField("pageSize", org.apache.thrift.protocol.TType.I32, (short)4);
+    private static final org.apache.thrift.protocol.TField PAGE_TOKEN_FIELD_DESC = new org.apache.thrift.protocol.TField("pageToken", org.apache.thrift.protocol.TType.STRING, (short)5);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new findLeadsPage_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new findLeadsPage_argsTupleSchemeFactory();
+
+    public double lowAnnualRevenue; // required
+    public double highAnnualRevenue; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String state; // required
+    public int pageSize; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String pageToken; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      LOW_ANNUAL_REVENUE((short)1, "lowAnnualRevenue"),
+      HIGH_ANNUAL_REVENUE((short)2, "highAnnualRevenue"),
+      STATE((short)3, "state"),
+      PAGE_SIZE((short)4, "pageSize"),
+      PAGE_TOKEN((short)5, "pageToken");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // LOW_ANNUAL_REVENUE
+            return LOW_ANNUAL_REVENUE;
+          case 2: // HIGH_ANNUAL_REVENUE
+            return HIGH_ANNUAL_REVENUE;
+          case 3: // STATE
+            return STATE;
+          case 4: // PAGE_SIZE
+            return PAGE_SIZE;
+          case 5: // PAGE_TOKEN
+            return PAGE_TOKEN;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __LOWANNUALREVENUE_ISSET_ID = 0;
+    private static final int __HIGHANNUALREVENUE_ISSET_ID = 1;
+    private static final int __PAGESIZE_ISSET_ID = 2;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.LOW_ANNUAL_REVENUE, new org.apache.thrift.meta_data.FieldMetaData("lowAnnualRevenue", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+      tmpMap.put(_Fields.HIGH_ANNUAL_REVENUE, new org.apache.thrift.meta_data.FieldMetaData("highAnnualRevenue", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+      tmpMap.put(_Fields.STATE, new org.apache.thrift.meta_data.FieldMetaData("state", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PAGE_SIZE, new org.apache.thrift.meta_data.FieldMetaData("pageSize", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.PAGE_TOKEN, new org.apache.thrift.meta_data.FieldMetaData("pageToken", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(findLeadsPage_args.class, metaDataMap);
+    }
+
+    public findLeadsPage_args() {
+    }
+
+    public findLeadsPage_args(
+      double lowAnnualRevenue,
+      double highAnnualRevenue,
+      java.lang.String state,
+      int pageSize,
+      java.lang.String pageToken)
+    {
+      this();
+      this.lowAnnualRevenue = lowAnnualRevenue;
+      setLowAnnualRevenueIsSet(true);
+      this.highAnnualRevenue = highAnnualRevenue;
+      setHighAnnualRevenueIsSet(true);
+      this.state = state;
+      this.pageSize = pageSize;
+      setPageSizeIsSet(true);
+      this.pageToken = pageToken;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public findLeadsPage_args(findLeadsPage_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.lowAnnualRevenue = other.lowAnnualRevenue;
+      this.highAnnualRevenue = other.highAnnualRevenue;
+      if (other.isSetState()) {
+        this.state = other.state;
+      }
+      this.pageSize = other.pageSize;
+      if (other.isSetPageToken()) {
+        this.pageToken = other.pageToken;
+      }
+    }
+
+    @Override
+    public findLeadsPage_args deepCopy() {
+      return new findLeadsPage_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setLowAnnualRevenueIsSet(false);
+      this.lowAnnualRevenue = 0.0;
+      setHighAnnualRevenueIsSet(false);
+      this.highAnnualRevenue = 0.0;
+      this.state = null;
+      setPageSizeIsSet(false);
+      this.pageSize = 0;
+      this.pageToken = null;
+    }
+
+    public double getLowAnnualRevenue() {
+      return this.lowAnnualRevenue;
+    }
+
+    public findLeadsPage_args setLowAnnualRevenue(double lowAnnualRevenue) {
+      this.lowAnnualRevenue = lowAnnualRevenue;
+      setLowAnnualRevenueIsSet(true);
+      return this;
+    }
+
+    public void unsetLowAnnualRevenue() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __LOWANNUALREVENUE_ISSET_ID);
+    }
+
+    /** Returns true if field lowAnnualRevenue is set (has been assigned a value) and false otherwise */
+    public boolean isSetLowAnnualRevenue() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __LOWANNUALREVENUE_ISSET_ID);
+    }
+
+    public void setLowAnnualRevenueIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __LOWANNUALREVENUE_ISSET_ID, value);
+    }
+
+    public double getHighAnnualRevenue() {
+      return this.highAnnualRevenue;
+    }
+
+    public findLeadsPage_args setHighAnnualRevenue(double highAnnualRevenue) {
+      this.highAnnualRevenue = highAnnualRevenue;
+      setHighAnnualRevenueIsSet(true);
+      return this;
+    }
+
+    public void unsetHighAnnualRevenue() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __HIGHANNUALREVENUE_ISSET_ID);
+    }
+
+    /** Returns true if field highAnnualRevenue is set (has been assigned a value) and false otherwise */
+    public boolean isSetHighAnnualRevenue() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __HIGHANNUALREVENUE_ISSET_ID);
+    }
+
+    public void setHighAnnualRevenueIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __HIGHANNUALREVENUE_ISSET_ID, value);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getState() {
+      return this.state;
+    }
+
+    public findLeadsPage_args setState(@org.apache.thrift.annotation.Nullable java.lang.String state) {
+      this.state = state;
+      return this;
+    }
+
+    public void unsetState() {
+      this.state = null;
+    }
+
+    /** Returns true if field state is set (has been assigned a value) and false otherwise */
+    public boolean isSetState() {
+      return this.state != null;
+    }
+
+    public void setStateIsSet(boolean value) {
+      if (!value) {
+        this.state = null;
+      }
+    }
+
+    public int getPageSize() {
+      return this.pageSize;
+    }
+
+    public findLeadsPage_args setPageSize(int pageSize) {
+      this.pageSize = pageSize;
+      setPageSizeIsSet(true);
+      return this;
+    }
+
+    public void unsetPageSize() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __PAGESIZE_ISSET_ID);
+    }
+
+    /** Returns true if field pageSize is set (has been assigned a value) and false otherwise */
+    public boolean isSetPageSize() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __PAGESIZE_ISSET_ID);
+    }
+
+    public void setPageSizeIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __PAGESIZE_ISSET_ID, value);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getPageToken() {
+      return this.pageToken;
+    }
+
+    public findLeadsPage_args setPageToken(@org.apache.thrift.annotation.Nullable java.lang.String pageToken) {
+      this.pageToken = pageToken;
+      return this;
+    }
+
+    public void unsetPageToken() {
+      this.pageToken = null;
+    }
+
+    /** Returns true if field pageToken is set (has been assigned a value) and false otherwise */
+    public boolean isSetPageToken() {
+      return this.pageToken != null;
+    }
+
+    public void setPageTokenIsSet(boolean value) {
+      if (!value) {
+        this.pageToken = null;
+      }
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case LOW_ANNUAL_REVENUE:
+        if (value == null) {
+          unsetLowAnnualRevenue();
+        } else {
+          setLowAnnualRevenue((java.lang.Double)value);
+        }
+        break;
+
+      case HIGH_ANNUAL_REVENUE:
+        if (value == null) {
+          unsetHighAnnualRevenue();
+        } else {
+          setHighAnnualRevenue((java.lang.Double)value);
+        }
+        break;
+
+      case STATE:
+        if (value == null) {
+          unsetState();
+        } else {
+          setState((java.lang.String)value);
+        }
+        break;
+
+      case PAGE_SIZE:
+        if (value == null) {
+          unsetPageSize();
+        } else {
+          setPageSize((java.lang.Integer)value);
+        }
+        break;
+
+      case PAGE_TOKEN:
+        if (value == null) {
+          unsetPageToken();
+        } else {
+          setPageToken((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case LOW_ANNUAL_REVENUE:
+        return getLowAnnualRevenue();
+
+      case HIGH_ANNUAL_REVENUE:
+        return getHighAnnualRevenue();
+
+      case STATE:
+        return getState();
+
+      case PAGE_SIZE:
+        return getPageSize();
+
+      case PAGE_TOKEN:
+        return getPageToken();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case LOW_ANNUAL_REVENUE:
+        return isSetLowAnnualRevenue();
+      case HIGH_ANNUAL_REVENUE:
+        return isSetHighAnnualRevenue();
+      case STATE:
+        return isSetState();
+      case PAGE_SIZE:
+        return isSetPageSize();
+      case PAGE_TOKEN:
+        return isSetPageToken();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof findLeadsPage_args)
+        return this.equals((findLeadsPage_args)that);
+      return false;
+    }
+
+    public boolean equals(findLeadsPage_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_lowAnnualRevenue = true;
+      boolean that_present_lowAnnualRevenue = true;
+      if (this_present_lowAnnualRevenue || that_present_lowAnnualRevenue) {
+        if (!(this_present_lowAnnualRevenue && that_present_lowAnnualRevenue))
+          return false;
+        if (this.lowAnnualRevenue != that.lowAnnualRevenue)
+          return false;
+      }
+
+      boolean this_present_highAnnualRevenue = true;
+      boolean that_present_highAnnualRevenue = true;
+      if (this_present_highAnnualRevenue || that_present_highAnnualRevenue) {
+        if (!(this_present_highAnnualRevenue && that_present_highAnnualRevenue))
+          return false;
+        if (this.highAnnualRevenue != that.highAnnualRevenue)
+          return false;
+      }
+
+      boolean this_present_state = true && this.isSetState();
+      boolean that_present_state = true && that.isSetState();
+      if (this_present_state || that_present_state) {
+        if (!(this_present_state && that_present_state))
+          return false;
+        if (!this.state.equals(that.state))
+          return false;
+      }
+
+      boolean this_present_pageSize = true;
+      boolean that_present_pageSize = true;
+      if (this_present_pageSize || that_present_pageSize) {
+        if (!(this_present_pageSize && that_present_pageSize))
+          return false;
+        if (this.pageSize != that.pageSize)
+          return false;
+      }
+
+      boolean this_present_pageToken = true && this.isSetPageToken();
+      boolean that_present_pageToken = true && that.isSetPageToken();
+      if (this_present_pageToken || that_present_pageToken) {
+        if (!(this_present_pageToken && that_present_pageToken))
+          return false;
+        if (!this.pageToken.equals(that.pageToken))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(lowAnnualRevenue);
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(highAnnualRevenue);
+
+      hashCode = hashCode * 8191 + ((isSetState()) ? 131071 : 524287);
+      if (isSetState())
+        hashCode = hashCode * 8191 + state.hashCode();
+
+      hashCode = hashCode * 8191 + pageSize;
+
+      hashCode = hashCode * 8191 + ((isSetPageToken()) ? 131071 : 524287);
+      if (isSetPageToken())
+        hashCode = hashCode * 8191 + pageToken.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(findLeadsPage_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetLowAnnualRevenue(), other.isSetLowAnnualRevenue());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLowAnnualRevenue()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.lowAnnualRevenue, other.lowAnnualRevenue);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetHighAnnualRevenue(), other.isSetHighAnnualRevenue());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetHighAnnualRevenue()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.highAnnualRevenue, other.highAnnualRevenue);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetState(), other.isSetState());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetState()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.state, other.state);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetPageSize(), other.isSetPageSize());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPageSize()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.pageSize, other.pageSize);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetPageToken(), other.isSetPageToken());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPageToken()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.pageToken, other.pageToken);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    @Override
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("findLeadsPage_args(");
+      boolean first = true;
+
+      sb.append("lowAnnualRevenue:");
+      sb.append(this.lowAnnualRevenue);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("highAnnualRevenue:");
+      sb.append(this.highAnnualRevenue);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("state:");
+      if (this.state == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.state);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("pageSize:");
+      sb.append(this.pageSize);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("pageToken:");
+      if (this.pageToken == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.pageToken);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class findLeadsPage_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public findLeadsPage_argsStandardScheme getScheme() {
+        return new findLeadsPage_argsStandardScheme();
+      }
+    }
+
+    private static class findLeadsPage_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<findLeadsPage_args> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, findLeadsPage_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // LOW_ANNUAL_REVENUE
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.lowAnnualRevenue = iprot.readDouble();
+                struct.setLowAnnualRevenueIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // HIGH_ANNUAL_REVENUE
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.highAnnualRevenue = iprot.readDouble();
+                struct.setHighAnnualRevenueIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // STATE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.state = iprot.readString();
+                struct.setStateIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // PAGE_SIZE
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.pageSize = iprot.readI32();
+                struct.setPageSizeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 5: // PAGE_TOKEN
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.pageToken = iprot.readString();
+                struct.setPageTokenIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, findLeadsPage_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(LOW_ANNUAL_REVENUE_FIELD_DESC);
+        oprot.writeDouble(struct.lowAnnualRevenue);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(HIGH_ANNUAL_REVENUE_FIELD_DESC);
+        oprot.writeDouble(struct.highAnnualRevenue);
+        oprot.writeFieldEnd();
+        if (struct.state != null) {
+          oprot.writeFieldBegin(STATE_FIELD_DESC);
+          oprot.writeString(struct.state);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(PAGE_SIZE_FIELD_DESC);
+        oprot.writeI32(struct.pageSize);
+        oprot.writeFieldEnd();
+        if (struct.pageToken != null) {
+          oprot.writeFieldBegin(PAGE_TOKEN_FIELD_DESC);
+          oprot.writeString(struct.pageToken);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class findLeadsPage_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public findLeadsPage_argsTupleScheme getScheme() {
+        return new findLeadsPage_argsTupleScheme();
+      }
+    }
+
+    private static class findLeadsPage_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<findLeadsPage_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, findLeadsPage_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetLowAnnualRevenue()) {
+          optionals.set(0);
+        }
+        if (struct.isSetHighAnnualRevenue()) {
+          optionals.set(1);
+        }
+        if (struct.isSetState()) {
+          optionals.set(2);
+        }
+        if (struct.isSetPageSize()) {
+          optionals.set(3);
+        }
+        if (struct.isSetPageToken()) {
+          optionals.set(4);
+        }
+        oprot.writeBitSet(optionals, 5);
+        if (struct.isSetLowAnnualRevenue()) {
+          oprot.writeDouble(struct.lowAnnualRevenue);
+        }
+        if (struct.isSetHighAnnualRevenue()) {
+          oprot.writeDouble(struct.highAnnualRevenue);
+        }
+        if (struct.isSetState()) {
+          oprot.writeString(struct.state);
+        }
+        if (struct.isSetPageSize()) {
+          oprot.writeI32(struct.pageSize);
+        }
+        if (struct.isSetPageToken()) {
+          oprot.writeString(struct.pageToken);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, findLeadsPage_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(5);
+        if (incoming.get(0)) {
+          struct.lowAnnualRevenue = iprot.readDouble();
+          struct.setLowAnnualRevenueIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.highAnnualRevenue = iprot.readDouble();
+          struct.setHighAnnualRevenueIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.state = iprot.readString();
+          struct.setStateIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.pageSize = iprot.readI32();
+          struct.setPageSizeIsSet(true);
+        }
+        if (incoming.get(4)) {
+          struct.pageToken = iprot.readString();
+          struct.setPageTokenIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class findLeadsPage_result implements org.apache.thrift.TBase<findLeadsPage_result, findLeadsPage_result._Fields>, java.io.Serializable, Cloneable, Comparable<findLeadsPage_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("findLeadsPage_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E1_FIELD_DESC = new org.apache.thrift.protocol.TField("e1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E2_FIELD_DESC = new org.apache.thrift.protocol.TField("e2", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField E3_FIELD_DESC = new org.apache.thrift.protocol.TField("e3", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+    private static final org.apache.thrift.protocol.TField BUSY_FIELD_DESC = new org.apache.thrift.protocol.TField("busy", org.apache.thrift.protocol.TType.STRUCT, (short)9);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new findLeadsPage_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new findLeadsPage_resultTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable InternalLeadPage success; // required
+    public @org.apache.thrift.annotation.Nullable ThriftWrongOrderForRevenueException e1; // required
+    public @org.apache.thrift.annotation.Nullable ThriftWrongStateException e2; // required
+    public @org.apache.thrift.annotation.Nullable ThriftInvalidPageTokenException e3; // required
+    public @org.apache.thrift.annotation.Nullable ThriftServerBusyException busy; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E1((short)1, "e1"),
+      E2((short)2, "e2"),
+      E3((short)3, "e3"),
+      BUSY((short)9, "busy");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E1
+            return E1;
+          case 2: // E2
+            return E2;
+          case 3: // E3
+            return E3;
+          case 9: // BUSY
+            return BUSY;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InternalLeadPage.class)));
+      tmpMap.put(_Fields.E1, new org.apache.thrift.meta_data.FieldMetaData("e1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftWrongOrderForRevenueException.class)));
+      tmpMap.put(_Fields.E2, new org.apache.thrift.meta_data.FieldMetaData("e2", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftWrongStateException.class)));
+      tmpMap.put(_Fields.E3, new org.apache.thrift.meta_data.FieldMetaData("e3", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftInvalidPageTokenException.class)));
+      tmpMap.put(_Fields.BUSY, new org.apache.thrift.meta_data.FieldMetaData("busy", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftServerBusyException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(findLeadsPage_result.class, metaDataMap);
+    }
+
+    public findLeadsPage_result() {
+    }
+
+    public findLeadsPage_result(
+      InternalLeadPage success,
+      ThriftWrongOrderForRevenueException e1,
+      ThriftWrongStateException e2,
+      ThriftInvalidPageTokenException e3,
+      ThriftServerBusyException busy)
+    {
+      this();
+      this.success = success;
+      this.e1 = e1;
+      this.e2 = e2;
+      this.e3 = e3;
+      this.busy = busy;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public findLeadsPage_result(findLeadsPage_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new InternalLeadPage(other.success);
+      }
+      if (other.isSetE1()) {
+        this.e1 = new ThriftWrongOrderForRevenueException(other.e1);
+      }
+      if (other.isSetE2()) {
+        this.e2 = new ThriftWrongStateException(other.e2);
+      }
+      if (other.isSetE3()) {
+        this.e3 = new ThriftInvalidPageTokenException(other.e3);
+      }
+      if (other.isSetBusy()) {
+        this.busy = new ThriftServerBusyException(other.busy);
+      }
+    }
+
+    @Override
+    public findLeadsPage_result deepCopy() {
+      return new findLeadsPage_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e1 = null;
+      this.e2 = null;
+      this.e3 = null;
+      this.busy = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public InternalLeadPage getSuccess() {
+      return this.success;
+    }
+
+    public findLeadsPage_result setSuccess(@org.apache.thrift.annotation.Nullable InternalLeadPage success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ThriftWrongOrderForRevenueException getE1() {
+      return this.e1;
+    }
+
+    public findLeadsPage_result setE1(@org.apache.thrift.annotation.Nullable ThriftWrongOrderForRevenueException e1) {
+      this.e1 = e1;
+      return this;
+    }
+
+    public void unsetE1() {
+      this.e1 = null;
+    }
+
+    /** Returns true if field e1 is set (has been assigned a value) and false otherwise */
+    public boolean isSetE1() {
+      return this.e1 != null;
+    }
+
+    public void setE1IsSet(boolean value) {
+      if (!value) {
+        this.e1 = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ThriftWrongStateException getE2() {
+      return this.e2;
+    }
+
+    public findLeadsPage_result setE2(@org.apache.thrift.annotation.Nullable ThriftWrongStateException e2) {
+      this.e2 = e2;
+      return this;
+    }
+
+    public void unsetE2() {
+      this.e2 = null;
+    }
+
+    /** Returns true if field e2 is set (has been assigned a value) and false otherwise */
+    public boolean isSetE2() {
+      return this.e2 != null;
+    }
+
+    public void setE2IsSet(boolean value) {
+      if (!value) {
+        this.e2 = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ThriftInvalidPageTokenException getE3() {
+      return this.e3;
+    }
+
+    public findLeadsPage_result setE3(@org.apache.thrift.annotation.Nullable ThriftInvalidPageTokenException e3) {
+      this.e3 = e3;
+      return this;
+    }
+
+    public void unsetE3() {
+      this.e3 = null;
+    }
+
+    /** Returns true if field e3 is set (has been assigned a value) and false otherwise */
+    public boolean isSetE3() {
+      return this.e3 != null;
+    }
+
+    public void setE3IsSet(boolean value) {
+      if (!value) {
+        this.e3 = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ThriftServerBusyException getBusy() {
+      return this.busy;
+    }
+
+    public findLeadsPage_result setBusy(@org.apache.thrift.annotation.Nullable ThriftServerBusyException busy) {
+      this.busy = busy;
+      return this;
+    }
+
+    public void unsetBusy() {
+      this.busy = null;
+    }
+
+    /** Returns true if field busy is set (has been assigned a value) and false otherwise */
+    public boolean isSetBusy() {
+      return this.busy != null;
+    }
+
+    public void setBusyIsSet(boolean value) {
+      if (!value) {
+        this.busy = null;
+      }
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((InternalLeadPage)value);
+        }
+        break;
+
+      case E1:
+        if (value == null) {
+          unsetE1();
+        } else {
+          setE1((ThriftWrongOrderForRevenueException)value);
+        }
+        break;
+
+      case E2:
+        if (value == null) {
+          unsetE2();
+        } else {
+          setE2((ThriftWrongStateException)value);
+        }
+        break;
+
+      case E3:
+        if (value == null) {
+          unsetE3();
+        } else {
+          setE3((ThriftInvalidPageTokenException)value);
+        }
+        break;
+
+      case BUSY:
+        if (value == null) {
+          unsetBusy();
+        } else {
+          setBusy((ThriftServerBusyException)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E1:
+        return getE1();
+
+      case E2:
+        return getE2();
+
+      case E3:
+        return getE3();
+
+      case BUSY:
+        return getBusy();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E1:
+        return isSetE1();
+      case E2:
+        return isSetE2();
+      case E3:
+        return isSetE3();
+      case BUSY:
+        return isSetBusy();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof findLeadsPage_result)
+        return this.equals((findLeadsPage_result)that);
+      return false;
+    }
+
+    public boolean equals(findLeadsPage_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e1 = true && this.isSetE1();
+      boolean that_present_e1 = true && that.isSetE1();
+      if (this_present_e1 || that_present_e1) {
+        if (!(this_present_e1 && that_present_e1))
+          return false;
+        if (!this.e1.equals(that.e1))
+          return false;
+      }
+
+      boolean this_present_e2 = true && this.isSetE2();
+      boolean that_present_e2 = true && that.isSetE2();
+      if (this_present_e2 || that_present_e2) {
+        if (!(this_present_e2 && that_present_e2))
+          return false;
+        if (!this.e2.equals(that.e2))
+          return false;
+      }
+
+      boolean this_present_e3 = true && this.isSetE3();
+      boolean that_present_e3 = true && that.isSetE3();
+      if (this_present_e3 || that_present_e3) {
+        if (!(this_present_e3 && that_present_e3))
+          return false;
+        if (!this.e3.equals(that.e3))
+          return false;
+      }
+
+      boolean this_present_busy = true && this.isSetBusy();
+      boolean that_present_busy = true && that.isSetBusy();
+      if (this_present_busy || that_present_busy) {
+        if (!(this_present_busy && that_present_busy))
+          return false;
+        if (!this.busy.equals(that.busy))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetE1()) ? 131071 : 524287);
+      if (isSetE1())
+        hashCode = hashCode * 8191 + e1.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetE2()) ? 131071 : 524287);
+      if (isSetE2())
+        hashCode = hashCode * 8191 + e2.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetE3()) ? 131071 : 524287);
+      if (isSetE3())
+        hashCode = hashCode * 8191 + e3.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetBusy()) ? 131071 : 524287);
+      if (isSetBusy())
+        hashCode = hashCode * 8191 + busy.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(findLeadsPage_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetSuccess(), other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetE1(), other.isSetE1());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE1()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e1, other.e1);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetE2(), other.isSetE2());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE2()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e2, other.e2);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetE3(), other.isSetE3());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE3()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e3, other.e3);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetBusy(), other.isSetBusy());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBusy()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.busy, other.busy);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("findLeadsPage_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e1:");
+      if (this.e1 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e1);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e2:");
+      if (this.e2 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e2);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e3:");
+      if (this.e3 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e3);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("busy:");
+      if (this.busy == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.busy);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class findLeadsPage_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public findLeadsPage_resultStandardScheme getScheme() {
+        return new findLeadsPage_resultStandardScheme();
+      }
+    }
+
+    private static class findLeadsPage_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<findLeadsPage_result> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, findLeadsPage_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new InternalLeadPage();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E1
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e1 = new ThriftWrongOrderForRevenueException();
+                struct.e1.read(iprot);
+                struct.setE1IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // E2
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e2 = new ThriftWrongStateException();
+                struct.e2.read(iprot);
+                struct.setE2IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // E3
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e3 = new ThriftInvalidPageTokenException();
+                struct.e3.read(iprot);
+                struct.setE3IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 9: // BUSY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.busy = new ThriftServerBusyException();
+                struct.busy.read(iprot);
+                struct.setBusyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, findLeadsPage_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e1 != null) {
+          oprot.writeFieldBegin(E1_FIELD_DESC);
+          struct.e1.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e2 != null) {
+          oprot.writeFieldBegin(E2_FIELD_DESC);
+          struct.e2.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e3 != null) {
+          oprot.writeFieldBegin(E3_FIELD_DESC);
+          struct.e3.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.busy != null) {
+          oprot.writeFieldBegin(BUSY_FIELD_DESC);
+          struct.busy.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class findLeadsPage_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public findLeadsPage_resultTupleScheme getScheme() {
+        return new findLeadsPage_resultTupleScheme();
+      }
+    }
+
+    private static class findLeadsPage_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<findLeadsPage_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, findLeadsPage_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE1()) {
+          optionals.set(1);
+        }
+        if (struct.isSetE2()) {
+          optionals.set(2);
+        }
+        if (struct.isSetE3()) {
+          optionals.set(3);
+        }
+        if (struct.isSetBusy()) {
+          optionals.set(4);
+        }
+        oprot.writeBitSet(optionals, 5);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetE1()) {
+          struct.e1.write(oprot);
+        }
+        if (struct.isSetE2()) {
+          struct.e2.write(oprot);
+        }
+        if (struct.isSetE3()) {
+          struct.e3.write(oprot);
+        }
+        if (struct.isSetBusy()) {
+          struct.busy.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, findLeadsPage_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(5);
+        if (incoming.get(0)) {
+          struct.success = new InternalLeadPage();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e1 = new ThriftWrongOrderForRevenueException();
+          struct.e1.read(iprot);
+          struct.setE1IsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.e2 = new ThriftWrongStateException();
+          struct.e2.read(iprot);
+          struct.setE2IsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.e3 = new ThriftInvalidPageTokenException();
+          struct.e3.read(iprot);
+          struct.setE3IsSet(true);
+        }
+        if (incoming.get(4)) {
+          struct.busy = new ThriftServerBusyException();
+          struct.busy.read(iprot);
+          struct.setBusyIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class findLeadsByDatePage_args implements org.apache.thrift.TBase<findLeadsByDatePage_args, findLeadsByDatePage_args._Fields>, java.io.Serializable, Cloneable, Comparable<findLeadsByDatePage_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("findLeadsByDatePage_args");
+
+    private static final org.apache.thrift.protocol.TField START_DATE_FIELD_DESC = new org.apache.thrift.protocol.TField("startDate", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField END_DATE_FIELD_DESC = new org.apache.thrift.protocol.TField("endDate", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField PAGE_SIZE_FIELD_DESC = new org.apache.thrift.protocol.TField("pageSize", org.apache.thrift.protocol.TType.I32, (short)3);
+    private static final org.apache.thrift.protocol.TField PAGE_TOKEN_FIELD_DESC = new org.apache.thrift.protocol.TField("pageToken", org.apache.thrift.protocol.TType.STRING, (short)4);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new findLeadsByDatePage_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new findLeadsByDatePage_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.lang.String startDate; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String endDate; // required
+    public int pageSize; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String pageToken; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      START_DATE((short)1, "startDate"),
+      END_DATE((short)2, "endDate"),
+      PAGE_SIZE((short)3, "pageSize"),
+      PAGE_TOKEN((short)4, "pageToken");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // START_DATE
+            return START_DATE;
+          case 2: // END_DATE
+            return END_DATE;
+          case 3: // PAGE_SIZE
+            return PAGE_SIZE;
+          case 4: // PAGE_TOKEN
+            return PAGE_TOKEN;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __PAGESIZE_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.START_DATE, new org.apache.thrift.meta_data.FieldMetaData("startDate", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.END_DATE, new org.apache.thrift.meta_data.FieldMetaData("endDate", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PAGE_SIZE, new org.apache.thrift.meta_data.FieldMetaData("pageSize", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.PAGE_TOKEN, new org.apache.thrift.meta_data.FieldMetaData("pageToken", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(findLeadsByDatePage_args.class, metaDataMap);
+    }
+
+    public findLeadsByDatePage_args() {
+    }
+
+    public findLeadsByDatePage_args(
+      java.lang.String startDate,
+      java.lang.String endDate,
+      int pageSize,
+      java.lang.String pageToken)
+    {
+      this();
+      this.startDate = startDate;
+      this.endDate = endDate;
+      this.pageSize = pageSize;
+      setPageSizeIsSet(true);
+      this.pageToken = pageToken;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public findLeadsByDatePage_args(findLeadsByDatePage_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetStartDate()) {
+        this.startDate = other.startDate;
+      }
+      if (other.isSetEndDate()) {
+        this.endDate = other.endDate;
+      }
+      this.pageSize = other.pageSize;
+      if (other.isSetPageToken()) {
+        this.pageToken = other.pageToken;
+      }
+    }
+
+    @Override
+    public findLeadsByDatePage_args deepCopy() {
+      return new findLeadsByDatePage_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.startDate = null;
+      this.endDate = null;
+      setPageSizeIsSet(false);
+      this.pageSize = 0;
+      this.pageToken = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getStartDate() {
+      return this.startDate;
+    }
+
+    public findLeadsByDatePage_args setStartDate(@org.apache.thrift.annotation.Nullable java.lang.String startDate) {
+      this.startDate = startDate;
+      return this;
+    }
+
+    public void unsetStartDate() {
+      this.startDate = null;
+    }
+
+    /** Returns true if field startDate is set (has been assigned a value) and false otherwise */
+    public boolean isSetStartDate() {
+      return this.startDate != null;
+    }
+
+    public void setStartDateIsSet(boolean value) {
+      if (!value) {
+        this.startDate = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getEndDate() {
+      return this.endDate;
+    }
+
+    public findLeadsByDatePage_args setEndDate(@org.apache.thrift.annotation.Nullable java.lang.String endDate) {
+      this.endDate = endDate;
+      return this;
+    }
+
+    public void unsetEndDate() {
+      this.endDate = null;
+    }
+
+    /** Returns true if field endDate is set (has been assigned a value) and false otherwise */
+    public boolean isSetEndDate() {
+      return this.endDate != null;
+    }
+
+    public void setEndDateIsSet(boolean value) {
+      if (!value) {
+        this.endDate = null;
+      }
+    }
+
+    public int getPageSize() {
+      return this.pageSize;
+    }
+
+    public findLeadsByDatePage_args setPageSize(int pageSize) {
+      this.pageSize = pageSize;
+      setPageSizeIsSet(true);
+      return this;
+    }
+
+    public void unsetPageSize() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __PAGESIZE_ISSET_ID);
+    }
+
+    /** Returns true if field pageSize is set (has been assigned a value) and false otherwise */
+    public boolean isSetPageSize() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __PAGESIZE_ISSET_ID);
+    }
+
+    public void setPageSizeIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __PAGESIZE_ISSET_ID, value);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getPageToken() {
+      return this.pageToken;
+    }
+
+    public findLeadsByDatePage_args setPageToken(@org.apache.thrift.annotation.Nullable java.lang.String pageToken) {
+      this.pageToken = pageToken;
+      return this;
+    }
+
+    public void unsetPageToken() {
+      this.pageToken = null;
+    }
+
+    /** Returns true if field pageToken is set (has been assigned a value) and false otherwise */
+    public boolean isSetPageToken() {
+      return this.pageToken != null;
+    }
+
+    public void setPageTokenIsSet(boolean value) {
+      if (!value) {
+        this.pageToken = null;
+      }
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case START_DATE:
+        if (value == null) {
+          unsetStartDate();
+        } else {
+          setStartDate((java.lang.String)value);
+        }
+        break;
+
+      case END_DATE:
+        if (value == null) {
+          unsetEndDate();
+        } else {
+          setEndDate((java.lang.String)value);
+        }
+        break;
+
+      case PAGE_SIZE:
+        if (value == null) {
+          unsetPageSize();
+        } else {
+          setPageSize((java.lang.Integer)value);
+        }
+        break;
+
+      case PAGE_TOKEN:
+        if (value == null) {
+          unsetPageToken();
+        } else {
+          setPageToken((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case START_DATE:
+        return getStartDate();
+
+      case END_DATE:
+        return getEndDate();
+
+      case PAGE_SIZE:
+        return getPageSize();
+
+      case PAGE_TOKEN:
+        return getPageToken();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case START_DATE:
+        return isSetStartDate();
+      case END_DATE:
+        return isSetEndDate();
+      case PAGE_SIZE:
+        return isSetPageSize();
+      case PAGE_TOKEN:
+        return isSetPageToken();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof findLeadsByDatePage_args)
+        return this.equals((findLeadsByDatePage_args)that);
+      return false;
+    }
+
+    public boolean equals(findLeadsByDatePage_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_startDate = true && this.isSetStartDate();
+      boolean that_present_startDate = true && that.isSetStartDate();
+      if (this_present_startDate || that_present_startDate) {
+        if (!(this_present_startDate && that_present_startDate))
+          return false;
+        if (!this.startDate.equals(that.startDate))
+          return false;
+      }
+
+      boolean this_present_endDate = true && this.isSetEndDate();
+      boolean that_present_endDate = true && that.isSetEndDate();
+      if (this_present_endDate || that_present_endDate) {
+        if (!(this_present_endDate && that_present_endDate))
+          return false;
+        if (!this.endDate.equals(that.endDate))
+          return false;
+      }
+
+      boolean this_present_pageSize = true;
+      boolean that_present_pageSize = true;
+      if (this_present_pageSize || that_present_pageSize) {
+        if (!(this_present_pageSize && that_present_pageSize))
+          return false;
+        if (this.pageSize != that.pageSize)
+          return false;
+      }
+
+      boolean this_present_pageToken = true && this.isSetPageToken();
+      boolean that_present_pageToken = true && that.isSetPageToken();
+      if (this_present_pageToken || that_present_pageToken) {
+        if (!(this_present_pageToken && that_present_pageToken))
+          return false;
+        if (!this.pageToken.equals(that.pageToken))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetStartDate()) ? 131071 : 524287);
+      if (isSetStartDate())
+        hashCode = hashCode * 8191 + startDate.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetEndDate()) ? 131071 : 524287);
+      if (isSetEndDate())
+        hashCode = hashCode * 8191 + endDate.hashCode();
+
+      hashCode = hashCode * 8191 + pageSize;
+
+      hashCode = hashCode * 8191 + ((isSetPageToken()) ? 131071 : 524287);
+      if (isSetPageToken())
+        hashCode = hashCode * 8191 + pageToken.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(findLeadsByDatePage_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetStartDate(), other.isSetStartDate());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetStartDate()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.startDate, other.startDate);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetEndDate(), other.isSetEndDate());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEndDate()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.endDate, other.endDate);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetPageSize(), other.isSetPageSize());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPageSize()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.pageSize, other.pageSize);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetPageToken(), other.isSetPageToken());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPageToken()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.pageToken, other.pageToken);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    @Override
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("findLeadsByDatePage_args(");
+      boolean first = true;
+
+      sb.append("startDate:");
+      if (this.startDate == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.startDate);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("endDate:");
+      if (this.endDate == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.endDate);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("pageSize:");
+      sb.append(this.pageSize);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("pageToken:");
+      if (this.pageToken == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.pageToken);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class findLeadsByDatePage_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public findLeadsByDatePage_argsStandardScheme getScheme() {
+        return new findLeadsByDatePage_argsStandardScheme();
+      }
+    }
+
+    private static class findLeadsByDatePage_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<findLeadsByDatePage_args> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, findLeadsByDatePage_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // START_DATE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.startDate = iprot.readString();
+                struct.setStartDateIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // END_DATE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.endDate = iprot.readString();
+                struct.setEndDateIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // PAGE_SIZE
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.pageSize = iprot.readI32();
+                struct.setPageSizeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // PAGE_TOKEN
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.pageToken = iprot.readString();
+                struct.setPageTokenIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, findLeadsByDatePage_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.startDate != null) {
+          oprot.writeFieldBegin(START_DATE_FIELD_DESC);
+          oprot.writeString(struct.startDate);
+          oprot.writeFieldEnd();
+        }
+        if (struct.endDate != null) {
+          oprot.writeFieldBegin(END_DATE_FIELD_DESC);
+          oprot.writeString(struct.endDate);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(PAGE_SIZE_FIELD_DESC);
+        oprot.writeI32(struct.pageSize);
+        oprot.writeFieldEnd();
+        if (struct.pageToken != null) {
+          oprot.writeFieldBegin(PAGE_TOKEN_FIELD_DESC);
+          oprot.writeString(struct.pageToken);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class findLeadsByDatePage_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public findLeadsByDatePage_argsTupleScheme getScheme() {
+        return new findLeadsByDatePage_argsTupleScheme();
+      }
+    }
+
+    private static class findLeadsByDatePage_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<findLeadsByDatePage_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, findLeadsByDatePage_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetStartDate()) {
+          optionals.set(0);
+        }
+        if (struct.isSetEndDate()) {
+          optionals.set(1);
+        }
+        if (struct.isSetPageSize()) {
+          optionals.set(2);
+        }
+        if (struct.isSetPageToken()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetStartDate()) {
+          oprot.writeString(struct.startDate);
+        }
+        if (struct.isSetEndDate()) {
+          oprot.writeString(struct.endDate);
+        }
+        if (struct.isSetPageSize()) {
+          oprot.writeI32(struct.pageSize);
+        }
+        if (struct.isSetPageToken()) {
+          oprot.writeString(struct.pageToken);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, findLeadsByDatePage_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(4);
+        if (incoming.get(0)) {
+          struct.startDate = iprot.readString();
+          struct.setStartDateIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.endDate = iprot.readString();
+          struct.setEndDateIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.pageSize = iprot.readI32();
+          struct.setPageSizeIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.pageToken = iprot.readString();
+          struct.setPageTokenIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class findLeadsByDatePage_result implements org.apache.thrift.TBase<findLeadsByDatePage_result, findLeadsByDatePage_result._Fields>, java.io.Serializable, Cloneable, Comparable<findLeadsByDatePage_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("findLeadsByDatePage_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E1_FIELD_DESC = new org.apache.thrift.protocol.TField("e1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E2_FIELD_DESC = new org.apache.thrift.protocol.TField("e2", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField E3_FIELD_DESC = new org.apache.thrift.protocol.TField("e3", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+    private static final org.apache.thrift.protocol.TField BUSY_FIELD_DESC = new org.apache.thrift.protocol.TField("busy", org.apache.thrift.protocol.TType.STRUCT, (short)9);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new findLeadsByDatePage_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new findLeadsByDatePage_resultTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable InternalLeadPage success; // required
+    public @org.apache.thrift.annotation.Nullable ThriftWrongDateFormatException e1; // required
+    public @org.apache.thrift.annotation.Nullable ThriftWrongOrderForDateException e2; // required
+    public @org.apache.thrift.annotation.Nullable ThriftInvalidPageTokenException e3; // required
+    public @org.apache.thrift.annotation.Nullable ThriftServerBusyException busy; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E1((short)1, "e1"),
+      E2((short)2, "e2"),
+      E3((short)3, "e3"),
+      BUSY((short)9, "busy");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E1
+            return E1;
+          case 2: // E2
+            return E2;
+          case 3: // E3
+            return E3;
+          case 9: // BUSY
+            return BUSY;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InternalLeadPage.class)));
+      tmpMap.put(_Fields.E1, new org.apache.thrift.meta_data.FieldMetaData("e1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftWrongDateFormatException.class)));
+      tmpMap.put(_Fields.E2, new org.apache.thrift.meta_data.FieldMetaData("e2", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftWrongOrderForDateException.class)));
+      tmpMap.put(_Fields.E3, new org.apache.thrift.meta_data.FieldMetaData("e3", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftInvalidPageTokenException.class)));
+      tmpMap.put(_Fields.BUSY, new org.apache.thrift.meta_data.FieldMetaData("busy", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftServerBusyException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(findLeadsByDatePage_result.class, metaDataMap);
+    }
+
+    public findLeadsByDatePage_result() {
+    }
+
+    public findLeadsByDatePage_result(
+      InternalLeadPage success,
+      ThriftWrongDateFormatException e1,
+      ThriftWrongOrderForDateException e2,
+      ThriftInvalidPageTokenException e3,
+      ThriftServerBusyException busy)
+    {
+      this();
+      this.success = success;
+      this.e1 = e1;
+      this.e2 = e2;
+      this.e3 = e3;
+      this.busy = busy;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public findLeadsByDatePage_result(findLeadsByDatePage_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new InternalLeadPage(other.success);
+      }
+      if (other.isSetE1()) {
+        this.e1 = new ThriftWrongDateFormatException(other.e1);
+      }
+      if (other.isSetE2()) {
+        this.e2 = new ThriftWrongOrderForDateException(other.e2);
+      }
+      if (other.isSetE3()) {
+        this.e3 = new ThriftInvalidPageTokenException(other.e3);
+      }
+      if (other.isSetBusy()) {
+        this.busy = new ThriftServerBusyException(other.busy);
+      }
+    }
+
+    @Override
+    public findLeadsByDatePage_result deepCopy() {
+      return new findLeadsByDatePage_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e1 = null;
+      this.e2 = null;
+      this.e3 = null;
+      this.busy = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public InternalLeadPage getSuccess() {
+      return this.success;
+    }
+
+    public findLeadsByDatePage_result setSuccess(@org.apache.thrift.annotation.Nullable InternalLeadPage success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ThriftWrongDateFormatException getE1() {
+      return this.e1;
+    }
+
+    public findLeadsByDatePage_result setE1(@org.apache.thrift.annotation.Nullable ThriftWrongDateFormatException e1) {
+      this.e1 = e1;
+      return this;
+    }
+
+    public void unsetE1() {
+      this.e1 = null;
+    }
+
+    /** Returns true if field e1 is set (has been assigned a value) and false otherwise */
+    public boolean isSetE1() {
+      return this.e1 != null;
+    }
+
+    public void setE1IsSet(boolean value) {
+      if (!value) {
+        this.e1 = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ThriftWrongOrderForDateException getE2() {
+      return this.e2;
+    }
+
+    public findLeadsByDatePage_result setE2(@org.apache.thrift.annotation.Nullable ThriftWrongOrderForDateException e2) {
+      this.e2 = e2;
+      return this;
+    }
+
+    public void unsetE2() {
+      this.e2 = null;
+    }
+
+    /** Returns true if field e2 is set (has been assigned a value) and false otherwise */
+    public boolean isSetE2() {
+      return this.e2 != null;
+    }
+
+    public void setE2IsSet(boolean value) {
+      if (!value) {
+        this.e2 = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ThriftInvalidPageTokenException getE3() {
+      return this.e3;
+    }
+
+    public findLeadsByDatePage_result setE3(@org.apache.thrift.annotation.Nullable ThriftInvalidPageTokenException e3) {
+      this.e3 = e3;
+      return this;
+    }
+
+    public void unsetE3() {
+      this.e3 = null;
+    }
+
+    /** Returns true if field e3 is set (has been assigned a value) and false otherwise */
+    public boolean isSetE3() {
+      return this.e3 != null;
+    }
+
+    public void setE3IsSet(boolean value) {
+      if (!value) {
+        this.e3 = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ThriftServerBusyException getBusy() {
+      return this.busy;
+    }
+
+    public findLeadsByDatePage_result setBusy(@org.apache.thrift.annotation.Nullable ThriftServerBusyException busy) {
+      this.busy = busy;
+      return this;
+    }
+
+    public void unsetBusy() {
+      this.busy = null;
+    }
+
+    /** Returns true if field busy is set (has been assigned a value) and false otherwise */
+    public boolean isSetBusy() {
+      return this.busy != null;
+    }
+
+    public void setBusyIsSet(boolean value) {
+      if (!value) {
+        this.busy = null;
+      }
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((InternalLeadPage)value);
+        }
+        break;
+
+      case E1:
+        if (value == null) {
+          unsetE1();
+        } else {
+          setE1((ThriftWrongDateFormatException)value);
+        }
+        break;
+
+      case E2:
+        if (value == null) {
+          unsetE2();
+        } else {
+          setE2((ThriftWrongOrderForDateException)value);
+        }
+        break;
+
+      case E3:
+        if (value == null) {
+          unsetE3();
+        } else {
+          setE3((ThriftInvalidPageTokenException)value);
+        }
+        break;
+
+      case BUSY:
+        if (value == null) {
+          unsetBusy();
+        } else {
+          setBusy((ThriftServerBusyException)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E1:
+        return getE1();
+
+      case E2:
+        return getE2();
+
+      case E3:
+        return getE3();
+
+      case BUSY:
+        return getBusy();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E1:
+        return isSetE1();
+      case E2:
+        return isSetE2();
+      case E3:
+        return isSetE3();
+      case BUSY:
+        return isSetBusy();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof findLeadsByDatePage_result)
+        return this.equals((findLeadsByDatePage_result)that);
+      return false;
+    }
+
+    public boolean equals(findLeadsByDatePage_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e1 = true && this.isSetE1();
+      boolean that_present_e1 = true && that.isSetE1();
+      if (this_present_e1 || that_present_e1) {
+        if (!(this_present_e1 && that_present_e1))
+          return false;
+        if (!this.e1.equals(that.e1))
+          return false;
+      }
+
+      boolean this_present_e2 = true && this.isSetE2();
+      boolean that_present_e2 = true && that.isSetE2();
+      if (this_present_e2 || that_present_e2) {
+        if (!(this_present_e2 && that_present_e2))
+          return false;
+        if (!this.e2.equals(that.e2))
+          return false;
+      }
+
+      boolean this_present_e3 = true && this.isSetE3();
+      boolean that_present_e3 = true && that.isSetE3();
+      if (this_present_e3 || that_present_e3) {
+        if (!(this_present_e3 && that_present_e3))
+          return false;
+        if (!this.e3.equals(that.e3))
+          return false;
+      }
+
+      boolean this_present_busy = true && this.isSetBusy();
+      boolean that_present_busy = true && that.isSetBusy();
+      if (this_present_busy || that_present_busy) {
+        if (!(this_present_busy && that_present_busy))
+          return false;
+        if (!this.busy.equals(that.busy))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetE1()) ? 131071 : 524287);
+      if (isSetE1())
+        hashCode = hashCode * 8191 + e1.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetE2()) ? 131071 : 524287);
+      if (isSetE2())
+        hashCode = hashCode * 8191 + e2.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetE3()) ? 131071 : 524287);
+      if (isSetE3())
+        hashCode = hashCode * 8191 + e3.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetBusy()) ? 131071 : 524287);
+      if (isSetBusy())
+        hashCode = hashCode * 8191 + busy.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(findLeadsByDatePage_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetSuccess(), other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetE1(), other.isSetE1());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE1()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e1, other.e1);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetE2(), other.isSetE2());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE2()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e2, other.e2);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetE3(), other.isSetE3());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE3()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e3, other.e3);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetBusy(), other.isSetBusy());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBusy()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.busy, other.busy);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("findLeadsByDatePage_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e1:");
+      if (this.e1 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e1);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e2:");
+      if (this.e2 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e2);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e3:");
+      if (this.e3 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e3);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("busy:");
+      if (this.busy == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.busy);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class findLeadsByDatePage_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public findLeadsByDatePage_resultStandardScheme getScheme() {
+        return new findLeadsByDatePage_resultStandardScheme();
+      }
+    }
+
+    private static class findLeadsByDatePage_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<findLeadsByDatePage_result> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, findLeadsByDatePage_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new InternalLeadPage();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E1
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e1 = new ThriftWrongDateFormatException();
+                struct.e1.read(iprot);
+                struct.setE1IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // E2
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e2 = new ThriftWrongOrderForDateException();
+                struct.e2.read(iprot);
+                struct.setE2IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // E3
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e3 = new ThriftInvalidPageTokenException();
+                struct.e3.read(iprot);
+                struct.setE3IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 9: // BUSY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.busy = new ThriftServerBusyException();
+                struct.busy.read(iprot);
+                struct.setBusyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, findLeadsByDatePage_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e1 != null) {
+          oprot.writeFieldBegin(E1_FIELD_DESC);
+          struct.e1.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e2 != null) {
+          oprot.writeFieldBegin(E2_FIELD_DESC);
+          struct.e2.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e3 != null) {
+          oprot.writeFieldBegin(E3_FIELD_DESC);
+          struct.e3.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.busy != null) {
+          oprot.writeFieldBegin(BUSY_FIELD_DESC);
+          struct.busy.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class findLeadsByDatePage_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public findLeadsByDatePage_resultTupleScheme getScheme() {
+        return new findLeadsByDatePage_resultTupleScheme();
+      }
+    }
+
+    private static class findLeadsByDatePage_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<findLeadsByDatePage_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, findLeadsByDatePage_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE1()) {
+          optionals.set(1);
+        }
+        if (struct.isSetE2()) {
+          optionals.set(2);
+        }
+        if (struct.isSetE3()) {
+          optionals.set(3);
+        }
+        if (struct.isSetBusy()) {
+          optionals.set(4);
+        }
+        oprot.writeBitSet(optionals, 5);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetE1()) {
+          struct.e1.write(oprot);
+        }
+        if (struct.isSetE2()) {
+          struct.e2.write(oprot);
+        }
+        if (struct.isSetE3()) {
+          struct.e3.write(oprot);
+        }
+        if (struct.isSetBusy()) {
+          struct.busy.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, findLeadsByDatePage_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(5);
+        if (incoming.get(0)) {
+          struct.success = new InternalLeadPage();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e1 = new ThriftWrongDateFormatException();
+          struct.e1.read(iprot);
+          struct.setE1IsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.e2 = new ThriftWrongOrderForDateException();
+          struct.e2.read(iprot);
+          struct.setE2IsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.e3 = new ThriftInvalidPageTokenException();
+          struct.e3.read(iprot);
+          struct.setE3IsSet(true);
+        }
+        if (incoming.get(4)) {
+          struct.busy = new ThriftServerBusyException();
+          struct.busy.read(iprot);
+          struct.setBusyIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class createLeads_args implements org.apache.thrift.TBase<createLeads_args, createLeads_args._Fields>, java.io.Serializable, Cloneable, Comparable<createLeads_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createLeads_args");
+
+    private static final org.apache.thrift.protocol.TField LEADS_FIELD_DESC = new org.apache.thrift.protocol.TField("leads", org.apache.thrift.protocol.TType.LIST, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new createLeads_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new createLeads_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.util.List<InternalLeadDTO> leads; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      LEADS((short)1, "leads");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // LEADS
+            return LEADS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.LEADS, new org.apache.thrift.meta_data.FieldMetaData("leads", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InternalLeadDTO.class))));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createLeads_args.class, metaDataMap);
+    }
+
+    public createLeads_args() {
+    }
+
+    public createLeads_args(
+      java.util.List<InternalLeadDTO> leads)
+    {
+      this();
+      this.leads = leads;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public createLeads_args(createLeads_args other) {
+      if (other.isSetLeads()) {
+        java.util.List<InternalLeadDTO> __this__leads = new java.util.ArrayList<InternalLeadDTO>(other.leads.size());
+        for (InternalLeadDTO other_element : other.leads) {
+          __this__leads.add(new InternalLeadDTO(other_element));
+        }
+        this.leads = __this__leads;
+      }
+    }
+
+    @Override
+    public createLeads_args deepCopy() {
+      return new createLeads_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.leads = null;
+    }
+
+    public int getLeadsSize() {
+      return (this.leads == null) ? 0 : this.leads.size();
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<InternalLeadDTO> getLeadsIterator() {
+      return (this.leads == null) ? null : this.leads.iterator();
+    }
+
+    public void addToLeads(InternalLeadDTO elem) {
+      if (this.leads == null) {
+        this.leads = new java.util.ArrayList<InternalLeadDTO>();
+      }
+      this.leads.add(elem);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<InternalLeadDTO> getLeads() {
+      return this.leads;
+    }
+
+    public createLeads_args setLeads(@org.apache.thrift.annotation.Nullable java.util.List<InternalLeadDTO> leads) {
+      this.leads = leads;
+      return this;
+    }
+
+    public void unsetLeads() {
+      this.leads = null;
+    }
+
+    /** Returns true if field leads is set (has been assigned a value) and false otherwise */
+    public boolean isSetLeads() {
+      return this.leads != null;
+    }
+
+    public void setLeadsIsSet(boolean value) {
+      if (!value) {
+        this.leads = null;
+      }
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case LEADS:
+        if (value == null) {
+          unsetLeads();
+        } else {
+          setLeads((java.util.List<InternalLeadDTO>)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case LEADS:
+        return getLeads();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case LEADS:
+        return isSetLeads();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof createLeads_args)
+        return this.equals((createLeads_args)that);
+      return false;
+    }
+
+    public boolean equals(createLeads_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_leads = true && this.isSetLeads();
+      boolean that_present_leads = true && that.isSetLeads();
+      if (this_present_leads || that_present_leads) {
+        if (!(this_present_leads && that_present_leads))
+          return false;
+        if (!this.leads.equals(that.leads))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetLeads()) ? 131071 : 524287);
+      if (isSetLeads())
+        hashCode = hashCode * 8191 + leads.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(createLeads_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetLeads(), other.isSetLeads());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLeads()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.leads, other.leads);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    @Override
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("createLeads_args(");
+      boolean first = true;
+
+      sb.append("leads:");
+      if (this.leads == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.leads);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class createLeads_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public createLeads_argsStandardScheme getScheme() {
+        return new createLeads_argsStandardScheme();
+      }
+    }
+
+    private static class createLeads_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<createLeads_args> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createLeads_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // LEADS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list40 = iprot.readListBegin();
+                  struct.leads = new java.util.ArrayList<InternalLeadDTO>(_list40.size);
+                  @org.apache.thrift.annotation.Nullable InternalLeadDTO _elem41;
+                  for (int _i42 = 0; _i42 < _list40.size; ++_i42)
+                  {
+                    _elem41 = new InternalLeadDTO();
+                    _elem41.read(iprot);
+                    struct.leads.add(_elem41);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setLeadsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createLeads_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.leads != null) {
+          oprot.writeFieldBegin(LEADS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.leads.size()));
+            for (InternalLeadDTO _iter43 : struct.leads)
+            {
+              _iter43.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class createLeads_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public createLeads_argsTupleScheme getScheme() {
+        return new createLeads_argsTupleScheme();
+      }
+    }
+
+    private static class createLeads_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<createLeads_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, createLeads_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetLeads()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetLeads()) {
+          {
+            oprot.writeI32(struct.leads.size());
+            for (InternalLeadDTO _iter44 : struct.leads)
+            {
+              _iter44.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, createLeads_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list45 = iprot.readListBegin(org.apache.thrift.protocol.TType.STRUCT);
+            struct.leads = new java.util.ArrayList<InternalLeadDTO>(_list45.size);
+            @org.apache.thrift.annotation.Nullable InternalLeadDTO _elem46;
+            for (int _i47 = 0; _i47 < _list45.size; ++_i47)
+            {
+              _elem46 = new InternalLeadDTO();
+              _elem46.read(iprot);
+              struct.leads.add(_elem46);
+            }
+          }
+          struct.setLeadsIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
+  public static class createLeads_result implements org.apache.thrift.TBase<createLeads_result, createLeads_result._Fields>, java.io.Serializable, Cloneable, Comparable<createLeads_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createLeads_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField BUSY_FIELD_DESC = new org.apache.thrift.protocol.TField("busy", org.apache.thrift.protocol.TType.STRUCT, (short)9);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new createLeads_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new createLeads_resultTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable InternalBatchResult success; // required
+    public @org.apache.thrift.annotation.Nullable ThriftServerBusyException busy; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      BUSY((short)9, "busy");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 9: // BUSY
+            return BUSY;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InternalBatchResult.class)));
+      tmpMap.put(_Fields.BUSY, new org.apache.thrift.meta_data.FieldMetaData("busy", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftServerBusyException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createLeads_result.class, metaDataMap);
+    }
+
+    public createLeads_result() {
+    }
+
+    public createLeads_result(
+      InternalBatchResult success,
+      ThriftServerBusyException busy)
+    {
+      this();
+      this.success = success;
+      this.busy = busy;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public createLeads_result(createLeads_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new InternalBatchResult(other.success);
+      }
+      if (other.isSetBusy()) {
+        this.busy = new ThriftServerBusyException(other.busy);
+      }
+    }
+
+    @Override
+    public createLeads_result deepCopy() {
+      return new createLeads_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.busy = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public InternalBatchResult getSuccess() {
+      return this.success;
+    }
+
+    public createLeads_result setSuccess(@org.apache.thrift.annotation.Nullable InternalBatchResult success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ThriftServerBusyException getBusy() {
+      return this.busy;
+    }
+
+    public createLeads_result setBusy(@org.apache.thrift.annotation.Nullable ThriftServerBusyException busy) {
+      this.busy = busy;
+      return this;
+    }
+
+    public void unsetBusy() {
+      this.busy = null;
+    }
+
+    /** Returns true if field busy is set (has been assigned a value) and false otherwise */
+    public boolean isSetBusy() {
+      return this.busy != null;
+    }
+
+    public void setBusyIsSet(boolean value) {
+      if (!value) {
+        this.busy = null;
+      }
+    }
+
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((InternalBatchResult)value);
+        }
+        break;
+
+      case BUSY:
+        if (value == null) {
+          unsetBusy();
+        } else {
+          setBusy((ThriftServerBusyException)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case BUSY:
+        return getBusy();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    @Override
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case BUSY:
+        return isSetBusy();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof createLeads_result)
+        return this.equals((createLeads_result)that);
+      return false;
+    }
+
+    public boolean equals(createLeads_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_busy = true && this.isSetBusy();
+      boolean that_present_busy = true && that.isSetBusy();
+      if (this_present_busy || that_present_busy) {
+        if (!(this_present_busy && that_present_busy))
+          return false;
+        if (!this.busy.equals(that.busy))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetBusy()) ? 131071 : 524287);
+      if (isSetBusy())
+        hashCode = hashCode * 8191 + busy.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(createLeads_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetSuccess(), other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetBusy(), other.isSetBusy());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBusy()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.busy, other.busy);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    @Override
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    @Override
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("createLeads_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("busy:");
+      if (this.busy == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.busy);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class createLeads_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      @Override
+      public createLeads_resultStandardScheme getScheme() {
+        return new createLeads_resultStandardScheme();
+      }
+    }
+
+    private static class createLeads_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<createLeads_result> {
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createLeads_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new InternalBatchResult();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 9: // BUSY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.busy = new ThriftServerBusyException();
+                struct.busy.read(iprot);
+                struct.setBusyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
-        };
-      }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
 
-      @Override
-      protected boolean isOneway() {
-        return false;
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
       }
 
       @Override
-      public void start(I iface, createLead_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.Long> resultHandler) throws org.apache.thrift.TException {
-        iface.createLead(args.lead,resultHandler);
-      }
-    }
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createLeads_result struct) throws org.apache.thrift.TException {
+        struct.validate();
 
-    public static class deleteLead<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, deleteLead_args, Void> {
-      public deleteLead() {
-        super("deleteLead");
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.busy != null) {
+          oprot.writeFieldBegin(BUSY_FIELD_DESC);
+          struct.busy.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
       }
 
-      @Override
-      public deleteLead_args getEmptyArgsInstance() {
-        return new deleteLead_args();
-      }
+    }
 
+    private static class createLeads_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
-          @Override
-          public void onComplete(Void o) {
-            deleteLead_result result = new deleteLead_result();
-            try {
-              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-            } catch (org.apache.thrift.transport.TTransportException e) {
-              _LOGGER.error("TTransportException writing to internal frame buffer", e);
-              fb.close();
-            } catch (java.lang.Exception e) {
-              _LOGGER.error("Exception writing to internal frame buffer", e);
-              onError(e);
-            }
-          }
-          @Override
-          public void onError(java.lang.Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TSerializable msg;
-            deleteLead_result result = new deleteLead_result();
-            if (e instanceof org.apache.thrift.transport.TTransportException) {
-              _LOGGER.error("TTransportException inside handler", e);
-              fb.close();
-              return;
-            } else if (e instanceof org.apache.thrift.TApplicationException) {
-              _LOGGER.error("TApplicationException inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TApplicationException)e;
-            } else {
-              _LOGGER.error("Exception inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-            } catch (java.lang.Exception ex) {
-              _LOGGER.error("Exception writing to internal frame buffer", ex);
-              fb.close();
-            }
-          }
-        };
+      public createLeads_resultTupleScheme getScheme() {
+        return new createLeads_resultTupleScheme();
       }
+    }
+
+    private static class createLeads_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<createLeads_result> {
 
       @Override
-      protected boolean isOneway() {
-        return false;
+      public void write(org.apache.thrift.protocol.TProtocol prot, createLeads_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetBusy()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetBusy()) {
+          struct.busy.write(oprot);
+        }
       }
 
       @Override
-      public void start(I iface, deleteLead_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
-        iface.deleteLead(args.leadDto,resultHandler);
+      public void read(org.apache.thrift.protocol.TProtocol prot, createLeads_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new InternalBatchResult();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.busy = new ThriftServerBusyException();
+          struct.busy.read(iprot);
+          struct.setBusyIsSet(true);
+        }
       }
     }
 
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
   }
 
   @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-  public static class findLeads_args implements org.apache.thrift.TBase<findLeads_args, findLeads_args._Fields>, java.io.Serializable, Cloneable, Comparable<findLeads_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("findLeads_args");
+  public static class deleteLeads_args implements org.apache.thrift.TBase<deleteLeads_args, deleteLeads_args._Fields>, java.io.Serializable, Cloneable, Comparable<deleteLeads_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteLeads_args");
 
-    private static final org.apache.thrift.protocol.TField LOW_ANNUAL_REVENUE_FIELD_DESC = new org.apache.thrift.protocol.TField("lowAnnualRevenue", org.apache.thrift.protocol.TType.DOUBLE, (short)1);
-    private static final org.apache.thrift.protocol.TField HIGH_ANNUAL_REVENUE_FIELD_DESC = new org.apache.thrift.protocol.TField("highAnnualRevenue", org.apache.thrift.protocol.TType.DOUBLE, (short)2);
-    private static final org.apache.thrift.protocol.TField STATE_FIELD_DESC = new org.apache.thrift.protocol.TField("state", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("ids", org.apache.thrift.protocol.TType.LIST, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new findLeads_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new findLeads_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new deleteLeads_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new deleteLeads_argsTupleSchemeFactory();
 
-    public double lowAnnualRevenue; // required
-    public double highAnnualRevenue; // required
-    public @org.apache.thrift.annotation.Nullable java.lang.String state; // required
+    public @org.apache.thrift.annotation.Nullable java.util.List<java.lang.Long> ids; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      LOW_ANNUAL_REVENUE((short)1, "lowAnnualRevenue"),
-      HIGH_ANNUAL_REVENUE((short)2, "highAnnualRevenue"),
-      STATE((short)3, "state");
+      IDS((short)1, "ids");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -779,12 +11123,8 @@ public class InternalCRM {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // LOW_ANNUAL_REVENUE
-            return LOW_ANNUAL_REVENUE;
-          case 2: // HIGH_ANNUAL_REVENUE
-            return HIGH_ANNUAL_REVENUE;
-          case 3: // STATE
-            return STATE;
+          case 1: // IDS
+            return IDS;
           default:
             return null;
         }
@@ -828,159 +11168,95 @@ public class InternalCRM {
     }
 
     // isset id assignments
-    private static final int __LOWANNUALREVENUE_ISSET_ID = 0;
-    private static final int __HIGHANNUALREVENUE_ISSET_ID = 1;
-    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.LOW_ANNUAL_REVENUE, new org.apache.thrift.meta_data.FieldMetaData("lowAnnualRevenue", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
-      tmpMap.put(_Fields.HIGH_ANNUAL_REVENUE, new org.apache.thrift.meta_data.FieldMetaData("highAnnualRevenue", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
-      tmpMap.put(_Fields.STATE, new org.apache.thrift.meta_data.FieldMetaData("state", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.IDS, new org.apache.thrift.meta_data.FieldMetaData("ids", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(findLeads_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteLeads_args.class, metaDataMap);
     }
 
-    public findLeads_args() {
+    public deleteLeads_args() {
     }
 
-    public findLeads_args(
-      double lowAnnualRevenue,
-      double highAnnualRevenue,
-      java.lang.String state)
+    public deleteLeads_args(
+      java.util.List<java.lang.Long> ids)
     {
       this();
-      this.lowAnnualRevenue = lowAnnualRevenue;
-      setLowAnnualRevenueIsSet(true);
-      this.highAnnualRevenue = highAnnualRevenue;
-      setHighAnnualRevenueIsSet(true);
-      this.state = state;
+      this.ids = ids;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public findLeads_args(findLeads_args other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.lowAnnualRevenue = other.lowAnnualRevenue;
-      this.highAnnualRevenue = other.highAnnualRevenue;
-      if (other.isSetState()) {
-        this.state = other.state;
+    public deleteLeads_args(deleteLeads_args other) {
+      if (other.isSetIds()) {
+        java.util.List<java.lang.Long> __this__ids = new java.util.ArrayList<java.lang.Long>(other.ids);
+        this.ids = __this__ids;
       }
     }
 
     @Override
-    public findLeads_args deepCopy() {
-      return new findLeads_args(this);
+    public deleteLeads_args deepCopy() {
+      return new deleteLeads_args(this);
     }
 
     @Override
     public void clear() {
-      setLowAnnualRevenueIsSet(false);
-      this.lowAnnualRevenue = 0.0;
-      setHighAnnualRevenueIsSet(false);
-      this.highAnnualRevenue = 0.0;
-      this.state = null;
-    }
-
-    public double getLowAnnualRevenue() {
-      return this.lowAnnualRevenue;
-    }
-
-    public findLeads_args setLowAnnualRevenue(double lowAnnualRevenue) {
-      this.lowAnnualRevenue = lowAnnualRevenue;
-      setLowAnnualRevenueIsSet(true);
-      return this;
-    }
-
-    public void unsetLowAnnualRevenue() {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __LOWANNUALREVENUE_ISSET_ID);
-    }
-
-    /** Returns true if field lowAnnualRevenue is set (has been assigned a value) and false otherwise */
-    public boolean isSetLowAnnualRevenue() {
-      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __LOWANNUALREVENUE_ISSET_ID);
-    }
-
-    public void setLowAnnualRevenueIsSet(boolean value) {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __LOWANNUALREVENUE_ISSET_ID, value);
-    }
-
-    public double getHighAnnualRevenue() {
-      return this.highAnnualRevenue;
-    }
-
-    public findLeads_args setHighAnnualRevenue(double highAnnualRevenue) {
-      this.highAnnualRevenue = highAnnualRevenue;
-      setHighAnnualRevenueIsSet(true);
-      return this;
+      this.ids = null;
     }
 
-    public void unsetHighAnnualRevenue() {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __HIGHANNUALREVENUE_ISSET_ID);
+    public int getIdsSize() {
+      return (this.ids == null) ? 0 : this.ids.size();
     }
 
-    /** Returns true if field highAnnualRevenue is set (has been assigned a value) and false otherwise */
-    public boolean isSetHighAnnualRevenue() {
-      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __HIGHANNUALREVENUE_ISSET_ID);
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<java.lang.Long> getIdsIterator() {
+      return (this.ids == null) ? null : this.ids.iterator();
     }
 
-    public void setHighAnnualRevenueIsSet(boolean value) {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __HIGHANNUALREVENUE_ISSET_ID, value);
+    public void addToIds(long elem) {
+      if (this.ids == null) {
+        this.ids = new java.util.ArrayList<java.lang.Long>();
+      }
+      this.ids.add(elem);
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.lang.String getState() {
-      return this.state;
+    public java.util.List<java.lang.Long> getIds() {
+      return this.ids;
     }
 
-    public findLeads_args setState(@org.apache.thrift.annotation.Nullable java.lang.String state) {
-      this.state = state;
+    public deleteLeads_args setIds(@org.apache.thrift.annotation.Nullable java.util.List<java.lang.Long> ids) {
+      this.ids = ids;
       return this;
     }
 
-    public void unsetState() {
-      this.state = null;
+    public void unsetIds() {
+      this.ids = null;
     }
 
-    /** Returns true if field state is set (has been assigned a value) and false otherwise */
-    public boolean isSetState() {
-      return this.state != null;
+    /** Returns true if field ids is set (has been assigned a value) and false otherwise */
+    public boolean isSetIds() {
+      return this.ids != null;
     }
 
-    public void setStateIsSet(boolean value) {
+    public void setIdsIsSet(boolean value) {
       if (!value) {
-        this.state = null;
+        this.ids = null;
       }
     }
 
     @Override
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case LOW_ANNUAL_REVENUE:
-        if (value == null) {
-          unsetLowAnnualRevenue();
-        } else {
-          setLowAnnualRevenue((java.lang.Double)value);
-        }
-        break;
-
-      case HIGH_ANNUAL_REVENUE:
-        if (value == null) {
-          unsetHighAnnualRevenue();
-        } else {
-          setHighAnnualRevenue((java.lang.Double)value);
-        }
-        break;
-
-      case STATE:
+      case IDS:
         if (value == null) {
-          unsetState();
+          unsetIds();
         } else {
-          setState((java.lang.String)value);
+          setIds((java.util.List<java.lang.Long>)value);
         }
         break;
 
@@ -991,14 +11267,8 @@ public class InternalCRM {
     @Override
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case LOW_ANNUAL_REVENUE:
-        return getLowAnnualRevenue();
-
-      case HIGH_ANNUAL_REVENUE:
-        return getHighAnnualRevenue();
-
-      case STATE:
-        return getState();
+      case IDS:
+        return getIds();
 
       }
       throw new java.lang.IllegalStateException();
@@ -1012,53 +11282,31 @@ public class InternalCRM {
       }
 
       switch (field) {
-      case LOW_ANNUAL_REVENUE:
-        return isSetLowAnnualRevenue();
-      case HIGH_ANNUAL_REVENUE:
-        return isSetHighAnnualRevenue();
-      case STATE:
-        return isSetState();
+      case IDS:
+        return isSetIds();
       }
       throw new java.lang.IllegalStateException();
     }
 
     @Override
-    public boolean equals(java.lang.Object that) {
-      if (that instanceof findLeads_args)
-        return this.equals((findLeads_args)that);
+    public boolean equals(java.lang.Object that) {
+      if (that instanceof deleteLeads_args)
+        return this.equals((deleteLeads_args)that);
       return false;
     }
 
-    public boolean equals(findLeads_args that) {
+    public boolean equals(deleteLeads_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_lowAnnualRevenue = true;
-      boolean that_present_lowAnnualRevenue = true;
-      if (this_present_lowAnnualRevenue || that_present_lowAnnualRevenue) {
-        if (!(this_present_lowAnnualRevenue && that_present_lowAnnualRevenue))
-          return false;
-        if (this.lowAnnualRevenue != that.lowAnnualRevenue)
-          return false;
-      }
-
-      boolean this_present_highAnnualRevenue = true;
-      boolean that_present_highAnnualRevenue = true;
-      if (this_present_highAnnualRevenue || that_present_highAnnualRevenue) {
-        if (!(this_present_highAnnualRevenue && that_present_highAnnualRevenue))
-          return false;
-        if (this.highAnnualRevenue != that.highAnnualRevenue)
-          return false;
-      }
-
-      boolean this_present_state = true && this.isSetState();
-      boolean that_present_state = true && that.isSetState();
-      if (this_present_state || that_present_state) {
-        if (!(this_present_state && that_present_state))
+      boolean this_present_ids = true && this.isSetIds();
+      boolean that_present_ids = true && that.isSetIds();
+      if (this_present_ids || that_present_ids) {
+        if (!(this_present_ids && that_present_ids))
           return false;
-        if (!this.state.equals(that.state))
+        if (!this.ids.equals(that.ids))
           return false;
       }
 
@@ -1069,51 +11317,27 @@ public class InternalCRM {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(lowAnnualRevenue);
-
-      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(highAnnualRevenue);
-
-      hashCode = hashCode * 8191 + ((isSetState()) ? 131071 : 524287);
-      if (isSetState())
-        hashCode = hashCode * 8191 + state.hashCode();
+      hashCode = hashCode * 8191 + ((isSetIds()) ? 131071 : 524287);
+      if (isSetIds())
+        hashCode = hashCode * 8191 + ids.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(findLeads_args other) {
+    public int compareTo(deleteLeads_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.compare(isSetLowAnnualRevenue(), other.isSetLowAnnualRevenue());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetLowAnnualRevenue()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.lowAnnualRevenue, other.lowAnnualRevenue);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = java.lang.Boolean.compare(isSetHighAnnualRevenue(), other.isSetHighAnnualRevenue());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetHighAnnualRevenue()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.highAnnualRevenue, other.highAnnualRevenue);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = java.lang.Boolean.compare(isSetState(), other.isSetState());
+      lastComparison = java.lang.Boolean.compare(isSetIds(), other.isSetIds());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetState()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.state, other.state);
+      if (isSetIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ids, other.ids);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -1139,22 +11363,14 @@ public class InternalCRM {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("findLeads_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("deleteLeads_args(");
       boolean first = true;
 
-      sb.append("lowAnnualRevenue:");
-      sb.append(this.lowAnnualRevenue);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("highAnnualRevenue:");
-      sb.append(this.highAnnualRevenue);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("state:");
-      if (this.state == null) {
+      sb.append("ids:");
+      if (this.ids == null) {
         sb.append("null");
       } else {
-        sb.append(this.state);
+        sb.append(this.ids);
       }
       first = false;
       sb.append(")");
@@ -1176,25 +11392,23 @@ public class InternalCRM {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class findLeads_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class deleteLeads_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public findLeads_argsStandardScheme getScheme() {
-        return new findLeads_argsStandardScheme();
+      public deleteLeads_argsStandardScheme getScheme() {
+        return new deleteLeads_argsStandardScheme();
       }
     }
 
-    private static class findLeads_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<findLeads_args> {
+    private static class deleteLeads_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<deleteLeads_args> {
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol iprot, findLeads_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteLeads_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1204,26 +11418,20 @@ public class InternalCRM {
             break;
           }
           switch (schemeField.id) {
-            case 1: // LOW_ANNUAL_REVENUE
-              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
-                struct.lowAnnualRevenue = iprot.readDouble();
-                struct.setLowAnnualRevenueIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // HIGH_ANNUAL_REVENUE
-              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
-                struct.highAnnualRevenue = iprot.readDouble();
-                struct.setHighAnnualRevenueIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 3: // STATE
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.state = iprot.readString();
-                struct.setStateIsSet(true);
+            case 1: // IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list48 = iprot.readListBegin();
+                  struct.ids = new java.util.ArrayList<java.lang.Long>(_list48.size);
+                  long _elem49;
+                  for (int _i50 = 0; _i50 < _list48.size; ++_i50)
+                  {
+                    _elem49 = iprot.readI64();
+                    struct.ids.add(_elem49);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setIdsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -1240,19 +11448,20 @@ public class InternalCRM {
       }
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol oprot, findLeads_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteLeads_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(LOW_ANNUAL_REVENUE_FIELD_DESC);
-        oprot.writeDouble(struct.lowAnnualRevenue);
-        oprot.writeFieldEnd();
-        oprot.writeFieldBegin(HIGH_ANNUAL_REVENUE_FIELD_DESC);
-        oprot.writeDouble(struct.highAnnualRevenue);
-        oprot.writeFieldEnd();
-        if (struct.state != null) {
-          oprot.writeFieldBegin(STATE_FIELD_DESC);
-          oprot.writeString(struct.state);
+        if (struct.ids != null) {
+          oprot.writeFieldBegin(IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.ids.size()));
+            for (long _iter51 : struct.ids)
+            {
+              oprot.writeI64(_iter51);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -1261,55 +11470,50 @@ public class InternalCRM {
 
     }
 
-    private static class findLeads_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class deleteLeads_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public findLeads_argsTupleScheme getScheme() {
-        return new findLeads_argsTupleScheme();
+      public deleteLeads_argsTupleScheme getScheme() {
+        return new deleteLeads_argsTupleScheme();
       }
     }
 
-    private static class findLeads_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<findLeads_args> {
+    private static class deleteLeads_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<deleteLeads_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, findLeads_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, deleteLeads_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetLowAnnualRevenue()) {
+        if (struct.isSetIds()) {
           optionals.set(0);
         }
-        if (struct.isSetHighAnnualRevenue()) {
-          optionals.set(1);
-        }
-        if (struct.isSetState()) {
-          optionals.set(2);
-        }
-        oprot.writeBitSet(optionals, 3);
-        if (struct.isSetLowAnnualRevenue()) {
-          oprot.writeDouble(struct.lowAnnualRevenue);
-        }
-        if (struct.isSetHighAnnualRevenue()) {
-          oprot.writeDouble(struct.highAnnualRevenue);
-        }
-        if (struct.isSetState()) {
-          oprot.writeString(struct.state);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetIds()) {
+          {
+            oprot.writeI32(struct.ids.size());
+            for (long _iter52 : struct.ids)
+            {
+              oprot.writeI64(_iter52);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, findLeads_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, deleteLeads_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(3);
+        java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.lowAnnualRevenue = iprot.readDouble();
-          struct.setLowAnnualRevenueIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.highAnnualRevenue = iprot.readDouble();
-          struct.setHighAnnualRevenueIsSet(true);
-        }
-        if (incoming.get(2)) {
-          struct.state = iprot.readString();
-          struct.setStateIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list53 = iprot.readListBegin(org.apache.thrift.protocol.TType.I64);
+            struct.ids = new java.util.ArrayList<java.lang.Long>(_list53.size);
+            long _elem54;
+            for (int _i55 = 0; _i55 < _list53.size; ++_i55)
+            {
+              _elem54 = iprot.readI64();
+              struct.ids.add(_elem54);
+            }
+          }
+          struct.setIdsIsSet(true);
         }
       }
     }
@@ -1320,19 +11524,22 @@ public class InternalCRM {
   }
 
   @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-  public static class findLeads_result implements org.apache.thrift.TBase<findLeads_result, findLeads_result._Fields>, java.io.Serializable, Cloneable, Comparable<findLeads_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("findLeads_result");
+  public static class deleteLeads_result implements org.apache.thrift.TBase<deleteLeads_result, deleteLeads_result._Fields>, java.io.Serializable, Cloneable, Comparable<deleteLeads_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteLeads_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField BUSY_FIELD_DESC = new org.apache.thrift.protocol.TField("busy", org.apache.thrift.protocol.TType.STRUCT, (short)9);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new findLeads_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new findLeads_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new deleteLeads_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new deleteLeads_resultTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.util.List<InternalLeadDTO> success; // required
+    public @org.apache.thrift.annotation.Nullable InternalBatchResult success; // required
+    public @org.apache.thrift.annotation.Nullable ThriftServerBusyException busy; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+      SUCCESS((short)0, "success"),
+      BUSY((short)9, "busy");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -1350,6 +11557,8 @@ public class InternalCRM {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
+          case 9: // BUSY
+            return BUSY;
           default:
             return null;
         }
@@ -1397,67 +11606,54 @@ public class InternalCRM {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InternalLeadDTO.class))));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InternalBatchResult.class)));
+      tmpMap.put(_Fields.BUSY, new org.apache.thrift.meta_data.FieldMetaData("busy", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftServerBusyException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(findLeads_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteLeads_result.class, metaDataMap);
     }
 
-    public findLeads_result() {
+    public deleteLeads_result() {
     }
 
-    public findLeads_result(
-      java.util.List<InternalLeadDTO> success)
+    public deleteLeads_result(
+      InternalBatchResult success,
+      ThriftServerBusyException busy)
     {
       this();
       this.success = success;
+      this.busy = busy;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public findLeads_result(findLeads_result other) {
+    public deleteLeads_result(deleteLeads_result other) {
       if (other.isSetSuccess()) {
-        java.util.List<InternalLeadDTO> __this__success = new java.util.ArrayList<InternalLeadDTO>(other.success.size());
-        for (InternalLeadDTO other_element : other.success) {
-          __this__success.add(new InternalLeadDTO(other_element));
-        }
-        this.success = __this__success;
+        this.success = new InternalBatchResult(other.success);
+      }
+      if (other.isSetBusy()) {
+        this.busy = new ThriftServerBusyException(other.busy);
       }
     }
 
     @Override
-    public findLeads_result deepCopy() {
-      return new findLeads_result(this);
+    public deleteLeads_result deepCopy() {
+      return new deleteLeads_result(this);
     }
 
     @Override
     public void clear() {
       this.success = null;
-    }
-
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
-    }
-
-    @org.apache.thrift.annotation.Nullable
-    public java.util.Iterator<InternalLeadDTO> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
-    }
-
-    public void addToSuccess(InternalLeadDTO elem) {
-      if (this.success == null) {
-        this.success = new java.util.ArrayList<InternalLeadDTO>();
-      }
-      this.success.add(elem);
+      this.busy = null;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.util.List<InternalLeadDTO> getSuccess() {
+    public InternalBatchResult getSuccess() {
       return this.success;
     }
 
-    public findLeads_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<InternalLeadDTO> success) {
+    public deleteLeads_result setSuccess(@org.apache.thrift.annotation.Nullable InternalBatchResult success) {
       this.success = success;
       return this;
     }
@@ -1477,6 +11673,31 @@ public class InternalCRM {
       }
     }
 
+    @org.apache.thrift.annotation.Nullable
+    public ThriftServerBusyException getBusy() {
+      return this.busy;
+    }
+
+    public deleteLeads_result setBusy(@org.apache.thrift.annotation.Nullable ThriftServerBusyException busy) {
+      this.busy = busy;
+      return this;
+    }
+
+    public void unsetBusy() {
+      this.busy = null;
+    }
+
+    /** Returns true if field busy is set (has been assigned a value) and false otherwise */
+    public boolean isSetBusy() {
+      return this.busy != null;
+    }
+
+    public void setBusyIsSet(boolean value) {
+      if (!value) {
+        this.busy = null;
+      }
+    }
+
     @Override
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
@@ -1484,7 +11705,15 @@ public class InternalCRM {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((java.util.List<InternalLeadDTO>)value);
+          setSuccess((InternalBatchResult)value);
+        }
+        break;
+
+      case BUSY:
+        if (value == null) {
+          unsetBusy();
+        } else {
+          setBusy((ThriftServerBusyException)value);
         }
         break;
 
@@ -1498,6 +11727,9 @@ public class InternalCRM {
       case SUCCESS:
         return getSuccess();
 
+      case BUSY:
+        return getBusy();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -1512,18 +11744,20 @@ public class InternalCRM {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
+      case BUSY:
+        return isSetBusy();
       }
       throw new java.lang.IllegalStateException();
     }
 
     @Override
     public boolean equals(java.lang.Object that) {
-      if (that instanceof findLeads_result)
-        return this.equals((findLeads_result)that);
+      if (that instanceof deleteLeads_result)
+        return this.equals((deleteLeads_result)that);
       return false;
     }
 
-    public boolean equals(findLeads_result that) {
+    public boolean equals(deleteLeads_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -1538,6 +11772,15 @@ public class InternalCRM {
           return false;
       }
 
+      boolean this_present_busy = true && this.isSetBusy();
+      boolean that_present_busy = true && that.isSetBusy();
+      if (this_present_busy || that_present_busy) {
+        if (!(this_present_busy && that_present_busy))
+          return false;
+        if (!this.busy.equals(that.busy))
+          return false;
+      }
+
       return true;
     }
 
@@ -1549,11 +11792,15 @@ public class InternalCRM {
       if (isSetSuccess())
         hashCode = hashCode * 8191 + success.hashCode();
 
+      hashCode = hashCode * 8191 + ((isSetBusy()) ? 131071 : 524287);
+      if (isSetBusy())
+        hashCode = hashCode * 8191 + busy.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(findLeads_result other) {
+    public int compareTo(deleteLeads_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -1570,6 +11817,16 @@ public class InternalCRM {
           return lastComparison;
         }
       }
+      lastComparison = java.lang.Boolean.compare(isSetBusy(), other.isSetBusy());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBusy()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.busy, other.busy);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -1590,7 +11847,7 @@ public class InternalCRM {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("findLeads_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("deleteLeads_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -1600,6 +11857,14 @@ public class InternalCRM {
         sb.append(this.success);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("busy:");
+      if (this.busy == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.busy);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -1607,6 +11872,9 @@ public class InternalCRM {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -1625,45 +11893,44 @@ public class InternalCRM {
       }
     }
 
-    private static class findLeads_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class deleteLeads_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public findLeads_resultStandardScheme getScheme() {
-        return new findLeads_resultStandardScheme();
+      public deleteLeads_resultStandardScheme getScheme() {
+        return new deleteLeads_resultStandardScheme();
       }
     }
 
-    private static class findLeads_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<findLeads_result> {
+    private static class deleteLeads_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<deleteLeads_result> {
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol iprot, findLeads_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteLeads_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
         {
           schemeField = iprot.readFieldBegin();
           if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
-            break;
-          }
-          switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list0 = iprot.readListBegin();
-                  struct.success = new java.util.ArrayList<InternalLeadDTO>(_list0.size);
-                  @org.apache.thrift.annotation.Nullable InternalLeadDTO _elem1;
-                  for (int _i2 = 0; _i2 < _list0.size; ++_i2)
-                  {
-                    _elem1 = new InternalLeadDTO();
-                    _elem1.read(iprot);
-                    struct.success.add(_elem1);
-                  }
-                  iprot.readListEnd();
-                }
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new InternalBatchResult();
+                struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 9: // BUSY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.busy = new ThriftServerBusyException();
+                struct.busy.read(iprot);
+                struct.setBusyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -1676,20 +11943,18 @@ public class InternalCRM {
       }
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol oprot, findLeads_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteLeads_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (InternalLeadDTO _iter3 : struct.success)
-            {
-              _iter3.write(oprot);
-            }
-            oprot.writeListEnd();
-          }
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.busy != null) {
+          oprot.writeFieldBegin(BUSY_FIELD_DESC);
+          struct.busy.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -1698,52 +11963,48 @@ public class InternalCRM {
 
     }
 
-    private static class findLeads_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class deleteLeads_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public findLeads_resultTupleScheme getScheme() {
-        return new findLeads_resultTupleScheme();
+      public deleteLeads_resultTupleScheme getScheme() {
+        return new deleteLeads_resultTupleScheme();
       }
     }
 
-    private static class findLeads_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<findLeads_result> {
+    private static class deleteLeads_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<deleteLeads_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, findLeads_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, deleteLeads_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetBusy()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (InternalLeadDTO _iter4 : struct.success)
-            {
-              _iter4.write(oprot);
-            }
-          }
+          struct.success.write(oprot);
+        }
+        if (struct.isSetBusy()) {
+          struct.busy.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, findLeads_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, deleteLeads_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list5 = iprot.readListBegin(org.apache.thrift.protocol.TType.STRUCT);
-            struct.success = new java.util.ArrayList<InternalLeadDTO>(_list5.size);
-            @org.apache.thrift.annotation.Nullable InternalLeadDTO _elem6;
-            for (int _i7 = 0; _i7 < _list5.size; ++_i7)
-            {
-              _elem6 = new InternalLeadDTO();
-              _elem6.read(iprot);
-              struct.success.add(_elem6);
-            }
-          }
+          struct.success = new InternalBatchResult();
+          struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.busy = new ThriftServerBusyException();
+          struct.busy.read(iprot);
+          struct.setBusyIsSet(true);
+        }
       }
     }
 
@@ -1753,22 +12014,25 @@ public class InternalCRM {
   }
 
   @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-  public static class findLeadsByDate_args implements org.apache.thrift.TBase<findLeadsByDate_args, findLeadsByDate_args._Fields>, java.io.Serializable, Cloneable, Comparable<findLeadsByDate_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("findLeadsByDate_args");
+  public static class countLeads_args implements org.apache.thrift.TBase<countLeads_args, countLeads_args._Fields>, java.io.Serializable, Cloneable, Comparable<countLeads_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("countLeads_args");
 
-    private static final org.apache.thrift.protocol.TField START_DATE_FIELD_DESC = new org.apache.thrift.protocol.TField("startDate", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField END_DATE_FIELD_DESC = new org.apache.thrift.protocol.TField("endDate", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField LOW_ANNUAL_REVENUE_FIELD_DESC = new org.apache.thrift.protocol.TField("lowAnnualRevenue", org.apache.thrift.protocol.TType.DOUBLE, (short)1);
+    private static final org.apache.thrift.protocol.TField HIGH_ANNUAL_REVENUE_FIELD_DESC = new org.apache.thrift.protocol.TField("highAnnualRevenue", org.apache.thrift.protocol.TType.DOUBLE, (short)2);
+    private static final org.apache.thrift.protocol.TField STATE_FIELD_DESC = new org.apache.thrift.protocol.TField("state", org.apache.thrift.protocol.TType.STRING, (short)3);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new findLeadsByDate_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new findLeadsByDate_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new countLeads_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new countLeads_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.lang.String startDate; // required
-    public @org.apache.thrift.annotation.Nullable java.lang.String endDate; // required
+    public double lowAnnualRevenue; // required
+    public double highAnnualRevenue; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String state; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      START_DATE((short)1, "startDate"),
-      END_DATE((short)2, "endDate");
+      LOW_ANNUAL_REVENUE((short)1, "lowAnnualRevenue"),
+      HIGH_ANNUAL_REVENUE((short)2, "highAnnualRevenue"),
+      STATE((short)3, "state");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -1784,10 +12048,12 @@ public class InternalCRM {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // START_DATE
-            return START_DATE;
-          case 2: // END_DATE
-            return END_DATE;
+          case 1: // LOW_ANNUAL_REVENUE
+            return LOW_ANNUAL_REVENUE;
+          case 2: // HIGH_ANNUAL_REVENUE
+            return HIGH_ANNUAL_REVENUE;
+          case 3: // STATE
+            return STATE;
           default:
             return null;
         }
@@ -1831,118 +12097,159 @@ public class InternalCRM {
     }
 
     // isset id assignments
+    private static final int __LOWANNUALREVENUE_ISSET_ID = 0;
+    private static final int __HIGHANNUALREVENUE_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.START_DATE, new org.apache.thrift.meta_data.FieldMetaData("startDate", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.END_DATE, new org.apache.thrift.meta_data.FieldMetaData("endDate", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.LOW_ANNUAL_REVENUE, new org.apache.thrift.meta_data.FieldMetaData("lowAnnualRevenue", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+      tmpMap.put(_Fields.HIGH_ANNUAL_REVENUE, new org.apache.thrift.meta_data.FieldMetaData("highAnnualRevenue", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+      tmpMap.put(_Fields.STATE, new org.apache.thrift.meta_data.FieldMetaData("state", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(findLeadsByDate_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(countLeads_args.class, metaDataMap);
     }
 
-    public findLeadsByDate_args() {
+    public countLeads_args() {
     }
 
-    public findLeadsByDate_args(
-      java.lang.String startDate,
-      java.lang.String endDate)
+    public countLeads_args(
+      double lowAnnualRevenue,
+      double highAnnualRevenue,
+      java.lang.String state)
     {
       this();
-      this.startDate = startDate;
-      this.endDate = endDate;
+      this.lowAnnualRevenue = lowAnnualRevenue;
+      setLowAnnualRevenueIsSet(true);
+      this.highAnnualRevenue = highAnnualRevenue;
+      setHighAnnualRevenueIsSet(true);
+      this.state = state;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public findLeadsByDate_args(findLeadsByDate_args other) {
-      if (other.isSetStartDate()) {
-        this.startDate = other.startDate;
-      }
-      if (other.isSetEndDate()) {
-        this.endDate = other.endDate;
+    public countLeads_args(countLeads_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.lowAnnualRevenue = other.lowAnnualRevenue;
+      this.highAnnualRevenue = other.highAnnualRevenue;
+      if (other.isSetState()) {
+        this.state = other.state;
       }
     }
 
     @Override
-    public findLeadsByDate_args deepCopy() {
-      return new findLeadsByDate_args(this);
+    public countLeads_args deepCopy() {
+      return new countLeads_args(this);
     }
 
     @Override
     public void clear() {
-      this.startDate = null;
-      this.endDate = null;
+      setLowAnnualRevenueIsSet(false);
+      this.lowAnnualRevenue = 0.0;
+      setHighAnnualRevenueIsSet(false);
+      this.highAnnualRevenue = 0.0;
+      this.state = null;
     }
 
-    @org.apache.thrift.annotation.Nullable
-    public java.lang.String getStartDate() {
-      return this.startDate;
+    public double getLowAnnualRevenue() {
+      return this.lowAnnualRevenue;
     }
 
-    public findLeadsByDate_args setStartDate(@org.apache.thrift.annotation.Nullable java.lang.String startDate) {
-      this.startDate = startDate;
+    public countLeads_args setLowAnnualRevenue(double lowAnnualRevenue) {
+      this.lowAnnualRevenue = lowAnnualRevenue;
+      setLowAnnualRevenueIsSet(true);
       return this;
     }
 
-    public void unsetStartDate() {
-      this.startDate = null;
+    public void unsetLowAnnualRevenue() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __LOWANNUALREVENUE_ISSET_ID);
     }
 
-    /** Returns true if field startDate is set (has been assigned a value) and false otherwise */
-    public boolean isSetStartDate() {
-      return this.startDate != null;
+    /** Returns true if field lowAnnualRevenue is set (has been assigned a value) and false otherwise */
+    public boolean isSetLowAnnualRevenue() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __LOWANNUALREVENUE_ISSET_ID);
     }
 
-    public void setStartDateIsSet(boolean value) {
-      if (!value) {
-        this.startDate = null;
-      }
+    public void setLowAnnualRevenueIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __LOWANNUALREVENUE_ISSET_ID, value);
+    }
+
+    public double getHighAnnualRevenue() {
+      return this.highAnnualRevenue;
+    }
+
+    public countLeads_args setHighAnnualRevenue(double highAnnualRevenue) {
+      this.highAnnualRevenue = highAnnualRevenue;
+      setHighAnnualRevenueIsSet(true);
+      return this;
+    }
+
+    public void unsetHighAnnualRevenue() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __HIGHANNUALREVENUE_ISSET_ID);
+    }
+
+    /** Returns true if field highAnnualRevenue is set (has been assigned a value) and false otherwise */
+    public boolean isSetHighAnnualRevenue() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __HIGHANNUALREVENUE_ISSET_ID);
+    }
+
+    public void setHighAnnualRevenueIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __HIGHANNUALREVENUE_ISSET_ID, value);
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.lang.String getEndDate() {
-      return this.endDate;
+    public java.lang.String getState() {
+      return this.state;
     }
 
-    public findLeadsByDate_args setEndDate(@org.apache.thrift.annotation.Nullable java.lang.String endDate) {
-      this.endDate = endDate;
+    public countLeads_args setState(@org.apache.thrift.annotation.Nullable java.lang.String state) {
+      this.state = state;
       return this;
     }
 
-    public void unsetEndDate() {
-      this.endDate = null;
+    public void unsetState() {
+      this.state = null;
     }
 
-    /** Returns true if field endDate is set (has been assigned a value) and false otherwise */
-    public boolean isSetEndDate() {
-      return this.endDate != null;
+    /** Returns true if field state is set (has been assigned a value) and false otherwise */
+    public boolean isSetState() {
+      return this.state != null;
     }
 
-    public void setEndDateIsSet(boolean value) {
+    public void setStateIsSet(boolean value) {
       if (!value) {
-        this.endDate = null;
+        this.state = null;
       }
     }
 
     @Override
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case START_DATE:
+      case LOW_ANNUAL_REVENUE:
         if (value == null) {
-          unsetStartDate();
+          unsetLowAnnualRevenue();
         } else {
-          setStartDate((java.lang.String)value);
+          setLowAnnualRevenue((java.lang.Double)value);
         }
         break;
 
-      case END_DATE:
+      case HIGH_ANNUAL_REVENUE:
         if (value == null) {
-          unsetEndDate();
+          unsetHighAnnualRevenue();
         } else {
-          setEndDate((java.lang.String)value);
+          setHighAnnualRevenue((java.lang.Double)value);
+        }
+        break;
+
+      case STATE:
+        if (value == null) {
+          unsetState();
+        } else {
+          setState((java.lang.String)value);
         }
         break;
 
@@ -1953,11 +12260,14 @@ public class InternalCRM {
     @Override
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case START_DATE:
-        return getStartDate();
+      case LOW_ANNUAL_REVENUE:
+        return getLowAnnualRevenue();
 
-      case END_DATE:
-        return getEndDate();
+      case HIGH_ANNUAL_REVENUE:
+        return getHighAnnualRevenue();
+
+      case STATE:
+        return getState();
 
       }
       throw new java.lang.IllegalStateException();
@@ -1971,42 +12281,53 @@ public class InternalCRM {
       }
 
       switch (field) {
-      case START_DATE:
-        return isSetStartDate();
-      case END_DATE:
-        return isSetEndDate();
+      case LOW_ANNUAL_REVENUE:
+        return isSetLowAnnualRevenue();
+      case HIGH_ANNUAL_REVENUE:
+        return isSetHighAnnualRevenue();
+      case STATE:
+        return isSetState();
       }
       throw new java.lang.IllegalStateException();
     }
 
     @Override
     public boolean equals(java.lang.Object that) {
-      if (that instanceof findLeadsByDate_args)
-        return this.equals((findLeadsByDate_args)that);
+      if (that instanceof countLeads_args)
+        return this.equals((countLeads_args)that);
       return false;
     }
 
-    public boolean equals(findLeadsByDate_args that) {
+    public boolean equals(countLeads_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_startDate = true && this.isSetStartDate();
-      boolean that_present_startDate = true && that.isSetStartDate();
-      if (this_present_startDate || that_present_startDate) {
-        if (!(this_present_startDate && that_present_startDate))
+      boolean this_present_lowAnnualRevenue = true;
+      boolean that_present_lowAnnualRevenue = true;
+      if (this_present_lowAnnualRevenue || that_present_lowAnnualRevenue) {
+        if (!(this_present_lowAnnualRevenue && that_present_lowAnnualRevenue))
           return false;
-        if (!this.startDate.equals(that.startDate))
+        if (this.lowAnnualRevenue != that.lowAnnualRevenue)
           return false;
       }
 
-      boolean this_present_endDate = true && this.isSetEndDate();
-      boolean that_present_endDate = true && that.isSetEndDate();
-      if (this_present_endDate || that_present_endDate) {
-        if (!(this_present_endDate && that_present_endDate))
+      boolean this_present_highAnnualRevenue = true;
+      boolean that_present_highAnnualRevenue = true;
+      if (this_present_highAnnualRevenue || that_present_highAnnualRevenue) {
+        if (!(this_present_highAnnualRevenue && that_present_highAnnualRevenue))
+          return false;
+        if (this.highAnnualRevenue != that.highAnnualRevenue)
+          return false;
+      }
+
+      boolean this_present_state = true && this.isSetState();
+      boolean that_present_state = true && that.isSetState();
+      if (this_present_state || that_present_state) {
+        if (!(this_present_state && that_present_state))
           return false;
-        if (!this.endDate.equals(that.endDate))
+        if (!this.state.equals(that.state))
           return false;
       }
 
@@ -2017,41 +12338,51 @@ public class InternalCRM {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetStartDate()) ? 131071 : 524287);
-      if (isSetStartDate())
-        hashCode = hashCode * 8191 + startDate.hashCode();
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(lowAnnualRevenue);
 
-      hashCode = hashCode * 8191 + ((isSetEndDate()) ? 131071 : 524287);
-      if (isSetEndDate())
-        hashCode = hashCode * 8191 + endDate.hashCode();
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(highAnnualRevenue);
+
+      hashCode = hashCode * 8191 + ((isSetState()) ? 131071 : 524287);
+      if (isSetState())
+        hashCode = hashCode * 8191 + state.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(findLeadsByDate_args other) {
+    public int compareTo(countLeads_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.compare(isSetStartDate(), other.isSetStartDate());
+      lastComparison = java.lang.Boolean.compare(isSetLowAnnualRevenue(), other.isSetLowAnnualRevenue());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetStartDate()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.startDate, other.startDate);
+      if (isSetLowAnnualRevenue()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.lowAnnualRevenue, other.lowAnnualRevenue);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.compare(isSetEndDate(), other.isSetEndDate());
+      lastComparison = java.lang.Boolean.compare(isSetHighAnnualRevenue(), other.isSetHighAnnualRevenue());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEndDate()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.endDate, other.endDate);
+      if (isSetHighAnnualRevenue()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.highAnnualRevenue, other.highAnnualRevenue);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetState(), other.isSetState());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetState()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.state, other.state);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -2077,22 +12408,22 @@ public class InternalCRM {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("findLeadsByDate_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("countLeads_args(");
       boolean first = true;
 
-      sb.append("startDate:");
-      if (this.startDate == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.startDate);
-      }
+      sb.append("lowAnnualRevenue:");
+      sb.append(this.lowAnnualRevenue);
       first = false;
       if (!first) sb.append(", ");
-      sb.append("endDate:");
-      if (this.endDate == null) {
+      sb.append("highAnnualRevenue:");
+      sb.append(this.highAnnualRevenue);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("state:");
+      if (this.state == null) {
         sb.append("null");
       } else {
-        sb.append(this.endDate);
+        sb.append(this.state);
       }
       first = false;
       sb.append(")");
@@ -2114,23 +12445,25 @@ public class InternalCRM {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class findLeadsByDate_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class countLeads_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public findLeadsByDate_argsStandardScheme getScheme() {
-        return new findLeadsByDate_argsStandardScheme();
+      public countLeads_argsStandardScheme getScheme() {
+        return new countLeads_argsStandardScheme();
       }
     }
 
-    private static class findLeadsByDate_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<findLeadsByDate_args> {
+    private static class countLeads_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<countLeads_args> {
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol iprot, findLeadsByDate_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, countLeads_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2140,18 +12473,26 @@ public class InternalCRM {
             break;
           }
           switch (schemeField.id) {
-            case 1: // START_DATE
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.startDate = iprot.readString();
-                struct.setStartDateIsSet(true);
+            case 1: // LOW_ANNUAL_REVENUE
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.lowAnnualRevenue = iprot.readDouble();
+                struct.setLowAnnualRevenueIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // END_DATE
+            case 2: // HIGH_ANNUAL_REVENUE
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.highAnnualRevenue = iprot.readDouble();
+                struct.setHighAnnualRevenueIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // STATE
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.endDate = iprot.readString();
-                struct.setEndDateIsSet(true);
+                struct.state = iprot.readString();
+                struct.setStateIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -2168,18 +12509,19 @@ public class InternalCRM {
       }
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol oprot, findLeadsByDate_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, countLeads_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.startDate != null) {
-          oprot.writeFieldBegin(START_DATE_FIELD_DESC);
-          oprot.writeString(struct.startDate);
-          oprot.writeFieldEnd();
-        }
-        if (struct.endDate != null) {
-          oprot.writeFieldBegin(END_DATE_FIELD_DESC);
-          oprot.writeString(struct.endDate);
+        oprot.writeFieldBegin(LOW_ANNUAL_REVENUE_FIELD_DESC);
+        oprot.writeDouble(struct.lowAnnualRevenue);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(HIGH_ANNUAL_REVENUE_FIELD_DESC);
+        oprot.writeDouble(struct.highAnnualRevenue);
+        oprot.writeFieldEnd();
+        if (struct.state != null) {
+          oprot.writeFieldBegin(STATE_FIELD_DESC);
+          oprot.writeString(struct.state);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -2188,45 +12530,55 @@ public class InternalCRM {
 
     }
 
-    private static class findLeadsByDate_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class countLeads_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public findLeadsByDate_argsTupleScheme getScheme() {
-        return new findLeadsByDate_argsTupleScheme();
+      public countLeads_argsTupleScheme getScheme() {
+        return new countLeads_argsTupleScheme();
       }
     }
 
-    private static class findLeadsByDate_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<findLeadsByDate_args> {
+    private static class countLeads_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<countLeads_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, findLeadsByDate_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, countLeads_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetStartDate()) {
+        if (struct.isSetLowAnnualRevenue()) {
           optionals.set(0);
         }
-        if (struct.isSetEndDate()) {
+        if (struct.isSetHighAnnualRevenue()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetStartDate()) {
-          oprot.writeString(struct.startDate);
+        if (struct.isSetState()) {
+          optionals.set(2);
         }
-        if (struct.isSetEndDate()) {
-          oprot.writeString(struct.endDate);
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetLowAnnualRevenue()) {
+          oprot.writeDouble(struct.lowAnnualRevenue);
+        }
+        if (struct.isSetHighAnnualRevenue()) {
+          oprot.writeDouble(struct.highAnnualRevenue);
+        }
+        if (struct.isSetState()) {
+          oprot.writeString(struct.state);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, findLeadsByDate_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, countLeads_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(2);
+        java.util.BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.startDate = iprot.readString();
-          struct.setStartDateIsSet(true);
+          struct.lowAnnualRevenue = iprot.readDouble();
+          struct.setLowAnnualRevenueIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.endDate = iprot.readString();
-          struct.setEndDateIsSet(true);
+          struct.highAnnualRevenue = iprot.readDouble();
+          struct.setHighAnnualRevenueIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.state = iprot.readString();
+          struct.setStateIsSet(true);
         }
       }
     }
@@ -2237,19 +12589,28 @@ public class InternalCRM {
   }
 
   @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-  public static class findLeadsByDate_result implements org.apache.thrift.TBase<findLeadsByDate_result, findLeadsByDate_result._Fields>, java.io.Serializable, Cloneable, Comparable<findLeadsByDate_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("findLeadsByDate_result");
+  public static class countLeads_result implements org.apache.thrift.TBase<countLeads_result, countLeads_result._Fields>, java.io.Serializable, Cloneable, Comparable<countLeads_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("countLeads_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
+    private static final org.apache.thrift.protocol.TField E1_FIELD_DESC = new org.apache.thrift.protocol.TField("e1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E2_FIELD_DESC = new org.apache.thrift.protocol.TField("e2", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField BUSY_FIELD_DESC = new org.apache.thrift.protocol.TField("busy", org.apache.thrift.protocol.TType.STRUCT, (short)9);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new findLeadsByDate_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new findLeadsByDate_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new countLeads_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new countLeads_resultTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.util.List<InternalLeadDTO> success; // required
+    public long success; // required
+    public @org.apache.thrift.annotation.Nullable ThriftWrongOrderForRevenueException e1; // required
+    public @org.apache.thrift.annotation.Nullable ThriftWrongStateException e2; // required
+    public @org.apache.thrift.annotation.Nullable ThriftServerBusyException busy; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+      SUCCESS((short)0, "success"),
+      E1((short)1, "e1"),
+      E2((short)2, "e2"),
+      BUSY((short)9, "busy");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -2267,6 +12628,12 @@ public class InternalCRM {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
+          case 1: // E1
+            return E1;
+          case 2: // E2
+            return E2;
+          case 9: // BUSY
+            return BUSY;
           default:
             return null;
         }
@@ -2310,98 +12677,201 @@ public class InternalCRM {
     }
 
     // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InternalLeadDTO.class))));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.E1, new org.apache.thrift.meta_data.FieldMetaData("e1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftWrongOrderForRevenueException.class)));
+      tmpMap.put(_Fields.E2, new org.apache.thrift.meta_data.FieldMetaData("e2", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftWrongStateException.class)));
+      tmpMap.put(_Fields.BUSY, new org.apache.thrift.meta_data.FieldMetaData("busy", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftServerBusyException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(findLeadsByDate_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(countLeads_result.class, metaDataMap);
     }
 
-    public findLeadsByDate_result() {
+    public countLeads_result() {
     }
 
-    public findLeadsByDate_result(
-      java.util.List<InternalLeadDTO> success)
+    public countLeads_result(
+      long success,
+      ThriftWrongOrderForRevenueException e1,
+      ThriftWrongStateException e2,
+      ThriftServerBusyException busy)
     {
       this();
       this.success = success;
+      setSuccessIsSet(true);
+      this.e1 = e1;
+      this.e2 = e2;
+      this.busy = busy;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public findLeadsByDate_result(findLeadsByDate_result other) {
-      if (other.isSetSuccess()) {
-        java.util.List<InternalLeadDTO> __this__success = new java.util.ArrayList<InternalLeadDTO>(other.success.size());
-        for (InternalLeadDTO other_element : other.success) {
-          __this__success.add(new InternalLeadDTO(other_element));
-        }
-        this.success = __this__success;
+    public countLeads_result(countLeads_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+      if (other.isSetE1()) {
+        this.e1 = new ThriftWrongOrderForRevenueException(other.e1);
+      }
+      if (other.isSetE2()) {
+        this.e2 = new ThriftWrongStateException(other.e2);
+      }
+      if (other.isSetBusy()) {
+        this.busy = new ThriftServerBusyException(other.busy);
       }
     }
 
     @Override
-    public findLeadsByDate_result deepCopy() {
-      return new findLeadsByDate_result(this);
+    public countLeads_result deepCopy() {
+      return new countLeads_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
+      setSuccessIsSet(false);
+      this.success = 0;
+      this.e1 = null;
+      this.e2 = null;
+      this.busy = null;
     }
 
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
+    public long getSuccess() {
+      return this.success;
+    }
+
+    public countLeads_result setSuccess(long success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.util.Iterator<InternalLeadDTO> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
+    public ThriftWrongOrderForRevenueException getE1() {
+      return this.e1;
     }
 
-    public void addToSuccess(InternalLeadDTO elem) {
-      if (this.success == null) {
-        this.success = new java.util.ArrayList<InternalLeadDTO>();
+    public countLeads_result setE1(@org.apache.thrift.annotation.Nullable ThriftWrongOrderForRevenueException e1) {
+      this.e1 = e1;
+      return this;
+    }
+
+    public void unsetE1() {
+      this.e1 = null;
+    }
+
+    /** Returns true if field e1 is set (has been assigned a value) and false otherwise */
+    public boolean isSetE1() {
+      return this.e1 != null;
+    }
+
+    public void setE1IsSet(boolean value) {
+      if (!value) {
+        this.e1 = null;
       }
-      this.success.add(elem);
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.util.List<InternalLeadDTO> getSuccess() {
-      return this.success;
+    public ThriftWrongStateException getE2() {
+      return this.e2;
     }
 
-    public findLeadsByDate_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<InternalLeadDTO> success) {
-      this.success = success;
+    public countLeads_result setE2(@org.apache.thrift.annotation.Nullable ThriftWrongStateException e2) {
+      this.e2 = e2;
       return this;
     }
 
-    public void unsetSuccess() {
-      this.success = null;
+    public void unsetE2() {
+      this.e2 = null;
     }
 
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return this.success != null;
+    /** Returns true if field e2 is set (has been assigned a value) and false otherwise */
+    public boolean isSetE2() {
+      return this.e2 != null;
+    }
+
+    public void setE2IsSet(boolean value) {
+      if (!value) {
+        this.e2 = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ThriftServerBusyException getBusy() {
+      return this.busy;
+    }
+
+    public countLeads_result setBusy(@org.apache.thrift.annotation.Nullable ThriftServerBusyException busy) {
+      this.busy = busy;
+      return this;
+    }
+
+    public void unsetBusy() {
+      this.busy = null;
+    }
+
+    /** Returns true if field busy is set (has been assigned a value) and false otherwise */
+    public boolean isSetBusy() {
+      return this.busy != null;
+    }
+
+    public void setBusyIsSet(boolean value) {
+      if (!value) {
+        this.busy = null;
+      }
     }
 
-    public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
-    }
+    @Override
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.lang.Long)value);
+        }
+        break;
+
+      case E1:
+        if (value == null) {
+          unsetE1();
+        } else {
+          setE1((ThriftWrongOrderForRevenueException)value);
+        }
+        break;
+
+      case E2:
+        if (value == null) {
+          unsetE2();
+        } else {
+          setE2((ThriftWrongStateException)value);
+        }
+        break;
 
-    @Override
-    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
-      switch (field) {
-      case SUCCESS:
+      case BUSY:
         if (value == null) {
-          unsetSuccess();
+          unsetBusy();
         } else {
-          setSuccess((java.util.List<InternalLeadDTO>)value);
+          setBusy((ThriftServerBusyException)value);
         }
         break;
 
@@ -2415,6 +12885,15 @@ public class InternalCRM {
       case SUCCESS:
         return getSuccess();
 
+      case E1:
+        return getE1();
+
+      case E2:
+        return getE2();
+
+      case BUSY:
+        return getBusy();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -2429,29 +12908,62 @@ public class InternalCRM {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
+      case E1:
+        return isSetE1();
+      case E2:
+        return isSetE2();
+      case BUSY:
+        return isSetBusy();
       }
       throw new java.lang.IllegalStateException();
     }
 
     @Override
     public boolean equals(java.lang.Object that) {
-      if (that instanceof findLeadsByDate_result)
-        return this.equals((findLeadsByDate_result)that);
+      if (that instanceof countLeads_result)
+        return this.equals((countLeads_result)that);
       return false;
     }
 
-    public boolean equals(findLeadsByDate_result that) {
+    public boolean equals(countLeads_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
+      boolean this_present_success = true;
+      boolean that_present_success = true;
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (!this.success.equals(that.success))
+        if (this.success != that.success)
+          return false;
+      }
+
+      boolean this_present_e1 = true && this.isSetE1();
+      boolean that_present_e1 = true && that.isSetE1();
+      if (this_present_e1 || that_present_e1) {
+        if (!(this_present_e1 && that_present_e1))
+          return false;
+        if (!this.e1.equals(that.e1))
+          return false;
+      }
+
+      boolean this_present_e2 = true && this.isSetE2();
+      boolean that_present_e2 = true && that.isSetE2();
+      if (this_present_e2 || that_present_e2) {
+        if (!(this_present_e2 && that_present_e2))
+          return false;
+        if (!this.e2.equals(that.e2))
+          return false;
+      }
+
+      boolean this_present_busy = true && this.isSetBusy();
+      boolean that_present_busy = true && that.isSetBusy();
+      if (this_present_busy || that_present_busy) {
+        if (!(this_present_busy && that_present_busy))
+          return false;
+        if (!this.busy.equals(that.busy))
           return false;
       }
 
@@ -2462,15 +12974,25 @@ public class InternalCRM {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
-      if (isSetSuccess())
-        hashCode = hashCode * 8191 + success.hashCode();
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(success);
+
+      hashCode = hashCode * 8191 + ((isSetE1()) ? 131071 : 524287);
+      if (isSetE1())
+        hashCode = hashCode * 8191 + e1.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetE2()) ? 131071 : 524287);
+      if (isSetE2())
+        hashCode = hashCode * 8191 + e2.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetBusy()) ? 131071 : 524287);
+      if (isSetBusy())
+        hashCode = hashCode * 8191 + busy.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(findLeadsByDate_result other) {
+    public int compareTo(countLeads_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -2487,6 +13009,36 @@ public class InternalCRM {
           return lastComparison;
         }
       }
+      lastComparison = java.lang.Boolean.compare(isSetE1(), other.isSetE1());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE1()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e1, other.e1);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetE2(), other.isSetE2());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE2()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e2, other.e2);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetBusy(), other.isSetBusy());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBusy()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.busy, other.busy);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -2507,14 +13059,34 @@ public class InternalCRM {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("findLeadsByDate_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("countLeads_result(");
       boolean first = true;
 
       sb.append("success:");
-      if (this.success == null) {
+      sb.append(this.success);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e1:");
+      if (this.e1 == null) {
         sb.append("null");
       } else {
-        sb.append(this.success);
+        sb.append(this.e1);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e2:");
+      if (this.e2 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e2);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("busy:");
+      if (this.busy == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.busy);
       }
       first = false;
       sb.append(")");
@@ -2536,23 +13108,25 @@ public class InternalCRM {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class findLeadsByDate_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class countLeads_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public findLeadsByDate_resultStandardScheme getScheme() {
-        return new findLeadsByDate_resultStandardScheme();
+      public countLeads_resultStandardScheme getScheme() {
+        return new countLeads_resultStandardScheme();
       }
     }
 
-    private static class findLeadsByDate_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<findLeadsByDate_result> {
+    private static class countLeads_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<countLeads_result> {
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol iprot, findLeadsByDate_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, countLeads_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2563,24 +13137,40 @@ public class InternalCRM {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list8 = iprot.readListBegin();
-                  struct.success = new java.util.ArrayList<InternalLeadDTO>(_list8.size);
-                  @org.apache.thrift.annotation.Nullable InternalLeadDTO _elem9;
-                  for (int _i10 = 0; _i10 < _list8.size; ++_i10)
-                  {
-                    _elem9 = new InternalLeadDTO();
-                    _elem9.read(iprot);
-                    struct.success.add(_elem9);
-                  }
-                  iprot.readListEnd();
-                }
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.success = iprot.readI64();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 1: // E1
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e1 = new ThriftWrongOrderForRevenueException();
+                struct.e1.read(iprot);
+                struct.setE1IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // E2
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e2 = new ThriftWrongStateException();
+                struct.e2.read(iprot);
+                struct.setE2IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 9: // BUSY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.busy = new ThriftServerBusyException();
+                struct.busy.read(iprot);
+                struct.setBusyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -2593,20 +13183,28 @@ public class InternalCRM {
       }
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol oprot, findLeadsByDate_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, countLeads_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
+        if (struct.isSetSuccess()) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (InternalLeadDTO _iter11 : struct.success)
-            {
-              _iter11.write(oprot);
-            }
-            oprot.writeListEnd();
-          }
+          oprot.writeI64(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e1 != null) {
+          oprot.writeFieldBegin(E1_FIELD_DESC);
+          struct.e1.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e2 != null) {
+          oprot.writeFieldBegin(E2_FIELD_DESC);
+          struct.e2.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.busy != null) {
+          oprot.writeFieldBegin(BUSY_FIELD_DESC);
+          struct.busy.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -2615,52 +13213,69 @@ public class InternalCRM {
 
     }
 
-    private static class findLeadsByDate_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class countLeads_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public findLeadsByDate_resultTupleScheme getScheme() {
-        return new findLeadsByDate_resultTupleScheme();
+      public countLeads_resultTupleScheme getScheme() {
+        return new countLeads_resultTupleScheme();
       }
     }
 
-    private static class findLeadsByDate_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<findLeadsByDate_result> {
+    private static class countLeads_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<countLeads_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, findLeadsByDate_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, countLeads_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE1()) {
+          optionals.set(1);
+        }
+        if (struct.isSetE2()) {
+          optionals.set(2);
+        }
+        if (struct.isSetBusy()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
         if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (InternalLeadDTO _iter12 : struct.success)
-            {
-              _iter12.write(oprot);
-            }
-          }
+          oprot.writeI64(struct.success);
+        }
+        if (struct.isSetE1()) {
+          struct.e1.write(oprot);
+        }
+        if (struct.isSetE2()) {
+          struct.e2.write(oprot);
+        }
+        if (struct.isSetBusy()) {
+          struct.busy.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, findLeadsByDate_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, countLeads_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list13 = iprot.readListBegin(org.apache.thrift.protocol.TType.STRUCT);
-            struct.success = new java.util.ArrayList<InternalLeadDTO>(_list13.size);
-            @org.apache.thrift.annotation.Nullable InternalLeadDTO _elem14;
-            for (int _i15 = 0; _i15 < _list13.size; ++_i15)
-            {
-              _elem14 = new InternalLeadDTO();
-              _elem14.read(iprot);
-              struct.success.add(_elem14);
-            }
-          }
+          struct.success = iprot.readI64();
           struct.setSuccessIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.e1 = new ThriftWrongOrderForRevenueException();
+          struct.e1.read(iprot);
+          struct.setE1IsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.e2 = new ThriftWrongStateException();
+          struct.e2.read(iprot);
+          struct.setE2IsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.busy = new ThriftServerBusyException();
+          struct.busy.read(iprot);
+          struct.setBusyIsSet(true);
+        }
       }
     }
 
@@ -2670,19 +13285,25 @@ public class InternalCRM {
   }
 
   @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-  public static class createLead_args implements org.apache.thrift.TBase<createLead_args, createLead_args._Fields>, java.io.Serializable, Cloneable, Comparable<createLead_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createLead_args");
+  public static class revenueStats_args implements org.apache.thrift.TBase<revenueStats_args, revenueStats_args._Fields>, java.io.Serializable, Cloneable, Comparable<revenueStats_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("revenueStats_args");
 
-    private static final org.apache.thrift.protocol.TField LEAD_FIELD_DESC = new org.apache.thrift.protocol.TField("lead", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField LOW_ANNUAL_REVENUE_FIELD_DESC = new org.apache.thrift.protocol.TField("lowAnnualRevenue", org.apache.thrift.protocol.TType.DOUBLE, (short)1);
+    private static final org.apache.thrift.protocol.TField HIGH_ANNUAL_REVENUE_FIELD_DESC = new org.apache.thrift.protocol.TField("highAnnualRevenue", org.apache.thrift.protocol.TType.DOUBLE, (short)2);
+    private static final org.apache.thrift.protocol.TField STATE_FIELD_DESC = new org.apache.thrift.protocol.TField("state", org.apache.thrift.protocol.TType.STRING, (short)3);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new createLead_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new createLead_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new revenueStats_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new revenueStats_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable InternalLeadDTO lead; // required
+    public double lowAnnualRevenue; // required
+    public double highAnnualRevenue; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String state; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      LEAD((short)1, "lead");
+      LOW_ANNUAL_REVENUE((short)1, "lowAnnualRevenue"),
+      HIGH_ANNUAL_REVENUE((short)2, "highAnnualRevenue"),
+      STATE((short)3, "state");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -2698,8 +13319,12 @@ public class InternalCRM {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // LEAD
-            return LEAD;
+          case 1: // LOW_ANNUAL_REVENUE
+            return LOW_ANNUAL_REVENUE;
+          case 2: // HIGH_ANNUAL_REVENUE
+            return HIGH_ANNUAL_REVENUE;
+          case 3: // STATE
+            return STATE;
           default:
             return null;
         }
@@ -2731,89 +13356,171 @@ public class InternalCRM {
         _fieldName = fieldName;
       }
 
-      @Override
-      public short getThriftFieldId() {
-        return _thriftId;
-      }
+      @Override
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      @Override
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __LOWANNUALREVENUE_ISSET_ID = 0;
+    private static final int __HIGHANNUALREVENUE_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.LOW_ANNUAL_REVENUE, new org.apache.thrift.meta_data.FieldMetaData("lowAnnualRevenue", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+      tmpMap.put(_Fields.HIGH_ANNUAL_REVENUE, new org.apache.thrift.meta_data.FieldMetaData("highAnnualRevenue", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+      tmpMap.put(_Fields.STATE, new org.apache.thrift.meta_data.FieldMetaData("state", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(revenueStats_args.class, metaDataMap);
+    }
+
+    public revenueStats_args() {
+    }
+
+    public revenueStats_args(
+      double lowAnnualRevenue,
+      double highAnnualRevenue,
+      java.lang.String state)
+    {
+      this();
+      this.lowAnnualRevenue = lowAnnualRevenue;
+      setLowAnnualRevenueIsSet(true);
+      this.highAnnualRevenue = highAnnualRevenue;
+      setHighAnnualRevenueIsSet(true);
+      this.state = state;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public revenueStats_args(revenueStats_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.lowAnnualRevenue = other.lowAnnualRevenue;
+      this.highAnnualRevenue = other.highAnnualRevenue;
+      if (other.isSetState()) {
+        this.state = other.state;
+      }
+    }
+
+    @Override
+    public revenueStats_args deepCopy() {
+      return new revenueStats_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setLowAnnualRevenueIsSet(false);
+      this.lowAnnualRevenue = 0.0;
+      setHighAnnualRevenueIsSet(false);
+      this.highAnnualRevenue = 0.0;
+      this.state = null;
+    }
+
+    public double getLowAnnualRevenue() {
+      return this.lowAnnualRevenue;
+    }
+
+    public revenueStats_args setLowAnnualRevenue(double lowAnnualRevenue) {
+      this.lowAnnualRevenue = lowAnnualRevenue;
+      setLowAnnualRevenueIsSet(true);
+      return this;
+    }
+
+    public void unsetLowAnnualRevenue() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __LOWANNUALREVENUE_ISSET_ID);
+    }
 
-      @Override
-      public java.lang.String getFieldName() {
-        return _fieldName;
-      }
+    /** Returns true if field lowAnnualRevenue is set (has been assigned a value) and false otherwise */
+    public boolean isSetLowAnnualRevenue() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __LOWANNUALREVENUE_ISSET_ID);
     }
 
-    // isset id assignments
-    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
-    static {
-      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.LEAD, new org.apache.thrift.meta_data.FieldMetaData("lead", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InternalLeadDTO.class)));
-      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createLead_args.class, metaDataMap);
+    public void setLowAnnualRevenueIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __LOWANNUALREVENUE_ISSET_ID, value);
     }
 
-    public createLead_args() {
+    public double getHighAnnualRevenue() {
+      return this.highAnnualRevenue;
     }
 
-    public createLead_args(
-      InternalLeadDTO lead)
-    {
-      this();
-      this.lead = lead;
+    public revenueStats_args setHighAnnualRevenue(double highAnnualRevenue) {
+      this.highAnnualRevenue = highAnnualRevenue;
+      setHighAnnualRevenueIsSet(true);
+      return this;
     }
 
-    /**
-     * Performs a deep copy on <i>other</i>.
-     */
-    public createLead_args(createLead_args other) {
-      if (other.isSetLead()) {
-        this.lead = new InternalLeadDTO(other.lead);
-      }
+    public void unsetHighAnnualRevenue() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __HIGHANNUALREVENUE_ISSET_ID);
     }
 
-    @Override
-    public createLead_args deepCopy() {
-      return new createLead_args(this);
+    /** Returns true if field highAnnualRevenue is set (has been assigned a value) and false otherwise */
+    public boolean isSetHighAnnualRevenue() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __HIGHANNUALREVENUE_ISSET_ID);
     }
 
-    @Override
-    public void clear() {
-      this.lead = null;
+    public void setHighAnnualRevenueIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __HIGHANNUALREVENUE_ISSET_ID, value);
     }
 
     @org.apache.thrift.annotation.Nullable
-    public InternalLeadDTO getLead() {
-      return this.lead;
+    public java.lang.String getState() {
+      return this.state;
     }
 
-    public createLead_args setLead(@org.apache.thrift.annotation.Nullable InternalLeadDTO lead) {
-      this.lead = lead;
+    public revenueStats_args setState(@org.apache.thrift.annotation.Nullable java.lang.String state) {
+      this.state = state;
       return this;
     }
 
-    public void unsetLead() {
-      this.lead = null;
+    public void unsetState() {
+      this.state = null;
     }
 
-    /** Returns true if field lead is set (has been assigned a value) and false otherwise */
-    public boolean isSetLead() {
-      return this.lead != null;
+    /** Returns true if field state is set (has been assigned a value) and false otherwise */
+    public boolean isSetState() {
+      return this.state != null;
     }
 
-    public void setLeadIsSet(boolean value) {
+    public void setStateIsSet(boolean value) {
       if (!value) {
-        this.lead = null;
+        this.state = null;
       }
     }
 
     @Override
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case LEAD:
+      case LOW_ANNUAL_REVENUE:
         if (value == null) {
-          unsetLead();
+          unsetLowAnnualRevenue();
         } else {
-          setLead((InternalLeadDTO)value);
+          setLowAnnualRevenue((java.lang.Double)value);
+        }
+        break;
+
+      case HIGH_ANNUAL_REVENUE:
+        if (value == null) {
+          unsetHighAnnualRevenue();
+        } else {
+          setHighAnnualRevenue((java.lang.Double)value);
+        }
+        break;
+
+      case STATE:
+        if (value == null) {
+          unsetState();
+        } else {
+          setState((java.lang.String)value);
         }
         break;
 
@@ -2824,8 +13531,14 @@ public class InternalCRM {
     @Override
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case LEAD:
-        return getLead();
+      case LOW_ANNUAL_REVENUE:
+        return getLowAnnualRevenue();
+
+      case HIGH_ANNUAL_REVENUE:
+        return getHighAnnualRevenue();
+
+      case STATE:
+        return getState();
 
       }
       throw new java.lang.IllegalStateException();
@@ -2839,31 +13552,53 @@ public class InternalCRM {
       }
 
       switch (field) {
-      case LEAD:
-        return isSetLead();
+      case LOW_ANNUAL_REVENUE:
+        return isSetLowAnnualRevenue();
+      case HIGH_ANNUAL_REVENUE:
+        return isSetHighAnnualRevenue();
+      case STATE:
+        return isSetState();
       }
       throw new java.lang.IllegalStateException();
     }
 
     @Override
     public boolean equals(java.lang.Object that) {
-      if (that instanceof createLead_args)
-        return this.equals((createLead_args)that);
+      if (that instanceof revenueStats_args)
+        return this.equals((revenueStats_args)that);
       return false;
     }
 
-    public boolean equals(createLead_args that) {
+    public boolean equals(revenueStats_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_lead = true && this.isSetLead();
-      boolean that_present_lead = true && that.isSetLead();
-      if (this_present_lead || that_present_lead) {
-        if (!(this_present_lead && that_present_lead))
+      boolean this_present_lowAnnualRevenue = true;
+      boolean that_present_lowAnnualRevenue = true;
+      if (this_present_lowAnnualRevenue || that_present_lowAnnualRevenue) {
+        if (!(this_present_lowAnnualRevenue && that_present_lowAnnualRevenue))
           return false;
-        if (!this.lead.equals(that.lead))
+        if (this.lowAnnualRevenue != that.lowAnnualRevenue)
+          return false;
+      }
+
+      boolean this_present_highAnnualRevenue = true;
+      boolean that_present_highAnnualRevenue = true;
+      if (this_present_highAnnualRevenue || that_present_highAnnualRevenue) {
+        if (!(this_present_highAnnualRevenue && that_present_highAnnualRevenue))
+          return false;
+        if (this.highAnnualRevenue != that.highAnnualRevenue)
+          return false;
+      }
+
+      boolean this_present_state = true && this.isSetState();
+      boolean that_present_state = true && that.isSetState();
+      if (this_present_state || that_present_state) {
+        if (!(this_present_state && that_present_state))
+          return false;
+        if (!this.state.equals(that.state))
           return false;
       }
 
@@ -2874,27 +13609,51 @@ public class InternalCRM {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetLead()) ? 131071 : 524287);
-      if (isSetLead())
-        hashCode = hashCode * 8191 + lead.hashCode();
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(lowAnnualRevenue);
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(highAnnualRevenue);
+
+      hashCode = hashCode * 8191 + ((isSetState()) ? 131071 : 524287);
+      if (isSetState())
+        hashCode = hashCode * 8191 + state.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(createLead_args other) {
+    public int compareTo(revenueStats_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.compare(isSetLead(), other.isSetLead());
+      lastComparison = java.lang.Boolean.compare(isSetLowAnnualRevenue(), other.isSetLowAnnualRevenue());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetLead()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.lead, other.lead);
+      if (isSetLowAnnualRevenue()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.lowAnnualRevenue, other.lowAnnualRevenue);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetHighAnnualRevenue(), other.isSetHighAnnualRevenue());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetHighAnnualRevenue()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.highAnnualRevenue, other.highAnnualRevenue);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetState(), other.isSetState());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetState()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.state, other.state);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -2920,14 +13679,22 @@ public class InternalCRM {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("createLead_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("revenueStats_args(");
       boolean first = true;
 
-      sb.append("lead:");
-      if (this.lead == null) {
+      sb.append("lowAnnualRevenue:");
+      sb.append(this.lowAnnualRevenue);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("highAnnualRevenue:");
+      sb.append(this.highAnnualRevenue);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("state:");
+      if (this.state == null) {
         sb.append("null");
       } else {
-        sb.append(this.lead);
+        sb.append(this.state);
       }
       first = false;
       sb.append(")");
@@ -2937,9 +13704,6 @@ public class InternalCRM {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (lead != null) {
-        lead.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -2952,23 +13716,25 @@ public class InternalCRM {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class createLead_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class revenueStats_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public createLead_argsStandardScheme getScheme() {
-        return new createLead_argsStandardScheme();
+      public revenueStats_argsStandardScheme getScheme() {
+        return new revenueStats_argsStandardScheme();
       }
     }
 
-    private static class createLead_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<createLead_args> {
+    private static class revenueStats_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<revenueStats_args> {
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol iprot, createLead_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, revenueStats_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2978,11 +13744,26 @@ public class InternalCRM {
             break;
           }
           switch (schemeField.id) {
-            case 1: // LEAD
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.lead = new InternalLeadDTO();
-                struct.lead.read(iprot);
-                struct.setLeadIsSet(true);
+            case 1: // LOW_ANNUAL_REVENUE
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.lowAnnualRevenue = iprot.readDouble();
+                struct.setLowAnnualRevenueIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // HIGH_ANNUAL_REVENUE
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.highAnnualRevenue = iprot.readDouble();
+                struct.setHighAnnualRevenueIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // STATE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.state = iprot.readString();
+                struct.setStateIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -2999,13 +13780,19 @@ public class InternalCRM {
       }
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol oprot, createLead_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, revenueStats_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.lead != null) {
-          oprot.writeFieldBegin(LEAD_FIELD_DESC);
-          struct.lead.write(oprot);
+        oprot.writeFieldBegin(LOW_ANNUAL_REVENUE_FIELD_DESC);
+        oprot.writeDouble(struct.lowAnnualRevenue);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(HIGH_ANNUAL_REVENUE_FIELD_DESC);
+        oprot.writeDouble(struct.highAnnualRevenue);
+        oprot.writeFieldEnd();
+        if (struct.state != null) {
+          oprot.writeFieldBegin(STATE_FIELD_DESC);
+          oprot.writeString(struct.state);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -3014,36 +13801,55 @@ public class InternalCRM {
 
     }
 
-    private static class createLead_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class revenueStats_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public createLead_argsTupleScheme getScheme() {
-        return new createLead_argsTupleScheme();
+      public revenueStats_argsTupleScheme getScheme() {
+        return new revenueStats_argsTupleScheme();
       }
     }
 
-    private static class createLead_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<createLead_args> {
+    private static class revenueStats_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<revenueStats_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, createLead_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, revenueStats_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetLead()) {
+        if (struct.isSetLowAnnualRevenue()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetLead()) {
-          struct.lead.write(oprot);
+        if (struct.isSetHighAnnualRevenue()) {
+          optionals.set(1);
+        }
+        if (struct.isSetState()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetLowAnnualRevenue()) {
+          oprot.writeDouble(struct.lowAnnualRevenue);
+        }
+        if (struct.isSetHighAnnualRevenue()) {
+          oprot.writeDouble(struct.highAnnualRevenue);
+        }
+        if (struct.isSetState()) {
+          oprot.writeString(struct.state);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, createLead_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, revenueStats_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.lead = new InternalLeadDTO();
-          struct.lead.read(iprot);
-          struct.setLeadIsSet(true);
+          struct.lowAnnualRevenue = iprot.readDouble();
+          struct.setLowAnnualRevenueIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.highAnnualRevenue = iprot.readDouble();
+          struct.setHighAnnualRevenueIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.state = iprot.readString();
+          struct.setStateIsSet(true);
         }
       }
     }
@@ -3054,19 +13860,28 @@ public class InternalCRM {
   }
 
   @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-  public static class createLead_result implements org.apache.thrift.TBase<createLead_result, createLead_result._Fields>, java.io.Serializable, Cloneable, Comparable<createLead_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createLead_result");
+  public static class revenueStats_result implements org.apache.thrift.TBase<revenueStats_result, revenueStats_result._Fields>, java.io.Serializable, Cloneable, Comparable<revenueStats_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("revenueStats_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E1_FIELD_DESC = new org.apache.thrift.protocol.TField("e1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E2_FIELD_DESC = new org.apache.thrift.protocol.TField("e2", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField BUSY_FIELD_DESC = new org.apache.thrift.protocol.TField("busy", org.apache.thrift.protocol.TType.STRUCT, (short)9);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new createLead_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new createLead_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new revenueStats_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new revenueStats_resultTupleSchemeFactory();
 
-    public long success; // required
+    public @org.apache.thrift.annotation.Nullable InternalRevenueStats success; // required
+    public @org.apache.thrift.annotation.Nullable ThriftWrongOrderForRevenueException e1; // required
+    public @org.apache.thrift.annotation.Nullable ThriftWrongStateException e2; // required
+    public @org.apache.thrift.annotation.Nullable ThriftServerBusyException busy; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+      SUCCESS((short)0, "success"),
+      E1((short)1, "e1"),
+      E2((short)2, "e2"),
+      BUSY((short)9, "busy");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -3084,6 +13899,12 @@ public class InternalCRM {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
+          case 1: // E1
+            return E1;
+          case 2: // E2
+            return E2;
+          case 9: // BUSY
+            return BUSY;
           default:
             return null;
         }
@@ -3127,68 +13948,166 @@ public class InternalCRM {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InternalRevenueStats.class)));
+      tmpMap.put(_Fields.E1, new org.apache.thrift.meta_data.FieldMetaData("e1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftWrongOrderForRevenueException.class)));
+      tmpMap.put(_Fields.E2, new org.apache.thrift.meta_data.FieldMetaData("e2", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftWrongStateException.class)));
+      tmpMap.put(_Fields.BUSY, new org.apache.thrift.meta_data.FieldMetaData("busy", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftServerBusyException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createLead_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(revenueStats_result.class, metaDataMap);
     }
 
-    public createLead_result() {
+    public revenueStats_result() {
     }
 
-    public createLead_result(
-      long success)
+    public revenueStats_result(
+      InternalRevenueStats success,
+      ThriftWrongOrderForRevenueException e1,
+      ThriftWrongStateException e2,
+      ThriftServerBusyException busy)
     {
       this();
       this.success = success;
-      setSuccessIsSet(true);
+      this.e1 = e1;
+      this.e2 = e2;
+      this.busy = busy;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public createLead_result(createLead_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
+    public revenueStats_result(revenueStats_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new InternalRevenueStats(other.success);
+      }
+      if (other.isSetE1()) {
+        this.e1 = new ThriftWrongOrderForRevenueException(other.e1);
+      }
+      if (other.isSetE2()) {
+        this.e2 = new ThriftWrongStateException(other.e2);
+      }
+      if (other.isSetBusy()) {
+        this.busy = new ThriftServerBusyException(other.busy);
+      }
     }
 
     @Override
-    public createLead_result deepCopy() {
-      return new createLead_result(this);
+    public revenueStats_result deepCopy() {
+      return new revenueStats_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = 0;
+      this.success = null;
+      this.e1 = null;
+      this.e2 = null;
+      this.busy = null;
     }
 
-    public long getSuccess() {
+    @org.apache.thrift.annotation.Nullable
+    public InternalRevenueStats getSuccess() {
       return this.success;
     }
 
-    public createLead_result setSuccess(long success) {
+    public revenueStats_result setSuccess(@org.apache.thrift.annotation.Nullable InternalRevenueStats success) {
       this.success = success;
-      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      this.success = null;
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      return this.success != null;
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ThriftWrongOrderForRevenueException getE1() {
+      return this.e1;
+    }
+
+    public revenueStats_result setE1(@org.apache.thrift.annotation.Nullable ThriftWrongOrderForRevenueException e1) {
+      this.e1 = e1;
+      return this;
+    }
+
+    public void unsetE1() {
+      this.e1 = null;
+    }
+
+    /** Returns true if field e1 is set (has been assigned a value) and false otherwise */
+    public boolean isSetE1() {
+      return this.e1 != null;
+    }
+
+    public void setE1IsSet(boolean value) {
+      if (!value) {
+        this.e1 = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ThriftWrongStateException getE2() {
+      return this.e2;
+    }
+
+    public revenueStats_result setE2(@org.apache.thrift.annotation.Nullable ThriftWrongStateException e2) {
+      this.e2 = e2;
+      return this;
+    }
+
+    public void unsetE2() {
+      this.e2 = null;
+    }
+
+    /** Returns true if field e2 is set (has been assigned a value) and false otherwise */
+    public boolean isSetE2() {
+      return this.e2 != null;
+    }
+
+    public void setE2IsSet(boolean value) {
+      if (!value) {
+        this.e2 = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ThriftServerBusyException getBusy() {
+      return this.busy;
+    }
+
+    public revenueStats_result setBusy(@org.apache.thrift.annotation.Nullable ThriftServerBusyException busy) {
+      this.busy = busy;
+      return this;
+    }
+
+    public void unsetBusy() {
+      this.busy = null;
+    }
+
+    /** Returns true if field busy is set (has been assigned a value) and false otherwise */
+    public boolean isSetBusy() {
+      return this.busy != null;
+    }
+
+    public void setBusyIsSet(boolean value) {
+      if (!value) {
+        this.busy = null;
+      }
     }
 
     @Override
@@ -3198,7 +14117,31 @@ public class InternalCRM {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((java.lang.Long)value);
+          setSuccess((InternalRevenueStats)value);
+        }
+        break;
+
+      case E1:
+        if (value == null) {
+          unsetE1();
+        } else {
+          setE1((ThriftWrongOrderForRevenueException)value);
+        }
+        break;
+
+      case E2:
+        if (value == null) {
+          unsetE2();
+        } else {
+          setE2((ThriftWrongStateException)value);
+        }
+        break;
+
+      case BUSY:
+        if (value == null) {
+          unsetBusy();
+        } else {
+          setBusy((ThriftServerBusyException)value);
         }
         break;
 
@@ -3212,6 +14155,15 @@ public class InternalCRM {
       case SUCCESS:
         return getSuccess();
 
+      case E1:
+        return getE1();
+
+      case E2:
+        return getE2();
+
+      case BUSY:
+        return getBusy();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -3226,29 +14178,62 @@ public class InternalCRM {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
+      case E1:
+        return isSetE1();
+      case E2:
+        return isSetE2();
+      case BUSY:
+        return isSetBusy();
       }
       throw new java.lang.IllegalStateException();
     }
 
     @Override
     public boolean equals(java.lang.Object that) {
-      if (that instanceof createLead_result)
-        return this.equals((createLead_result)that);
+      if (that instanceof revenueStats_result)
+        return this.equals((revenueStats_result)that);
       return false;
     }
 
-    public boolean equals(createLead_result that) {
+    public boolean equals(revenueStats_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (this.success != that.success)
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e1 = true && this.isSetE1();
+      boolean that_present_e1 = true && that.isSetE1();
+      if (this_present_e1 || that_present_e1) {
+        if (!(this_present_e1 && that_present_e1))
+          return false;
+        if (!this.e1.equals(that.e1))
+          return false;
+      }
+
+      boolean this_present_e2 = true && this.isSetE2();
+      boolean that_present_e2 = true && that.isSetE2();
+      if (this_present_e2 || that_present_e2) {
+        if (!(this_present_e2 && that_present_e2))
+          return false;
+        if (!this.e2.equals(that.e2))
+          return false;
+      }
+
+      boolean this_present_busy = true && this.isSetBusy();
+      boolean that_present_busy = true && that.isSetBusy();
+      if (this_present_busy || that_present_busy) {
+        if (!(this_present_busy && that_present_busy))
+          return false;
+        if (!this.busy.equals(that.busy))
           return false;
       }
 
@@ -3259,13 +14244,27 @@ public class InternalCRM {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(success);
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetE1()) ? 131071 : 524287);
+      if (isSetE1())
+        hashCode = hashCode * 8191 + e1.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetE2()) ? 131071 : 524287);
+      if (isSetE2())
+        hashCode = hashCode * 8191 + e2.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetBusy()) ? 131071 : 524287);
+      if (isSetBusy())
+        hashCode = hashCode * 8191 + busy.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(createLead_result other) {
+    public int compareTo(revenueStats_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -3282,6 +14281,36 @@ public class InternalCRM {
           return lastComparison;
         }
       }
+      lastComparison = java.lang.Boolean.compare(isSetE1(), other.isSetE1());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE1()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e1, other.e1);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetE2(), other.isSetE2());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE2()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e2, other.e2);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetBusy(), other.isSetBusy());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBusy()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.busy, other.busy);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -3302,11 +14331,39 @@ public class InternalCRM {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("createLead_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("revenueStats_result(");
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e1:");
+      if (this.e1 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e1);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e2:");
+      if (this.e2 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e2);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("busy:");
+      if (this.busy == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.busy);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -3315,6 +14372,9 @@ public class InternalCRM {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -3327,25 +14387,23 @@ public class InternalCRM {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class createLead_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class revenueStats_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public createLead_resultStandardScheme getScheme() {
-        return new createLead_resultStandardScheme();
+      public revenueStats_resultStandardScheme getScheme() {
+        return new revenueStats_resultStandardScheme();
       }
     }
 
-    private static class createLead_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<createLead_result> {
+    private static class revenueStats_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<revenueStats_result> {
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol iprot, createLead_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, revenueStats_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3356,13 +14414,41 @@ public class InternalCRM {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.success = iprot.readI64();
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new InternalRevenueStats();
+                struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 1: // E1
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e1 = new ThriftWrongOrderForRevenueException();
+                struct.e1.read(iprot);
+                struct.setE1IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // E2
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e2 = new ThriftWrongStateException();
+                struct.e2.read(iprot);
+                struct.setE2IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 9: // BUSY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.busy = new ThriftServerBusyException();
+                struct.busy.read(iprot);
+                struct.setBusyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -3375,13 +14461,28 @@ public class InternalCRM {
       }
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol oprot, createLead_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, revenueStats_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
+        if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeI64(struct.success);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e1 != null) {
+          oprot.writeFieldBegin(E1_FIELD_DESC);
+          struct.e1.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e2 != null) {
+          oprot.writeFieldBegin(E2_FIELD_DESC);
+          struct.e2.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.busy != null) {
+          oprot.writeFieldBegin(BUSY_FIELD_DESC);
+          struct.busy.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -3390,36 +14491,70 @@ public class InternalCRM {
 
     }
 
-    private static class createLead_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class revenueStats_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public createLead_resultTupleScheme getScheme() {
-        return new createLead_resultTupleScheme();
+      public revenueStats_resultTupleScheme getScheme() {
+        return new revenueStats_resultTupleScheme();
       }
     }
 
-    private static class createLead_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<createLead_result> {
+    private static class revenueStats_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<revenueStats_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, createLead_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, revenueStats_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE1()) {
+          optionals.set(1);
+        }
+        if (struct.isSetE2()) {
+          optionals.set(2);
+        }
+        if (struct.isSetBusy()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
         if (struct.isSetSuccess()) {
-          oprot.writeI64(struct.success);
+          struct.success.write(oprot);
+        }
+        if (struct.isSetE1()) {
+          struct.e1.write(oprot);
+        }
+        if (struct.isSetE2()) {
+          struct.e2.write(oprot);
+        }
+        if (struct.isSetBusy()) {
+          struct.busy.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, createLead_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, revenueStats_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
-          struct.success = iprot.readI64();
+          struct.success = new InternalRevenueStats();
+          struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.e1 = new ThriftWrongOrderForRevenueException();
+          struct.e1.read(iprot);
+          struct.setE1IsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.e2 = new ThriftWrongStateException();
+          struct.e2.read(iprot);
+          struct.setE2IsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.busy = new ThriftServerBusyException();
+          struct.busy.read(iprot);
+          struct.setBusyIsSet(true);
+        }
       }
     }
 
@@ -3429,19 +14564,28 @@ public class InternalCRM {
   }
 
   @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-  public static class deleteLead_args implements org.apache.thrift.TBase<deleteLead_args, deleteLead_args._Fields>, java.io.Serializable, Cloneable, Comparable<deleteLead_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteLead_args");
+  public static class leadHistogram_args implements org.apache.thrift.TBase<leadHistogram_args, leadHistogram_args._Fields>, java.io.Serializable, Cloneable, Comparable<leadHistogram_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("leadHistogram_args");
 
-    private static final org.apache.thrift.protocol.TField LEAD_DTO_FIELD_DESC = new org.apache.thrift.protocol.TField("leadDto", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField GROUP_BY_FIELD_DESC = new org.apache.thrift.protocol.TField("groupBy", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField LOW_ANNUAL_REVENUE_FIELD_DESC = new org.apache.thrift.protocol.TField("lowAnnualRevenue", org.apache.thrift.protocol.TType.DOUBLE, (short)2);
+    private static final org.apache.thrift.protocol.TField HIGH_ANNUAL_REVENUE_FIELD_DESC = new org.apache.thrift.protocol.TField("highAnnualRevenue", org.apache.thrift.protocol.TType.DOUBLE, (short)3);
+    private static final org.apache.thrift.protocol.TField STATE_FIELD_DESC = new org.apache.thrift.protocol.TField("state", org.apache.thrift.protocol.TType.STRING, (short)4);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new deleteLead_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new deleteLead_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new leadHistogram_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new leadHistogram_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable InternalLeadDTO leadDto; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String groupBy; // required
+    public double lowAnnualRevenue; // required
+    public double highAnnualRevenue; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String state; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      LEAD_DTO((short)1, "leadDto");
+      GROUP_BY((short)1, "groupBy"),
+      LOW_ANNUAL_REVENUE((short)2, "lowAnnualRevenue"),
+      HIGH_ANNUAL_REVENUE((short)3, "highAnnualRevenue"),
+      STATE((short)4, "state");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -3457,8 +14601,14 @@ public class InternalCRM {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // LEAD_DTO
-            return LEAD_DTO;
+          case 1: // GROUP_BY
+            return GROUP_BY;
+          case 2: // LOW_ANNUAL_REVENUE
+            return LOW_ANNUAL_REVENUE;
+          case 3: // HIGH_ANNUAL_REVENUE
+            return HIGH_ANNUAL_REVENUE;
+          case 4: // STATE
+            return STATE;
           default:
             return null;
         }
@@ -3502,77 +14652,200 @@ public class InternalCRM {
     }
 
     // isset id assignments
+    private static final int __LOWANNUALREVENUE_ISSET_ID = 0;
+    private static final int __HIGHANNUALREVENUE_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.LEAD_DTO, new org.apache.thrift.meta_data.FieldMetaData("leadDto", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InternalLeadDTO.class)));
+      tmpMap.put(_Fields.GROUP_BY, new org.apache.thrift.meta_data.FieldMetaData("groupBy", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.LOW_ANNUAL_REVENUE, new org.apache.thrift.meta_data.FieldMetaData("lowAnnualRevenue", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+      tmpMap.put(_Fields.HIGH_ANNUAL_REVENUE, new org.apache.thrift.meta_data.FieldMetaData("highAnnualRevenue", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+      tmpMap.put(_Fields.STATE, new org.apache.thrift.meta_data.FieldMetaData("state", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteLead_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(leadHistogram_args.class, metaDataMap);
     }
 
-    public deleteLead_args() {
+    public leadHistogram_args() {
     }
 
-    public deleteLead_args(
-      InternalLeadDTO leadDto)
+    public leadHistogram_args(
+      java.lang.String groupBy,
+      double lowAnnualRevenue,
+      double highAnnualRevenue,
+      java.lang.String state)
     {
       this();
-      this.leadDto = leadDto;
+      this.groupBy = groupBy;
+      this.lowAnnualRevenue = lowAnnualRevenue;
+      setLowAnnualRevenueIsSet(true);
+      this.highAnnualRevenue = highAnnualRevenue;
+      setHighAnnualRevenueIsSet(true);
+      this.state = state;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public deleteLead_args(deleteLead_args other) {
-      if (other.isSetLeadDto()) {
-        this.leadDto = new InternalLeadDTO(other.leadDto);
+    public leadHistogram_args(leadHistogram_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetGroupBy()) {
+        this.groupBy = other.groupBy;
+      }
+      this.lowAnnualRevenue = other.lowAnnualRevenue;
+      this.highAnnualRevenue = other.highAnnualRevenue;
+      if (other.isSetState()) {
+        this.state = other.state;
       }
     }
 
     @Override
-    public deleteLead_args deepCopy() {
-      return new deleteLead_args(this);
+    public leadHistogram_args deepCopy() {
+      return new leadHistogram_args(this);
     }
 
     @Override
     public void clear() {
-      this.leadDto = null;
+      this.groupBy = null;
+      setLowAnnualRevenueIsSet(false);
+      this.lowAnnualRevenue = 0.0;
+      setHighAnnualRevenueIsSet(false);
+      this.highAnnualRevenue = 0.0;
+      this.state = null;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public InternalLeadDTO getLeadDto() {
-      return this.leadDto;
+    public java.lang.String getGroupBy() {
+      return this.groupBy;
     }
 
-    public deleteLead_args setLeadDto(@org.apache.thrift.annotation.Nullable InternalLeadDTO leadDto) {
-      this.leadDto = leadDto;
+    public leadHistogram_args setGroupBy(@org.apache.thrift.annotation.Nullable java.lang.String groupBy) {
+      this.groupBy = groupBy;
       return this;
     }
 
-    public void unsetLeadDto() {
-      this.leadDto = null;
+    public void unsetGroupBy() {
+      this.groupBy = null;
     }
 
-    /** Returns true if field leadDto is set (has been assigned a value) and false otherwise */
-    public boolean isSetLeadDto() {
-      return this.leadDto != null;
+    /** Returns true if field groupBy is set (has been assigned a value) and false otherwise */
+    public boolean isSetGroupBy() {
+      return this.groupBy != null;
     }
 
-    public void setLeadDtoIsSet(boolean value) {
+    public void setGroupByIsSet(boolean value) {
       if (!value) {
-        this.leadDto = null;
+        this.groupBy = null;
+      }
+    }
+
+    public double getLowAnnualRevenue() {
+      return this.lowAnnualRevenue;
+    }
+
+    public leadHistogram_args setLowAnnualRevenue(double lowAnnualRevenue) {
+      this.lowAnnualRevenue = lowAnnualRevenue;
+      setLowAnnualRevenueIsSet(true);
+      return this;
+    }
+
+    public void unsetLowAnnualRevenue() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __LOWANNUALREVENUE_ISSET_ID);
+    }
+
+    /** Returns true if field lowAnnualRevenue is set (has been assigned a value) and false otherwise */
+    public boolean isSetLowAnnualRevenue() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __LOWANNUALREVENUE_ISSET_ID);
+    }
+
+    public void setLowAnnualRevenueIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __LOWANNUALREVENUE_ISSET_ID, value);
+    }
+
+    public double getHighAnnualRevenue() {
+      return this.highAnnualRevenue;
+    }
+
+    public leadHistogram_args setHighAnnualRevenue(double highAnnualRevenue) {
+      this.highAnnualRevenue = highAnnualRevenue;
+      setHighAnnualRevenueIsSet(true);
+      return this;
+    }
+
+    public void unsetHighAnnualRevenue() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __HIGHANNUALREVENUE_ISSET_ID);
+    }
+
+    /** Returns true if field highAnnualRevenue is set (has been assigned a value) and false otherwise */
+    public boolean isSetHighAnnualRevenue() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __HIGHANNUALREVENUE_ISSET_ID);
+    }
+
+    public void setHighAnnualRevenueIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __HIGHANNUALREVENUE_ISSET_ID, value);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getState() {
+      return this.state;
+    }
+
+    public leadHistogram_args setState(@org.apache.thrift.annotation.Nullable java.lang.String state) {
+      this.state = state;
+      return this;
+    }
+
+    public void unsetState() {
+      this.state = null;
+    }
+
+    /** Returns true if field state is set (has been assigned a value) and false otherwise */
+    public boolean isSetState() {
+      return this.state != null;
+    }
+
+    public void setStateIsSet(boolean value) {
+      if (!value) {
+        this.state = null;
       }
     }
 
     @Override
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case LEAD_DTO:
+      case GROUP_BY:
         if (value == null) {
-          unsetLeadDto();
+          unsetGroupBy();
         } else {
-          setLeadDto((InternalLeadDTO)value);
+          setGroupBy((java.lang.String)value);
+        }
+        break;
+
+      case LOW_ANNUAL_REVENUE:
+        if (value == null) {
+          unsetLowAnnualRevenue();
+        } else {
+          setLowAnnualRevenue((java.lang.Double)value);
+        }
+        break;
+
+      case HIGH_ANNUAL_REVENUE:
+        if (value == null) {
+          unsetHighAnnualRevenue();
+        } else {
+          setHighAnnualRevenue((java.lang.Double)value);
+        }
+        break;
+
+      case STATE:
+        if (value == null) {
+          unsetState();
+        } else {
+          setState((java.lang.String)value);
         }
         break;
 
@@ -3583,8 +14856,17 @@ public class InternalCRM {
     @Override
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case LEAD_DTO:
-        return getLeadDto();
+      case GROUP_BY:
+        return getGroupBy();
+
+      case LOW_ANNUAL_REVENUE:
+        return getLowAnnualRevenue();
+
+      case HIGH_ANNUAL_REVENUE:
+        return getHighAnnualRevenue();
+
+      case STATE:
+        return getState();
 
       }
       throw new java.lang.IllegalStateException();
@@ -3598,31 +14880,64 @@ public class InternalCRM {
       }
 
       switch (field) {
-      case LEAD_DTO:
-        return isSetLeadDto();
+      case GROUP_BY:
+        return isSetGroupBy();
+      case LOW_ANNUAL_REVENUE:
+        return isSetLowAnnualRevenue();
+      case HIGH_ANNUAL_REVENUE:
+        return isSetHighAnnualRevenue();
+      case STATE:
+        return isSetState();
       }
       throw new java.lang.IllegalStateException();
     }
 
     @Override
     public boolean equals(java.lang.Object that) {
-      if (that instanceof deleteLead_args)
-        return this.equals((deleteLead_args)that);
+      if (that instanceof leadHistogram_args)
+        return this.equals((leadHistogram_args)that);
       return false;
     }
 
-    public boolean equals(deleteLead_args that) {
+    public boolean equals(leadHistogram_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_leadDto = true && this.isSetLeadDto();
-      boolean that_present_leadDto = true && that.isSetLeadDto();
-      if (this_present_leadDto || that_present_leadDto) {
-        if (!(this_present_leadDto && that_present_leadDto))
+      boolean this_present_groupBy = true && this.isSetGroupBy();
+      boolean that_present_groupBy = true && that.isSetGroupBy();
+      if (this_present_groupBy || that_present_groupBy) {
+        if (!(this_present_groupBy && that_present_groupBy))
           return false;
-        if (!this.leadDto.equals(that.leadDto))
+        if (!this.groupBy.equals(that.groupBy))
+          return false;
+      }
+
+      boolean this_present_lowAnnualRevenue = true;
+      boolean that_present_lowAnnualRevenue = true;
+      if (this_present_lowAnnualRevenue || that_present_lowAnnualRevenue) {
+        if (!(this_present_lowAnnualRevenue && that_present_lowAnnualRevenue))
+          return false;
+        if (this.lowAnnualRevenue != that.lowAnnualRevenue)
+          return false;
+      }
+
+      boolean this_present_highAnnualRevenue = true;
+      boolean that_present_highAnnualRevenue = true;
+      if (this_present_highAnnualRevenue || that_present_highAnnualRevenue) {
+        if (!(this_present_highAnnualRevenue && that_present_highAnnualRevenue))
+          return false;
+        if (this.highAnnualRevenue != that.highAnnualRevenue)
+          return false;
+      }
+
+      boolean this_present_state = true && this.isSetState();
+      boolean that_present_state = true && that.isSetState();
+      if (this_present_state || that_present_state) {
+        if (!(this_present_state && that_present_state))
+          return false;
+        if (!this.state.equals(that.state))
           return false;
       }
 
@@ -3633,27 +14948,65 @@ public class InternalCRM {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetLeadDto()) ? 131071 : 524287);
-      if (isSetLeadDto())
-        hashCode = hashCode * 8191 + leadDto.hashCode();
+      hashCode = hashCode * 8191 + ((isSetGroupBy()) ? 131071 : 524287);
+      if (isSetGroupBy())
+        hashCode = hashCode * 8191 + groupBy.hashCode();
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(lowAnnualRevenue);
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(highAnnualRevenue);
+
+      hashCode = hashCode * 8191 + ((isSetState()) ? 131071 : 524287);
+      if (isSetState())
+        hashCode = hashCode * 8191 + state.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(deleteLead_args other) {
+    public int compareTo(leadHistogram_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
-
-      int lastComparison = 0;
-
-      lastComparison = java.lang.Boolean.compare(isSetLeadDto(), other.isSetLeadDto());
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.compare(isSetGroupBy(), other.isSetGroupBy());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetGroupBy()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.groupBy, other.groupBy);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetLowAnnualRevenue(), other.isSetLowAnnualRevenue());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLowAnnualRevenue()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.lowAnnualRevenue, other.lowAnnualRevenue);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetHighAnnualRevenue(), other.isSetHighAnnualRevenue());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetLeadDto()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.leadDto, other.leadDto);
+      if (isSetHighAnnualRevenue()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.highAnnualRevenue, other.highAnnualRevenue);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetState(), other.isSetState());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetState()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.state, other.state);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -3679,14 +15032,30 @@ public class InternalCRM {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("deleteLead_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("leadHistogram_args(");
       boolean first = true;
 
-      sb.append("leadDto:");
-      if (this.leadDto == null) {
+      sb.append("groupBy:");
+      if (this.groupBy == null) {
         sb.append("null");
       } else {
-        sb.append(this.leadDto);
+        sb.append(this.groupBy);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("lowAnnualRevenue:");
+      sb.append(this.lowAnnualRevenue);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("highAnnualRevenue:");
+      sb.append(this.highAnnualRevenue);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("state:");
+      if (this.state == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.state);
       }
       first = false;
       sb.append(")");
@@ -3696,9 +15065,6 @@ public class InternalCRM {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (leadDto != null) {
-        leadDto.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -3711,23 +15077,25 @@ public class InternalCRM {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class deleteLead_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class leadHistogram_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public deleteLead_argsStandardScheme getScheme() {
-        return new deleteLead_argsStandardScheme();
+      public leadHistogram_argsStandardScheme getScheme() {
+        return new leadHistogram_argsStandardScheme();
       }
     }
 
-    private static class deleteLead_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<deleteLead_args> {
+    private static class leadHistogram_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<leadHistogram_args> {
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteLead_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, leadHistogram_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3737,11 +15105,34 @@ public class InternalCRM {
             break;
           }
           switch (schemeField.id) {
-            case 1: // LEAD_DTO
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.leadDto = new InternalLeadDTO();
-                struct.leadDto.read(iprot);
-                struct.setLeadDtoIsSet(true);
+            case 1: // GROUP_BY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.groupBy = iprot.readString();
+                struct.setGroupByIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // LOW_ANNUAL_REVENUE
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.lowAnnualRevenue = iprot.readDouble();
+                struct.setLowAnnualRevenueIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // HIGH_ANNUAL_REVENUE
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.highAnnualRevenue = iprot.readDouble();
+                struct.setHighAnnualRevenueIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // STATE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.state = iprot.readString();
+                struct.setStateIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -3758,13 +15149,24 @@ public class InternalCRM {
       }
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteLead_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, leadHistogram_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.leadDto != null) {
-          oprot.writeFieldBegin(LEAD_DTO_FIELD_DESC);
-          struct.leadDto.write(oprot);
+        if (struct.groupBy != null) {
+          oprot.writeFieldBegin(GROUP_BY_FIELD_DESC);
+          oprot.writeString(struct.groupBy);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(LOW_ANNUAL_REVENUE_FIELD_DESC);
+        oprot.writeDouble(struct.lowAnnualRevenue);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(HIGH_ANNUAL_REVENUE_FIELD_DESC);
+        oprot.writeDouble(struct.highAnnualRevenue);
+        oprot.writeFieldEnd();
+        if (struct.state != null) {
+          oprot.writeFieldBegin(STATE_FIELD_DESC);
+          oprot.writeString(struct.state);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -3773,36 +15175,65 @@ public class InternalCRM {
 
     }
 
-    private static class deleteLead_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class leadHistogram_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public deleteLead_argsTupleScheme getScheme() {
-        return new deleteLead_argsTupleScheme();
+      public leadHistogram_argsTupleScheme getScheme() {
+        return new leadHistogram_argsTupleScheme();
       }
     }
 
-    private static class deleteLead_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<deleteLead_args> {
+    private static class leadHistogram_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<leadHistogram_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, deleteLead_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, leadHistogram_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetLeadDto()) {
+        if (struct.isSetGroupBy()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetLeadDto()) {
-          struct.leadDto.write(oprot);
+        if (struct.isSetLowAnnualRevenue()) {
+          optionals.set(1);
+        }
+        if (struct.isSetHighAnnualRevenue()) {
+          optionals.set(2);
+        }
+        if (struct.isSetState()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetGroupBy()) {
+          oprot.writeString(struct.groupBy);
+        }
+        if (struct.isSetLowAnnualRevenue()) {
+          oprot.writeDouble(struct.lowAnnualRevenue);
+        }
+        if (struct.isSetHighAnnualRevenue()) {
+          oprot.writeDouble(struct.highAnnualRevenue);
+        }
+        if (struct.isSetState()) {
+          oprot.writeString(struct.state);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, deleteLead_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, leadHistogram_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
-          struct.leadDto = new InternalLeadDTO();
-          struct.leadDto.read(iprot);
-          struct.setLeadDtoIsSet(true);
+          struct.groupBy = iprot.readString();
+          struct.setGroupByIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.lowAnnualRevenue = iprot.readDouble();
+          struct.setLowAnnualRevenueIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.highAnnualRevenue = iprot.readDouble();
+          struct.setHighAnnualRevenueIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.state = iprot.readString();
+          struct.setStateIsSet(true);
         }
       }
     }
@@ -3813,17 +15244,31 @@ public class InternalCRM {
   }
 
   @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-  public static class deleteLead_result implements org.apache.thrift.TBase<deleteLead_result, deleteLead_result._Fields>, java.io.Serializable, Cloneable, Comparable<deleteLead_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteLead_result");
+  public static class leadHistogram_result implements org.apache.thrift.TBase<leadHistogram_result, leadHistogram_result._Fields>, java.io.Serializable, Cloneable, Comparable<leadHistogram_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("leadHistogram_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField E1_FIELD_DESC = new org.apache.thrift.protocol.TField("e1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E2_FIELD_DESC = new org.apache.thrift.protocol.TField("e2", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField E3_FIELD_DESC = new org.apache.thrift.protocol.TField("e3", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+    private static final org.apache.thrift.protocol.TField BUSY_FIELD_DESC = new org.apache.thrift.protocol.TField("busy", org.apache.thrift.protocol.TType.STRUCT, (short)9);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new deleteLead_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new deleteLead_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new leadHistogram_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new leadHistogram_resultTupleSchemeFactory();
 
+    public @org.apache.thrift.annotation.Nullable java.util.List<InternalLeadBucket> success; // required
+    public @org.apache.thrift.annotation.Nullable ThriftWrongOrderForRevenueException e1; // required
+    public @org.apache.thrift.annotation.Nullable ThriftWrongStateException e2; // required
+    public @org.apache.thrift.annotation.Nullable ThriftInvalidGroupByException e3; // required
+    public @org.apache.thrift.annotation.Nullable ThriftServerBusyException busy; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success"),
+      E1((short)1, "e1"),
+      E2((short)2, "e2"),
+      E3((short)3, "e3"),
+      BUSY((short)9, "busy");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -3839,6 +15284,16 @@ public class InternalCRM {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E1
+            return E1;
+          case 2: // E2
+            return E2;
+          case 3: // E3
+            return E3;
+          case 9: // BUSY
+            return BUSY;
           default:
             return null;
         }
@@ -3880,34 +15335,267 @@ public class InternalCRM {
         return _fieldName;
       }
     }
-    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
-    static {
-      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteLead_result.class, metaDataMap);
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InternalLeadBucket.class))));
+      tmpMap.put(_Fields.E1, new org.apache.thrift.meta_data.FieldMetaData("e1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftWrongOrderForRevenueException.class)));
+      tmpMap.put(_Fields.E2, new org.apache.thrift.meta_data.FieldMetaData("e2", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftWrongStateException.class)));
+      tmpMap.put(_Fields.E3, new org.apache.thrift.meta_data.FieldMetaData("e3", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftInvalidGroupByException.class)));
+      tmpMap.put(_Fields.BUSY, new org.apache.thrift.meta_data.FieldMetaData("busy", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ThriftServerBusyException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(leadHistogram_result.class, metaDataMap);
+    }
+
+    public leadHistogram_result() {
+    }
+
+    public leadHistogram_result(
+      java.util.List<InternalLeadBucket> success,
+      ThriftWrongOrderForRevenueException e1,
+      ThriftWrongStateException e2,
+      ThriftInvalidGroupByException e3,
+      ThriftServerBusyException busy)
+    {
+      this();
+      this.success = success;
+      this.e1 = e1;
+      this.e2 = e2;
+      this.e3 = e3;
+      this.busy = busy;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public leadHistogram_result(leadHistogram_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<InternalLeadBucket> __this__success = new java.util.ArrayList<InternalLeadBucket>(other.success.size());
+        for (InternalLeadBucket other_element : other.success) {
+          __this__success.add(new InternalLeadBucket(other_element));
+        }
+        this.success = __this__success;
+      }
+      if (other.isSetE1()) {
+        this.e1 = new ThriftWrongOrderForRevenueException(other.e1);
+      }
+      if (other.isSetE2()) {
+        this.e2 = new ThriftWrongStateException(other.e2);
+      }
+      if (other.isSetE3()) {
+        this.e3 = new ThriftInvalidGroupByException(other.e3);
+      }
+      if (other.isSetBusy()) {
+        this.busy = new ThriftServerBusyException(other.busy);
+      }
+    }
+
+    @Override
+    public leadHistogram_result deepCopy() {
+      return new leadHistogram_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e1 = null;
+      this.e2 = null;
+      this.e3 = null;
+      this.busy = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<InternalLeadBucket> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(InternalLeadBucket elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<InternalLeadBucket>();
+      }
+      this.success.add(elem);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<InternalLeadBucket> getSuccess() {
+      return this.success;
+    }
+
+    public leadHistogram_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<InternalLeadBucket> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ThriftWrongOrderForRevenueException getE1() {
+      return this.e1;
+    }
+
+    public leadHistogram_result setE1(@org.apache.thrift.annotation.Nullable ThriftWrongOrderForRevenueException e1) {
+      this.e1 = e1;
+      return this;
+    }
+
+    public void unsetE1() {
+      this.e1 = null;
+    }
+
+    /** Returns true if field e1 is set (has been assigned a value) and false otherwise */
+    public boolean isSetE1() {
+      return this.e1 != null;
+    }
+
+    public void setE1IsSet(boolean value) {
+      if (!value) {
+        this.e1 = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ThriftWrongStateException getE2() {
+      return this.e2;
+    }
+
+    public leadHistogram_result setE2(@org.apache.thrift.annotation.Nullable ThriftWrongStateException e2) {
+      this.e2 = e2;
+      return this;
+    }
+
+    public void unsetE2() {
+      this.e2 = null;
+    }
+
+    /** Returns true if field e2 is set (has been assigned a value) and false otherwise */
+    public boolean isSetE2() {
+      return this.e2 != null;
+    }
+
+    public void setE2IsSet(boolean value) {
+      if (!value) {
+        this.e2 = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ThriftInvalidGroupByException getE3() {
+      return this.e3;
+    }
+
+    public leadHistogram_result setE3(@org.apache.thrift.annotation.Nullable ThriftInvalidGroupByException e3) {
+      this.e3 = e3;
+      return this;
+    }
+
+    public void unsetE3() {
+      this.e3 = null;
+    }
+
+    /** Returns true if field e3 is set (has been assigned a value) and false otherwise */
+    public boolean isSetE3() {
+      return this.e3 != null;
+    }
+
+    public void setE3IsSet(boolean value) {
+      if (!value) {
+        this.e3 = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ThriftServerBusyException getBusy() {
+      return this.busy;
     }
 
-    public deleteLead_result() {
+    public leadHistogram_result setBusy(@org.apache.thrift.annotation.Nullable ThriftServerBusyException busy) {
+      this.busy = busy;
+      return this;
     }
 
-    /**
-     * Performs a deep copy on <i>other</i>.
-     */
-    public deleteLead_result(deleteLead_result other) {
+    public void unsetBusy() {
+      this.busy = null;
     }
 
-    @Override
-    public deleteLead_result deepCopy() {
-      return new deleteLead_result(this);
+    /** Returns true if field busy is set (has been assigned a value) and false otherwise */
+    public boolean isSetBusy() {
+      return this.busy != null;
     }
 
-    @Override
-    public void clear() {
+    public void setBusyIsSet(boolean value) {
+      if (!value) {
+        this.busy = null;
+      }
     }
 
     @Override
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.util.List<InternalLeadBucket>)value);
+        }
+        break;
+
+      case E1:
+        if (value == null) {
+          unsetE1();
+        } else {
+          setE1((ThriftWrongOrderForRevenueException)value);
+        }
+        break;
+
+      case E2:
+        if (value == null) {
+          unsetE2();
+        } else {
+          setE2((ThriftWrongStateException)value);
+        }
+        break;
+
+      case E3:
+        if (value == null) {
+          unsetE3();
+        } else {
+          setE3((ThriftInvalidGroupByException)value);
+        }
+        break;
+
+      case BUSY:
+        if (value == null) {
+          unsetBusy();
+        } else {
+          setBusy((ThriftServerBusyException)value);
+        }
+        break;
+
       }
     }
 
@@ -3915,6 +15603,21 @@ public class InternalCRM {
     @Override
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E1:
+        return getE1();
+
+      case E2:
+        return getE2();
+
+      case E3:
+        return getE3();
+
+      case BUSY:
+        return getBusy();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -3927,23 +15630,78 @@ public class InternalCRM {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E1:
+        return isSetE1();
+      case E2:
+        return isSetE2();
+      case E3:
+        return isSetE3();
+      case BUSY:
+        return isSetBusy();
       }
       throw new java.lang.IllegalStateException();
     }
 
     @Override
     public boolean equals(java.lang.Object that) {
-      if (that instanceof deleteLead_result)
-        return this.equals((deleteLead_result)that);
+      if (that instanceof leadHistogram_result)
+        return this.equals((leadHistogram_result)that);
       return false;
     }
 
-    public boolean equals(deleteLead_result that) {
+    public boolean equals(leadHistogram_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e1 = true && this.isSetE1();
+      boolean that_present_e1 = true && that.isSetE1();
+      if (this_present_e1 || that_present_e1) {
+        if (!(this_present_e1 && that_present_e1))
+          return false;
+        if (!this.e1.equals(that.e1))
+          return false;
+      }
+
+      boolean this_present_e2 = true && this.isSetE2();
+      boolean that_present_e2 = true && that.isSetE2();
+      if (this_present_e2 || that_present_e2) {
+        if (!(this_present_e2 && that_present_e2))
+          return false;
+        if (!this.e2.equals(that.e2))
+          return false;
+      }
+
+      boolean this_present_e3 = true && this.isSetE3();
+      boolean that_present_e3 = true && that.isSetE3();
+      if (this_present_e3 || that_present_e3) {
+        if (!(this_present_e3 && that_present_e3))
+          return false;
+        if (!this.e3.equals(that.e3))
+          return false;
+      }
+
+      boolean this_present_busy = true && this.isSetBusy();
+      boolean that_present_busy = true && that.isSetBusy();
+      if (this_present_busy || that_present_busy) {
+        if (!(this_present_busy && that_present_busy))
+          return false;
+        if (!this.busy.equals(that.busy))
+          return false;
+      }
+
       return true;
     }
 
@@ -3951,17 +15709,87 @@ public class InternalCRM {
     public int hashCode() {
       int hashCode = 1;
 
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetE1()) ? 131071 : 524287);
+      if (isSetE1())
+        hashCode = hashCode * 8191 + e1.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetE2()) ? 131071 : 524287);
+      if (isSetE2())
+        hashCode = hashCode * 8191 + e2.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetE3()) ? 131071 : 524287);
+      if (isSetE3())
+        hashCode = hashCode * 8191 + e3.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetBusy()) ? 131071 : 524287);
+      if (isSetBusy())
+        hashCode = hashCode * 8191 + busy.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(deleteLead_result other) {
+    public int compareTo(leadHistogram_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = java.lang.Boolean.compare(isSetSuccess(), other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetE1(), other.isSetE1());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE1()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e1, other.e1);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetE2(), other.isSetE2());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE2()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e2, other.e2);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetE3(), other.isSetE3());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE3()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e3, other.e3);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.compare(isSetBusy(), other.isSetBusy());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBusy()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.busy, other.busy);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -3982,9 +15810,48 @@ public class InternalCRM {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("deleteLead_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("leadHistogram_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e1:");
+      if (this.e1 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e1);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e2:");
+      if (this.e2 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e2);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e3:");
+      if (this.e3 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e3);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("busy:");
+      if (this.busy == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.busy);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -4010,17 +15877,17 @@ public class InternalCRM {
       }
     }
 
-    private static class deleteLead_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class leadHistogram_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public deleteLead_resultStandardScheme getScheme() {
-        return new deleteLead_resultStandardScheme();
+      public leadHistogram_resultStandardScheme getScheme() {
+        return new leadHistogram_resultStandardScheme();
       }
     }
 
-    private static class deleteLead_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<deleteLead_result> {
+    private static class leadHistogram_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<leadHistogram_result> {
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteLead_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, leadHistogram_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4030,6 +15897,61 @@ public class InternalCRM {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list56 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<InternalLeadBucket>(_list56.size);
+                  @org.apache.thrift.annotation.Nullable InternalLeadBucket _elem57;
+                  for (int _i58 = 0; _i58 < _list56.size; ++_i58)
+                  {
+                    _elem57 = new InternalLeadBucket();
+                    _elem57.read(iprot);
+                    struct.success.add(_elem57);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E1
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e1 = new ThriftWrongOrderForRevenueException();
+                struct.e1.read(iprot);
+                struct.setE1IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // E2
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e2 = new ThriftWrongStateException();
+                struct.e2.read(iprot);
+                struct.setE2IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // E3
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e3 = new ThriftInvalidGroupByException();
+                struct.e3.read(iprot);
+                struct.setE3IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 9: // BUSY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.busy = new ThriftServerBusyException();
+                struct.busy.read(iprot);
+                struct.setBusyIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -4042,33 +15964,138 @@ public class InternalCRM {
       }
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteLead_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, leadHistogram_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (InternalLeadBucket _iter59 : struct.success)
+            {
+              _iter59.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.e1 != null) {
+          oprot.writeFieldBegin(E1_FIELD_DESC);
+          struct.e1.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e2 != null) {
+          oprot.writeFieldBegin(E2_FIELD_DESC);
+          struct.e2.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e3 != null) {
+          oprot.writeFieldBegin(E3_FIELD_DESC);
+          struct.e3.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.busy != null) {
+          oprot.writeFieldBegin(BUSY_FIELD_DESC);
+          struct.busy.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class deleteLead_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+    private static class leadHistogram_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
       @Override
-      public deleteLead_resultTupleScheme getScheme() {
-        return new deleteLead_resultTupleScheme();
+      public leadHistogram_resultTupleScheme getScheme() {
+        return new leadHistogram_resultTupleScheme();
       }
     }
 
-    private static class deleteLead_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<deleteLead_result> {
+    private static class leadHistogram_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<leadHistogram_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, deleteLead_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, leadHistogram_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE1()) {
+          optionals.set(1);
+        }
+        if (struct.isSetE2()) {
+          optionals.set(2);
+        }
+        if (struct.isSetE3()) {
+          optionals.set(3);
+        }
+        if (struct.isSetBusy()) {
+          optionals.set(4);
+        }
+        oprot.writeBitSet(optionals, 5);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (InternalLeadBucket _iter60 : struct.success)
+            {
+              _iter60.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetE1()) {
+          struct.e1.write(oprot);
+        }
+        if (struct.isSetE2()) {
+          struct.e2.write(oprot);
+        }
+        if (struct.isSetE3()) {
+          struct.e3.write(oprot);
+        }
+        if (struct.isSetBusy()) {
+          struct.busy.write(oprot);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, deleteLead_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, leadHistogram_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(5);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list61 = iprot.readListBegin(org.apache.thrift.protocol.TType.STRUCT);
+            struct.success = new java.util.ArrayList<InternalLeadBucket>(_list61.size);
+            @org.apache.thrift.annotation.Nullable InternalLeadBucket _elem62;
+            for (int _i63 = 0; _i63 < _list61.size; ++_i63)
+            {
+              _elem62 = new InternalLeadBucket();
+              _elem62.read(iprot);
+              struct.success.add(_elem62);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e1 = new ThriftWrongOrderForRevenueException();
+          struct.e1.read(iprot);
+          struct.setE1IsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.e2 = new ThriftWrongStateException();
+          struct.e2.read(iprot);
+          struct.setE2IsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.e3 = new ThriftInvalidGroupByException();
+          struct.e3.read(iprot);
+          struct.setE3IsSet(true);
+        }
+        if (incoming.get(4)) {
+          struct.busy = new ThriftServerBusyException();
+          struct.busy.read(iprot);
+          struct.setBusyIsSet(true);
+        }
       }
     }
 
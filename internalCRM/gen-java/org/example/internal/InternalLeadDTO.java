@@ -7,7 +7,7 @@
 package org.example.internal;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.17.0)", date = "2025-10-10")
+@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.17.0)", date = "2026-10-18")
 public class InternalLeadDTO implements org.apache.thrift.TBase<InternalLeadDTO, InternalLeadDTO._Fields>, java.io.Serializable, Cloneable, Comparable<InternalLeadDTO> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("InternalLeadDTO");
 
@@ -22,6 +22,7 @@ public class InternalLeadDTO implements org.apache.thrift.TBase<InternalLeadDTO,
   private static final org.apache.thrift.protocol.TField CREATION_DATE_FIELD_DESC = new org.apache.thrift.protocol.TField("creationDate", org.apache.thrift.protocol.TType.STRING, (short)9);
   private static final org.apache.thrift.protocol.TField COMPANY_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("companyName", org.apache.thrift.protocol.TType.STRING, (short)10);
   private static final org.apache.thrift.protocol.TField STATE_FIELD_DESC = new org.apache.thrift.protocol.TField("state", org.apache.thrift.protocol.TType.STRING, (short)11);
+  private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I64, (short)12);
 
   private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new InternalLeadDTOStandardSchemeFactory();
   private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new InternalLeadDTOTupleSchemeFactory();
@@ -37,6 +38,7 @@ public class InternalLeadDTO implements org.apache.thrift.TBase<InternalLeadDTO,
   public @org.apache.thrift.annotation.Nullable java.lang.String creationDate; // required
   public @org.apache.thrift.annotation.Nullable java.lang.String companyName; // required
   public @org.apache.thrift.annotation.Nullable java.lang.String state; // required
+  public long id; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -50,7 +52,8 @@ public class InternalLeadDTO implements org.apache.thrift.TBase<InternalLeadDTO,
     COUNTRY((short)8, "country"),
     CREATION_DATE((short)9, "creationDate"),
     COMPANY_NAME((short)10, "companyName"),
-    STATE((short)11, "state");
+    STATE((short)11, "state"),
+    ID((short)12, "id");
 
     private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -88,6 +91,8 @@ public class InternalLeadDTO implements org.apache.thrift.TBase<InternalLeadDTO,
           return COMPANY_NAME;
         case 11: // STATE
           return STATE;
+        case 12: // ID
+          return ID;
         default:
           return null;
       }
@@ -132,7 +137,9 @@ public class InternalLeadDTO implements org.apache.thrift.TBase<InternalLeadDTO,
 
   // isset id assignments
   private static final int __ANNUALREVENUE_ISSET_ID = 0;
+  private static final int __ID_ISSET_ID = 1;
   private byte __isset_bitfield = 0;
+  private static final _Fields optionals[] = {_Fields.ID};
   public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -158,6 +165,8 @@ public class InternalLeadDTO implements org.apache.thrift.TBase<InternalLeadDTO,
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
     tmpMap.put(_Fields.STATE, new org.apache.thrift.meta_data.FieldMetaData("state", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+    tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
     metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(InternalLeadDTO.class, metaDataMap);
   }
@@ -229,6 +238,7 @@ public class InternalLeadDTO implements org.apache.thrift.TBase<InternalLeadDTO,
     if (other.isSetState()) {
       this.state = other.state;
     }
+    this.id = other.id;
   }
 
   @Override
@@ -250,6 +260,8 @@ public class InternalLeadDTO implements org.apache.thrift.TBase<InternalLeadDTO,
     this.creationDate = null;
     this.companyName = null;
     this.state = null;
+    setIdIsSet(false);
+    this.id = 0;
   }
 
   @org.apache.thrift.annotation.Nullable
@@ -525,6 +537,29 @@ public class InternalLeadDTO implements org.apache.thrift.TBase<InternalLeadDTO,
     }
   }
 
+  public long getId() {
+    return this.id;
+  }
+
+  public InternalLeadDTO setId(long id) {
+    this.id = id;
+    setIdIsSet(true);
+    return this;
+  }
+
+  public void unsetId() {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __ID_ISSET_ID);
+  }
+
+  /** Returns true if field id is set (has been assigned a value) and false otherwise */
+  public boolean isSetId() {
+    return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __ID_ISSET_ID);
+  }
+
+  public void setIdIsSet(boolean value) {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
+  }
+
   @Override
   public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
     switch (field) {
@@ -616,6 +651,14 @@ public class InternalLeadDTO implements org.apache.thrift.TBase<InternalLeadDTO,
       }
       break;
 
+    case ID:
+      if (value == null) {
+        unsetId();
+      } else {
+        setId((java.lang.Long)value);
+      }
+      break;
+
     }
   }
 
@@ -656,6 +699,9 @@ public class InternalLeadDTO implements org.apache.thrift.TBase<InternalLeadDTO,
     case STATE:
       return getState();
 
+    case ID:
+      return getId();
+
     }
     throw new java.lang.IllegalStateException();
   }
@@ -690,6 +736,8 @@ public class InternalLeadDTO implements org.apache.thrift.TBase<InternalLeadDTO,
       return isSetCompanyName();
     case STATE:
       return isSetState();
+    case ID:
+      return isSetId();
     }
     throw new java.lang.IllegalStateException();
   }
@@ -806,6 +854,15 @@ public class InternalLeadDTO implements org.apache.thrift.TBase<InternalLeadDTO,
         return false;
     }
 
+    boolean this_present_id = true && this.isSetId();
+    boolean that_present_id = true && that.isSetId();
+    if (this_present_id || that_present_id) {
+      if (!(this_present_id && that_present_id))
+        return false;
+      if (this.id != that.id)
+        return false;
+    }
+
     return true;
   }
 
@@ -855,6 +912,10 @@ public class InternalLeadDTO implements org.apache.thrift.TBase<InternalLeadDTO,
     if (isSetState())
       hashCode = hashCode * 8191 + state.hashCode();
 
+    hashCode = hashCode * 8191 + ((isSetId()) ? 131071 : 524287);
+    if (isSetId())
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(id);
+
     return hashCode;
   }
 
@@ -976,6 +1037,16 @@ public class InternalLeadDTO implements org.apache.thrift.TBase<InternalLeadDTO,
         return lastComparison;
       }
     }
+    lastComparison = java.lang.Boolean.compare(isSetId(), other.isSetId());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetId()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.id, other.id);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -1083,6 +1154,12 @@ public class InternalLeadDTO implements org.apache.thrift.TBase<InternalLeadDTO,
       sb.append(this.state);
     }
     first = false;
+    if (isSetId()) {
+      if (!first) sb.append(", ");
+      sb.append("id:");
+      sb.append(this.id);
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -1218,6 +1295,14 @@ public class InternalLeadDTO implements org.apache.thrift.TBase<InternalLeadDTO,
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 12: // ID
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.id = iprot.readI64();
+              struct.setIdIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -1287,6 +1372,11 @@ public class InternalLeadDTO implements org.apache.thrift.TBase<InternalLeadDTO,
         oprot.writeString(struct.state);
         oprot.writeFieldEnd();
       }
+      if (struct.isSetId()) {
+        oprot.writeFieldBegin(ID_FIELD_DESC);
+        oprot.writeI64(struct.id);
+        oprot.writeFieldEnd();
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -1339,7 +1429,10 @@ public class InternalLeadDTO implements org.apache.thrift.TBase<InternalLeadDTO,
       if (struct.isSetState()) {
         optionals.set(10);
       }
-      oprot.writeBitSet(optionals, 11);
+      if (struct.isSetId()) {
+        optionals.set(11);
+      }
+      oprot.writeBitSet(optionals, 12);
       if (struct.isSetFirstName()) {
         oprot.writeString(struct.firstName);
       }
@@ -1373,12 +1466,15 @@ public class InternalLeadDTO implements org.apache.thrift.TBase<InternalLeadDTO,
       if (struct.isSetState()) {
         oprot.writeString(struct.state);
       }
+      if (struct.isSetId()) {
+        oprot.writeI64(struct.id);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, InternalLeadDTO struct) throws org.apache.thrift.TException {
       org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-      java.util.BitSet incoming = iprot.readBitSet(11);
+      java.util.BitSet incoming = iprot.readBitSet(12);
       if (incoming.get(0)) {
         struct.firstName = iprot.readString();
         struct.setFirstNameIsSet(true);
@@ -1423,6 +1519,10 @@ public class InternalLeadDTO implements org.apache.thrift.TBase<InternalLeadDTO,
         struct.state = iprot.readString();
         struct.setStateIsSet(true);
       }
+      if (incoming.get(11)) {
+        struct.id = iprot.readI64();
+        struct.setIdIsSet(true);
+      }
     }
   }
 
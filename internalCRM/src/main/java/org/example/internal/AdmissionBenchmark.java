@@ -0,0 +1,140 @@
+package org.example.internal;
+
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TTransport;
+import org.example.internal.admission.AdmissionControl;
+import org.example.internal.cache.ResponseCache;
+import org.example.internal.model.Lead;
+import org.example.internal.model.LeadModel;
+import org.example.internal.model.LeadModelFactory;
+import org.example.internal.utils.ThriftConfig;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rafale de findLeads(0, MAX, null) sur le serveur threadpool, sans puis avec contrôle d'admission.
+ *
+ * Exécution :
+ *   ./gradlew :internalCRM:runAdmissionBenchmark
+ *   ./gradlew :internalCRM:runAdmissionBenchmark -PbenchArgs="50000 32 4 2"
+ *
+ * Arguments : nombre de prospects stockés, clients simultanés, findLeads par client, réponses
+ * complètes admises en même temps (budget d'octets = ce nombre x taille estimée d'une réponse).
+ * Transport framed : chaque réponse est construite en entier en mémoire, le pic de tas suit donc
+ * le nombre de réponses en cours (avec G1, ces gros tableaux vont directement dans l'ancienne
+ * génération : le pic hors eden les mesure). Un client refusé (ThriftServerBusyException) attend
+ * retryAfterMillis puis renvoie le même appel ; tous les appels finissent par aboutir.
+ */
+public class AdmissionBenchmark {
+
+    private static final String[] ETATS = {"Loire-Atlantique", "Maine-et-Loire", "Vendée", "Sarthe", "Mayenne"};
+
+    public static void main(String[] args) throws Exception {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+        int appels = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        int reponses = args.length > 3 ? Integer.parseInt(args[3]) : 2;
+
+        System.setProperty(ThriftConfig.TRANSPORT_PROPERTY, "framed");
+        System.setProperty(ResponseCache.MAX_BYTES_PROPERTY, "0");
+
+        InternalCRMHandler handler = new InternalCRMHandler();
+        LeadModel model = LeadModelFactory.getModel();
+        for (int i = 0; i < n; i++) {
+            model.createLead(lead(i));
+        }
+        long budget = (long) reponses * model.size() * AdmissionControl.OCTETS_PAR_LEAD;
+
+        System.out.println("═══ " + clients + " clients x " + appels + " findLeads sur " + model.size() + " prospects, "
+                + ThriftConfig.description() + " ═══");
+        System.out.println("contrôle             | pic hors eden (Mo) | refus réessayés | durée (s)");
+        System.out.println("---------------------+--------------------+-----------------+----------");
+        mesurer("aucun", 19190, handler, null, clients, appels);
+        mesurer("budget " + reponses + " réponse(s)", 19191, handler,
+                new AdmissionControl("bench", 0, budget, AdmissionControl.DEFAULT_ACCEPT_QUEUE), clients, appels);
+        System.exit(0);
+    }
+
+    private static void mesurer(String nom, int port, InternalCRMHandler handler, AdmissionControl admission,
+                                int clients, int appels) throws Exception {
+        TProcessor processor = InternalCRMServer.creerProcesseur("threadpool", handler, admission, null);
+        TServer server = InternalCRMServer.creerServeur("threadpool", port, processor, admission);
+        Thread service = new Thread(server::serve, "bench-admission");
+        service.setDaemon(true);
+        service.start();
+        while (!server.isServing()) {
+            Thread.sleep(10);
+        }
+
+        System.gc();
+        List<MemoryPoolMXBean> tas = new ArrayList<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            // Eden exclu : son pic vaut sa taille (objets morts compris) quelle que soit la charge
+            if (pool.getType() == MemoryType.HEAP && !pool.getName().contains("Eden")) {
+                pool.resetPeakUsage();
+                tas.add(pool);
+            }
+        }
+
+        AtomicLong refus = new AtomicLong();
+        CountDownLatch depart = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int c = 0; c < clients; c++) {
+            Thread t = new Thread(() -> {
+                try (TTransport transport = ThriftConfig.transportClient("localhost", port, 120_000)) {
+                    transport.open();
+                    InternalCRM.Client client = new InternalCRM.Client(ThriftConfig.protocole(transport));
+                    depart.await();
+                    for (int a = 0; a < appels; a++) {
+                        while (true) {
+                            try {
+                                client.findLeads(0, Double.MAX_VALUE, null);
+                                break;
+                            } catch (ThriftServerBusyException occupe) {
+                                refus.incrementAndGet();
+                                Thread.sleep(occupe.getRetryAfterMillis());
+                            }
+                        }
+                    }
+                } catch (Exception e) {
+                    System.err.println("[AdmissionBenchmark] Client : " + e);
+                }
+            });
+            t.start();
+            threads.add(t);
+        }
+        long t0 = System.nanoTime();
+        depart.countDown();
+        for (Thread t : threads) {
+            t.join();
+        }
+        double duree = (System.nanoTime() - t0) / 1e9;
+        server.stop();
+
+        long pic = 0;
+        for (MemoryPoolMXBean pool : tas) {
+            pic += pool.getPeakUsage().getUsed();
+        }
+        System.out.printf("%-20s | %18.1f | %15d | %8.2f%n", nom, pic / 1e6, refus.get(), duree);
+    }
+
+    private static Lead lead(int i) {
+        Lead l = new Lead();
+        l.setFirstName("Prenom" + (i % 1000));
+        l.setLastName("Nom" + (i % 5000));
+        l.setAnnualRevenue((i * 7919L) % 1_000_000);
+        l.setPhone("+33 6 " + i);
+        l.setCity("Nantes");
+        l.setCountry("France");
+        l.setState(ETATS[i % ETATS.length]);
+        l.setCreationMillis(1_704_067_200_000L + i * 1000L);
+        return l;
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.internal;
+
+import org.example.internal.model.Lead;
+import org.example.internal.model.LeadLecture;
+import org.example.internal.model.LeadModel;
+import org.example.internal.model.LeadModelImpl;
+import org.example.internal.utils.ConverterUtils;
+
+import java.lang.management.ManagementFactory;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+
+/**
+ * Octets alloués par prospect renvoyé sur le chemin de lecture (équivalent de "gc.alloc.rate.norm"
+ * du profileur GC de JMH, mesuré ici par com.sun.management.ThreadMXBean).
+ *
+ * Exécution :
+ *   ./gradlew :internalCRM:runAllocationBenchmark
+ *   ./gradlew :internalCRM:runAllocationBenchmark -PbenchArgs="100000 200"
+ *
+ * Arguments : nombre de prospects stockés, itérations mesurées.
+ * Pour findLeads (tranche de ~1 % des revenus) et findLeadsByDate (~1 % des dates) :
+ *   - "modèle"      : appel LeadModelImpl seul
+ *   - "modèle + DTO" : appel + ConverterUtils.toDtoList (chemin complet d'un appel Thrift)
+ * Le résultat est divisé par le nombre de prospects renvoyés, après une phase de chauffe.
+ */
+public class AllocationBenchmark {
+
+    private static final long DEBUT_2024 = 1_704_067_200_000L;
+    private static final long UNE_ANNEE = 366L * 24 * 3600 * 1000;
+
+    public static void main(String[] args) throws Exception {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+        Random rnd = new Random(42);
+        LeadModel model = new LeadModelImpl();
+        for (int i = 0; i < n; i++) {
+            Lead l = new Lead();
+            l.setFirstName("Prenom" + (i % 1000));
+            l.setLastName("Nom" + (i % 5000));
+            l.setAnnualRevenue(Math.floor(rnd.nextDouble() * 1_000_000));
+            l.setPhone("+33 6 " + i);
+            l.setCity("Nantes");
+            l.setCountry("France");
+            l.setState("Loire-Atlantique");
+            Calendar date = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+            date.setTimeInMillis(DEBUT_2024 + (long) (rnd.nextDouble() * UNE_ANNEE));
+            l.setCreationDate(date);
+            model.createLead(l);
+        }
+        Calendar de = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+        de.setTimeInMillis(DEBUT_2024 + UNE_ANNEE / 2);
+        Calendar a = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+        a.setTimeInMillis(DEBUT_2024 + UNE_ANNEE / 2 + UNE_ANNEE / 100);
+
+        System.out.println("═══ " + n + " prospects stockés, " + iterations + " itérations ═══");
+        System.out.println("requête          | chemin        | prospects/req | octets/prospect");
+        System.out.println("-----------------+---------------+---------------+----------------");
+        for (boolean dto : new boolean[]{false, true}) {
+            mesurer("findLeads", dto, iterations, () -> model.findLeads(500_000, 510_000, null));
+            mesurer("findLeadsByDate", dto, iterations, () -> model.findLeadsByDate(de, a));
+        }
+    }
+
+    private interface Requete {
+        List<LeadLecture> executer() throws Exception;
+    }
+
+    private static void mesurer(String nom, boolean dto, int iterations, Requete requete) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long puits = 0;
+        // Chauffe (JIT, analyse d'échappement)
+        for (int i = 0; i < iterations; i++) {
+            puits += executer(requete, dto);
+        }
+        long id = Thread.currentThread().getId();
+        long avant = threads.getThreadAllocatedBytes(id);
+        long renvoyes = 0;
+        for (int i = 0; i < iterations; i++) {
+            renvoyes += executer(requete, dto);
+        }
+        long octets = threads.getThreadAllocatedBytes(id) - avant;
+        System.out.printf("%-16s | %-13s | %13d | %14.1f%n",
+                nom, dto ? "modèle + DTO" : "modèle", renvoyes / iterations, octets / (double) renvoyes);
+        if (puits < 0) {
+            System.out.println(); // empêche l'élimination du code mort
+        }
+    }
+
+    private static int executer(Requete requete, boolean dto) throws Exception {
+        List<LeadLecture> leads = requete.executer();
+        return dto ? ConverterUtils.toDtoList(leads).size() : leads.size();
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.internal;
+
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TTransport;
+import org.example.internal.cache.ResponseCache;
+import org.example.internal.model.Lead;
+import org.example.internal.model.LeadModel;
+import org.example.internal.model.LeadModelFactory;
+import org.example.internal.utils.ThriftConfig;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latence d'un createLead pendant des findLeads complets en rafale : mode serveur "selector"
+ * (processeur synchrone, un pool de travail commun) vs mode "async" (InternalCRMAsyncHandler,
+ * un pool pour les balayages, un pour les appels courts).
+ *
+ * Exécution :
+ *   ./gradlew :internalCRM:runAsyncBenchmark
+ *   ./gradlew :internalCRM:runAsyncBenchmark -PbenchArgs="50000 6 200"
+ *
+ * Arguments : nombre de prospects stockés, clients qui enchaînent des findLeads sur tout le
+ * stockage, createLead mesurés (un toutes les 10 ms environ). Serveur et clients dans le même processus (transport framed,
+ * port libre choisi à partir de 19090). Un seul client mesure les createLead, un appel à la fois.
+ */
+public class AsyncBenchmark {
+
+    // Un createLead toutes les ~10 ms (écritures au fil de l'eau, pas en rafale)
+    private static final long PAUSE_MS = 10;
+    private static final String[] ETATS = {"Loire-Atlantique", "Maine-et-Loire", "Vendée", "Sarthe", "Mayenne"};
+
+    public static void main(String[] args) throws Exception {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        int scanneurs = args.length > 1 ? Integer.parseInt(args[1]) : 6;
+        int creations = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+
+        // Les deux serveurs lisent des trames ; le cache findLeads fausserait les balayages du mode selector
+        System.setProperty(ThriftConfig.TRANSPORT_PROPERTY, "framed");
+        System.setProperty(ResponseCache.MAX_BYTES_PROPERTY, "0");
+
+        InternalCRMHandler handler = new InternalCRMHandler();
+        LeadModel model = LeadModelFactory.getModel();
+        for (int i = 0; i < n; i++) {
+            model.createLead(lead(i));
+        }
+
+        System.out.println("═══ createLead pendant " + scanneurs + " client(s) findLeads sur " + model.size()
+                + " prospects, " + ThriftConfig.description() + ", "
+                + Runtime.getRuntime().availableProcessors() + " cœur(s) ═══");
+        System.out.println("mode     | createLead p50 (ms) | p99 (ms) | max (ms) | findLeads/s");
+        System.out.println("---------+---------------------+----------+----------+------------");
+        int port = 19090;
+        for (String mode : new String[]{"selector", "async"}) {
+            mesurer(mode, port++, handler, scanneurs, creations);
+        }
+        System.exit(0); // les serveurs NIO ne s'arrêtent pas proprement ici
+    }
+
+    private static void mesurer(String mode, int port, InternalCRMHandler handler, int scanneurs, int creations)
+            throws Exception {
+        TProcessor processor = InternalCRMServer.creerProcesseur(mode, handler, null, null);
+        TServer server = InternalCRMServer.creerServeur(mode, port, processor);
+        Thread service = new Thread(server::serve, "bench-" + mode);
+        service.setDaemon(true);
+        service.start();
+        while (!server.isServing()) {
+            Thread.sleep(10);
+        }
+
+        AtomicBoolean fin = new AtomicBoolean();
+        AtomicLong balayages = new AtomicLong();
+        List<Thread> clients = new ArrayList<>();
+        for (int c = 0; c < scanneurs; c++) {
+            Thread t = new Thread(() -> {
+                try (TTransport transport = ThriftConfig.transportClient("localhost", port, 60_000)) {
+                    transport.open();
+                    InternalCRM.Client client = new InternalCRM.Client(ThriftConfig.protocole(transport));
+                    while (!fin.get()) {
+                        client.findLeads(0, Double.MAX_VALUE, null);
+                        balayages.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    System.err.println("[AsyncBenchmark] Client findLeads : " + e);
+                }
+            });
+            t.setDaemon(true);
+            t.start();
+            clients.add(t);
+        }
+
+        long[] latences = new long[creations];
+        long t0;
+        try (TTransport transport = ThriftConfig.transportClient("localhost", port, 60_000)) {
+            transport.open();
+            InternalCRM.Client client = new InternalCRM.Client(ThriftConfig.protocole(transport));
+            // Chauffe (JIT) pendant que les balayages démarrent
+            for (int i = 0; i < creations / 5; i++) {
+                client.createLead(dto("chauffe" + i));
+            }
+            t0 = System.nanoTime();
+            for (int i = 0; i < creations; i++) {
+                long debut = System.nanoTime();
+                client.createLead(dto(mode + i));
+                latences[i] = System.nanoTime() - debut;
+                Thread.sleep(PAUSE_MS);
+            }
+        }
+        double duree = (System.nanoTime() - t0) / 1e9;
+        long faits = balayages.get();
+        fin.set(true);
+        for (Thread t : clients) {
+            t.join();
+        }
+        server.stop();
+
+        Arrays.sort(latences);
+        System.out.printf("%-8s | %19.2f | %8.2f | %8.2f | %10.1f%n", mode,
+                latences[latences.length / 2] / 1e6,
+                latences[(int) Math.min(latences.length - 1, Math.ceil(latences.length * 0.99) - 1)] / 1e6,
+                latences[latences.length - 1] / 1e6,
+                faits / duree);
+    }
+
+    private static Lead lead(int i) {
+        Lead l = new Lead();
+        l.setFirstName("Prenom" + (i % 1000));
+        l.setLastName("Nom" + (i % 5000));
+        l.setAnnualRevenue((i * 7919L) % 1_000_000);
+        l.setPhone("+33 6 " + i);
+        l.setCity("Nantes");
+        l.setCountry("France");
+        l.setState(ETATS[i % ETATS.length]);
+        l.setCreationMillis(1_704_067_200_000L + i * 1000L);
+        return l;
+    }
+
+    // Prospect envoyé par le client mesuré (format des DTO du serveur)
+    private static InternalLeadDTO dto(String suffixe) {
+        InternalLeadDTO dto = new InternalLeadDTO();
+        dto.setFirstName("Nom-" + suffixe + ", Prénom");
+        dto.setLastName("");
+        dto.setAnnualRevenue(50_000);
+        dto.setPhone("+33 6 00 00 00 00");
+        dto.setCity("Nantes");
+        dto.setCountry("France");
+        dto.setCreationDate("2024-06-01T10:00:00Z");
+        dto.setState(ETATS[0]);
+        return dto;
+    }
+}
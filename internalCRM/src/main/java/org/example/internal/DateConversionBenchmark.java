@@ -0,0 +1,102 @@
+package org.example.internal;
+
+import org.example.internal.utils.ConverterUtils;
+
+import java.lang.management.ManagementFactory;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+/**
+ * Micro-benchmark des conversions ISO-8601 "yyyy-MM-dd'T'HH:mm:ss'Z'" de ConverterUtils.
+ *
+ * Exécution :
+ *   ./gradlew :internalCRM:runDateConversionBenchmark
+ *   ./gradlew :internalCRM:runDateConversionBenchmark -PbenchArgs="100000 20"
+ *
+ * Arguments : nombre de dates distinctes, passes mesurées sur ces dates.
+ * Trois chemins, en formatage (millis → chaîne) et en analyse (chaîne → millis) :
+ *   - "SimpleDateFormat" : ancien code (SimpleDateFormat + TimeZone à chaque appel, Calendar en analyse)
+ *   - "DateTimeFormatter" : formateur java.time précompilé (thread-safe)
+ *   - "forme fixe"        : ConverterUtils.millisToIsoString / isoStringToMillis (écrits à la main)
+ * On affiche ns et octets alloués par conversion (ThreadMXBean), après une passe de chauffe.
+ * Les temps sont indicatifs (pas de JMH).
+ */
+public class DateConversionBenchmark {
+
+    private static final String PATTERN = "yyyy-MM-dd'T'HH:mm:ss'Z'";
+    private static final DateTimeFormatter ISO = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss'Z'").withZone(ZoneOffset.UTC);
+
+    private interface Conversion {
+        long executer(int i) throws Exception;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int passes = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        Random rnd = new Random(42);
+        long[] millis = new long[n];
+        String[] chaines = new String[n];
+        for (int i = 0; i < n; i++) {
+            // Dates de 2000 à 2030, à la seconde
+            millis[i] = (946_684_800L + (long) (rnd.nextDouble() * 946_080_000L)) * 1000L;
+            chaines[i] = ConverterUtils.millisToIsoString(millis[i]);
+        }
+
+        System.out.println("═══ " + n + " dates, " + passes + " passes ═══");
+        System.out.println("conversion | chemin            |  ns/conv | octets/conv");
+        System.out.println("-----------+-------------------+----------+------------");
+        mesurer("format", "SimpleDateFormat", n, passes, i -> {
+            SimpleDateFormat sdf = new SimpleDateFormat(PATTERN);
+            sdf.setTimeZone(TimeZone.getTimeZone("UTC"));
+            return sdf.format(new Date(millis[i])).length();
+        });
+        mesurer("format", "DateTimeFormatter", n, passes, i -> ISO.format(Instant.ofEpochMilli(millis[i])).length());
+        mesurer("format", "forme fixe", n, passes, i -> ConverterUtils.millisToIsoString(millis[i]).length());
+
+        mesurer("analyse", "SimpleDateFormat", n, passes, i -> {
+            SimpleDateFormat sdf = new SimpleDateFormat(PATTERN);
+            sdf.setTimeZone(TimeZone.getTimeZone("UTC"));
+            try {
+                Calendar c = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+                c.setTime(sdf.parse(chaines[i]));
+                return c.getTimeInMillis();
+            } catch (ParseException e) {
+                return 0;
+            }
+        });
+        mesurer("analyse", "DateTimeFormatter", n, passes, i -> Instant.from(ISO.parse(chaines[i])).toEpochMilli());
+        mesurer("analyse", "forme fixe", n, passes, i -> ConverterUtils.isoStringToMillis(chaines[i]));
+    }
+
+    private static void mesurer(String conversion, String chemin, int n, int passes, Conversion c) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long puits = 0;
+        // Chauffe (JIT)
+        for (int i = 0; i < n; i++) {
+            puits += c.executer(i);
+        }
+        long id = Thread.currentThread().getId();
+        long octetsAvant = threads.getThreadAllocatedBytes(id);
+        long t0 = System.nanoTime();
+        for (int p = 0; p < passes; p++) {
+            for (int i = 0; i < n; i++) {
+                puits += c.executer(i);
+            }
+        }
+        long duree = System.nanoTime() - t0;
+        long octets = threads.getThreadAllocatedBytes(id) - octetsAvant;
+        long total = (long) n * passes;
+        System.out.printf("%-10s | %-17s | %8.1f | %10.1f%n", conversion, chemin, duree / (double) total, octets / (double) total);
+        if (puits == 42) {
+            System.out.println(); // empêche l'élimination du code mort
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package org.example.internal;
+
+import org.example.internal.model.Lead;
+import org.example.internal.model.LeadModel;
+import org.example.internal.model.LeadModelImpl;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Micro-benchmark de deleteLead(template) : balayage complet vs planificateur d'index.
+ *
+ * Exécution :
+ *   ./gradlew :internalCRM:runDeleteLeadBenchmark
+ *   ./gradlew :internalCRM:runDeleteLeadBenchmark -Psizes=100000,1000000
+ *
+ * Pour chaque taille N, les templates désignent UN prospect existant :
+ *   - "scan"            : balayage d'une ConcurrentHashMap avec l'ancienne comparaison
+ *                         champ par champ (trim().isEmpty() à chaque candidat)
+ *   - "nom + prénom"    : seau nom (20 prospects par nom)
+ *   - "prénom + tél."   : seau téléphone (valeur unique)
+ *   - "nom + CP"        : seau nom (plus petit que le seau code postal)
+ *   - "prénom + revenu + état" : tranche [revenu, revenu] de la partition de l'état
+ * On affiche les latences p50 / p99 d'une suppression (µs) mesurées après une phase de chauffe,
+ * et le nombre total de prospects supprimés (chauffe comprise).
+ */
+public class DeleteLeadBenchmark {
+
+    private static final String[] ETATS = {
+            "Loire-Atlantique", "Maine-et-Loire", "Vendée", "Sarthe", "Mayenne", "Paris", "Rhône"
+    };
+    private static final String[] PLANS = {"nom + prénom", "prénom + tél.", "nom + CP", "prénom + revenu + état"};
+
+    public static void main(String[] args) throws Exception {
+        int[] tailles = {1_000_000};
+        if (args.length > 0) {
+            String[] parts = args[0].split(",");
+            tailles = new int[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                tailles[i] = Integer.parseInt(parts[i].trim());
+            }
+        }
+
+        System.out.println("N           | template                 | p50 (µs) | p99 (µs) | suppressions");
+        System.out.println("------------+--------------------------+----------+----------+-------------");
+        for (int n : tailles) {
+            mesurer(n);
+            System.gc();
+        }
+    }
+
+    private static void mesurer(int n) throws Exception {
+        Random rnd = new Random(42);
+        LeadModel model = new LeadModelImpl();
+        // Référence : même structure que l'ancien store (ConcurrentHashMap parcourue en entier)
+        Map<Long, Lead> reference = new ConcurrentHashMap<>();
+        Lead[] leads = new Lead[n];
+
+        for (int i = 0; i < n; i++) {
+            Lead l = new Lead();
+            // 20 prospects consécutifs par nom, prénoms et codes postaux distincts dans un même nom
+            l.setLastName("Nom" + (i / 20));
+            l.setFirstName("Prenom" + (i % 1000));
+            l.setPhone(String.format("+33 6 %08d", i));
+            l.setPostalCode(String.valueOf(44000 + (i * 7) % 1000));
+            l.setAnnualRevenue(Math.floor(rnd.nextDouble() * 1_000_000));
+            l.setState(ETATS[i % ETATS.length]);
+            l.setCity("Nantes");
+            long id = model.createLead(l);
+            l.setId(id);
+            reference.put(id, l);
+            leads[i] = l;
+        }
+
+        // Ordre de suppression aléatoire, chaque prospect n'est visé qu'une fois
+        int[] ordre = new int[n];
+        for (int i = 0; i < n; i++) ordre[i] = i;
+        for (int i = n - 1; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+            int t = ordre[i]; ordre[i] = ordre[j]; ordre[j] = t;
+        }
+        int pos = 0;
+
+        // Peu de suppressions en mode scan (chacune coûte O(N))
+        int requetesScan = Math.max(5, Math.min(200, 20_000_000 / n));
+        int requetesPlan = Math.min(5_000, n / 10);
+
+        long[] scan = new long[requetesScan];
+        for (int q = -requetesScan; q < requetesScan; q++) {
+            Lead cible = leads[ordre[pos++]];
+            Lead template = template(cible, 0);
+            long t0 = System.nanoTime();
+            int supprimes = supprimerParScan(reference, template);
+            if (q >= 0) scan[q] = System.nanoTime() - t0;
+            if (supprimes == 0) throw new IllegalStateException("Prospect introuvable en mode scan");
+        }
+        afficher(n, "scan (nom + prénom)", scan, 2 * requetesScan);
+
+        for (int p = 0; p < PLANS.length; p++) {
+            long[] latences = new long[requetesPlan];
+            int tailleAvant = model.size();
+            // Première moitié : chauffe (JIT), seconde moitié mesurée
+            for (int q = -requetesPlan; q < requetesPlan; q++) {
+                Lead cible = leads[ordre[pos++]];
+                Lead template = template(cible, p);
+                long t0 = System.nanoTime();
+                model.deleteLead(template);
+                if (q >= 0) latences[q] = System.nanoTime() - t0;
+            }
+            afficher(n, PLANS[p], latences, tailleAvant - model.size());
+        }
+    }
+
+    private static Lead template(Lead cible, int plan) {
+        Lead t = new Lead();
+        t.setAnnualRevenue(-1);
+        switch (plan) {
+            case 0:
+                t.setLastName(cible.getLastName());
+                t.setFirstName(cible.getFirstName());
+                break;
+            case 1:
+                t.setFirstName(cible.getFirstName());
+                t.setPhone(cible.getPhone());
+                break;
+            case 2:
+                t.setLastName(cible.getLastName());
+                t.setPostalCode(cible.getPostalCode());
+                break;
+            default:
+                t.setFirstName(cible.getFirstName());
+                t.setAnnualRevenue(cible.getAnnualRevenue());
+                t.setState(cible.getState());
+        }
+        return t;
+    }
+
+    // Ancienne suppression : balayage complet, comparaison des champs renseignés à chaque candidat
+    private static int supprimerParScan(Map<Long, Lead> reference, Lead template) {
+        int supprimes = 0;
+        for (Map.Entry<Long, Lead> e : reference.entrySet()) {
+            Lead c = e.getValue();
+            if (renseigne(template.getFirstName()) && !template.getFirstName().equals(c.getFirstName())) continue;
+            if (renseigne(template.getLastName()) && !template.getLastName().equals(c.getLastName())) continue;
+            if (template.getAnnualRevenue() >= 0.0 && Double.compare(template.getAnnualRevenue(), c.getAnnualRevenue()) != 0) continue;
+            if (renseigne(template.getPhone()) && !template.getPhone().equals(c.getPhone())) continue;
+            if (renseigne(template.getPostalCode()) && !template.getPostalCode().equals(c.getPostalCode())) continue;
+            if (renseigne(template.getState()) && !template.getState().equals(c.getState())) continue;
+            reference.remove(e.getKey());
+            supprimes++;
+        }
+        return supprimes;
+    }
+
+    private static boolean renseigne(String valeur) {
+        return valeur != null && !valeur.trim().isEmpty();
+    }
+
+    private static void afficher(int n, String nom, long[] latences, int supprimes) {
+        long[] tries = latences.clone();
+        Arrays.sort(tries);
+        System.out.printf("%-11d | %-24s | %8.1f | %8.1f | %d%n",
+                n, nom, centile(tries, 0.50), centile(tries, 0.99), supprimes);
+    }
+
+    private static double centile(long[] tries, double q) {
+        int i = (int) Math.min(tries.length - 1, Math.ceil(q * tries.length) - 1);
+        return tries[Math.max(0, i)] / 1_000.0;
+    }
+}
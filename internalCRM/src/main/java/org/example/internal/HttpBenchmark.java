@@ -0,0 +1,120 @@
+package org.example.internal;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.thrift.transport.THttpClient;
+import org.apache.thrift.transport.TTransport;
+import org.example.internal.utils.ClientHttp;
+import org.example.internal.utils.ThriftConfig;
+
+import java.util.Arrays;
+
+/**
+ * Débit comparé du serveur socket et de la servlet HTTP (serveurs à démarrer au préalable).
+ *
+ * Exécution :
+ *   ./gradlew :internalCRM:runInternalCRMServer
+ *   ./gradlew farmRun        (servlet /thrift/internalcrm, port 8080)
+ *   ./gradlew :internalCRM:runHttpBenchmark
+ *   ./gradlew :internalCRM:runHttpBenchmark -PbenchArgs="http://localhost:8080/thrift/internalcrm localhost:9090 16 10 100"
+ *
+ * Arguments : URL de la servlet, hôte:port du serveur socket, clients concurrents, durée de
+ * mesure (s) par chemin, taille de page. Chaque client enchaîne des findLeadsPage(0, MAX, null, page)
+ * (même réponse quel que soit le contenu, pourvu que les deux stockages aient au moins `page` prospects) :
+ *   - "socket"    : une connexion TCP par client (transport de ThriftConfig)
+ *   - "http"      : THttpClient sur un pool de connexions keep-alive partagé, sans gzip
+ *   - "http+gzip" : idem, corps compressés au-delà de ThriftConfig.gzipMin() octets
+ * On affiche le débit (appels/s) et les latences p50 / p99 de chaque chemin.
+ */
+public class HttpBenchmark {
+
+    private static final long ECHAUFFEMENT_MS = 2_000;
+
+    @FunctionalInterface
+    private interface Connexion {
+        TTransport ouvrir() throws Exception;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = args.length > 0 ? args[0] : "http://localhost:8080/thrift/internalcrm";
+        String[] socket = (args.length > 1 ? args[1] : "localhost:" + InternalCRMServer.DEFAULT_PORT).split(":");
+        int clients = args.length > 2 ? Integer.parseInt(args[2]) : 16;
+        int duree = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+        int page = args.length > 4 ? Integer.parseInt(args[4]) : 100;
+        String hote = socket[0];
+        int port = Integer.parseInt(socket[1]);
+
+        System.out.println("═══ " + clients + " clients, findLeadsPage de " + page + " prospects, "
+                + ThriftConfig.protocole() + ", " + duree + " s par chemin ═══");
+        mesurer("socket", () -> {
+            TTransport t = ThriftConfig.transportClient(hote, port, 0, ThriftConfig.framed());
+            t.open();
+            return t;
+        }, clients, duree, page);
+        try (CloseableHttpClient sansGzip = ClientHttp.creer(clients, 0)) {
+            mesurer("http", () -> new THttpClient(url, sansGzip), clients, duree, page);
+        }
+        try (CloseableHttpClient avecGzip = ClientHttp.creer(clients, Math.max(1, ThriftConfig.gzipMin()))) {
+            mesurer("http+gzip", () -> new THttpClient(url, avecGzip), clients, duree, page);
+        }
+    }
+
+    private static void mesurer(String nom, Connexion connexion, int clients, int duree, int page) throws Exception {
+        Latences[] latences = new Latences[clients];
+        Thread[] threads = new Thread[clients];
+        long debutMesure = System.nanoTime() + ECHAUFFEMENT_MS * 1_000_000L;
+        long finMesure = debutMesure + duree * 1_000_000_000L;
+        int[] erreurs = new int[1];
+
+        for (int c = 0; c < clients; c++) {
+            Latences l = latences[c] = new Latences();
+            threads[c] = new Thread(() -> {
+                try (TTransport transport = connexion.ouvrir()) {
+                    InternalCRM.Client client = new InternalCRM.Client(ThriftConfig.protocole(transport));
+                    long t;
+                    while ((t = System.nanoTime()) < finMesure) {
+                        client.findLeadsPage(0, Double.MAX_VALUE, null, page, "");
+                        // Les appels commencés pendant l'échauffement ne sont pas comptés
+                        if (t >= debutMesure) l.ajouter(System.nanoTime() - t);
+                    }
+                } catch (Exception e) {
+                    synchronized (erreurs) {
+                        if (erreurs[0]++ == 0) System.out.println("  [Erreur client " + nom + "] " + e);
+                    }
+                }
+            }, "http-bench-" + c);
+            threads[c].start();
+        }
+        for (Thread t : threads) t.join();
+
+        int total = 0;
+        for (Latences l : latences) total += l.taille;
+        long[] toutes = new long[total];
+        int pos = 0;
+        for (Latences l : latences) {
+            System.arraycopy(l.valeurs, 0, toutes, pos, l.taille);
+            pos += l.taille;
+        }
+        Arrays.sort(toutes);
+
+        System.out.printf("  %-9s : %,9.0f appels/s   p50 %8.2f ms   p99 %8.2f ms%s%n",
+                nom, total / (double) duree, centile(toutes, 0.50), centile(toutes, 0.99),
+                erreurs[0] > 0 ? "   (" + erreurs[0] + " clients en erreur)" : "");
+    }
+
+    private static double centile(long[] tries, double q) {
+        if (tries.length == 0) return Double.NaN;
+        int i = (int) Math.min(tries.length - 1, Math.ceil(q * tries.length) - 1);
+        return tries[Math.max(0, i)] / 1e6;
+    }
+
+    // Latences (ns) d'un client : tableau extensible, un seul thread écrivain
+    private static final class Latences {
+        long[] valeurs = new long[4096];
+        int taille;
+
+        void ajouter(long ns) {
+            if (taille == valeurs.length) valeurs = Arrays.copyOf(valeurs, taille * 2);
+            valeurs[taille++] = ns;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.internal;
+
+import org.example.internal.model.Lead;
+import org.example.internal.model.LeadModel;
+import org.example.internal.model.LeadModelImpl;
+import org.example.internal.model.ShardedLeadModel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Benchmark d'ingestion concurrente : débit de createLead selon le nombre de threads écrivains,
+ * pour le modèle unique (LeadModelImpl) et le modèle partitionné (ShardedLeadModel).
+ *
+ * Exécution :
+ *   ./gradlew :internalCRM:runIngestionBenchmark
+ *   ./gradlew :internalCRM:runIngestionBenchmark -PbenchArgs="200000 1,2,4,8,16,32,64 8"
+ *
+ * Arguments : prospects créés par mesure, nombres de threads, nombre de shards (défaut : cœurs).
+ * Les prospects sont construits avant la mesure ; les threads démarrent ensemble (latch) et se
+ * partagent le total. Chaque mesure repart d'un modèle vide, après une passe de chauffe.
+ * Le gain du partitionnement n'apparaît qu'avec plusieurs cœurs réels.
+ */
+public class IngestionBenchmark {
+
+    private static final String[] ETATS = {"Loire-Atlantique", "Maine-et-Loire", "Vendée", "Sarthe", "Mayenne"};
+
+    public static void main(String[] args) throws Exception {
+        int total = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        String[] listeThreads = (args.length > 1 ? args[1] : "1,2,4,8,16,32,64").split(",");
+        int nombreShards = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        List<Lead> leads = new ArrayList<>(total);
+        for (int i = 0; i < total; i++) {
+            leads.add(lead(i));
+        }
+
+        System.out.println("═══ " + total + " createLead par mesure, " + Runtime.getRuntime().availableProcessors()
+                + " cœur(s), " + nombreShards + " shard(s) ═══");
+        System.out.println("threads | LeadModelImpl (leads/s) | ShardedLeadModel (leads/s) | rapport");
+        System.out.println("--------+-------------------------+----------------------------+--------");
+        for (String t : listeThreads) {
+            int threads = Integer.parseInt(t.trim());
+            double unique = mesurer(LeadModelImpl::new, leads, threads);
+            double partitionne = mesurer(() -> new ShardedLeadModel(nombreShards), leads, threads);
+            System.out.printf("%7d | %23.0f | %26.0f | %6.2f%n", threads, unique, partitionne, partitionne / unique);
+        }
+    }
+
+    // Débit en leads/s ; une première passe sur un modèle jeté sert de chauffe (JIT)
+    private static double mesurer(Supplier<LeadModel> fabrique, List<Lead> leads, int threads) throws Exception {
+        inserer(fabrique.get(), leads, threads);
+        LeadModel model = fabrique.get();
+        long duree = inserer(model, leads, threads);
+        if (model.size() != leads.size()) {
+            throw new IllegalStateException("Prospects perdus : " + model.size() + " / " + leads.size());
+        }
+        return leads.size() * 1e9 / duree;
+    }
+
+    private static long inserer(LeadModel model, List<Lead> leads, int threads) throws Exception {
+        CountDownLatch depart = new CountDownLatch(1);
+        AtomicReference<Exception> erreur = new AtomicReference<>();
+        Thread[] ecrivains = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            List<Lead> part = leads.subList(leads.size() * t / threads, leads.size() * (t + 1) / threads);
+            ecrivains[t] = new Thread(() -> {
+                try {
+                    depart.await();
+                    for (Lead l : part) {
+                        model.createLead(l);
+                    }
+                } catch (Exception e) {
+                    erreur.compareAndSet(null, e);
+                }
+            }, "ecrivain-" + t);
+            ecrivains[t].start();
+        }
+        long t0 = System.nanoTime();
+        depart.countDown();
+        for (Thread ecrivain : ecrivains) {
+            ecrivain.join();
+        }
+        long duree = System.nanoTime() - t0;
+        if (erreur.get() != null) {
+            throw erreur.get();
+        }
+        return duree;
+    }
+
+    private static Lead lead(int i) {
+        Lead l = new Lead();
+        l.setFirstName("Prenom" + (i % 1000));
+        l.setLastName("Nom" + (i % 5000));
+        l.setAnnualRevenue((i * 7919L) % 1_000_000);
+        l.setPhone("+33 6 " + i);
+        l.setCity("Nantes");
+        l.setCountry("France");
+        l.setState(ETATS[i % ETATS.length]);
+        l.setCreationMillis(1_704_067_200_000L + i * 1000L);
+        return l;
+    }
+}
@@ -0,0 +1,214 @@
+package org.example.internal;
+
+import org.apache.thrift.async.AsyncMethodCallback;
+import org.example.internal.admission.AdmissionControl;
+import org.example.internal.model.LeadModel;
+import org.example.internal.model.LeadModelFactory;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * HANDLER ASYNCHRONE — InternalCRM.AsyncIface au-dessus du handler synchrone.
+ *
+ * Utilisé par le mode serveur "async" (InternalCRM.AsyncProcessor + TThreadedSelectorServer) :
+ * le sélecteur ne fait que décoder la trame et appeler la méthode ci-dessous, qui confie l'appel
+ * à l'un de deux pools puis rend la main. La réponse est envoyée par le pool (resultHandler)
+ * dès que l'appel se termine, sans ordre imposé entre les requêtes.
+ *
+ * - pool "balayages" : findLeads, findLeadsByDate, countLeads, revenueStats, leadHistogram
+ *   (parcours de tout ou partie du stockage, durée proportionnelle au nombre de leads)
+ *   taille : -Dinternalcrm.async.scanThreads (défaut : nombre de cœurs)
+ * - pool "courts" : créations, suppressions et pages (durée bornée)
+ *   taille : -Dinternalcrm.async.fastThreads (défaut : nombre de cœurs, minimum 2)
+ *
+ * Ainsi, des balayages lents en rafale n'occupent jamais les threads des createLead.
+ * Les exceptions déclarées dans l'IDL sont transmises telles quelles (le processeur généré
+ * les range dans le résultat), les autres deviennent INTERNAL_ERROR comme en synchrone.
+ *
+ * Contrôle d'admission (facultatif) : vérifié avant la mise en file, une requête hors limites
+ * reçoit aussitôt ThriftServerBusyException ; la place est rendue quand l'appel se termine.
+ */
+public class InternalCRMAsyncHandler implements InternalCRM.AsyncIface {
+
+    public static final String SCAN_THREADS_PROPERTY = "internalcrm.async.scanThreads";
+    public static final String FAST_THREADS_PROPERTY = "internalcrm.async.fastThreads";
+
+    // Réponse de taille bornée : aucun octet réservé
+    private static final LongSupplier BORNEE = () -> 0;
+
+    private final InternalCRM.Iface iface;
+    private final AdmissionControl admission;
+    private final LeadModel model = LeadModelFactory.getModel();
+    private final ExecutorService balayages;
+    private final ExecutorService courts;
+
+    public InternalCRMAsyncHandler(InternalCRM.Iface iface) {
+        this(iface, null);
+    }
+
+    // admission null : aucun contrôle d'admission
+    public InternalCRMAsyncHandler(InternalCRM.Iface iface, AdmissionControl admission) {
+        this(iface, admission,
+                Integer.getInteger(SCAN_THREADS_PROPERTY, Runtime.getRuntime().availableProcessors()),
+                Integer.getInteger(FAST_THREADS_PROPERTY, Math.max(2, Runtime.getRuntime().availableProcessors())));
+    }
+
+    public InternalCRMAsyncHandler(InternalCRM.Iface iface, AdmissionControl admission, int threadsBalayages, int threadsCourts) {
+        this.iface = iface;
+        this.admission = admission;
+        this.balayages = Executors.newFixedThreadPool(Math.max(1, threadsBalayages), fabrique("internalcrm-async-scan"));
+        this.courts = Executors.newFixedThreadPool(Math.max(1, threadsCourts), fabrique("internalcrm-async-fast"));
+        System.out.println("[InternalCRMAsyncHandler] Pools : " + Math.max(1, threadsBalayages) + " thread(s) balayages, "
+                + Math.max(1, threadsCourts) + " thread(s) appels courts");
+    }
+
+    // ---------------------------------------------------------------- balayages
+
+    @Override
+    public void findLeads(double lowAnnualRevenue, double highAnnualRevenue, String state,
+                          AsyncMethodCallback<List<InternalLeadDTO>> resultHandler) {
+        soumettre(balayages, () -> admission.estimerBalayage(model, lowAnnualRevenue, highAnnualRevenue, state),
+                resultHandler, () -> iface.findLeads(lowAnnualRevenue, highAnnualRevenue, state));
+    }
+
+    @Override
+    public void findLeadsByDate(String startDate, String endDate, AsyncMethodCallback<List<InternalLeadDTO>> resultHandler) {
+        soumettre(balayages, () -> admission.estimerBalayageDates(model, startDate, endDate),
+                resultHandler, () -> iface.findLeadsByDate(startDate, endDate));
+    }
+
+    @Override
+    public void countLeads(double lowAnnualRevenue, double highAnnualRevenue, String state,
+                           AsyncMethodCallback<Long> resultHandler) {
+        soumettre(balayages, BORNEE, resultHandler, () -> iface.countLeads(lowAnnualRevenue, highAnnualRevenue, state));
+    }
+
+    @Override
+    public void revenueStats(double lowAnnualRevenue, double highAnnualRevenue, String state,
+                             AsyncMethodCallback<InternalRevenueStats> resultHandler) {
+        soumettre(balayages, BORNEE, resultHandler, () -> iface.revenueStats(lowAnnualRevenue, highAnnualRevenue, state));
+    }
+
+    @Override
+    public void leadHistogram(String groupBy, double lowAnnualRevenue, double highAnnualRevenue, String state,
+                              AsyncMethodCallback<List<InternalLeadBucket>> resultHandler) {
+        soumettre(balayages, BORNEE, resultHandler, () -> iface.leadHistogram(groupBy, lowAnnualRevenue, highAnnualRevenue, state));
+    }
+
+    // ---------------------------------------------------------------- appels courts
+
+    @Override
+    public void createLead(InternalLeadDTO lead, AsyncMethodCallback<Long> resultHandler) {
+        soumettre(courts, BORNEE, resultHandler, () -> iface.createLead(lead));
+    }
+
+    @Override
+    public void createLeads(List<InternalLeadDTO> leads, AsyncMethodCallback<InternalBatchResult> resultHandler) {
+        soumettre(courts, BORNEE, resultHandler, () -> iface.createLeads(leads));
+    }
+
+    @Override
+    public void deleteLead(InternalLeadDTO leadDto, AsyncMethodCallback<Void> resultHandler) {
+        soumettre(courts, BORNEE, resultHandler, () -> {
+            iface.deleteLead(leadDto);
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteLeadById(long id, AsyncMethodCallback<Void> resultHandler) {
+        soumettre(courts, BORNEE, resultHandler, () -> {
+            iface.deleteLeadById(id);
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteLeads(List<Long> ids, AsyncMethodCallback<InternalBatchResult> resultHandler) {
+        soumettre(courts, BORNEE, resultHandler, () -> iface.deleteLeads(ids));
+    }
+
+    @Override
+    public void findLeadsPage(double lowAnnualRevenue, double highAnnualRevenue, String state, int pageSize,
+                              String pageToken, AsyncMethodCallback<InternalLeadPage> resultHandler) {
+        soumettre(courts, BORNEE, resultHandler,
+                () -> iface.findLeadsPage(lowAnnualRevenue, highAnnualRevenue, state, pageSize, pageToken));
+    }
+
+    @Override
+    public void findLeadsByDatePage(String startDate, String endDate, int pageSize, String pageToken,
+                                    AsyncMethodCallback<InternalLeadPage> resultHandler) {
+        soumettre(courts, BORNEE, resultHandler, () -> iface.findLeadsByDatePage(startDate, endDate, pageSize, pageToken));
+    }
+
+    /** Arrête les deux pools (les appels déjà acceptés se terminent). */
+    public void arreter() {
+        balayages.shutdown();
+        courts.shutdown();
+    }
+
+    // ---------------------------------------------------------------- interne
+
+    @FunctionalInterface
+    private interface Appel<T> {
+        T executer() throws Exception;
+    }
+
+    // estimation : octets de réponse à réserver (findLeads / findLeadsByDate : tranche demandée)
+    private <T> void soumettre(ExecutorService pool, LongSupplier estimation, AsyncMethodCallback<T> resultHandler,
+                               Appel<T> appel) {
+        long octets = 0;
+        if (admission != null) {
+            // Place d'abord (O(1)), estimation ensuite (comptage de la tranche dans les index)
+            AdmissionControl.Decision decision = admission.admettre();
+            if (decision == AdmissionControl.Decision.ADMISE) {
+                octets = estimation.getAsLong();
+                decision = admission.reserverOctets(octets);
+            }
+            if (decision != AdmissionControl.Decision.ADMISE) {
+                resultHandler.onError(admission.occupe(decision));
+                return;
+            }
+        }
+        long reserves = octets;
+        try {
+            pool.execute(() -> {
+                T resultat;
+                try {
+                    resultat = appel.executer();
+                } catch (Exception e) {
+                    liberer(reserves);
+                    resultHandler.onError(e);
+                    return;
+                }
+                liberer(reserves);
+                resultHandler.onComplete(resultat);
+            });
+        } catch (RejectedExecutionException e) {
+            // Pools arrêtés : réponse d'erreur immédiate plutôt qu'un client sans réponse
+            liberer(reserves);
+            resultHandler.onError(e);
+        }
+    }
+
+    private void liberer(long octets) {
+        if (admission != null) {
+            admission.liberer(octets);
+        }
+    }
+
+    private static ThreadFactory fabrique(String prefixe) {
+        AtomicInteger numero = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefixe + "-" + numero.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
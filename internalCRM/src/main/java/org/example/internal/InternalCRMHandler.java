@@ -26,6 +26,13 @@ public class InternalCRMHandler implements InternalCRM.Iface {
     private final org.example.internal.model.LeadModel model = org.example.internal.model.LeadModelFactory.getModel();
 
     public InternalCRMHandler() {
+        // Stockage déjà rempli (modèle persistant rouvert, ou handler déjà créé dans ce JVM) :
+        // pas de rechargement, sinon les prospects initiaux seraient dupliqués
+        if (model.size() > 0) {
+            System.out.println("[InternalCRM] Stockage existant : " + model.size() + " prospects, pas de chargement initial");
+            return;
+        }
+
         // Charger les données initiales (environ 50 prospects)
         List<InternalLeadDTO> prospectsInitiaux = InitialDataLoader.genererProspectsInitiaux();
 
@@ -59,7 +66,7 @@ public class InternalCRMHandler implements InternalCRM.Iface {
             throws ThriftWrongOrderForRevenueException, ThriftWrongStateException {
         // Appel direct au modèle. Les erreurs sont converties en exceptions Thrift.
         try {
-            List<org.example.internal.model.Lead> leads = model.findLeads(lowAnnualRevenue, highAnnualRevenue,
+            List<org.example.internal.model.LeadLecture> leads = model.findLeads(lowAnnualRevenue, highAnnualRevenue,
                     province);
             return org.example.internal.utils.ConverterUtils.toDtoList(leads);
         } catch (org.example.internal.model.exception.WrongOrderForRevenueException e) {
@@ -90,7 +97,7 @@ public class InternalCRMHandler implements InternalCRM.Iface {
                 throw new ThriftWrongDateFormatException("Format de date invalide: " + fromIso);
             if (toIso != null && to == null)
                 throw new ThriftWrongDateFormatException("Format de date invalide: " + toIso);
-            List<org.example.internal.model.Lead> leads = model.findLeadsByDate(from, to);
+            List<org.example.internal.model.LeadLecture> leads = model.findLeadsByDate(from, to);
             return org.example.internal.utils.ConverterUtils.toDtoList(leads);
         } catch (org.example.internal.model.exception.WrongDateFormatException e) {
             throw new ThriftWrongDateFormatException(e.getMessage());
@@ -99,6 +106,63 @@ public class InternalCRMHandler implements InternalCRM.Iface {
         }
     }
 
+    /**
+     * Page de findLeads (ordre revenu puis id). pageToken vide = première page,
+     * sinon le nextToken renvoyé par la page précédente (opaque, voir PageToken).
+     */
+    @Override
+    public InternalLeadPage findLeadsPage(double lowAnnualRevenue, double highAnnualRevenue, String province,
+            int pageSize, String pageToken)
+            throws ThriftWrongOrderForRevenueException, ThriftWrongStateException, ThriftInvalidPageTokenException {
+        int taille = org.example.internal.utils.PageToken.taillePage(pageSize);
+        long[] curseur;
+        try {
+            curseur = org.example.internal.utils.PageToken.decoder(pageToken, org.example.internal.utils.PageToken.REVENU);
+        } catch (IllegalArgumentException e) {
+            throw new ThriftInvalidPageTokenException(e.getMessage());
+        }
+        try {
+            // Une ligne de plus que la page : sa présence indique qu'il reste des résultats
+            List<org.example.internal.model.LeadLecture> leads = model.findLeadsPage(lowAnnualRevenue, highAnnualRevenue,
+                    province, Double.longBitsToDouble(curseur[0]), curseur[1], taille + 1);
+            return org.example.internal.utils.PageToken.page(leads, taille, org.example.internal.utils.PageToken.REVENU);
+        } catch (org.example.internal.model.exception.WrongOrderForRevenueException e) {
+            throw new ThriftWrongOrderForRevenueException(e.getMessage());
+        } catch (org.example.internal.model.exception.WrongStateException e) {
+            throw new ThriftWrongStateException(e.getMessage());
+        }
+    }
+
+    /**
+     * Page de findLeadsByDate (ordre date de création puis id), mêmes règles que findLeadsPage.
+     */
+    @Override
+    public InternalLeadPage findLeadsByDatePage(String fromIso, String toIso, int pageSize, String pageToken)
+            throws ThriftWrongDateFormatException, ThriftWrongOrderForDateException, ThriftInvalidPageTokenException {
+        java.util.Calendar from = org.example.internal.utils.ConverterUtils.isoStringToCalendar(fromIso);
+        java.util.Calendar to = org.example.internal.utils.ConverterUtils.isoStringToCalendar(toIso);
+        if (fromIso != null && from == null)
+            throw new ThriftWrongDateFormatException("Format de date invalide: " + fromIso);
+        if (toIso != null && to == null)
+            throw new ThriftWrongDateFormatException("Format de date invalide: " + toIso);
+        int taille = org.example.internal.utils.PageToken.taillePage(pageSize);
+        long[] curseur;
+        try {
+            curseur = org.example.internal.utils.PageToken.decoder(pageToken, org.example.internal.utils.PageToken.DATE);
+        } catch (IllegalArgumentException e) {
+            throw new ThriftInvalidPageTokenException(e.getMessage());
+        }
+        try {
+            List<org.example.internal.model.LeadLecture> leads = model.findLeadsByDatePage(from, to, curseur[0], curseur[1],
+                    taille + 1);
+            return org.example.internal.utils.PageToken.page(leads, taille, org.example.internal.utils.PageToken.DATE);
+        } catch (org.example.internal.model.exception.WrongDateFormatException e) {
+            throw new ThriftWrongDateFormatException(e.getMessage());
+        } catch (org.example.internal.model.exception.WrongOrderForDateException e) {
+            throw new ThriftWrongOrderForDateException(e.getMessage());
+        }
+    }
+
     /**
      * Cree un nouveau prospect et retourne son ID unique.
      * 
@@ -118,30 +182,108 @@ public class InternalCRMHandler implements InternalCRM.Iface {
     @Override
     public void deleteLead(org.example.internal.InternalLeadDTO leadDto) throws ThriftNoSuchLeadException {
         try {
-            System.out.println("[InternalCRMHandler] Tentative de suppression d'un lead...");
-            System.out.println("[InternalCRMHandler] DTO reçu - firstName='" + leadDto.getFirstName() + 
-                             "', lastName='" + leadDto.getLastName() + 
-                             "', annualRevenue=" + leadDto.getAnnualRevenue() + 
-                             ", isSetAnnualRevenue=" + leadDto.isSetAnnualRevenue());
-            org.example.internal.model.Lead template = org.example.internal.utils.ConverterUtils.toModel(leadDto);
-            System.out.println("[InternalCRMHandler] Template créé - firstName='" + template.getFirstName() + 
-                             "', lastName='" + template.getLastName() + 
-                             "', annualRevenue=" + template.getAnnualRevenue());
-            model.deleteLead(template);
+            model.deleteLead(org.example.internal.utils.ConverterUtils.toModel(leadDto));
             System.out.println("[InternalCRMHandler] Lead supprimé avec succès");
         } catch (org.example.internal.model.exception.NoSuchLeadException e) {
             System.out.println("[InternalCRMHandler] Aucun lead correspondant trouvé : " + e.getMessage());
             throw new ThriftNoSuchLeadException(e.getMessage());
         } catch (Exception e) {
-            // Capturer toutes les autres exceptions pour éviter "Internal error processing deleteLead"
-            System.err.println("[InternalCRMHandler] ERREUR lors de la suppression du lead : " + e.getClass().getSimpleName());
-            System.err.println("[InternalCRMHandler] Message : " + e.getMessage());
-            e.printStackTrace();
-            // Relancer comme ThriftNoSuchLeadException avec un message explicite
+            // Erreur inattendue : une ligne de log, le détail part au client dans l'exception Thrift
+            // (plutôt que "Internal error processing deleteLead")
+            System.err.println("[InternalCRM] Erreur lors de la suppression du lead : " + e);
             throw new ThriftNoSuchLeadException("Erreur lors de la suppression : " + e.getClass().getSimpleName() + " - " + e.getMessage());
         }
     }
 
+    /**
+     * Suppression par id (valeur renvoyee dans InternalLeadDTO.id) : acces direct, sans template.
+     */
+    @Override
+    public void deleteLeadById(long id) throws ThriftNoSuchLeadException {
+        try {
+            model.deleteLeadById(id);
+            System.out.println("[InternalCRMHandler] Lead " + id + " supprimé avec succès");
+        } catch (org.example.internal.model.exception.NoSuchLeadException e) {
+            System.out.println("[InternalCRMHandler] Aucun lead avec l'id " + id);
+            throw new ThriftNoSuchLeadException(e.getMessage());
+        }
+    }
+
+    /**
+     * Creation en lot : ids alignes sur la liste recue, -1 + erreur (position, message)
+     * pour chaque prospect refuse. Les prospects valides sont crees quand meme.
+     */
+    @Override
+    public InternalBatchResult createLeads(List<org.example.internal.InternalLeadDTO> leads) {
+        Map<Integer, String> erreurs = new HashMap<>();
+        long[] ids = model.createLeads(org.example.internal.utils.ConverterUtils.toModelList(leads), erreurs);
+        return org.example.internal.utils.ConverterUtils.toCreationResult(ids, erreurs);
+    }
+
+    /**
+     * Suppression en lot par id : acces direct au stockage, sans comparaison de templates.
+     */
+    @Override
+    public InternalBatchResult deleteLeads(List<Long> ids) {
+        List<Long> supprimes = model.deleteLeads(ids);
+        System.out.println("[InternalCRMHandler] Suppression en lot : " + supprimes.size() + "/" + ids.size() + " prospects supprimés");
+        return org.example.internal.utils.ConverterUtils.toDeletionResult(ids, supprimes);
+    }
+
+    /**
+     * Nombre de prospects que renverrait findLeads, calculé côté serveur (aucune liste transférée).
+     */
+    @Override
+    public long countLeads(double lowAnnualRevenue, double highAnnualRevenue, String province)
+            throws ThriftWrongOrderForRevenueException, ThriftWrongStateException {
+        return agregerRevenus(lowAnnualRevenue, highAnnualRevenue, province).getNombre();
+    }
+
+    /**
+     * Nombre, somme, min, max et moyenne des revenus des prospects que renverrait findLeads.
+     */
+    @Override
+    public org.example.internal.InternalRevenueStats revenueStats(double lowAnnualRevenue, double highAnnualRevenue,
+            String province) throws ThriftWrongOrderForRevenueException, ThriftWrongStateException {
+        return org.example.internal.utils.ConverterUtils.toRevenueStats(
+                agregerRevenus(lowAnnualRevenue, highAnnualRevenue, province));
+    }
+
+    /**
+     * Histogramme (nombre et somme des revenus par groupe) des prospects que renverrait findLeads,
+     * groupBy = "state", "city" ou "month". Lance ThriftInvalidGroupByException pour un autre critère.
+     */
+    @Override
+    public List<org.example.internal.InternalLeadBucket> leadHistogram(String groupBy, double lowAnnualRevenue,
+            double highAnnualRevenue, String province)
+            throws ThriftWrongOrderForRevenueException, ThriftWrongStateException, ThriftInvalidGroupByException {
+        org.example.internal.model.Regroupement par;
+        try {
+            par = org.example.internal.model.Regroupement.depuis(groupBy);
+        } catch (IllegalArgumentException e) {
+            throw new ThriftInvalidGroupByException(e.getMessage());
+        }
+        try {
+            return org.example.internal.utils.ConverterUtils.toBuckets(
+                    model.histogramme(par, lowAnnualRevenue, highAnnualRevenue, province));
+        } catch (org.example.internal.model.exception.WrongOrderForRevenueException e) {
+            throw new ThriftWrongOrderForRevenueException(e.getMessage());
+        } catch (org.example.internal.model.exception.WrongStateException e) {
+            throw new ThriftWrongStateException(e.getMessage());
+        }
+    }
+
+    private org.example.internal.model.AgregatRevenus agregerRevenus(double low, double high, String province)
+            throws ThriftWrongOrderForRevenueException, ThriftWrongStateException {
+        try {
+            return model.agregerRevenus(low, high, province);
+        } catch (org.example.internal.model.exception.WrongOrderForRevenueException e) {
+            throw new ThriftWrongOrderForRevenueException(e.getMessage());
+        } catch (org.example.internal.model.exception.WrongStateException e) {
+            throw new ThriftWrongStateException(e.getMessage());
+        }
+    }
+
     private boolean equalsWithoutId(org.example.internal.model.Lead a, org.example.internal.model.Lead b) {
         if (a == null || b == null)
             return false;
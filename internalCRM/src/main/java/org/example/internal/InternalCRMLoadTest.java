@@ -0,0 +1,111 @@
+package org.example.internal;
+
+import org.apache.thrift.transport.TTransport;
+import org.example.internal.utils.ThriftConfig;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Test de charge du serveur Thrift InternalCRM (serveur à démarrer au préalable).
+ *
+ * Exécution :
+ *   ./gradlew :internalCRM:runInternalCRMServer -Pmode=threadpool
+ *   ./gradlew :internalCRM:runInternalCRMLoadTest
+ *   ./gradlew :internalCRM:runInternalCRMLoadTest -PloadArgs="localhost 9090 1,16,256 10 framed"
+ *
+ * Arguments : hôte, port, nombres de clients concurrents, durée de mesure (s) par palier,
+ * "framed" pour un serveur en mode selector (ou -Dinternalcrm.thrift.transport=framed).
+ * Le protocole suit ThriftConfig (-Dinternalcrm.thrift.protocol, -Pprotocol avec gradle).
+ * Chaque client ouvre sa propre connexion et enchaîne des findLeads(50000, 100000, null) ;
+ * on affiche le débit (appels/s) et les latences p50 / p99 de chaque palier.
+ */
+public class InternalCRMLoadTest {
+
+    private static final long ECHAUFFEMENT_MS = 2_000;
+
+    public static void main(String[] args) throws Exception {
+        String hote = args.length > 0 ? args[0] : "localhost";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : InternalCRMServer.DEFAULT_PORT;
+        int[] paliers = Arrays.stream((args.length > 2 ? args[2] : "1,16,256").split(","))
+                .mapToInt(Integer::parseInt).toArray();
+        int duree = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+        boolean framed = (args.length > 4 && "framed".equals(args[4])) || ThriftConfig.framed();
+
+        System.out.println("═══ Charge " + hote + ":" + port + " (" + ThriftConfig.protocole() + (framed ? "/framed" : "") + "), " + duree + " s par palier ═══");
+        for (int clients : paliers) {
+            mesurer(hote, port, framed, clients, duree);
+        }
+    }
+
+    private static void mesurer(String hote, int port, boolean framed, int clients, int duree) throws Exception {
+        Latences[] latences = new Latences[clients];
+        Thread[] threads = new Thread[clients];
+        CountDownLatch prets = new CountDownLatch(clients);
+        long debutMesure = System.nanoTime() + ECHAUFFEMENT_MS * 1_000_000L;
+        long finMesure = debutMesure + duree * 1_000_000_000L;
+        int[] erreurs = new int[1];
+
+        for (int c = 0; c < clients; c++) {
+            Latences l = latences[c] = new Latences();
+            threads[c] = new Thread(() -> {
+                try {
+                    TTransport transport = ThriftConfig.transportClient(hote, port, 0, framed);
+                    transport.open();
+                    try {
+                        InternalCRM.Client client = new InternalCRM.Client(ThriftConfig.protocole(transport));
+                        prets.countDown();
+                        long t;
+                        while ((t = System.nanoTime()) < finMesure) {
+                            client.findLeads(50000, 100000, null);
+                            // Les appels commencés pendant l'échauffement ne sont pas comptés
+                            if (t >= debutMesure) l.ajouter(System.nanoTime() - t);
+                        }
+                    } finally {
+                        transport.close();
+                    }
+                } catch (Exception e) {
+                    prets.countDown();
+                    synchronized (erreurs) {
+                        if (erreurs[0]++ == 0) System.out.println("  [Erreur client] " + e);
+                    }
+                }
+            }, "charge-" + c);
+            threads[c].start();
+        }
+        prets.await();
+        for (Thread t : threads) t.join();
+
+        // Fusion des latences de tous les clients
+        int total = 0;
+        for (Latences l : latences) total += l.taille;
+        long[] toutes = new long[total];
+        int pos = 0;
+        for (Latences l : latences) {
+            System.arraycopy(l.valeurs, 0, toutes, pos, l.taille);
+            pos += l.taille;
+        }
+        Arrays.sort(toutes);
+
+        System.out.printf("  %4d clients : %,9.0f appels/s   p50 %8.2f ms   p99 %8.2f ms%s%n",
+                clients, total / (double) duree, centile(toutes, 0.50), centile(toutes, 0.99),
+                erreurs[0] > 0 ? "   (" + erreurs[0] + " clients en erreur)" : "");
+    }
+
+    private static double centile(long[] tries, double q) {
+        if (tries.length == 0) return Double.NaN;
+        int i = (int) Math.min(tries.length - 1, Math.ceil(q * tries.length) - 1);
+        return tries[Math.max(0, i)] / 1e6;
+    }
+
+    // Latences (ns) d'un client : tableau extensible, un seul thread écrivain
+    private static final class Latences {
+        long[] valeurs = new long[4096];
+        int taille;
+
+        void ajouter(long ns) {
+            if (taille == valeurs.length) valeurs = Arrays.copyOf(valeurs, taille * 2);
+            valeurs[taille++] = ns;
+        }
+    }
+}
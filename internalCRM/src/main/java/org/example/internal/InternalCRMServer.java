@@ -1,50 +1,352 @@
 package org.example.internal;
 
+import org.apache.thrift.TAsyncProcessor;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TProtocolFactory;
 import org.apache.thrift.server.TServer;
 import org.apache.thrift.server.TSimpleServer;
+import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.server.TThreadedSelectorServer;
+import org.apache.thrift.transport.TNonblockingServerSocket;
 import org.apache.thrift.transport.TServerSocket;
-import org.apache.thrift.transport.TServerTransport;
+import org.apache.thrift.transport.TTransportFactory;
+import org.apache.thrift.transport.TTransportException;
+import org.example.internal.admission.AdmissionControl;
+import org.example.internal.admission.AdmissionProcessor;
+import org.example.internal.cache.CachingProcessor;
+import org.example.internal.model.JournaledLeadModel;
+import org.example.internal.model.LeadModel;
+import org.example.internal.model.LeadModelFactory;
+import org.example.internal.model.MappedLeadModel;
+import org.example.internal.services.MultiplexedServices;
+import org.example.internal.utils.ThriftConfig;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.StandardSocketOptions;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
- * SERVEUR CRM INTERNE — Serveur Thrift simple
+ * SERVEUR CRM INTERNE — Serveur Thrift
  *
  * But : démarrer un serveur Thrift (socket TCP) pour exposer l'interface InternalCRM.
  * Points importants :
  * - port par défaut : 9090 (modifiable via -Pport)
- * - ce serveur est de type simple (TSimpleServer) : utile pour tests locaux,
- *   pas pour la mise en production (pas de montée en charge).
+ * - mode du serveur choisi par le 2e argument ou -Dinternalcrm.server.mode (-Pmode avec gradle) :
+ *     threadpool (défaut) : TThreadPoolServer, un thread par connexion, pool borné
+ *                           (-Dinternalcrm.server.maxThreads, défaut 512 ; au-delà, les
+ *                           nouvelles connexions sont refusées)
+ *     selector            : TThreadedSelectorServer (NIO, transport "framed" obligatoire côté client)
+ *     async               : même serveur NIO, processeur asynchrone (InternalCRM.AsyncProcessor) :
+ *                           les balayages et les appels courts ont chacun leur pool
+ *                           (voir InternalCRMAsyncHandler), un createLead n'attend plus derrière
+ *                           des findLeads ; le cache findLeads n'est pas utilisé dans ce mode
+ *     virtual             : un thread virtuel par connexion (JDK 21+, sinon repli sur un pool non borné)
+ *     simple              : TSimpleServer, une connexion à la fois (tests locaux uniquement :
+ *                           VirtualCRM et manage se bloquent mutuellement)
+ * - protocole / transport : -Dinternalcrm.thrift.protocol=binary|compact,
+ *   -Dinternalcrm.thrift.transport=socket|framed (voir ThriftConfig, mêmes valeurs côté clients)
+ * - cache des réponses findLeads : -Dinternalcrm.cache.maxBytes (défaut 64 Mo, 0 = désactivé),
+ *   métriques JMX org.example.internal:type=ResponseCache (voir CachingProcessor)
+ * - contrôle d'admission : -Dinternalcrm.admission.maxConcurrent, .maxInFlightBytes, .acceptQueue ;
+ *   requête hors limites refusée par ThriftServerBusyException, métriques JMX
+ *   org.example.internal:type=AdmissionControl (voir AdmissionControl)
+ * - services multiplexés query / bulk / admin, un pool chacun (tous les modes sauf async) :
+ *   -Dinternalcrm.services.queryThreads, .bulkThreads, .adminThreads, file bornée .queueSize ;
+ *   les imports en lot n'occupent pas les threads des findLeads (voir MultiplexedServices) ;
+ *   le contrôle d'admission est placé devant eux
+ * - arrêt propre (Ctrl+C, SIGTERM) : nouveaux appels refusés par ThriftServerBusyException
+ *   (réessayable), écoute fermée, appels en cours terminés pendant au plus
+ *   -Dinternalcrm.server.drainTimeout secondes (défaut 30), puis journal forcé sur disque,
+ *   instantané final et fermeture du modèle "journaled" : le redémarrage recharge l'instantané
+ *   sans rejouer de journal
+ * - démarrage : le modèle est chargé avant l'ouverture du port, aucun appel n'est refusé pour
+ *   cause de démarrage
+ * - relève par un nouveau processus : -Dinternalcrm.server.reusePort=true (SO_REUSEPORT, modes
+ *   threadpool, virtual et simple). Avec le modèle "journaled", le nouveau processus précharge
+ *   l'instantané et le journal pendant que l'ancien sert encore, attend son verrou, rejoue la fin
+ *   du journal puis seulement ouvre le port ; l'ancien, voyant un successeur en attente, ne fait
+ *   pas d'instantané final (voir JournaledLeadModel). Les autres modèles sont en mémoire
+ *   seulement : la relève repart de leurs données initiales
  *
  * Exemples :
  *  ./gradlew :internalCRM:runInternalCRMServer
- *  ./gradlew :internalCRM:runInternalCRMServer -Pport=8080
+ *  ./gradlew :internalCRM:runInternalCRMServer -Pport=8080 -Pmode=selector
+ *  ./gradlew :internalCRM:runInternalCRMServer -Pmode=async -Ptransport=framed
+ *  ./gradlew :internalCRM:runInternalCRMServer -Pprotocol=compact -Ptransport=framed
  */
 public class InternalCRMServer {
 
     // Port par défaut (choix arbitraire) – pourrait être externalisé (env / args)
     public static final int DEFAULT_PORT = 9090;
 
+    public static final String MODE_PROPERTY = "internalcrm.server.mode";
+    public static final String MAX_THREADS_PROPERTY = "internalcrm.server.maxThreads";
+    public static final String DRAIN_TIMEOUT_PROPERTY = "internalcrm.server.drainTimeout";
+    public static final String REUSE_PORT_PROPERTY = "internalcrm.server.reusePort";
+    public static final String DEFAULT_MODE = "threadpool";
+
     public static void main(String[] args) throws Exception {
         // Récupérer le port depuis les arguments ou utiliser 9090 par défaut
         int port = DEFAULT_PORT;
         if (args.length > 0) {
-            try { 
-                port = Integer.parseInt(args[0]); 
-            } catch (NumberFormatException ignore) { 
+            try {
+                port = Integer.parseInt(args[0]);
+            } catch (NumberFormatException ignore) {
                 // Si le port n'est pas un nombre valide, on garde le port par défaut
             }
         }
+        String mode = (args.length > 1) ? args[1] : System.getProperty(MODE_PROPERTY, DEFAULT_MODE);
+
+        // Limites de requêtes / octets / file d'attente, partagées par le processeur et le serveur
+        AdmissionControl admission = AdmissionControl.depuisConfiguration("serveur");
+        admission.enregistrerJmx();
+        MultiplexedServices services = "async".equals(mode) ? null : MultiplexedServices.depuisConfiguration();
 
-        // Créer le gestionnaire qui répond aux requêtes (notre code métier)
+        // Modèle chargé (instantané, journal ; en relève : préchargement, verrou, fin du journal)
+        // avant l'ouverture du port : aucun appel n'est refusé pour cause de démarrage
+        long debut = System.nanoTime();
         InternalCRMHandler handler = new InternalCRMHandler();
-        InternalCRM.Processor<InternalCRMHandler> processor = new InternalCRM.Processor<>(handler);
+        System.out.printf("[InternalCRM] Modèle prêt en %.2f s%n", (System.nanoTime() - debut) / 1e9);
+        TServer server = creerServeur(mode, port, creerProcesseur(mode, handler, admission, services), admission);
+        long drainMs = Long.getLong(DRAIN_TIMEOUT_PROPERTY, 30) * 1000;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> arreter(server, admission, services, drainMs),
+                "internalcrm-arret"));
 
-        // Créer la "prise" réseau pour écouter les connexions
-        TServerTransport serverTransport = new TServerSocket(port);
+        System.out.println("[InternalCRM] Serveur démarré sur le port " + port + " (mode " + mode + ", " + ThriftConfig.description() + "). Ctrl+C pour arrêter.");
+        server.serve(); // Boucle infinie qui attend les clients
+    }
 
-        // Créer le serveur (version simple qui traite une requête à la fois)
-        TServer server = new TSimpleServer(new TServer.Args(serverTransport).processor(processor));
+    /**
+     * Arrêt propre (hook d'arrêt de la JVM) : refus des nouveaux appels, fermeture de l'écoute,
+     * attente des appels en cours (au plus drainMs), arrêt des pools de services (null = aucun),
+     * puis persistance du modèle : journal forcé sur disque et fermé, ou fenêtres mappées forcées
+     * et fermées. Instantané final du journal, sauf si un processus de relève attend déjà le
+     * verrou (JournaledLeadModel.releveEnAttente) : il reprend alors la fin du journal, forcée
+     * par close() comme chaque écriture acquittée.
+     */
+    static void arreter(TServer server, AdmissionControl admission, MultiplexedServices services, long drainMs) {
+        long debut = System.nanoTime();
+        System.out.println("[InternalCRM] Arrêt : nouveaux appels refusés, fin des appels en cours...");
+        admission.arreter();
+        server.stop();
+        try {
+            if (!admission.attendreFin(drainMs)) {
+                System.out.println("[InternalCRM] " + admission.getActiveRequests() + " appel(s) encore en cours après "
+                        + drainMs + " ms : abandonnés");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (services != null) {
+            services.arreter();
+        }
+        long drain = System.nanoTime();
+        LeadModel model = LeadModelFactory.getModel();
+        if (model instanceof JournaledLeadModel) {
+            JournaledLeadModel journal = (JournaledLeadModel) model;
+            try {
+                // Instantané final : le prochain démarrage n'a plus de journal à rejouer.
+                // Relève en attente : elle a préchargé l'instantané précédent, un nouveau l'obligerait à tout recharger
+                if (journal.releveEnAttente()) {
+                    System.out.println("[InternalCRM] Relève en attente : pas d'instantané final, fin du journal transmise");
+                } else {
+                    journal.instantane();
+                }
+                journal.close();
+            } catch (IOException e) {
+                System.err.println("[InternalCRM] Persistance du modèle à l'arrêt : " + e.getMessage());
+            }
+        } else if (model instanceof MappedLeadModel) {
+            try {
+                // Fenêtres mappées forcées sur disque puis fichiers fermés
+                ((MappedLeadModel) model).close();
+            } catch (IOException e) {
+                System.err.println("[InternalCRM] Persistance du modèle à l'arrêt : " + e.getMessage());
+            }
+        }
+        System.out.printf("[InternalCRM] Arrêté (appels terminés en %.2f s, persistance en %.2f s)%n",
+                (drain - debut) / 1e9, (System.nanoTime() - drain) / 1e9);
+    }
 
-        System.out.println("[InternalCRM] Serveur démarré sur le port " + port + ". Ctrl+C pour arrêter.");
-        server.serve(); // Boucle infinie qui attend les clients
+    /**
+     * Processeur adapté au mode : asynchrone pour "async", sinon services multiplexés (query,
+     * bulk, admin, voir MultiplexedServices) au-dessus du processeur avec cache findLeads
+     * (réponses encodées, désactivé par -Dinternalcrm.cache.maxBytes=0).
+     */
+    public static TProcessor creerProcesseur(String mode, InternalCRM.Iface handler) {
+        return creerProcesseur(mode, handler, null);
+    }
+
+    // Idem derrière un contrôle d'admission (null = sans contrôle)
+    public static TProcessor creerProcesseur(String mode, InternalCRM.Iface handler, AdmissionControl admission) {
+        return creerProcesseur(mode, handler, admission,
+                "async".equals(mode) ? null : MultiplexedServices.depuisConfiguration());
+    }
+
+    // Idem avec les pools de services donnés (null = un seul service, appels sur le thread de la connexion)
+    public static TProcessor creerProcesseur(String mode, InternalCRM.Iface handler, AdmissionControl admission,
+                                             MultiplexedServices services) {
+        if ("async".equals(mode)) {
+            // Pas de TMultiplexedProcessor asynchrone en 0.16 : pools par type d'appel dans le handler
+            return new InternalCRM.AsyncProcessor<>(new InternalCRMAsyncHandler(handler, admission));
+        }
+        TProcessor processor = processeurServices(handler, services);
+        // Admission devant tout le reste : un appel refusé n'attend jamais dans la file d'un service
+        return admission == null ? processor : new AdmissionProcessor(processor, LeadModelFactory.getModel(), admission);
+    }
+
+    // Cache findLeads, puis services multiplexés s'il y en a (sans contrôle d'admission)
+    private static TProcessor processeurServices(InternalCRM.Iface handler, MultiplexedServices services) {
+        TProcessor processor = CachingProcessor.creer("serveur", handler, ThriftConfig.protocolFactory());
+        return services == null ? processor : services.processeur(processor);
+    }
+
+    /**
+     * Construit le serveur Thrift correspondant au mode demandé.
+     * Le handler et les modèles sont thread-safe : tous les modes peuvent traiter des appels concurrents.
+     * Protocole et transport viennent de ThriftConfig.
+     */
+    public static TServer creerServeur(String mode, int port, TProcessor processor) throws TTransportException {
+        return creerServeur(mode, port, processor, null);
+    }
+
+    /**
+     * Idem avec un contrôle d'admission (null = sans contrôle) : file d'attente bornée
+     * (acceptQueue) devant les threads des modes threadpool, selector et async, et file TCP
+     * des connexions non acceptées de même taille.
+     */
+    public static TServer creerServeur(String mode, int port, TProcessor processor, AdmissionControl admission)
+            throws TTransportException {
+        int maxThreads = Integer.getInteger(MAX_THREADS_PROPERTY, 512);
+        TProtocolFactory protocolFactory = ThriftConfig.protocolFactory();
+        TTransportFactory transportFactory = ThriftConfig.transportFactory();
+        switch (mode) {
+            case "simple":
+                // Version simple qui traite une connexion à la fois
+                return new TSimpleServer(new TServer.Args(socketServeur(port, null))
+                        .processor(processor)
+                        .protocolFactory(protocolFactory)
+                        .transportFactory(transportFactory));
+            case "threadpool": {
+                TThreadPoolServer.Args args = new TThreadPoolServer.Args(socketServeur(port, admission))
+                        .processor(processor)
+                        .protocolFactory(protocolFactory)
+                        .transportFactory(transportFactory)
+                        .minWorkerThreads(4)
+                        .maxWorkerThreads(maxThreads);
+                if (admission != null) {
+                    // Au plus maxThreads connexions servies, acceptQueue en attente, les suivantes fermées
+                    args.executorService(admission.creerPool(maxThreads));
+                }
+                return new TThreadPoolServer(args);
+            }
+            case "selector": {
+                avertirReusePort(mode);
+                // Sélecteurs NIO pour les sockets, pool de travail borné pour les appels.
+                // Ce serveur lit toujours des trames : les clients doivent être en transport framed
+                if (!ThriftConfig.framed()) {
+                    System.out.println("[InternalCRM] Mode selector : les clients doivent utiliser -D"
+                            + ThriftConfig.TRANSPORT_PROPERTY + "=framed");
+                }
+                int cpus = Runtime.getRuntime().availableProcessors();
+                return serveurSelecteurs(port, processor, protocolFactory, Math.max(2, cpus / 2),
+                        Math.min(maxThreads, Math.max(4, cpus * 4)), admission);
+            }
+            case "async": {
+                avertirReusePort(mode);
+                // Les workers du serveur ne font que décoder la trame et confier l'appel au handler
+                // asynchrone, qui rend la main aussitôt : les vrais pools sont dans InternalCRMAsyncHandler.
+                // (workerThreads 0 appellerait le handler depuis le sélecteur, mais stop() échoue alors en 0.16)
+                if (!(processor instanceof TAsyncProcessor)) {
+                    throw new IllegalArgumentException("Mode async : processeur asynchrone attendu (voir creerProcesseur)");
+                }
+                if (!ThriftConfig.framed()) {
+                    System.out.println("[InternalCRM] Mode async : les clients doivent utiliser -D"
+                            + ThriftConfig.TRANSPORT_PROPERTY + "=framed");
+                }
+                int cpus = Runtime.getRuntime().availableProcessors();
+                return serveurSelecteurs(port, processor, protocolFactory, Math.max(2, cpus / 2),
+                        Math.max(2, cpus / 2), admission);
+            }
+            case "virtual":
+                return new TThreadPoolServer(new TThreadPoolServer.Args(socketServeur(port, admission))
+                        .processor(processor)
+                        .protocolFactory(protocolFactory)
+                        .transportFactory(transportFactory)
+                        .executorService(executeurThreadsVirtuels()));
+            default:
+                throw new IllegalArgumentException("Mode de serveur inconnu : " + mode
+                        + " (attendu : threadpool, selector, async, virtual, simple)");
+        }
+    }
+
+    /**
+     * Socket d'écoute bloquante, file TCP bornée par acceptQueue si un contrôle d'admission est fourni.
+     * Avec -Dinternalcrm.server.reusePort=true, SO_REUSEPORT : un nouveau processus peut écouter sur
+     * le même port pendant que l'ancien termine ses appels (le noyau répartit les connexions).
+     */
+    private static TServerSocket socketServeur(int port, AdmissionControl admission) throws TTransportException {
+        int backlog = admission != null && admission.capaciteFile() > 0 ? admission.capaciteFile() : 0;
+        if (!Boolean.getBoolean(REUSE_PORT_PROPERTY)) {
+            return new TServerSocket(new TServerSocket.ServerSocketTransportArgs().port(port).backlog(backlog));
+        }
+        try {
+            ServerSocket socket = new ServerSocket();
+            socket.setReuseAddress(true);
+            if (socket.supportedOptions().contains(StandardSocketOptions.SO_REUSEPORT)) {
+                socket.setOption(StandardSocketOptions.SO_REUSEPORT, true);
+            } else {
+                System.out.println("[InternalCRM] SO_REUSEPORT non supporté par ce système : " + REUSE_PORT_PROPERTY + " ignoré");
+            }
+            socket.bind(new InetSocketAddress(port), backlog);
+            return new TServerSocket(socket);
+        } catch (IOException e) {
+            throw new TTransportException("Impossible d'écouter sur le port " + port, e);
+        }
+    }
+
+    // TNonblockingServerSocket crée lui-même son canal : pas de SO_REUSEPORT en modes selector et async
+    private static void avertirReusePort(String mode) {
+        if (Boolean.getBoolean(REUSE_PORT_PROPERTY)) {
+            System.out.println("[InternalCRM] Mode " + mode + " : " + REUSE_PORT_PROPERTY + " ignoré (threadpool, virtual ou simple uniquement)");
+        }
+    }
+
+    /**
+     * TThreadedSelectorServer (modes selector et async) ; avec un contrôle d'admission, les trames
+     * lues attendent un worker dans une file bornée (acceptQueue), au-delà la connexion est fermée.
+     */
+    private static TServer serveurSelecteurs(int port, TProcessor processor, TProtocolFactory protocolFactory,
+                                             int selecteurs, int workers, AdmissionControl admission)
+            throws TTransportException {
+        TNonblockingServerSocket socket = admission != null && admission.capaciteFile() > 0
+                ? new TNonblockingServerSocket(new TNonblockingServerSocket.NonblockingAbstractServerSocketArgs()
+                        .port(port).backlog(admission.capaciteFile()))
+                : new TNonblockingServerSocket(port);
+        TThreadedSelectorServer.Args args = new TThreadedSelectorServer.Args(socket)
+                .processor(processor)
+                .protocolFactory(protocolFactory)
+                .selectorThreads(selecteurs)
+                .workerThreads(workers);
+        if (admission != null) {
+            args.executorService(admission.creerPool(workers));
+        }
+        return new TThreadedSelectorServer(args);
+    }
+
+    /**
+     * Exécuteur "un thread virtuel par tâche" (JDK 21+). Le projet compile en Java 17 :
+     * l'API est donc appelée par réflexion, avec repli sur un pool de threads classiques.
+     */
+    private static ExecutorService executeurThreadsVirtuels() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            System.out.println("[InternalCRM] Threads virtuels indisponibles (JDK < 21) : repli sur un pool de threads non borné");
+            return Executors.newCachedThreadPool();
+        }
     }
 }
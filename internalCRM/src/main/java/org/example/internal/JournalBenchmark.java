@@ -0,0 +1,118 @@
+package org.example.internal;
+
+import org.example.internal.model.JournaledLeadModel;
+import org.example.internal.model.Lead;
+import org.example.internal.model.LeadModelImpl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Calendar;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark de la persistance par journal (JournaledLeadModel).
+ *
+ * Exécution :
+ *   ./gradlew :internalCRM:runJournalBenchmark
+ *   ./gradlew :internalCRM:runJournalBenchmark -PbenchArgs="8 20000 1000000"
+ *
+ * Arguments : threads écrivains, opérations mesurées par mode, taille du test de reprise.
+ * Mesure :
+ *   1. débit de createLead avec un fsync par opération ("each") puis avec group commit ("group")
+ *   2. temps de reprise : instantané de N prospects + fin de journal (10 % de N), puis réouverture
+ * Les fichiers sont créés dans un dossier temporaire supprimé à la fin.
+ */
+public class JournalBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int operations = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+        int tailleReprise = args.length > 2 ? Integer.parseInt(args[2]) : 1_000_000;
+
+        Path dossier = Files.createTempDirectory("internalcrm-wal");
+        try {
+            System.out.println("═══ Débit d'écriture (" + threads + " threads, " + operations + " createLead) ═══");
+            for (String mode : new String[]{"each", "group"}) {
+                Path prefixe = dossier.resolve("debit-" + mode);
+                JournaledLeadModel model = new JournaledLeadModel(new LeadModelImpl(), prefixe, "group".equals(mode), 0);
+                double parSeconde = mesurerDebit(model, threads, operations);
+                model.close();
+                System.out.printf("  fsync %-5s : %,10.0f créations/s%n", mode, parSeconde);
+            }
+
+            System.out.println("═══ Reprise après redémarrage (" + tailleReprise + " prospects) ═══");
+            Path prefixe = dossier.resolve("reprise");
+            JournaledLeadModel model = new JournaledLeadModel(new LeadModelImpl(), prefixe, true, 0);
+            remplir(model, tailleReprise, threads);
+            model.instantane();
+            remplir(model, tailleReprise / 10, threads);
+            model.close();
+
+            long t0 = System.nanoTime();
+            JournaledLeadModel reouvert = new JournaledLeadModel(new LeadModelImpl(), prefixe, true, 0);
+            double ms = (System.nanoTime() - t0) / 1e6;
+            System.out.printf("  instantané + fin de journal : %d prospects restaurés en %.0f ms%n", reouvert.size(), ms);
+            reouvert.close();
+        } finally {
+            try (Stream<Path> fichiers = Files.list(dossier)) {
+                fichiers.forEach(p -> {
+                    try {
+                        Files.deleteIfExists(p);
+                    } catch (IOException ignore) {
+                        // nettoyage best effort
+                    }
+                });
+            }
+            Files.deleteIfExists(dossier);
+        }
+    }
+
+    private static double mesurerDebit(JournaledLeadModel model, int threads, int operations) throws Exception {
+        long t0 = System.nanoTime();
+        remplir(model, operations, threads);
+        return operations / ((System.nanoTime() - t0) / 1e9);
+    }
+
+    // Crée n prospects répartis sur plusieurs threads (le group commit n'a d'effet qu'en concurrence)
+    private static void remplir(JournaledLeadModel model, int n, int threads) throws InterruptedException {
+        AtomicInteger compteur = new AtomicInteger();
+        Thread[] ecrivains = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            ecrivains[t] = new Thread(() -> {
+                int i;
+                while ((i = compteur.getAndIncrement()) < n) {
+                    try {
+                        model.createLead(prospect(i));
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            });
+            ecrivains[t].start();
+        }
+        for (Thread t : ecrivains) {
+            t.join();
+        }
+    }
+
+    private static Lead prospect(int i) {
+        Lead l = new Lead();
+        l.setFirstName("Prenom" + (i % 1000));
+        l.setLastName("Nom" + (i % 5000));
+        l.setAnnualRevenue(10_000 + (i % 200_000));
+        l.setPhone("+332" + (40_000_000 + i));
+        l.setStreet(i + " rue Exemple");
+        l.setPostalCode("44000");
+        l.setCity("Nantes");
+        l.setCountry("France");
+        l.setCompanyName("Entreprise " + (i % 2000));
+        l.setState("Loire-Atlantique");
+        Calendar cal = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        cal.setTimeInMillis(1_700_000_000_000L + i * 60_000L);
+        l.setCreationDate(cal);
+        return l;
+    }
+}
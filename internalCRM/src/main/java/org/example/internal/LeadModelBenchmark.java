@@ -0,0 +1,130 @@
+package org.example.internal;
+
+import org.example.internal.model.Lead;
+import org.example.internal.model.LeadModel;
+import org.example.internal.model.LeadModelImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Micro-benchmark de findLeads : balayage complet vs index revenu.
+ *
+ * Exécution :
+ *   ./gradlew :internalCRM:runLeadModelBenchmark
+ *   ./gradlew :internalCRM:runLeadModelBenchmark -Psizes=10000,1000000
+ *
+ * Pour chaque taille N :
+ *   - remplit un LeadModelImpl avec N prospects (revenus uniformes entre 0 et 1M€)
+ *   - "scan"  : balayage d'une ConcurrentHashMap identique à l'ancienne implémentation
+ *   - "index" : LeadModelImpl.findLeads (sous-ensemble de l'index trié)
+ *   - requêtes sur une tranche étroite de revenus (0,1 % de la plage, ~N/1000 résultats)
+ *
+ * Les temps sont indicatifs (pas de JMH) : moyenne par requête après une phase de chauffe.
+ */
+public class LeadModelBenchmark {
+
+    private static final double REVENU_MAX = 1_000_000.0;
+    private static final double LARGEUR_TRANCHE = REVENU_MAX / 1000;
+    private static final String[] ETATS = {
+            "Loire-Atlantique", "Maine-et-Loire", "Vendée", "Sarthe", "Mayenne", "Paris", "Rhône"
+    };
+
+    public static void main(String[] args) throws Exception {
+        int[] tailles = {10_000, 1_000_000, 5_000_000};
+        if (args.length > 0) {
+            String[] parts = args[0].split(",");
+            tailles = new int[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                tailles[i] = Integer.parseInt(parts[i].trim());
+            }
+        }
+
+        System.out.println("N           | scan (µs/req) | index (µs/req) | résultats/req | gain");
+        System.out.println("------------+---------------+----------------+---------------+--------");
+        for (int n : tailles) {
+            mesurer(n);
+            System.gc();
+        }
+    }
+
+    private static void mesurer(int n) throws Exception {
+        Random rnd = new Random(42);
+        LeadModel model = new LeadModelImpl();
+        // Référence : même structure que l'ancien store (ConcurrentHashMap parcourue en entier)
+        Map<Long, Lead> reference = new ConcurrentHashMap<>();
+
+        for (int i = 0; i < n; i++) {
+            Lead l = new Lead();
+            l.setFirstName("Prenom" + (i % 1000));
+            l.setLastName("Nom" + (i % 5000));
+            l.setAnnualRevenue(Math.floor(rnd.nextDouble() * REVENU_MAX));
+            l.setState(ETATS[i % ETATS.length]);
+            long id = model.createLead(l);
+            l.setId(id);
+            reference.put(id, l);
+        }
+
+        // Peu de requêtes en mode scan sur les grands volumes (chaque requête coûte O(N))
+        int requetesScan = Math.max(5, Math.min(500, 20_000_000 / n));
+        int requetesIndex = 5_000;
+
+        // Chauffe (JIT) sur les deux chemins
+        executerScan(reference, rnd, requetesScan);
+        executerIndex(model, rnd, requetesIndex);
+
+        long t0 = System.nanoTime();
+        long resScan = executerScan(reference, rnd, requetesScan);
+        double scanMicros = (System.nanoTime() - t0) / 1_000.0 / requetesScan;
+
+        t0 = System.nanoTime();
+        long resIndex = executerIndex(model, rnd, requetesIndex);
+        double indexMicros = (System.nanoTime() - t0) / 1_000.0 / requetesIndex;
+
+        System.out.printf("%-11d | %13.1f | %14.1f | %13.1f | x%.0f%n",
+                n, scanMicros, indexMicros, (double) resIndex / requetesIndex, scanMicros / indexMicros);
+        if (resScan < 0) {
+            System.out.println(); // empêche l'élimination du code mort
+        }
+    }
+
+    private static long executerScan(Map<Long, Lead> reference, Random rnd, int requetes) {
+        long total = 0;
+        for (int q = 0; q < requetes; q++) {
+            double low = rnd.nextDouble() * (REVENU_MAX - LARGEUR_TRANCHE);
+            double high = low + LARGEUR_TRANCHE;
+            List<Lead> res = new ArrayList<>();
+            for (Lead l : reference.values()) {
+                double r = l.getAnnualRevenue();
+                if (r >= low && r <= high) {
+                    res.add(copier(l));
+                }
+            }
+            total += res.size();
+        }
+        return total;
+    }
+
+    private static long executerIndex(LeadModel model, Random rnd, int requetes) throws Exception {
+        long total = 0;
+        for (int q = 0; q < requetes; q++) {
+            double low = rnd.nextDouble() * (REVENU_MAX - LARGEUR_TRANCHE);
+            total += model.findLeads(low, low + LARGEUR_TRANCHE, null).size();
+        }
+        return total;
+    }
+
+    // Copie équivalente à copyForReturn, pour comparer à coût de copie égal
+    private static Lead copier(Lead src) {
+        Lead c = new Lead();
+        c.setId(src.getId());
+        c.setFirstName(src.getLastName() + ", " + src.getFirstName());
+        c.setLastName("");
+        c.setAnnualRevenue(src.getAnnualRevenue());
+        c.setState(src.getState());
+        return c;
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.internal;
+
+import org.example.internal.model.Lead;
+import org.example.internal.model.LeadModel;
+import org.example.internal.model.LeadModelFactory;
+
+import java.lang.ref.Reference;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * Mesure de l'empreinte mémoire (octets par prospect) des implémentations de LeadModel.
+ *
+ * Exécution :
+ *   ./gradlew :internalCRM:runLeadModelFootprint
+ *   ./gradlew :internalCRM:runLeadModelFootprint -Psizes=1000000
+ *
+ * Pour chaque implémentation ("default", "columnar") : heap utilisé après GC
+ * avant/après insertion de N prospects complets (11 champs + date de création).
+ * Mesure approximative (Runtime.totalMemory - freeMemory), suffisante pour comparer.
+ */
+public class LeadModelFootprint {
+
+    private static final String[] MODELES = {"default", "columnar"};
+    private static final String[] ETATS = {
+            "Loire-Atlantique", "Maine-et-Loire", "Vendée", "Sarthe", "Mayenne", "Paris", "Rhône"
+    };
+    private static final String[] VILLES = {"Nantes", "Angers", "La Roche-sur-Yon", "Le Mans", "Laval", "Paris", "Lyon"};
+
+    public static void main(String[] args) throws Exception {
+        int[] tailles = {1_000_000};
+        if (args.length > 0) {
+            String[] parts = args[0].split(",");
+            tailles = new int[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                tailles[i] = Integer.parseInt(parts[i].trim());
+            }
+        }
+
+        System.out.println("Modèle     | N           | heap (Mo) | octets/prospect");
+        System.out.println("-----------+-------------+-----------+----------------");
+        for (int n : tailles) {
+            for (String nom : MODELES) {
+                long avant = heapUtilise();
+                LeadModel model = LeadModelFactory.createModel(nom);
+                remplir(model, n);
+                long apres = heapUtilise();
+                // Modèle atteignable (non collecté) jusqu'après la mesure
+                Reference.reachabilityFence(model);
+                System.out.printf("%-10s | %-11d | %9.1f | %14.1f%n",
+                        nom, n, (apres - avant) / (1024.0 * 1024.0), (double) (apres - avant) / n);
+            }
+        }
+    }
+
+    private static void remplir(LeadModel model, int n) throws Exception {
+        Calendar base = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        base.set(2024, Calendar.JANUARY, 1, 0, 0, 0);
+        long t0 = base.getTimeInMillis();
+        for (int i = 0; i < n; i++) {
+            Lead l = new Lead();
+            l.setFirstName("Prenom" + (i % 1000));
+            l.setLastName("Nom" + (i % 5000));
+            l.setAnnualRevenue(10_000 + (i % 200_000));
+            l.setPhone("+332" + (40_000_000 + i));
+            l.setStreet(i + " rue Exemple");
+            l.setPostalCode(String.valueOf(44_000 + (i % 100)));
+            l.setCity(VILLES[i % VILLES.length]);
+            l.setCountry("France");
+            l.setCompanyName("Entreprise " + (i % 2000));
+            l.setState(ETATS[i % ETATS.length]);
+            Calendar cal = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+            cal.setTimeInMillis(t0 + i * 60_000L);
+            l.setCreationDate(cal);
+            model.createLead(l);
+        }
+    }
+
+    private static long heapUtilise() throws InterruptedException {
+        Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return rt.totalMemory() - rt.freeMemory();
+    }
+}
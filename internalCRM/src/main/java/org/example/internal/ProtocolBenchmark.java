@@ -0,0 +1,92 @@
+package org.example.internal;
+
+import org.apache.thrift.TDeserializer;
+import org.apache.thrift.TSerializer;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.example.internal.utils.ThriftConfig;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmark des protocoles Thrift sur une réponse findLeads.
+ *
+ * Exécution :
+ *   ./gradlew :internalCRM:runProtocolBenchmark
+ *   ./gradlew :internalCRM:runProtocolBenchmark -PbenchArgs="10000 200"
+ *
+ * Arguments : nombre de prospects dans la réponse, itérations mesurées.
+ * Pour TBinaryProtocol et TCompactProtocol :
+ *   - octets sur le fil de la réponse (InternalCRM.findLeads_result, + 4 octets par trame en framed)
+ *   - temps CPU moyen de sérialisation (serveur) et de désérialisation (client)
+ * Les temps sont indicatifs (pas de JMH) : moyenne après une phase de chauffe.
+ */
+public class ProtocolBenchmark {
+
+    private static final String[] ETATS = {
+            "Loire-Atlantique", "Maine-et-Loire", "Vendée", "Sarthe", "Mayenne", "Paris", "Rhône"
+    };
+    private static final String[] VILLES = {"Nantes", "Angers", "La Roche-sur-Yon", "Le Mans", "Laval", "Paris", "Lyon"};
+
+    public static void main(String[] args) throws Exception {
+        int taille = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+        InternalCRM.findLeads_result reponse = new InternalCRM.findLeads_result();
+        reponse.setSuccess(genererDtos(taille));
+
+        ThreadMXBean cpu = ManagementFactory.getThreadMXBean();
+        System.out.println("═══ Réponse findLeads de " + taille + " prospects (" + iterations + " itérations) ═══");
+        for (String nom : new String[]{"binary", "compact"}) {
+            TProtocolFactory factory = ThriftConfig.protocolFactory(nom);
+            TSerializer serializer = new TSerializer(factory);
+            TDeserializer deserializer = new TDeserializer(factory);
+
+            byte[] octets = serializer.serialize(reponse);
+            // Chauffe
+            for (int i = 0; i < iterations; i++) {
+                deserializer.deserialize(new InternalCRM.findLeads_result(), serializer.serialize(reponse));
+            }
+
+            long t0 = cpu.getCurrentThreadCpuTime();
+            for (int i = 0; i < iterations; i++) {
+                octets = serializer.serialize(reponse);
+            }
+            long t1 = cpu.getCurrentThreadCpuTime();
+            for (int i = 0; i < iterations; i++) {
+                deserializer.deserialize(new InternalCRM.findLeads_result(), octets);
+            }
+            long t2 = cpu.getCurrentThreadCpuTime();
+
+            System.out.printf("  %-8s : %,10d octets (%5.1f o/prospect)   sérialisation %6.2f ms   désérialisation %6.2f ms%n",
+                    nom, octets.length, octets.length / (double) taille,
+                    (t1 - t0) / 1e6 / iterations, (t2 - t1) / 1e6 / iterations);
+        }
+    }
+
+    // Prospects au format retourné par le serveur ("Nom, Prénom", date ISO-8601)
+    private static List<InternalLeadDTO> genererDtos(int n) {
+        Random rnd = new Random(42);
+        List<InternalLeadDTO> dtos = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            int v = rnd.nextInt(VILLES.length);
+            InternalLeadDTO dto = new InternalLeadDTO();
+            dto.setFirstName("Nom" + i + ", Prénom" + i);
+            dto.setLastName("");
+            dto.setAnnualRevenue(rnd.nextInt(1_000_000));
+            dto.setPhone(String.format("+33 6 %02d %02d %02d %02d", rnd.nextInt(100), rnd.nextInt(100), rnd.nextInt(100), rnd.nextInt(100)));
+            dto.setStreet((1 + rnd.nextInt(200)) + " rue de la République");
+            dto.setPostalCode(String.valueOf(44000 + rnd.nextInt(1000)));
+            dto.setCity(VILLES[v]);
+            dto.setCountry("France");
+            dto.setCreationDate(String.format("2024-%02d-%02dT10:00:00Z", 1 + rnd.nextInt(12), 1 + rnd.nextInt(28)));
+            dto.setCompanyName("Entreprise " + rnd.nextInt(500));
+            dto.setState(ETATS[v]);
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.internal;
+
+import org.apache.thrift.TByteArrayOutputStream;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.transport.TIOStreamTransport;
+import org.apache.thrift.transport.TMemoryInputTransport;
+import org.example.internal.cache.CachingProcessor;
+import org.example.internal.cache.ResponseCache;
+import org.example.internal.model.Lead;
+import org.example.internal.model.LeadModel;
+import org.example.internal.model.LeadModelFactory;
+import org.example.internal.utils.ThriftConfig;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Micro-benchmark du cache de réponses findLeads (CachingProcessor), sans réseau :
+ * les appels Thrift sont encodés une fois puis traités par le processeur en mémoire.
+ *
+ * Exécution :
+ *   ./gradlew :internalCRM:runResponseCacheBenchmark
+ *   ./gradlew :internalCRM:runResponseCacheBenchmark -PbenchArgs="100000 20000"
+ *
+ * Arguments : nombre de prospects stockés, appels mesurés par chemin.
+ * 20 requêtes "tableau de bord" (tranches de ~1 % des revenus, avec ou sans état) tournent en boucle :
+ *   - "processeur généré"         : InternalCRM.Processor (requête + DTO + sérialisation à chaque appel)
+ *   - "cache"                     : CachingProcessor, aucune écriture (hits après le premier tour)
+ *   - "cache + 1 écriture / 100"  : un createLead tous les 100 appels (invalidation par version)
+ * Avant la mesure, chaque réponse du cache est comparée octet par octet à celle du processeur généré.
+ */
+public class ResponseCacheBenchmark {
+
+    private static final String[] ETATS = {"Loire-Atlantique", "Maine-et-Loire", "Vendée", "Sarthe", "Mayenne"};
+    private static final int REQUETES = 20;
+
+    public static void main(String[] args) throws Exception {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int appels = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+
+        InternalCRMHandler handler = new InternalCRMHandler();
+        LeadModel model = LeadModelFactory.getModel();
+        Random rnd = new Random(42);
+        for (int i = 0; i < n; i++) {
+            model.createLead(lead(rnd, i));
+        }
+
+        TProtocolFactory protocolFactory = ThriftConfig.protocolFactory();
+        byte[][] requetes = new byte[REQUETES][];
+        for (int q = 0; q < REQUETES; q++) {
+            double low = 10_000 * q;
+            requetes[q] = encoderAppel(protocolFactory, q, low, low + 10_000, (q % 2 == 0) ? null : ETATS[q % ETATS.length]);
+        }
+
+        TProcessor genere = new InternalCRM.Processor<>(handler);
+        ResponseCache cache = new ResponseCache("benchmark", ResponseCache.DEFAULT_MAX_BYTES);
+        CachingProcessor enCache = new CachingProcessor(handler, model, protocolFactory, cache);
+
+        // Réponses identiques (deux passages : miss puis hit)
+        for (int tour = 0; tour < 2; tour++) {
+            for (int q = 0; q < REQUETES; q++) {
+                if (!Arrays.equals(traiter(genere, protocolFactory, requetes[q]), traiter(enCache, protocolFactory, requetes[q]))) {
+                    throw new IllegalStateException("Réponse du cache différente pour la requête " + q);
+                }
+            }
+        }
+
+        System.out.println("═══ " + model.size() + " prospects, " + appels + " appels findLeads par chemin, "
+                + ThriftConfig.description() + " ═══");
+        System.out.println("chemin                    | p50 (µs) | p99 (µs) | moyenne (µs)");
+        System.out.println("--------------------------+----------+----------+-------------");
+        mesurer("processeur généré", genere, protocolFactory, requetes, appels, 0, model, rnd);
+        mesurer("cache", enCache, protocolFactory, requetes, appels, 0, model, rnd);
+        mesurer("cache + 1 écriture / 100", enCache, protocolFactory, requetes, appels, 100, model, rnd);
+        System.out.println(cache.description());
+    }
+
+    private static void mesurer(String nom, TProcessor processeur, TProtocolFactory protocolFactory, byte[][] requetes,
+                                int appels, int ecritureTous, LeadModel model, Random rnd) throws Exception {
+        long[] latences = new long[appels];
+        long puits = 0;
+        // Première moitié : chauffe (JIT), seconde moitié mesurée
+        for (int a = -appels; a < appels; a++) {
+            if (ecritureTous > 0 && Math.floorMod(a, ecritureTous) == 0) {
+                model.createLead(lead(rnd, a));
+            }
+            long t0 = System.nanoTime();
+            puits += traiter(processeur, protocolFactory, requetes[Math.floorMod(a, requetes.length)]).length;
+            if (a >= 0) latences[a] = System.nanoTime() - t0;
+        }
+        long total = 0;
+        for (long l : latences) total += l;
+        Arrays.sort(latences);
+        System.out.printf("%-25s | %8.1f | %8.1f | %11.1f%n", nom,
+                centile(latences, 0.50), centile(latences, 0.99), total / 1_000.0 / appels);
+        if (puits < 0) {
+            System.out.println(); // empêche l'élimination du code mort
+        }
+    }
+
+    private static byte[] encoderAppel(TProtocolFactory protocolFactory, int seqid, double low, double high, String state) throws Exception {
+        TByteArrayOutputStream octets = new TByteArrayOutputStream();
+        TProtocol p = protocolFactory.getProtocol(new TIOStreamTransport(octets));
+        p.writeMessageBegin(new TMessage("findLeads", TMessageType.CALL, seqid));
+        new InternalCRM.findLeads_args(low, high, state).write(p);
+        p.writeMessageEnd();
+        return octets.toByteArray();
+    }
+
+    private static byte[] traiter(TProcessor processeur, TProtocolFactory protocolFactory, byte[] appel) throws Exception {
+        TByteArrayOutputStream reponse = new TByteArrayOutputStream(4096);
+        processeur.process(protocolFactory.getProtocol(new TMemoryInputTransport(appel)),
+                protocolFactory.getProtocol(new TIOStreamTransport(reponse)));
+        return reponse.toByteArray();
+    }
+
+    private static Lead lead(Random rnd, int i) {
+        Lead l = new Lead();
+        l.setFirstName("Prenom" + (i % 1000));
+        l.setLastName("Nom" + (i % 5000));
+        l.setAnnualRevenue(Math.floor(rnd.nextDouble() * 1_000_000));
+        l.setPhone("+33 6 " + i);
+        l.setCity("Nantes");
+        l.setCountry("France");
+        l.setState(ETATS[Math.floorMod(i, ETATS.length)]);
+        l.setCreationMillis(1_704_067_200_000L + i * 1000L);
+        return l;
+    }
+
+    private static double centile(long[] tries, double q) {
+        int i = (int) Math.min(tries.length - 1, Math.ceil(q * tries.length) - 1);
+        return tries[Math.max(0, i)] / 1_000.0;
+    }
+}
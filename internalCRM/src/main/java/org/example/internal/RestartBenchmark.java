@@ -0,0 +1,107 @@
+package org.example.internal;
+
+import org.example.internal.model.JournaledLeadModel;
+import org.example.internal.model.Lead;
+import org.example.internal.model.LeadModelImpl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Redémarrage du modèle "journaled" : arrêt propre (instantané final + fermeture, comme le hook
+ * d'arrêt d'InternalCRMServer) puis rechargement de l'instantané segmenté avec 1 thread puis
+ * avec les threads demandés.
+ *
+ * Exécution :
+ *   ./gradlew :internalCRM:runRestartBenchmark
+ *   ./gradlew :internalCRM:runRestartBenchmark -PbenchArgs="1000000 4"
+ *
+ * Arguments : nombre de prospects (défaut 5 000 000), threads de chargement (défaut : nombre de
+ * cœurs). Les fichiers sont créés dans un dossier temporaire supprimé à la fin.
+ */
+public class RestartBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        Path dossier = Files.createTempDirectory("internalcrm-restart");
+        Path prefixe = dossier.resolve("leads");
+        try {
+            System.out.println("═══ Redémarrage avec " + n + " prospects, "
+                    + Runtime.getRuntime().availableProcessors() + " cœur(s) ═══");
+            JournaledLeadModel model = new JournaledLeadModel(new LeadModelImpl(), prefixe, true, 0);
+            remplir(model, n, Math.max(4, threads));
+
+            long t0 = System.nanoTime();
+            model.instantane();
+            model.close();
+            System.out.printf("  arrêt (instantané final %,d Mo) : %6.2f s%n",
+                    Files.size(dossier.resolve("leads.snap")) >> 20, (System.nanoTime() - t0) / 1e9);
+            model = null;
+
+            for (int t : threads > 1 ? new int[]{1, threads} : new int[]{1}) {
+                System.gc();
+                System.setProperty(JournaledLeadModel.SNAPSHOT_THREADS_PROPERTY, String.valueOf(t));
+                long debut = System.nanoTime();
+                JournaledLeadModel reouvert = new JournaledLeadModel(new LeadModelImpl(), prefixe, true, 0);
+                double secondes = (System.nanoTime() - debut) / 1e9;
+                System.out.printf("  chargement, %2d thread(s)       : %6.2f s (%d prospects)%n",
+                        t, secondes, reouvert.size());
+                reouvert.close();
+            }
+        } finally {
+            try (Stream<Path> fichiers = Files.list(dossier)) {
+                fichiers.forEach(p -> {
+                    try {
+                        Files.deleteIfExists(p);
+                    } catch (IOException ignore) {
+                        // nettoyage best effort
+                    }
+                });
+            }
+            Files.deleteIfExists(dossier);
+        }
+    }
+
+    // Crée n prospects répartis sur plusieurs threads (group commit du journal)
+    private static void remplir(JournaledLeadModel model, int n, int threads) throws InterruptedException {
+        AtomicInteger compteur = new AtomicInteger();
+        Thread[] ecrivains = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            ecrivains[t] = new Thread(() -> {
+                int i;
+                while ((i = compteur.getAndIncrement()) < n) {
+                    try {
+                        model.createLead(prospect(i));
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            });
+            ecrivains[t].start();
+        }
+        for (Thread t : ecrivains) {
+            t.join();
+        }
+    }
+
+    private static Lead prospect(int i) {
+        Lead l = new Lead();
+        l.setFirstName("Prenom" + (i % 1000));
+        l.setLastName("Nom" + (i % 5000));
+        l.setAnnualRevenue(10_000 + (i % 200_000));
+        l.setPhone("+332" + (40_000_000 + i));
+        l.setStreet(i + " rue Exemple");
+        l.setPostalCode("44000");
+        l.setCity("Nantes");
+        l.setCountry("France");
+        l.setCompanyName("Entreprise " + (i % 2000));
+        l.setState("Loire-Atlantique");
+        l.setCreationMillis(1_700_000_000_000L + i * 60_000L);
+        return l;
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.internal;
+
+import org.example.internal.model.AgregatRevenus;
+import org.example.internal.model.BalayageParallele;
+import org.example.internal.model.ColumnarLeadModel;
+import org.example.internal.model.Lead;
+import org.example.internal.model.LeadModel;
+import org.example.internal.model.exception.NoSuchLeadException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Benchmark des balayages complets (prédicats sans index) selon le nombre de cœurs utilisés.
+ *
+ * Exécution :
+ *   ./gradlew :internalCRM:runScanBenchmark
+ *   ./gradlew :internalCRM:runScanBenchmark -PbenchArgs="1000000 1,2,4,8 30"
+ *
+ * Arguments : nombre de prospects, parallélismes testés (défaut : 1, 2, 4... jusqu'au nombre de
+ * cœurs), balayages mesurés par requête. Un ColumnarLeadModel est chargé par parallélisme,
+ * avec un BalayageParallele sur un ForkJoinPool de cette taille ("séq." = seuil infini) :
+ *   - "findLeads état"     : tranche de 50 % des revenus, un état sur 5 (~10 % des lignes renvoyées)
+ *   - "revenueStats"       : agrégat sur tous les revenus (prédicat + somme, aucun Lead matérialisé)
+ *   - "deleteLead libre"   : template nom + ville sans correspondant (balayage complet, rien supprimé)
+ * On affiche la latence p50 (ms) de chaque requête et l'accélération par rapport au séquentiel.
+ */
+public class ScanBenchmark {
+
+    private static final String[] ETATS = {"Loire-Atlantique", "Maine-et-Loire", "Vendée", "Sarthe", "Mayenne"};
+
+    public static void main(String[] args) throws Exception {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<Integer> parallelismes = new ArrayList<>();
+        if (args.length > 1) {
+            for (String p : args[1].split(",")) parallelismes.add(Integer.parseInt(p.trim()));
+        } else {
+            for (int p = 1; p <= Runtime.getRuntime().availableProcessors(); p *= 2) parallelismes.add(p);
+        }
+        int tours = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+
+        List<Lead> leads = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            leads.add(lead(i));
+        }
+
+        System.out.println("═══ " + n + " prospects (ColumnarLeadModel), " + Runtime.getRuntime().availableProcessors()
+                + " cœur(s), seuil parallèle " + BalayageParallele.parDefaut().seuil() + " lignes ═══");
+        System.out.println("cœurs | findLeads état (ms) | revenueStats (ms) | deleteLead libre (ms) | accélération");
+        System.out.println("------+---------------------+-------------------+-----------------------+-------------");
+        double reference = mesurer("séq.", BalayageParallele.sequentiel(), leads, tours, 0);
+        for (int p : parallelismes) {
+            ForkJoinPool pool = new ForkJoinPool(p);
+            try {
+                mesurer(String.valueOf(p), new BalayageParallele(pool, BalayageParallele.SEUIL_DEFAUT), leads, tours, reference);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    // Renvoie la somme des trois p50 (référence des accélérations)
+    private static double mesurer(String nom, BalayageParallele balayage, List<Lead> leads, int tours, double reference)
+            throws Exception {
+        LeadModel model = new ColumnarLeadModel(balayage);
+        model.createLeads(leads, new HashMap<>());
+
+        Lead template = new Lead();
+        template.setLastName("Nom-absent");
+        template.setCity("Nantes");
+        template.setAnnualRevenue(-1);
+
+        long[] recherche = new long[tours];
+        long[] stats = new long[tours];
+        long[] suppression = new long[tours];
+        long puits = 0;
+        // Premier tiers : chauffe (JIT), puis mesure
+        for (int t = -tours / 3; t < tours; t++) {
+            long t0 = System.nanoTime();
+            puits += model.findLeads(250_000, 750_000, ETATS[Math.floorMod(t, ETATS.length)]).size();
+            long t1 = System.nanoTime();
+            AgregatRevenus agregat = model.agregerRevenus(0, Double.MAX_VALUE, null);
+            puits += agregat.getNombre();
+            long t2 = System.nanoTime();
+            try {
+                model.deleteLead(template);
+            } catch (NoSuchLeadException attendu) {
+                puits++;
+            }
+            long t3 = System.nanoTime();
+            if (t >= 0) {
+                recherche[t] = t1 - t0;
+                stats[t] = t2 - t1;
+                suppression[t] = t3 - t2;
+            }
+        }
+        double p50Recherche = mediane(recherche);
+        double p50Stats = mediane(stats);
+        double p50Suppression = mediane(suppression);
+        double total = p50Recherche + p50Stats + p50Suppression;
+        System.out.printf("%5s | %19.2f | %17.2f | %21.2f | %11s%n", nom, p50Recherche, p50Stats, p50Suppression,
+                reference > 0 ? String.format("x%.2f", reference / total) : "-");
+        if (puits < 0) {
+            System.out.println(); // empêche l'élimination du code mort
+        }
+        return total;
+    }
+
+    private static double mediane(long[] latences) {
+        long[] tries = latences.clone();
+        Arrays.sort(tries);
+        return tries[tries.length / 2] / 1e6;
+    }
+
+    private static Lead lead(int i) {
+        Lead l = new Lead();
+        l.setFirstName("Prenom" + (i % 1000));
+        l.setLastName("Nom" + (i % 5000));
+        l.setAnnualRevenue((i * 7919L) % 1_000_000);
+        l.setPhone("+33 6 " + i);
+        l.setCity("Nantes");
+        l.setCountry("France");
+        l.setState(ETATS[i % ETATS.length]);
+        l.setCreationMillis(1_704_067_200_000L + i * 1000L);
+        return l;
+    }
+}
@@ -0,0 +1,170 @@
+package org.example.internal;
+
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TMultiplexedProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TTransport;
+import org.example.internal.model.Lead;
+import org.example.internal.model.LeadModel;
+import org.example.internal.model.LeadModelFactory;
+import org.example.internal.services.MultiplexedServices;
+import org.example.internal.utils.ThriftConfig;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latence des findLeadsPage interactifs pendant des imports en lot (createLeads puis deleteLeads
+ * en boucle) : un seul service (chaque appel sur le thread de sa connexion) vs services
+ * multiplexés query / bulk / admin (MultiplexedServices, pool bulk réduit).
+ *
+ * Exécution :
+ *   ./gradlew :internalCRM:runServicesBenchmark
+ *   ./gradlew :internalCRM:runServicesBenchmark -PbenchArgs="20000 8 1000 300 1"
+ *
+ * Arguments : nombre de prospects stockés, clients d'import, prospects par lot, findLeadsPage
+ * mesurés (un toutes les 10 ms environ), threads du pool bulk. Serveur threadpool et clients dans
+ * le même processus (ports 19390 et 19391). Le client mesuré est multiplexé (service "query"),
+ * les clients d'import ne le sont pas : leur service est déduit de la méthode.
+ */
+public class ServicesBenchmark {
+
+    private static final long PAUSE_MS = 10;
+    private static final String[] ETATS = {"Loire-Atlantique", "Maine-et-Loire", "Vendée", "Sarthe", "Mayenne"};
+
+    public static void main(String[] args) throws Exception {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int importeurs = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int taille = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        int pages = args.length > 3 ? Integer.parseInt(args[3]) : 300;
+        int threadsBulk = args.length > 4 ? Integer.parseInt(args[4]) : 1;
+
+        InternalCRMHandler handler = new InternalCRMHandler();
+        LeadModel model = LeadModelFactory.getModel();
+        for (int i = 0; i < n; i++) {
+            model.createLead(lead(i));
+        }
+
+        System.out.println("═══ findLeadsPage pendant " + importeurs + " import(s) de " + taille + " prospects sur "
+                + model.size() + " prospects, " + ThriftConfig.description() + ", "
+                + Runtime.getRuntime().availableProcessors() + " cœur(s) ═══");
+        System.out.println("services                  | page p50 (ms) | p99 (ms) | max (ms) | prospects importés/s");
+        System.out.println("--------------------------+---------------+----------+----------+---------------------");
+        mesurer("un seul service", 19390, handler, null, importeurs, taille, pages);
+        int cpus = Runtime.getRuntime().availableProcessors();
+        mesurer("query/bulk/admin (bulk " + threadsBulk + ")", 19391, handler,
+                new MultiplexedServices(Math.max(4, cpus * 2), threadsBulk, 2), importeurs, taille, pages);
+        System.exit(0);
+    }
+
+    private static void mesurer(String nom, int port, InternalCRMHandler handler, MultiplexedServices services,
+                                int importeurs, int taille, int pages) throws Exception {
+        TProcessor processor = InternalCRMServer.creerProcesseur("threadpool", handler, null, services);
+        TServer server = InternalCRMServer.creerServeur("threadpool", port, processor);
+        Thread service = new Thread(server::serve, "bench-services");
+        service.setDaemon(true);
+        service.start();
+        while (!server.isServing()) {
+            Thread.sleep(10);
+        }
+
+        AtomicBoolean fin = new AtomicBoolean();
+        AtomicLong importes = new AtomicLong();
+        List<Thread> clients = new ArrayList<>();
+        for (int c = 0; c < importeurs; c++) {
+            int numero = c;
+            Thread t = new Thread(() -> {
+                try (TTransport transport = ThriftConfig.transportClient("localhost", port, 60_000)) {
+                    transport.open();
+                    InternalCRM.Client client = new InternalCRM.Client(ThriftConfig.protocole(transport));
+                    List<InternalLeadDTO> lot = new ArrayList<>(taille);
+                    for (int i = 0; i < taille; i++) {
+                        lot.add(dto(numero + "-" + i));
+                    }
+                    while (!fin.get()) {
+                        // Le stockage garde la même taille : chaque lot importé est aussitôt supprimé
+                        List<Long> ids = client.createLeads(lot).getIds();
+                        client.deleteLeads(ids);
+                        importes.addAndGet(ids.size());
+                    }
+                } catch (Exception e) {
+                    System.err.println("[ServicesBenchmark] Client d'import : " + e);
+                }
+            });
+            t.setDaemon(true);
+            t.start();
+            clients.add(t);
+        }
+
+        long[] latences = new long[pages];
+        long t0;
+        long importesAvant;
+        try (TTransport transport = ThriftConfig.transportClient("localhost", port, 60_000)) {
+            transport.open();
+            // Client interactif multiplexé seulement si le serveur l'est
+            TProtocol protocol = ThriftConfig.protocole(transport);
+            InternalCRM.Client client = new InternalCRM.Client(services == null ? protocol
+                    : new TMultiplexedProtocol(protocol, ThriftConfig.SERVICE_QUERY));
+            // Chauffe (JIT) pendant que les imports démarrent
+            for (int i = 0; i < pages / 5; i++) {
+                client.findLeadsPage(0, Double.MAX_VALUE, null, 100, "");
+            }
+            t0 = System.nanoTime();
+            importesAvant = importes.get();
+            for (int i = 0; i < pages; i++) {
+                long debut = System.nanoTime();
+                client.findLeadsPage(0, Double.MAX_VALUE, null, 100, "");
+                latences[i] = System.nanoTime() - debut;
+                Thread.sleep(PAUSE_MS);
+            }
+        }
+        double duree = (System.nanoTime() - t0) / 1e9;
+        long faits = importes.get() - importesAvant;
+        fin.set(true);
+        for (Thread t : clients) {
+            t.join();
+        }
+        server.stop();
+        if (services != null) {
+            services.arreter();
+        }
+
+        Arrays.sort(latences);
+        System.out.printf("%-25s | %13.2f | %8.2f | %8.2f | %20.0f%n", nom,
+                latences[latences.length / 2] / 1e6,
+                latences[(int) Math.min(latences.length - 1, Math.ceil(latences.length * 0.99) - 1)] / 1e6,
+                latences[latences.length - 1] / 1e6,
+                faits / duree);
+    }
+
+    private static Lead lead(int i) {
+        Lead l = new Lead();
+        l.setFirstName("Prenom" + (i % 1000));
+        l.setLastName("Nom" + (i % 5000));
+        l.setAnnualRevenue((i * 7919L) % 1_000_000);
+        l.setPhone("+33 6 " + i);
+        l.setCity("Nantes");
+        l.setCountry("France");
+        l.setState(ETATS[i % ETATS.length]);
+        l.setCreationMillis(1_704_067_200_000L + i * 1000L);
+        return l;
+    }
+
+    // Prospect d'un lot d'import (format des DTO du serveur)
+    private static InternalLeadDTO dto(String suffixe) {
+        InternalLeadDTO dto = new InternalLeadDTO();
+        dto.setFirstName("Import-" + suffixe + ", Prénom");
+        dto.setLastName("");
+        dto.setAnnualRevenue(50_000);
+        dto.setPhone("+33 6 00 00 00 00");
+        dto.setCity("Nantes");
+        dto.setCountry("France");
+        dto.setCreationDate("2024-06-01T10:00:00Z");
+        dto.setState(ETATS[0]);
+        return dto;
+    }
+}
@@ -0,0 +1,148 @@
+package org.example.internal;
+
+import org.apache.thrift.TByteArrayOutputStream;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.transport.TIOStreamTransport;
+import org.apache.thrift.transport.TMemoryInputTransport;
+import org.example.internal.model.Lead;
+import org.example.internal.model.LeadModel;
+import org.example.internal.model.LeadModelFactory;
+import org.example.internal.streaming.StreamingProcessor;
+import org.example.internal.utils.ThriftConfig;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Random;
+
+/**
+ * Mémoire vivante et latence d'un findLeads sur tout le stockage : processeur généré
+ * (List<Lead> + List<InternalLeadDTO> + message) vs StreamingProcessor (un DTO à la fois).
+ *
+ * Exécution :
+ *   ./gradlew :internalCRM:runStreamingBenchmark
+ *   ./gradlew :internalCRM:runStreamingBenchmark -PbenchArgs="500000 5"
+ *
+ * Arguments : nombre de prospects stockés, appels mesurés par chemin.
+ * La réponse part dans un flux bufferisé (64 Ko, comme TSocket) qui jette les octets.
+ * "mémoire vivante" : tas occupé après un GC forcé au milieu de l'écriture de la réponse, moins
+ * le tas occupé avant l'appel (donc ce que la requête retient pendant l'envoi).
+ */
+public class StreamingBenchmark {
+
+    private static final String[] ETATS = {"Loire-Atlantique", "Maine-et-Loire", "Vendée", "Sarthe", "Mayenne"};
+    private static final MemoryMXBean MEMOIRE = ManagementFactory.getMemoryMXBean();
+
+    public static void main(String[] args) throws Exception {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 500_000;
+        int appels = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        InternalCRMHandler handler = new InternalCRMHandler();
+        LeadModel model = LeadModelFactory.getModel();
+        Random rnd = new Random(42);
+        for (int i = 0; i < n; i++) {
+            model.createLead(lead(rnd, i));
+        }
+
+        TProtocolFactory protocolFactory = ThriftConfig.protocolFactory();
+        byte[] appel = encoderAppel(protocolFactory);
+        TProcessor genere = new InternalCRM.Processor<>(handler);
+        TProcessor enFlux = new StreamingProcessor(handler, model);
+
+        System.out.println("═══ findLeads sur " + model.size() + " prospects, " + ThriftConfig.description() + " ═══");
+        System.out.println("chemin             | octets envoyés | mémoire vivante (Mo) | latence (ms)");
+        System.out.println("-------------------+----------------+----------------------+-------------");
+        mesurer("processeur généré", genere, protocolFactory, appel, appels);
+        mesurer("StreamingProcessor", enFlux, protocolFactory, appel, appels);
+    }
+
+    private static void mesurer(String nom, TProcessor processeur, TProtocolFactory protocolFactory, byte[] appel, int appels)
+            throws Exception {
+        // Taille de la réponse, puis chauffe (JIT)
+        Puits puits = new Puits(Long.MAX_VALUE);
+        traiter(processeur, protocolFactory, appel, puits);
+        long taille = puits.octets;
+        for (int a = 0; a < appels; a++) {
+            traiter(processeur, protocolFactory, appel, new Puits(Long.MAX_VALUE));
+        }
+
+        // Latence moyenne sans GC forcé
+        long t0 = System.nanoTime();
+        for (int a = 0; a < appels; a++) {
+            traiter(processeur, protocolFactory, appel, new Puits(Long.MAX_VALUE));
+        }
+        double latence = (System.nanoTime() - t0) / 1e6 / appels;
+
+        // Mémoire retenue au milieu de l'envoi
+        System.gc();
+        long avant = MEMOIRE.getHeapMemoryUsage().getUsed();
+        Puits milieu = new Puits(taille / 2);
+        traiter(processeur, protocolFactory, appel, milieu);
+        System.out.printf("%-18s | %14d | %20.1f | %11.1f%n", nom, taille,
+                Math.max(0, milieu.tasAuMilieu - avant) / 1e6, latence);
+    }
+
+    private static void traiter(TProcessor processeur, TProtocolFactory protocolFactory, byte[] appel, Puits puits)
+            throws Exception {
+        TIOStreamTransport sortie = new TIOStreamTransport(new BufferedOutputStream(puits, 64 * 1024));
+        processeur.process(protocolFactory.getProtocol(new TMemoryInputTransport(appel)), protocolFactory.getProtocol(sortie));
+        sortie.flush();
+    }
+
+    // Flux qui compte et jette les octets ; mesure le tas vivant quand `seuil` octets sont passés
+    private static final class Puits extends OutputStream {
+        private final long seuil;
+        private long octets;
+        private long tasAuMilieu;
+
+        Puits(long seuil) {
+            this.seuil = seuil;
+        }
+
+        @Override
+        public void write(int b) {
+            compter(1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            compter(len);
+        }
+
+        private void compter(int n) {
+            boolean franchi = octets < seuil && octets + n >= seuil;
+            octets += n;
+            if (franchi) {
+                System.gc();
+                tasAuMilieu = MEMOIRE.getHeapMemoryUsage().getUsed();
+            }
+        }
+    }
+
+    private static byte[] encoderAppel(TProtocolFactory protocolFactory) throws Exception {
+        TByteArrayOutputStream octets = new TByteArrayOutputStream();
+        TProtocol p = protocolFactory.getProtocol(new TIOStreamTransport(octets));
+        p.writeMessageBegin(new TMessage("findLeads", TMessageType.CALL, 1));
+        new InternalCRM.findLeads_args(0, Double.MAX_VALUE, null).write(p);
+        p.writeMessageEnd();
+        return octets.toByteArray();
+    }
+
+    private static Lead lead(Random rnd, int i) {
+        Lead l = new Lead();
+        l.setFirstName("Prenom" + (i % 1000));
+        l.setLastName("Nom" + (i % 5000));
+        l.setAnnualRevenue(Math.floor(rnd.nextDouble() * 1_000_000));
+        l.setPhone("+33 6 " + i);
+        l.setCity("Nantes");
+        l.setCountry("France");
+        l.setState(ETATS[Math.floorMod(i, ETATS.length)]);
+        l.setCreationMillis(1_704_067_200_000L + i * 1000L);
+        return l;
+    }
+}
@@ -1,6 +1,8 @@
 package org.example.internal;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Script de vérification pour tester le chargement des données initiales.
@@ -10,12 +12,14 @@ import java.util.List;
  * 
  * Affiche :
  *   - Nombre total de prospects chargés
- *   - Répartition par région
- *   - Fourchette de revenus
+ *   - Répartition par région (leadHistogram, calculée côté serveur)
+ *   - Fourchette de revenus (revenueStats, calculée côté serveur)
  *   - Premiers et derniers prospects
  */
 public class VerificationDataLoader {
 
+    private static final List<String> REGIONS = List.of("Maine-et-Loire", "Loire-Atlantique", "Vendée", "Sarthe", "Mayenne");
+
     public static void main(String[] args) {
         System.out.println("╔═══════════════════════════════════════════════════════════════╗");
         System.out.println("║     VÉRIFICATION DU CHARGEMENT DES DONNÉES INTERNALCRM       ║");
@@ -36,12 +40,12 @@ public class VerificationDataLoader {
 
             // Étape 3 : Statistiques par région
             System.out.println("═══ ÉTAPE 3 : Répartition géographique ═══");
-            compterParRegion(tousLesProspects);
+            compterParRegion(handler);
             System.out.println();
 
             // Étape 4 : Statistiques financières
             System.out.println("═══ ÉTAPE 4 : Analyse des revenus ═══");
-            analyserRevenus(tousLesProspects);
+            analyserRevenus(handler);
             System.out.println();
 
             // Étape 5 : Afficher quelques exemples
@@ -86,66 +90,40 @@ public class VerificationDataLoader {
         }
     }
 
-    private static void compterParRegion(List<InternalLeadDTO> prospects) {
-        int maineLoire = 0;
-        int loireAtlantique = 0;
-        int vendee = 0;
-        int sarthe = 0;
-        int mayenne = 0;
-        int autres = 0;
-
-        for (InternalLeadDTO p : prospects) {
-            String region = p.getState();
-            if (region == null) {
-                autres++;
-            } else if (region.equals("Maine-et-Loire")) {
-                maineLoire++;
-            } else if (region.equals("Loire-Atlantique")) {
-                loireAtlantique++;
-            } else if (region.equals("Vendée")) {
-                vendee++;
-            } else if (region.equals("Sarthe")) {
-                sarthe++;
-            } else if (region.equals("Mayenne")) {
-                mayenne++;
-            } else {
-                autres++;
+    // Répartition calculée côté serveur (leadHistogram) : un groupe par état, sans transférer les prospects
+    private static void compterParRegion(InternalCRMHandler handler) throws Exception {
+        Map<String, Long> parRegion = new HashMap<>();
+        for (InternalLeadBucket groupe : handler.leadHistogram("state", 0, Double.MAX_VALUE, null)) {
+            parRegion.put(groupe.getKey(), groupe.getCount());
+        }
+
+        long autres = 0;
+        for (Map.Entry<String, Long> e : parRegion.entrySet()) {
+            if (!REGIONS.contains(e.getKey())) {
+                autres += e.getValue();
             }
         }
 
-        System.out.println("   Maine-et-Loire     : " + maineLoire + " prospects");
-        System.out.println("   Loire-Atlantique   : " + loireAtlantique + " prospects");
-        System.out.println("   Vendée             : " + vendee + " prospects");
-        System.out.println("   Sarthe             : " + sarthe + " prospects");
-        System.out.println("   Mayenne            : " + mayenne + " prospects");
+        for (String region : REGIONS) {
+            System.out.println("   " + String.format("%-19s", region) + ": " + parRegion.getOrDefault(region, 0L) + " prospects");
+        }
         if (autres > 0) {
             System.out.println("   Autres/Non défini  : " + autres + " prospects");
         }
     }
 
-    private static void analyserRevenus(List<InternalLeadDTO> prospects) {
-        if (prospects.isEmpty()) {
+    // Statistiques calculées côté serveur (revenueStats)
+    private static void analyserRevenus(InternalCRMHandler handler) throws Exception {
+        InternalRevenueStats stats = handler.revenueStats(0, Double.MAX_VALUE, null);
+        if (stats.getCount() == 0) {
             System.out.println("   Aucun prospect à analyser");
             return;
         }
 
-        double min = Double.MAX_VALUE;
-        double max = Double.MIN_VALUE;
-        double total = 0;
-
-        for (InternalLeadDTO p : prospects) {
-            double revenu = p.getAnnualRevenue();
-            if (revenu < min) min = revenu;
-            if (revenu > max) max = revenu;
-            total += revenu;
-        }
-
-        double moyenne = total / prospects.size();
-
-        System.out.println("   Revenu minimum     : " + formaterEuros(min));
-        System.out.println("   Revenu maximum     : " + formaterEuros(max));
-        System.out.println("   Revenu moyen       : " + formaterEuros(moyenne));
-        System.out.println("   Revenu total       : " + formaterEuros(total));
+        System.out.println("   Revenu minimum     : " + formaterEuros(stats.getMin()));
+        System.out.println("   Revenu maximum     : " + formaterEuros(stats.getMax()));
+        System.out.println("   Revenu moyen       : " + formaterEuros(stats.getAverage()));
+        System.out.println("   Revenu total       : " + formaterEuros(stats.getSum()));
     }
 
     private static void afficherEchantillon(List<InternalLeadDTO> prospects) {
@@ -0,0 +1,303 @@
+package org.example.internal.admission;
+
+import org.example.internal.ThriftServerBusyException;
+import org.example.internal.model.LeadModel;
+import org.example.internal.utils.ConverterUtils;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Calendar;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contrôle d'admission du serveur Thrift : au-delà des limites, une requête est refusée tout de
+ * suite (ThriftServerBusyException, rien n'est exécuté) au lieu de s'empiler.
+ *
+ * - requêtes en cours : -Dinternalcrm.admission.maxConcurrent (défaut 256, 0 = illimité)
+ * - octets de réponse en cours : -Dinternalcrm.admission.maxInFlightBytes (défaut : 1/4 du tas max,
+ *   0 = illimité). Estimation après la réservation de place, sur la tranche demandée :
+ *   findLeads / findLeadsByDate = nombre de leads de la tranche (comptés dans les index, sans
+ *   copie ni liste) x OCTETS_PAR_LEAD ; les autres méthodes ont des réponses bornées.
+ *   Des balayages étroits concurrents ne se bloquent donc pas entre eux.
+ *   Une requête seule est toujours admise, même plus grosse que le budget.
+ * - file d'acceptation : -Dinternalcrm.admission.acceptQueue (défaut 128) connexions (modes
+ *   threadpool) ou trames (mode selector) en attente d'un thread ; au-delà, fermées aussitôt.
+ * - arrêt du serveur : après arreter(), toute nouvelle requête est refusée (réessayable, vers
+ *   le processus suivant) ; attendreFin() attend la fin des requêtes déjà admises.
+ *
+ * Compteurs atomiques, aucun verrou. Métriques JMX : org.example.internal:type=AdmissionControl.
+ */
+public class AdmissionControl implements AdmissionControlMBean {
+
+    public static final String MAX_CONCURRENT_PROPERTY = "internalcrm.admission.maxConcurrent";
+    public static final String MAX_BYTES_PROPERTY = "internalcrm.admission.maxInFlightBytes";
+    public static final String ACCEPT_QUEUE_PROPERTY = "internalcrm.admission.acceptQueue";
+    public static final int DEFAULT_MAX_CONCURRENT = 256;
+    public static final int DEFAULT_ACCEPT_QUEUE = 128;
+
+    // Octets encodés par prospect renvoyé (binary ~145, compact ~110, voir runProtocolBenchmark)
+    public static final int OCTETS_PAR_LEAD = 150;
+    // Délai conseillé au client avant de renvoyer une requête refusée
+    public static final int RETRY_AFTER_MS = 100;
+
+    public enum Decision { ADMISE, TROP_DE_REQUETES, BUDGET_OCTETS, ARRET }
+
+    private final String nom;
+    private final int maxConcurrent;
+    private final long maxOctets;
+    private final int capaciteFile;
+
+    private final AtomicInteger actives = new AtomicInteger();
+    private final AtomicLong octets = new AtomicLong();
+    private final LongAdder admises = new LongAdder();
+    private final LongAdder refusConcurrence = new LongAdder();
+    private final LongAdder refusOctets = new LongAdder();
+    private final LongAdder connexionsRefusees = new LongAdder();
+    private volatile ThreadPoolExecutor file;
+    private volatile boolean arret;
+
+    public AdmissionControl(String nom, int maxConcurrent, long maxOctets, int capaciteFile) {
+        this.nom = nom;
+        this.maxConcurrent = maxConcurrent;
+        this.maxOctets = maxOctets;
+        this.capaciteFile = capaciteFile;
+    }
+
+    // Limites lues dans les propriétés système
+    public static AdmissionControl depuisConfiguration(String nom) {
+        return new AdmissionControl(nom,
+                Integer.getInteger(MAX_CONCURRENT_PROPERTY, DEFAULT_MAX_CONCURRENT),
+                Long.getLong(MAX_BYTES_PROPERTY, Runtime.getRuntime().maxMemory() / 4),
+                Integer.getInteger(ACCEPT_QUEUE_PROPERTY, DEFAULT_ACCEPT_QUEUE));
+    }
+
+    /**
+     * Réserve une place pour une requête (compteur atomique, O(1)), avant toute estimation.
+     * Si la décision est ADMISE : reserverOctets(octets) pour les réponses volumineuses, puis
+     * liberer(octets) à la fin (finally).
+     */
+    public Decision admettre() {
+        int enCours = actives.incrementAndGet();
+        // Relu après l'incrément : attendreFin() voit donc toute requête admise avant arreter()
+        if (arret) {
+            actives.decrementAndGet();
+            return Decision.ARRET;
+        }
+        if (maxConcurrent > 0 && enCours > maxConcurrent) {
+            actives.decrementAndGet();
+            refusConcurrence.increment();
+            return Decision.TROP_DE_REQUETES;
+        }
+        admises.increment();
+        return Decision.ADMISE;
+    }
+
+    /**
+     * Réserve octetsEstimes octets de réponse pour une requête déjà admise. En cas de refus
+     * (BUDGET_OCTETS), la place réservée par admettre() est rendue : ne pas appeler liberer().
+     */
+    public Decision reserverOctets(long octetsEstimes) {
+        if (octetsEstimes > 0 && maxOctets > 0) {
+            long courant;
+            do {
+                courant = octets.get();
+                if (courant > 0 && courant + octetsEstimes > maxOctets) {
+                    admises.decrement();
+                    refusOctets.increment();
+                    liberer(0);
+                    return Decision.BUDGET_OCTETS;
+                }
+            } while (!octets.compareAndSet(courant, courant + octetsEstimes));
+        }
+        return Decision.ADMISE;
+    }
+
+    public void liberer(long octetsEstimes) {
+        if (octetsEstimes > 0 && maxOctets > 0) {
+            octets.addAndGet(-octetsEstimes);
+        }
+        if (actives.decrementAndGet() == 0 && arret) {
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------- arrêt
+
+    /** Refuse désormais toutes les requêtes (Decision.ARRET) : le serveur se vide. */
+    public void arreter() {
+        arret = true;
+    }
+
+    /**
+     * Attend la fin des requêtes admises (après arreter()), au plus timeoutMs millisecondes.
+     * Renvoie false si des requêtes étaient encore en cours à l'échéance.
+     */
+    public synchronized boolean attendreFin(long timeoutMs) throws InterruptedException {
+        long limite = System.currentTimeMillis() + timeoutMs;
+        while (actives.get() > 0) {
+            long reste = limite - System.currentTimeMillis();
+            if (reste <= 0) {
+                return false;
+            }
+            // Réveil par liberer() ; tranche bornée pour les refus, qui décrémentent sans notifier
+            wait(Math.min(reste, 20));
+        }
+        return true;
+    }
+
+    // Exception renvoyée au client pour une requête refusée
+    public ThriftServerBusyException occupe(Decision decision) {
+        String raison = decision == Decision.ARRET ? "arrêt en cours"
+                : decision == Decision.BUDGET_OCTETS
+                ? "budget de réponses en cours dépassé (" + octets.get() + "/" + maxOctets + " octets)"
+                : "trop de requêtes en cours (max " + maxConcurrent + ")";
+        return new ThriftServerBusyException("Serveur occupé : " + raison + ", réessayer plus tard", RETRY_AFTER_MS);
+    }
+
+    // ---------------------------------------------------------------- estimations
+
+    /**
+     * Octets de réponse d'un findLeads(low, high, state) : nombre de leads de la tranche
+     * (LeadModel.agregerRevenus, parcours d'index sans copie) x OCTETS_PAR_LEAD.
+     * 0 si le budget est désactivé, ou si la requête est invalide (le handler répond alors
+     * par une exception, réponse bornée).
+     */
+    public long estimerBalayage(LeadModel model, double low, double high, String state) {
+        if (maxOctets <= 0) {
+            return 0;
+        }
+        try {
+            return model.agregerRevenus(low, high, state).getNombre() * OCTETS_PAR_LEAD;
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Octets de réponse d'un findLeadsByDate(debut, fin) (dates ISO-8601 comme dans l'IDL) :
+     * LeadModel.compterParDate x OCTETS_PAR_LEAD. 0 si le budget est désactivé ou si les dates
+     * sont invalides (réponse d'erreur du handler).
+     */
+    public long estimerBalayageDates(LeadModel model, String debutIso, String finIso) {
+        if (maxOctets <= 0) {
+            return 0;
+        }
+        Calendar debut = ConverterUtils.isoStringToCalendar(debutIso);
+        Calendar fin = ConverterUtils.isoStringToCalendar(finIso);
+        if ((debutIso != null && debut == null) || (finIso != null && fin == null)) {
+            return 0;
+        }
+        try {
+            return (long) model.compterParDate(debut, fin) * OCTETS_PAR_LEAD;
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    // ---------------------------------------------------------------- file d'acceptation
+
+    /**
+     * Pool de travail du serveur avec file d'attente bornée (acceptQueue) : une tâche refusée
+     * (pool et file pleins) est comptée puis rejetée, le serveur Thrift ferme alors la connexion.
+     */
+    public ThreadPoolExecutor creerPool(int threads) {
+        BlockingQueue<Runnable> attente = capaciteFile > 0 ? new ArrayBlockingQueue<>(capaciteFile) : new SynchronousQueue<>();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, attente,
+                Executors.defaultThreadFactory(), (tache, p) -> {
+                    connexionsRefusees.increment();
+                    throw new RejectedExecutionException("File d'attente du serveur pleine (" + capaciteFile + ")");
+                });
+        pool.allowCoreThreadTimeOut(true);
+        file = pool;
+        return pool;
+    }
+
+    public int capaciteFile() {
+        return capaciteFile;
+    }
+
+    // ---------------------------------------------------------------- métriques
+
+    /**
+     * Enregistre les métriques auprès du serveur JMX de la plateforme
+     * (org.example.internal:type=AdmissionControl,name=<nom>). Échec non bloquant.
+     */
+    public void enregistrerJmx() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this,
+                    new ObjectName("org.example.internal:type=AdmissionControl,name=" + ObjectName.quote(nom)));
+        } catch (JMException e) {
+            System.out.println("[AdmissionControl] Métriques JMX indisponibles pour " + nom + " : " + e.getMessage());
+        }
+    }
+
+    public String description() {
+        return String.format("%s : %d admises, %d refusées (requêtes), %d refusées (octets), %d connexions refusées, "
+                        + "%d en cours, %d octets en cours, file %d/%d",
+                nom, getAdmitted(), getRejectedConcurrency(), getRejectedBytes(), getRejectedConnections(),
+                getActiveRequests(), getInFlightBytes(), getAcceptQueueDepth(), capaciteFile);
+    }
+
+    @Override
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    @Override
+    public int getActiveRequests() {
+        return actives.get();
+    }
+
+    @Override
+    public long getMaxInFlightBytes() {
+        return maxOctets;
+    }
+
+    @Override
+    public long getInFlightBytes() {
+        return octets.get();
+    }
+
+    @Override
+    public long getAdmitted() {
+        return admises.sum();
+    }
+
+    @Override
+    public long getRejectedConcurrency() {
+        return refusConcurrence.sum();
+    }
+
+    @Override
+    public long getRejectedBytes() {
+        return refusOctets.sum();
+    }
+
+    @Override
+    public int getAcceptQueueDepth() {
+        ThreadPoolExecutor pool = file;
+        return pool == null ? 0 : pool.getQueue().size();
+    }
+
+    @Override
+    public int getAcceptQueueCapacity() {
+        return capaciteFile;
+    }
+
+    @Override
+    public long getRejectedConnections() {
+        return connexionsRefusees.sum();
+    }
+}
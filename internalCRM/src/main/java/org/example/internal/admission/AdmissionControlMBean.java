@@ -0,0 +1,33 @@
+package org.example.internal.admission;
+
+/**
+ * Métriques JMX du contrôle d'admission (jconsole / jcmd : org.example.internal:type=AdmissionControl).
+ */
+public interface AdmissionControlMBean {
+
+    int getMaxConcurrent();
+
+    // Requêtes admises en cours d'exécution
+    int getActiveRequests();
+
+    long getMaxInFlightBytes();
+
+    // Octets de réponse estimés des requêtes admises en cours
+    long getInFlightBytes();
+
+    long getAdmitted();
+
+    // Requêtes refusées (ThriftServerBusyException) : trop de requêtes en cours
+    long getRejectedConcurrency();
+
+    // Requêtes refusées (ThriftServerBusyException) : budget d'octets de réponse dépassé
+    long getRejectedBytes();
+
+    // Connexions / trames en attente d'un thread du serveur, et capacité de cette file
+    int getAcceptQueueDepth();
+
+    int getAcceptQueueCapacity();
+
+    // Connexions / trames fermées sans traitement, file d'attente pleine
+    long getRejectedConnections();
+}
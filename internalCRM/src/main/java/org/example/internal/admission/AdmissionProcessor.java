@@ -0,0 +1,112 @@
+package org.example.internal.admission;
+
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.TBase;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TMultiplexedProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolException;
+import org.example.internal.InternalCRM;
+import org.example.internal.model.LeadModel;
+import org.example.internal.model.LeadModelFactory;
+import org.example.internal.streaming.StreamingProcessor;
+import org.example.internal.utils.MessageDejaLu;
+
+/**
+ * Processeur Thrift qui applique un AdmissionControl avant de transmettre l'appel au processeur
+ * suivant (services multiplexés, CachingProcessor / StreamingProcessor) : une requête hors
+ * limites reçoit aussitôt une ThriftServerBusyException, sans attendre dans la file d'un pool
+ * ni passer par le handler ou le modèle. Messages simples ou multiplexés ("service:méthode").
+ *
+ * La place est réservée d'abord (compteur, O(1)) sur le seul en-tête : une requête refusée faute
+ * de place ne coûte aucun parcours des données. Puis findLeads / findLeadsByDate lisent leurs
+ * arguments et réservent les octets de leur tranche (comptée dans les index, voir
+ * AdmissionControl.estimerBalayage) ; l'en-tête et les arguments sont rejoués au processeur suivant.
+ * */
+public class AdmissionProcessor implements TProcessor {
+
+    private static final String FIND_LEADS = "findLeads";
+    private static final String FIND_LEADS_BY_DATE = "findLeadsByDate";
+
+    private final TProcessor delegue;
+    private final LeadModel model;
+    private final AdmissionControl admission;
+    private final TProcessor refusRequetes;
+    private final TProcessor refusOctets;
+    private final TProcessor refusArret;
+
+    public AdmissionProcessor(TProcessor delegue, LeadModel model, AdmissionControl admission) {
+        this.delegue = delegue;
+        this.model = model;
+        this.admission = admission;
+        this.refusRequetes = new InternalCRM.Processor<>(new Refus(admission, AdmissionControl.Decision.TROP_DE_REQUETES));
+        this.refusOctets = new InternalCRM.Processor<>(new Refus(admission, AdmissionControl.Decision.BUDGET_OCTETS));
+        this.refusArret = new InternalCRM.Processor<>(new Refus(admission, AdmissionControl.Decision.ARRET));
+    }
+
+    /**
+     * Processeur du service derrière un contrôle d'admission configuré par les propriétés système
+     * (voir AdmissionControl), métriques JMX sous le nom donné, modèle partagé (LeadModelFactory).
+     */
+    public static AdmissionProcessor creer(String nom, TProcessor delegue) {
+        AdmissionControl admission = AdmissionControl.depuisConfiguration(nom);
+        admission.enregistrerJmx();
+        return new AdmissionProcessor(delegue, LeadModelFactory.getModel(), admission);
+    }
+
+    public AdmissionControl admission() {
+        return admission;
+    }
+
+    @Override
+    public void process(TProtocol in, TProtocol out) throws TException {
+        TMessage msg = in.readMessageBegin();
+        // Devant un TMultiplexedProcessor, le nom est "service:méthode"
+        int separateur = msg.name.indexOf(TMultiplexedProtocol.SEPARATOR);
+        String methode = separateur < 0 ? msg.name : msg.name.substring(separateur + 1);
+        AdmissionControl.Decision decision = admission.admettre();
+        long octets = 0;
+        TBase<?, ?> args = null;
+        if (decision == AdmissionControl.Decision.ADMISE && msg.type == TMessageType.CALL
+                && (FIND_LEADS.equals(methode) || FIND_LEADS_BY_DATE.equals(methode))) {
+            try {
+                if (FIND_LEADS.equals(methode)) {
+                    InternalCRM.findLeads_args lus = new InternalCRM.findLeads_args();
+                    lus.read(in);
+                    octets = admission.estimerBalayage(model, lus.lowAnnualRevenue, lus.highAnnualRevenue, lus.state);
+                    args = lus;
+                } else {
+                    InternalCRM.findLeadsByDate_args lus = new InternalCRM.findLeadsByDate_args();
+                    lus.read(in);
+                    octets = admission.estimerBalayageDates(model, lus.startDate, lus.endDate);
+                    args = lus;
+                }
+                in.readMessageEnd();
+            } catch (TProtocolException e) {
+                // Même réponse que le processeur généré pour des arguments illisibles
+                admission.liberer(0);
+                in.readMessageEnd();
+                StreamingProcessor.ecrireException(out, new TMessage(methode, msg.type, msg.seqid),
+                        new TApplicationException(TApplicationException.PROTOCOL_ERROR, e.getMessage()));
+                return;
+            }
+            decision = admission.reserverOctets(octets);
+        }
+        if (decision != AdmissionControl.Decision.ADMISE) {
+            // Refus servi par InternalCRM.Processor : nom de méthode sans le service
+            TMessage refusMsg = new TMessage(methode, msg.type, msg.seqid);
+            TProtocol refus = args == null ? new MessageDejaLu(in, refusMsg) : MessageDejaLu.avecArguments(refusMsg, args);
+            (decision == AdmissionControl.Decision.BUDGET_OCTETS ? refusOctets
+                    : decision == AdmissionControl.Decision.ARRET ? refusArret : refusRequetes).process(refus, out);
+            return;
+        }
+        try {
+            delegue.process(args == null ? new MessageDejaLu(in, msg) : MessageDejaLu.avecArguments(msg, args), out);
+        } finally {
+            admission.liberer(octets);
+        }
+    }
+}
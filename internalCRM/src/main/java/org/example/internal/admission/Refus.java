@@ -0,0 +1,106 @@
+package org.example.internal.admission;
+
+import org.example.internal.InternalBatchResult;
+import org.example.internal.InternalCRM;
+import org.example.internal.InternalLeadBucket;
+import org.example.internal.InternalLeadDTO;
+import org.example.internal.InternalLeadPage;
+import org.example.internal.InternalRevenueStats;
+import org.example.internal.ThriftServerBusyException;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Implémentation qui refuse tous les appels (ThriftServerBusyException). Servie par un
+ * InternalCRM.Processor : le processeur généré lit les arguments puis range l'exception dans
+ * le résultat de la méthode appelée (champ "busy"), exactement comme pour un refus du handler.
+ * Utilisée par AdmissionProcessor et par les services multiplexés (file d'un pool pleine).
+ */
+public final class Refus implements InternalCRM.Iface {
+
+    private final Supplier<ThriftServerBusyException> occupe;
+
+    public Refus(Supplier<ThriftServerBusyException> occupe) {
+        this.occupe = occupe;
+    }
+
+    Refus(AdmissionControl admission, AdmissionControl.Decision decision) {
+        this(() -> admission.occupe(decision));
+    }
+
+    // Processeur Thrift qui répond ThriftServerBusyException à tout appel
+    public static InternalCRM.Processor<Refus> processeur(Supplier<ThriftServerBusyException> occupe) {
+        return new InternalCRM.Processor<>(new Refus(occupe));
+    }
+
+    private ThriftServerBusyException occupe() {
+        return occupe.get();
+    }
+
+    @Override
+    public List<InternalLeadDTO> findLeads(double lowAnnualRevenue, double highAnnualRevenue, String state)
+            throws ThriftServerBusyException {
+        throw occupe();
+    }
+
+    @Override
+    public List<InternalLeadDTO> findLeadsByDate(String startDate, String endDate) throws ThriftServerBusyException {
+        throw occupe();
+    }
+
+    @Override
+    public long createLead(InternalLeadDTO lead) throws ThriftServerBusyException {
+        throw occupe();
+    }
+
+    @Override
+    public void deleteLead(InternalLeadDTO leadDto) throws ThriftServerBusyException {
+        throw occupe();
+    }
+
+    @Override
+    public void deleteLeadById(long id) throws ThriftServerBusyException {
+        throw occupe();
+    }
+
+    @Override
+    public InternalLeadPage findLeadsPage(double lowAnnualRevenue, double highAnnualRevenue, String state, int pageSize,
+                                          String pageToken) throws ThriftServerBusyException {
+        throw occupe();
+    }
+
+    @Override
+    public InternalLeadPage findLeadsByDatePage(String startDate, String endDate, int pageSize, String pageToken)
+            throws ThriftServerBusyException {
+        throw occupe();
+    }
+
+    @Override
+    public InternalBatchResult createLeads(List<InternalLeadDTO> leads) throws ThriftServerBusyException {
+        throw occupe();
+    }
+
+    @Override
+    public InternalBatchResult deleteLeads(List<Long> ids) throws ThriftServerBusyException {
+        throw occupe();
+    }
+
+    @Override
+    public long countLeads(double lowAnnualRevenue, double highAnnualRevenue, String state)
+            throws ThriftServerBusyException {
+        throw occupe();
+    }
+
+    @Override
+    public InternalRevenueStats revenueStats(double lowAnnualRevenue, double highAnnualRevenue, String state)
+            throws ThriftServerBusyException {
+        throw occupe();
+    }
+
+    @Override
+    public List<InternalLeadBucket> leadHistogram(String groupBy, double lowAnnualRevenue, double highAnnualRevenue,
+                                                  String state) throws ThriftServerBusyException {
+        throw occupe();
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.internal.cache;
+
+import org.apache.thrift.TByteArrayOutputStream;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.transport.TIOStreamTransport;
+import org.example.internal.InternalCRM;
+import org.example.internal.model.FluxLeads;
+import org.example.internal.model.LeadModel;
+import org.example.internal.model.LeadModelFactory;
+import org.example.internal.streaming.StreamingProcessor;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Processeur Thrift qui sert findLeads depuis un ResponseCache : sur un hit, les octets du
+ * findLeads_result déjà encodé sont recopiés tels quels dans la réponse (ni requête sur le modèle,
+ * ni conversion en DTO, ni sérialisation). Les autres méthodes sont transmises au processeur généré.
+ *
+ * Clé : (low, high, état) normalisés — état null ou vide confondus, état en minuscules
+ * (même clé que la partition d'état de LeadModelImpl, la recherche ignorant la casse).
+ * Validité : version du stockage lue avant la requête (voir LeadModel.version()) ; une écriture
+ * concurrente rend simplement l'entrée périmée au prochain accès.
+ * Seules les réponses sans erreur sont conservées. Les octets dépendent du protocole :
+ * la fabrique passée ici doit être celle du serveur (ThriftConfig.protocolFactory()).
+ *
+ * Sur un miss, la réponse est encodée en flux (StreamingProcessor.ecrireResultat) ; au-delà de
+ * -Dinternalcrm.cache.maxLeads prospects (défaut 10000), elle est envoyée directement en flux
+ * sans être encodée en mémoire ni mise en cache.
+ */
+public class CachingProcessor extends StreamingProcessor {
+
+    public static final String MAX_LEADS_PROPERTY = "internalcrm.cache.maxLeads";
+    public static final int DEFAULT_MAX_LEADS = 10_000;
+
+    private final TProtocolFactory protocolFactory;
+    private final ResponseCache cache;
+    private final int maxLeads = Integer.getInteger(MAX_LEADS_PROPERTY, DEFAULT_MAX_LEADS);
+
+    public CachingProcessor(InternalCRM.Iface iface, LeadModel model, TProtocolFactory protocolFactory, ResponseCache cache) {
+        super(iface, model);
+        this.protocolFactory = protocolFactory;
+        this.cache = cache;
+    }
+
+    /**
+     * Processeur du service : CachingProcessor sur le modèle partagé (LeadModelFactory) si le cache
+     * est activé (-Dinternalcrm.cache.maxBytes > 0), sinon StreamingProcessor seul (findLeads en flux).
+     */
+    public static TProcessor creer(String nom, InternalCRM.Iface iface, TProtocolFactory protocolFactory) {
+        long maxOctets = ResponseCache.tailleMaxConfiguree();
+        if (maxOctets <= 0) {
+            return new StreamingProcessor(iface, LeadModelFactory.getModel());
+        }
+        ResponseCache cache = new ResponseCache(nom, maxOctets);
+        cache.enregistrerJmx();
+        System.out.println("[CachingProcessor] Cache findLeads activé pour " + nom + " (" + maxOctets + " octets max)");
+        return new CachingProcessor(iface, LeadModelFactory.getModel(), protocolFactory, cache);
+    }
+
+    public ResponseCache cache() {
+        return cache;
+    }
+
+    @Override
+    protected void repondre(TProtocol out, TMessage msg, InternalCRM.findLeads_args args) throws TException {
+        Cle cle = new Cle(args.lowAnnualRevenue, args.highAnnualRevenue, args.state);
+        long version = model.version();
+        byte[] corps = cache.lire(cle, version);
+        if (corps == null) {
+            try (FluxLeads flux = ouvrir(out, msg, args)) {
+                if (flux == null) {
+                    return;
+                }
+                if (flux.nombre() > maxLeads) {
+                    // Trop gros pour le cache : envoi direct en flux
+                    out.writeMessageBegin(new TMessage(msg.name, TMessageType.REPLY, msg.seqid));
+                    ecrireResultat(out, flux);
+                    out.writeMessageEnd();
+                    out.getTransport().flush();
+                    return;
+                }
+                TByteArrayOutputStream octets = new TByteArrayOutputStream();
+                ecrireResultat(protocolFactory.getProtocol(new TIOStreamTransport(octets)), flux);
+                corps = octets.toByteArray();
+            }
+            cache.stocker(cle, version, corps);
+        }
+
+        out.writeMessageBegin(new TMessage(msg.name, TMessageType.REPLY, msg.seqid));
+        out.getTransport().write(corps);
+        out.writeMessageEnd();
+        out.getTransport().flush();
+    }
+
+    // Clé normalisée d'une requête findLeads
+    private static final class Cle {
+        private final double low;
+        private final double high;
+        private final String etat;
+
+        Cle(double low, double high, String etat) {
+            this.low = low;
+            this.high = high;
+            this.etat = (etat == null) ? "" : etat.toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Cle)) return false;
+            Cle c = (Cle) o;
+            return Double.compare(low, c.low) == 0 && Double.compare(high, c.high) == 0 && etat.equals(c.etat);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(low, high, etat);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package org.example.internal.cache;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache de réponses déjà encodées (octets Thrift du résultat), borné en octets, éviction LRU.
+ *
+ * Chaque entrée porte la version du stockage (LeadModel.version()) lue AVANT la requête :
+ * une entrée n'est servie que si la version courante est identique, sinon elle est retirée
+ * (comptée "stale"). Aucune invalidation explicite n'est donc nécessaire à la création / suppression.
+ *
+ * Taille maximale : -Dinternalcrm.cache.maxBytes (défaut 64 Mo, 0 = cache désactivé).
+ * Une réponse plus grosse qu'un huitième du cache n'est pas conservée (elle évincerait tout le reste).
+ * LinkedHashMap en ordre d'accès, protégée par le moniteur de l'instance : les sections
+ * critiques se limitent à une lecture / insertion dans la table.
+ */
+public class ResponseCache implements ResponseCacheMBean {
+
+    public static final String MAX_BYTES_PROPERTY = "internalcrm.cache.maxBytes";
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    // Coût estimé d'une entrée hors octets de la réponse (entrée de table, clé, Entree, tableau)
+    private static final int SURCOUT_ENTREE = 96;
+
+    private static final class Entree {
+        final long version;
+        final byte[] corps;
+
+        Entree(long version, byte[] corps) {
+            this.version = version;
+            this.corps = corps;
+        }
+    }
+
+    private final String nom;
+    private final long maxOctets;
+    private final LinkedHashMap<Object, Entree> entrees = new LinkedHashMap<>(256, 0.75f, true);
+    private long octets;
+    private long hits;
+    private long misses;
+    private long stale;
+    private long evictions;
+
+    public ResponseCache(String nom, long maxOctets) {
+        this.nom = nom;
+        this.maxOctets = maxOctets;
+    }
+
+    // Taille configurée par la propriété système (0 ou négatif : cache désactivé)
+    public static long tailleMaxConfiguree() {
+        return Long.getLong(MAX_BYTES_PROPERTY, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Réponse encodée pour cette clé si elle a été calculée à la version donnée, sinon null.
+     */
+    public synchronized byte[] lire(Object cle, long version) {
+        Entree e = entrees.get(cle);
+        if (e == null) {
+            misses++;
+            return null;
+        }
+        if (e.version != version) {
+            entrees.remove(cle);
+            octets -= cout(e);
+            stale++;
+            misses++;
+            return null;
+        }
+        hits++;
+        return e.corps;
+    }
+
+    /**
+     * Conserve une réponse calculée à la version donnée (lue avant la requête), puis évince
+     * les entrées les moins récemment utilisées jusqu'à repasser sous la taille maximale.
+     * Une entrée déjà présente pour une version plus récente est conservée.
+     */
+    public synchronized void stocker(Object cle, long version, byte[] corps) {
+        Entree nouvelle = new Entree(version, corps);
+        if (cout(nouvelle) > maxOctets / 8) {
+            return;
+        }
+        Entree ancienne = entrees.get(cle);
+        if (ancienne != null) {
+            if (ancienne.version > version) {
+                return;
+            }
+            octets -= cout(ancienne);
+        }
+        entrees.put(cle, nouvelle);
+        octets += cout(nouvelle);
+        Iterator<Map.Entry<Object, Entree>> it = entrees.entrySet().iterator();
+        while (octets > maxOctets && it.hasNext()) {
+            Entree evincee = it.next().getValue();
+            it.remove();
+            octets -= cout(evincee);
+            evictions++;
+        }
+    }
+
+    private static long cout(Entree e) {
+        return e.corps.length + SURCOUT_ENTREE;
+    }
+
+    /**
+     * Enregistre les métriques auprès du serveur JMX de la plateforme
+     * (org.example.internal:type=ResponseCache,name=<nom>). Échec non bloquant.
+     */
+    public void enregistrerJmx() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this,
+                    new ObjectName("org.example.internal:type=ResponseCache,name=" + ObjectName.quote(nom)));
+        } catch (JMException e) {
+            System.out.println("[ResponseCache] Métriques JMX indisponibles pour " + nom + " : " + e.getMessage());
+        }
+    }
+
+    public synchronized String description() {
+        return String.format("%s : %d hits, %d misses (%d périmées), %d évictions, %d entrées, %d/%d octets",
+                nom, hits, misses, stale, evictions, entrees.size(), octets, maxOctets);
+    }
+
+    @Override
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    @Override
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    @Override
+    public synchronized long getStale() {
+        return stale;
+    }
+
+    @Override
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    @Override
+    public synchronized int getEntries() {
+        return entrees.size();
+    }
+
+    @Override
+    public synchronized long getBytes() {
+        return octets;
+    }
+
+    @Override
+    public long getMaxBytes() {
+        return maxOctets;
+    }
+
+    @Override
+    public synchronized double getHitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : hits / (double) total;
+    }
+
+    @Override
+    public synchronized void clear() {
+        entrees.clear();
+        octets = 0;
+    }
+}
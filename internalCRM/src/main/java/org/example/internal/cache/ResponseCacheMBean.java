@@ -0,0 +1,26 @@
+package org.example.internal.cache;
+
+/**
+ * Métriques JMX du cache de réponses (jconsole / jcmd : org.example.internal:type=ResponseCache).
+ */
+public interface ResponseCacheMBean {
+
+    long getHits();
+
+    long getMisses();
+
+    // Entrées trouvées mais invalidées par un changement de version du stockage (comptées aussi en miss)
+    long getStale();
+
+    long getEvictions();
+
+    int getEntries();
+
+    long getBytes();
+
+    long getMaxBytes();
+
+    double getHitRatio();
+
+    void clear();
+}
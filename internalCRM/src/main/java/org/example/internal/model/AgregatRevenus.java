@@ -0,0 +1,48 @@
+package org.example.internal.model;
+
+/**
+ * Agrégat des revenus d'un ensemble de leads : nombre, somme, minimum, maximum, moyenne.
+ * Calculé par le modèle au fil du parcours de ses index, sans construire de liste de leads.
+ * Ensemble vide : nombre = 0 et somme, min, max, moyenne = 0.
+ * Non thread-safe : chaque requête remplit ses propres instances.
+ */
+public final class AgregatRevenus {
+    private long nombre;
+    private double somme;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public void ajouter(double revenu) {
+        nombre++;
+        somme += revenu;
+        if (revenu < min) min = revenu;
+        if (revenu > max) max = revenu;
+    }
+
+    public void fusionner(AgregatRevenus autre) {
+        nombre += autre.nombre;
+        somme += autre.somme;
+        min = Math.min(min, autre.min);
+        max = Math.max(max, autre.max);
+    }
+
+    public long getNombre() {
+        return nombre;
+    }
+
+    public double getSomme() {
+        return somme;
+    }
+
+    public double getMin() {
+        return nombre == 0 ? 0.0 : min;
+    }
+
+    public double getMax() {
+        return nombre == 0 ? 0.0 : max;
+    }
+
+    public double getMoyenne() {
+        return nombre == 0 ? 0.0 : somme / nombre;
+    }
+}
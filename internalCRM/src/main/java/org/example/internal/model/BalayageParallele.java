@@ -0,0 +1,149 @@
+package org.example.internal.model;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * Moteur de balayage des lignes [0, n) pour les prédicats sans index (filtres de findLeads
+ * du modèle colonnes, suppression par template sur champs libres...).
+ *
+ * - en dessous du seuil, ou si le pool n'a qu'un thread : boucle séquentielle dans l'appelant,
+ *   sans tâche ni tableau intermédiaire
+ * - au-delà : découpage en tranches contiguës évaluées sur un ForkJoinPool, chaque tranche
+ *   produisant ses lignes retenues ; les tranches sont concaténées dans l'ordre des lignes
+ *
+ * Le prédicat est appelé depuis plusieurs threads : il ne doit que lire (l'appelant tient le
+ * verrou qui protège les données pendant tout le balayage). L'action de pourChaque est en
+ * revanche toujours appelée dans le thread appelant, dans l'ordre croissant des lignes.
+ *
+ * Seuil : -Dinternalcrm.scan.parallelThreshold (lignes, défaut 65536).
+ */
+public final class BalayageParallele {
+    public static final String SEUIL_PROPERTY = "internalcrm.scan.parallelThreshold";
+    public static final int SEUIL_DEFAUT = 65_536;
+
+    // Taille minimale d'une tranche : en dessous, le coût d'une tâche n'est plus amorti
+    private static final int TRANCHE_MIN = 4_096;
+    // Tranches par thread : absorbe les écarts de coût entre tranches (vol de travail)
+    private static final int TRANCHES_PAR_THREAD = 4;
+    private static final int[] AUCUNE = new int[0];
+
+    private static final BalayageParallele DEFAUT =
+            new BalayageParallele(ForkJoinPool.commonPool(), Integer.getInteger(SEUIL_PROPERTY, SEUIL_DEFAUT));
+
+    private final ForkJoinPool pool;
+    private final int seuil;
+
+    public BalayageParallele(ForkJoinPool pool, int seuil) {
+        this.pool = pool;
+        this.seuil = Math.max(1, seuil);
+    }
+
+    // Pool ForkJoin commun, seuil lu dans internalcrm.scan.parallelThreshold
+    public static BalayageParallele parDefaut() {
+        return DEFAUT;
+    }
+
+    // Balayage séquentiel, quel que soit le nombre de lignes (référence des benchmarks)
+    public static BalayageParallele sequentiel() {
+        return new BalayageParallele(ForkJoinPool.commonPool(), Integer.MAX_VALUE);
+    }
+
+    public int parallelisme() {
+        return pool.getParallelism();
+    }
+
+    public int seuil() {
+        return seuil;
+    }
+
+    boolean estParallele(int n) {
+        return n >= seuil && pool.getParallelism() > 1;
+    }
+
+    /**
+     * Appelle action, dans le thread appelant et par ligne croissante, pour chaque ligne de [0, n)
+     * acceptée par le prédicat.
+     */
+    void pourChaque(int n, IntPredicate predicat, IntConsumer action) {
+        if (!estParallele(n)) {
+            for (int i = 0; i < n; i++) {
+                if (predicat.test(i)) action.accept(i);
+            }
+            return;
+        }
+        for (int i : selectionner(n, predicat)) {
+            action.accept(i);
+        }
+    }
+
+    // Lignes de [0, n) acceptées par le prédicat, par ordre croissant
+    int[] selectionner(int n, IntPredicate predicat) {
+        if (!estParallele(n)) {
+            return evaluer(0, n, predicat);
+        }
+        int taille = Math.max(TRANCHE_MIN, -Math.floorDiv(-n, pool.getParallelism() * TRANCHES_PAR_THREAD));
+        int[][] parTranche = new int[-Math.floorDiv(-n, taille)][];
+        pool.invoke(new Tranches(0, parTranche.length, taille, n, predicat, parTranche));
+
+        int total = 0;
+        for (int[] t : parTranche) total += t.length;
+        int[] res = new int[total];
+        int k = 0;
+        for (int[] t : parTranche) {
+            System.arraycopy(t, 0, res, k, t.length);
+            k += t.length;
+        }
+        return res;
+    }
+
+    private static int[] evaluer(int debut, int fin, IntPredicate predicat) {
+        int[] res = AUCUNE;
+        int k = 0;
+        for (int i = debut; i < fin; i++) {
+            if (!predicat.test(i)) continue;
+            if (k == res.length) {
+                res = Arrays.copyOf(res, Math.max(16, Math.min(fin - debut, k * 2)));
+            }
+            res[k++] = i;
+        }
+        return k == res.length ? res : Arrays.copyOf(res, k);
+    }
+
+    // Tranches [premiere, derniere) : coupées en deux jusqu'à une seule, évaluée sur place
+    private static final class Tranches extends RecursiveAction {
+        // RecursiveAction est Serializable ; une tâche n'est jamais sérialisée
+        private static final long serialVersionUID = 1L;
+
+        private final int premiere;
+        private final int derniere;
+        private final int taille;
+        private final int n;
+        private final IntPredicate predicat;
+        private final int[][] parTranche;
+
+        Tranches(int premiere, int derniere, int taille, int n, IntPredicate predicat, int[][] parTranche) {
+            this.premiere = premiere;
+            this.derniere = derniere;
+            this.taille = taille;
+            this.n = n;
+            this.predicat = predicat;
+            this.parTranche = parTranche;
+        }
+
+        @Override
+        protected void compute() {
+            if (derniere - premiere == 1) {
+                int debut = premiere * taille;
+                parTranche[premiere] = evaluer(debut, Math.min(n, debut + taille), predicat);
+                return;
+            }
+            int milieu = (premiere + derniere) >>> 1;
+            invokeAll(new Tranches(premiere, milieu, taille, n, predicat, parTranche),
+                      new Tranches(milieu, derniere, taille, n, predicat, parTranche));
+        }
+    }
+}
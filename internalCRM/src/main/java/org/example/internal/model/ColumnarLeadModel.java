@@ -0,0 +1,455 @@
+package org.example.internal.model;
+
+import org.example.internal.model.exception.NoSuchLeadException;
+import org.example.internal.model.exception.WrongDateFormatException;
+import org.example.internal.model.exception.WrongOrderForDateException;
+import org.example.internal.model.exception.WrongOrderForRevenueException;
+import org.example.internal.model.exception.WrongStateException;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Implémentation "colonnes" du modèle LeadModel, pensée pour les gros volumes.
+ *
+ * Au lieu d'un objet Lead (+ Calendar) par prospect, chaque champ est rangé dans
+ * un tableau indexé par ligne :
+ * - revenu en double[], date de création en long[] (epoch millis), id en long[]
+ * - état / ville / pays / entreprise encodés par dictionnaire dans des int[]
+ * - prénom, nom, téléphone, rue, code postal (forte cardinalité) en String[]
+ * - suppressions par "pierres tombales" (bitmap), les lignes ne sont jamais déplacées
+ *
+ * Les ids sont attribués séquentiellement sous verrou d'écriture : ligne = id - 1.
+ * Les objets Lead ne sont matérialisés que pour les lignes retournées.
+ * Les balayages (recherches, suppression par template) passent par BalayageParallele :
+ * séquentiels sur une petite table, découpés en tranches sur le pool ForkJoin au-delà.
+ *
+ * Sélection : -Dinternalcrm.model=columnar (voir LeadModelFactory).
+ * Même contrat que LeadModelImpl (validations, format "Nom, Prénom", suppression par template).
+ */
+public class ColumnarLeadModel implements LeadModel {
+
+    // Sentinelles : pas de date de création / pas de valeur dans le dictionnaire
+    private static final long SANS_DATE = Lead.SANS_DATE;
+    private static final int SANS_CODE = -1;
+
+    private static final int CAPACITE_INITIALE = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final BalayageParallele balayage;
+
+    // Colonnes (taille = capacité, lignes utilisées = [0, lignes))
+    private long[] ids = new long[CAPACITE_INITIALE];
+    private double[] revenus = new double[CAPACITE_INITIALE];
+    private long[] dates = new long[CAPACITE_INITIALE];
+    private int[] etats = new int[CAPACITE_INITIALE];
+    private int[] villes = new int[CAPACITE_INITIALE];
+    private int[] pays = new int[CAPACITE_INITIALE];
+    private int[] entreprises = new int[CAPACITE_INITIALE];
+    private String[] prenoms = new String[CAPACITE_INITIALE];
+    private String[] noms = new String[CAPACITE_INITIALE];
+    private String[] telephones = new String[CAPACITE_INITIALE];
+    private String[] rues = new String[CAPACITE_INITIALE];
+    private String[] codesPostaux = new String[CAPACITE_INITIALE];
+    // Pierres tombales : bit à 1 = ligne supprimée
+    private long[] supprimes = new long[CAPACITE_INITIALE / 64];
+
+    private final Dictionnaire dictEtats = new Dictionnaire();
+    private final Dictionnaire dictVilles = new Dictionnaire();
+    private final Dictionnaire dictPays = new Dictionnaire();
+    private final Dictionnaire dictEntreprises = new Dictionnaire();
+
+    private int lignes = 0;
+    private int vivants = 0;
+    // Incrémentée sous verrou d'écriture, lue sans verrou (version())
+    private volatile long version = 0;
+
+    public ColumnarLeadModel() {
+        this(BalayageParallele.parDefaut());
+    }
+
+    // Moteur de balayage explicite (pool et seuil choisis, benchmarks)
+    public ColumnarLeadModel(BalayageParallele balayage) {
+        this.balayage = balayage;
+    }
+
+    @Override
+    public List<LeadLecture> findLeads(double low, double high, String state)
+            throws WrongOrderForRevenueException, WrongStateException {
+        List<LeadLecture> res = new ArrayList<>();
+        parcourir(low, high, state, i -> res.add(materialiser(i)));
+        return res;
+    }
+
+    @Override
+    public AgregatRevenus agregerRevenus(double low, double high, String state)
+            throws WrongOrderForRevenueException, WrongStateException {
+        // Seule la colonne des revenus est lue
+        AgregatRevenus agregat = new AgregatRevenus();
+        parcourir(low, high, state, i -> agregat.ajouter(revenus[i]));
+        return agregat;
+    }
+
+    @Override
+    public SortedMap<String, AgregatRevenus> histogramme(Regroupement par, double low, double high, String state)
+            throws WrongOrderForRevenueException, WrongStateException {
+        Histogramme histo = new Histogramme(par);
+        if (par == Regroupement.MOIS) {
+            parcourir(low, high, state, i -> histo.ajouterDate(dates[i], revenus[i]));
+            return histo.resultat();
+        }
+        // État / ville : agrégation par code de dictionnaire (case 0 = non renseigné), décodée une fois par code
+        Dictionnaire dict = (par == Regroupement.ETAT) ? dictEtats : dictVilles;
+        // Verrou de lecture pris avant de lire les colonnes (réallouées par les écritures) ; parcourir le reprend
+        lock.readLock().lock();
+        try {
+            int[] codes = (par == Regroupement.ETAT) ? etats : villes;
+            AgregatRevenus[] groupes = new AgregatRevenus[dict.taille() + 1];
+            parcourir(low, high, state, i -> {
+                int c = codes[i] + 1;
+                if (groupes[c] == null) groupes[c] = new AgregatRevenus();
+                groupes[c].ajouter(revenus[i]);
+            });
+            for (int c = 0; c < groupes.length; c++) {
+                if (groupes[c] != null) {
+                    histo.fusionnerValeur(dict.decoder(c - 1), groupes[c]);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return histo.resultat();
+    }
+
+    /**
+     * Appelle action pour chaque ligne vivante de revenu dans [low, high] et, si state est renseigné,
+     * de cet état (casse ignorée). Validations de findLeads ; parcours sous verrou de lecture.
+     */
+    private void parcourir(double low, double high, String state, IntConsumer action)
+            throws WrongOrderForRevenueException, WrongStateException {
+        LeadModelImpl.validerRecherche(low, high, state);
+
+        lock.readLock().lock();
+        try {
+            // Filtre état résolu une fois en codes de dictionnaire (equalsIgnoreCase sur les seules valeurs distinctes)
+            boolean[] etatsAcceptes = null;
+            if (state != null && !state.isEmpty()) {
+                etatsAcceptes = dictEtats.codesEgauxIgnorantCasse(state);
+            }
+
+            balayage.pourChaque(lignes, filtreRevenuEtat(low, high, etatsAcceptes), action);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<LeadLecture> findLeadsByDate(Calendar from, Calendar to)
+            throws WrongDateFormatException, WrongOrderForDateException {
+        if (from != null && to != null && from.after(to)) {
+            throw new WrongOrderForDateException("La date de début est après la date de fin");
+        }
+        long debut = (from == null) ? Long.MIN_VALUE : from.getTimeInMillis();
+        long fin = (to == null) ? Long.MAX_VALUE : to.getTimeInMillis();
+
+        lock.readLock().lock();
+        try {
+            List<LeadLecture> res = new ArrayList<>();
+            balayage.pourChaque(lignes, filtreDate(debut, fin), i -> res.add(materialiser(i)));
+            return res;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<LeadLecture> findLeadsPage(double low, double high, String state, double apresRevenu, long apresId, int limite)
+            throws WrongOrderForRevenueException, WrongStateException {
+        LeadModelImpl.validerRecherche(low, high, state);
+
+        lock.readLock().lock();
+        try {
+            boolean[] etatsAcceptes = null;
+            if (state != null && !state.isEmpty()) {
+                etatsAcceptes = dictEtats.codesEgauxIgnorantCasse(state);
+            }
+            // Pas d'ordre (revenu, id) dans les colonnes : balayage avec sélection bornée des `limite` suivants
+            SelectionPage page = new SelectionPage(limite, SelectionPage.cleRevenu(apresRevenu), apresId);
+            balayage.pourChaque(lignes, filtreRevenuEtat(low, high, etatsAcceptes),
+                    i -> page.proposer(SelectionPage.cleRevenu(revenus[i]), ids[i], i));
+            return materialiser(page.lignesTriees());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<LeadLecture> findLeadsByDatePage(Calendar from, Calendar to, long apresMillis, long apresId, int limite)
+            throws WrongDateFormatException, WrongOrderForDateException {
+        if (from != null && to != null && from.after(to)) {
+            throw new WrongOrderForDateException("La date de début est après la date de fin");
+        }
+        long debut = (from == null) ? Long.MIN_VALUE : from.getTimeInMillis();
+        long fin = (to == null) ? Long.MAX_VALUE : to.getTimeInMillis();
+
+        lock.readLock().lock();
+        try {
+            SelectionPage page = new SelectionPage(limite, apresMillis, apresId);
+            balayage.pourChaque(lignes, filtreDate(debut, fin), i -> page.proposer(dates[i], ids[i], i));
+            return materialiser(page.lignesTriees());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long createLead(Lead lead) throws WrongStateException {
+        LeadModelImpl.verifierCreation(lead);
+
+        lock.writeLock().lock();
+        try {
+            return ajouterLigne(lead);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public long[] createLeads(List<Lead> leads, Map<Integer, String> erreurs) {
+        long[] resultat = new long[leads.size()];
+        // Un seul passage par le verrou d'écriture pour tout le lot
+        lock.writeLock().lock();
+        try {
+            for (int k = 0; k < resultat.length; k++) {
+                Lead lead = leads.get(k);
+                try {
+                    LeadModelImpl.verifierCreation(lead);
+                } catch (WrongStateException e) {
+                    resultat[k] = -1;
+                    erreurs.put(k, e.getMessage());
+                    continue;
+                }
+                resultat[k] = ajouterLigne(lead);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return resultat;
+    }
+
+    // Ajoute une ligne (appelé sous verrou d'écriture) et renvoie l'id attribué
+    private long ajouterLigne(Lead lead) {
+        assurerCapacite(lignes + 1);
+        int i = lignes;
+        long id = i + 1L;
+        ids[i] = id;
+        revenus[i] = lead.getAnnualRevenue();
+        dates[i] = lead.getCreationMillis();
+        etats[i] = dictEtats.encoder(lead.getState());
+        villes[i] = dictVilles.encoder(lead.getCity());
+        pays[i] = dictPays.encoder(lead.getCountry());
+        entreprises[i] = dictEntreprises.encoder(lead.getCompanyName());
+        prenoms[i] = lead.getFirstName();
+        noms[i] = lead.getLastName();
+        telephones[i] = lead.getPhone();
+        rues[i] = lead.getStreet();
+        codesPostaux[i] = lead.getPostalCode();
+        lignes++;
+        vivants++;
+        version++;
+        return id;
+    }
+
+    @Override
+    public void deleteLead(Lead template) throws NoSuchLeadException {
+        lock.writeLock().lock();
+        try {
+            // Pré-filtre sur les colonnes nom/prénom (au moins l'un des deux est obligatoire dans le template),
+            // puis comparaison complète sur les seules lignes candidates
+            // (balayage en lecture seule, éventuellement parallèle : le verrou d'écriture est tenu par l'appelant)
+            FiltreSuppression filtre = FiltreSuppression.compiler(template);
+            int[] aSupprimer = filtre == null ? new int[0] : balayage.selectionner(lignes, i -> {
+                if (estSupprime(i)) return false;
+                if (filtre.prenom() != null && !filtre.prenom().equals(prenoms[i])) return false;
+                if (filtre.nom() != null && !filtre.nom().equals(noms[i])) return false;
+                return filtre.accepte(lire(i));
+            });
+            if (aSupprimer.length == 0) {
+                throw new NoSuchLeadException("Aucun prospect correspondant trouvé pour suppression");
+            }
+            for (int i : aSupprimer) {
+                supprimer(i);
+            }
+            vivants -= aSupprimer.length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteLeadById(long id) throws NoSuchLeadException {
+        if (deleteLeads(List.of(id)).isEmpty()) {
+            throw new NoSuchLeadException("Aucun prospect avec l'id " + id);
+        }
+    }
+
+    @Override
+    public List<Long> deleteLeads(List<Long> idsASupprimer) {
+        List<Long> supprimesParId = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            // ligne = id - 1 : accès direct, sans balayage
+            for (Long id : idsASupprimer) {
+                if (id == null || id < 1 || id > lignes) continue;
+                int i = (int) (id - 1);
+                if (estSupprime(i)) continue;
+                supprimer(i);
+                vivants--;
+                supprimesParId.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return supprimesParId;
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return vivants;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long version() {
+        return version;
+    }
+
+    // Ligne vivante de revenu dans [low, high] et d'un état accepté (null = tous les états)
+    private IntPredicate filtreRevenuEtat(double low, double high, boolean[] etatsAcceptes) {
+        return i -> {
+            double r = revenus[i];
+            if (r < low || r > high || estSupprime(i)) return false;
+            if (etatsAcceptes == null) return true;
+            int code = etats[i];
+            return code != SANS_CODE && etatsAcceptes[code];
+        };
+    }
+
+    // Ligne vivante datée dans [debut, fin]
+    private IntPredicate filtreDate(long debut, long fin) {
+        return i -> {
+            long d = dates[i];
+            return d != SANS_DATE && d >= debut && d <= fin && !estSupprime(i);
+        };
+    }
+
+    private boolean estSupprime(int ligne) {
+        return (supprimes[ligne >>> 6] & (1L << ligne)) != 0;
+    }
+
+    private void supprimer(int ligne) {
+        supprimes[ligne >>> 6] |= 1L << ligne;
+        // Libère les chaînes de la ligne : seules les colonnes primitives restent allouées
+        prenoms[ligne] = null;
+        noms[ligne] = null;
+        telephones[ligne] = null;
+        rues[ligne] = null;
+        codesPostaux[ligne] = null;
+        version++;
+    }
+
+    // Reconstruit le Lead stocké à la ligne donnée (sans mise en forme)
+    private Lead lire(int i) {
+        Lead l = new Lead();
+        l.setId(ids[i]);
+        l.setFirstName(prenoms[i]);
+        l.setLastName(noms[i]);
+        l.setAnnualRevenue(revenus[i]);
+        l.setPhone(telephones[i]);
+        l.setStreet(rues[i]);
+        l.setPostalCode(codesPostaux[i]);
+        l.setCity(dictVilles.decoder(villes[i]));
+        l.setCountry(dictPays.decoder(pays[i]));
+        l.setCompanyName(dictEntreprises.decoder(entreprises[i]));
+        l.setState(dictEtats.decoder(etats[i]));
+        l.setCreationMillis(dates[i]);
+        return l;
+    }
+
+    // Lead retourné à l'appelant : même format que LeadModelImpl ("Nom, Prénom")
+    private Lead materialiser(int i) {
+        Lead l = lire(i);
+        LeadModelImpl.formaterNom(l);
+        return l;
+    }
+
+    private List<LeadLecture> materialiser(long[] lignesPage) {
+        List<LeadLecture> res = new ArrayList<>(lignesPage.length);
+        for (long i : lignesPage) {
+            res.add(materialiser((int) i));
+        }
+        return res;
+    }
+
+    private void assurerCapacite(int requis) {
+        if (requis <= ids.length) return;
+        int capacite = Math.max(requis, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacite);
+        revenus = Arrays.copyOf(revenus, capacite);
+        dates = Arrays.copyOf(dates, capacite);
+        etats = Arrays.copyOf(etats, capacite);
+        villes = Arrays.copyOf(villes, capacite);
+        pays = Arrays.copyOf(pays, capacite);
+        entreprises = Arrays.copyOf(entreprises, capacite);
+        prenoms = Arrays.copyOf(prenoms, capacite);
+        noms = Arrays.copyOf(noms, capacite);
+        telephones = Arrays.copyOf(telephones, capacite);
+        rues = Arrays.copyOf(rues, capacite);
+        codesPostaux = Arrays.copyOf(codesPostaux, capacite);
+        supprimes = Arrays.copyOf(supprimes, (capacite + 63) / 64);
+    }
+
+    /**
+     * Dictionnaire chaîne ↔ code entier pour les colonnes à faible cardinalité.
+     * Accès en écriture sous le verrou d'écriture du modèle uniquement.
+     */
+    private static final class Dictionnaire {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> valeurs = new ArrayList<>();
+
+        int encoder(String valeur) {
+            if (valeur == null) return SANS_CODE;
+            Integer code = codes.get(valeur);
+            if (code == null) {
+                code = valeurs.size();
+                valeurs.add(valeur);
+                codes.put(valeur, code);
+            }
+            return code;
+        }
+
+        int taille() {
+            return valeurs.size();
+        }
+
+        String decoder(int code) {
+            return (code == SANS_CODE) ? null : valeurs.get(code);
+        }
+
+        // Table code → "la valeur est égale à cible (casse ignorée)"
+        boolean[] codesEgauxIgnorantCasse(String cible) {
+            boolean[] res = new boolean[valeurs.size()];
+            for (int c = 0; c < res.length; c++) {
+                res[c] = cible.equalsIgnoreCase(valeurs.get(c));
+            }
+            return res;
+        }
+    }
+}
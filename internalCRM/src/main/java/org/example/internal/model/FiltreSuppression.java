@@ -0,0 +1,79 @@
+package org.example.internal.model;
+
+/**
+ * Template de suppression "compilé" : même règle que LeadModelImpl.equalsWithoutId,
+ * mais les champs renseignés sont déterminés une seule fois (trim().isEmpty() par champ)
+ * au lieu de l'être pour chaque lead candidat.
+ *
+ * Un champ null ou blanc du template est ignoré ; un revenu < 0 signifie "non renseigné".
+ * Les valeurs conservées sont celles du template, sans trim (comparaison exacte).
+ */
+final class FiltreSuppression {
+    private final String prenom;
+    private final String nom;
+    private final boolean revenuRenseigne;
+    private final double revenu;
+    private final String telephone;
+    private final String rue;
+    private final String codePostal;
+    private final String ville;
+    private final String pays;
+    private final String entreprise;
+    private final String etat;
+    // Epoch millis, Lead.SANS_DATE = date non renseignée
+    private final long date;
+
+    private FiltreSuppression(Lead t) {
+        prenom = renseigne(t.getFirstName());
+        nom = renseigne(t.getLastName());
+        revenuRenseigne = t.getAnnualRevenue() >= 0.0;
+        revenu = LeadModelImpl.normaliserRevenu(t.getAnnualRevenue());
+        telephone = renseigne(t.getPhone());
+        rue = renseigne(t.getStreet());
+        codePostal = renseigne(t.getPostalCode());
+        ville = renseigne(t.getCity());
+        pays = renseigne(t.getCountry());
+        entreprise = renseigne(t.getCompanyName());
+        etat = renseigne(t.getState());
+        date = t.getCreationMillis();
+    }
+
+    /**
+     * Compile un template ; null si le template ne peut correspondre à aucun lead
+     * (template null, ou ni nom ni prénom renseigné).
+     */
+    static FiltreSuppression compiler(Lead template) {
+        if (template == null) return null;
+        FiltreSuppression f = new FiltreSuppression(template);
+        return (f.prenom == null && f.nom == null) ? null : f;
+    }
+
+    boolean accepte(LeadLecture c) {
+        if (c == null) return false;
+        if (prenom != null && !prenom.equals(c.getFirstName())) return false;
+        if (nom != null && !nom.equals(c.getLastName())) return false;
+        if (revenuRenseigne && Double.compare(revenu, LeadModelImpl.normaliserRevenu(c.getAnnualRevenue())) != 0) return false;
+        if (telephone != null && !telephone.equals(c.getPhone())) return false;
+        if (rue != null && !rue.equals(c.getStreet())) return false;
+        if (codePostal != null && !codePostal.equals(c.getPostalCode())) return false;
+        if (ville != null && !ville.equals(c.getCity())) return false;
+        if (pays != null && !pays.equals(c.getCountry())) return false;
+        if (entreprise != null && !entreprise.equals(c.getCompanyName())) return false;
+        if (etat != null && !etat.equals(c.getState())) return false;
+        if (date != Lead.SANS_DATE && date != c.getCreationMillis()) return false;
+        return true;
+    }
+
+    // Champs utilisés par le planificateur de LeadModelImpl (null = non renseigné)
+    String prenom() { return prenom; }
+    String nom() { return nom; }
+    boolean revenuRenseigne() { return revenuRenseigne; }
+    double revenu() { return revenu; }
+    String telephone() { return telephone; }
+    String codePostal() { return codePostal; }
+    String etat() { return etat; }
+
+    private static String renseigne(String valeur) {
+        return (valeur != null && !valeur.trim().isEmpty()) ? valeur : null;
+    }
+}
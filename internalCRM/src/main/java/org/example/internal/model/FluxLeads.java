@@ -0,0 +1,40 @@
+package org.example.internal.model;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Résultat de findLeads lu au fil de l'eau (LeadModel.findLeadsFlux) : le nombre de leads
+ * est connu avant le premier lead (en-tête de liste Thrift), puis les leads sont parcourus
+ * dans l'ordre (revenu, id) sans que la liste complète ne soit construite.
+ *
+ * Le nombre et le parcours décrivent le même état du stockage. Le flux doit être fermé
+ * (try-with-resources) : il peut retenir un instantané de lecture du modèle.
+ * Un flux ne se parcourt qu'une fois.
+ */
+public interface FluxLeads extends Iterable<LeadLecture>, AutoCloseable {
+
+    int nombre();
+
+    @Override
+    void close();
+
+    // Flux sur une liste déjà construite (modèles sans parcours en flux)
+    static FluxLeads deListe(List<LeadLecture> leads) {
+        return new FluxLeads() {
+            @Override
+            public int nombre() {
+                return leads.size();
+            }
+
+            @Override
+            public Iterator<LeadLecture> iterator() {
+                return leads.iterator();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
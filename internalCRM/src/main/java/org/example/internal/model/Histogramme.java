@@ -0,0 +1,143 @@
+package org.example.internal.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Accumulateur d'un histogramme (LeadModel.histogramme), commun aux implémentations du modèle.
+ *
+ * Pendant le parcours, les groupes sont indexés par valeur exacte (état, ville) ou par numéro de mois :
+ * aucune chaîne n'est construite par lead. Les clés finales ne sont produites qu'une fois par groupe
+ * dans resultat() :
+ * - ETAT : valeurs égales à la casse près fusionnées, libellé = plus petite orthographe rencontrée
+ * - MOIS : "yyyy-MM" en UTC
+ * - valeur ou date non renseignée : clé ""
+ */
+final class Histogramme {
+    private static final long MILLIS_PAR_JOUR = 86_400_000L;
+    private static final int SANS_MOIS = Integer.MIN_VALUE;
+
+    private final Regroupement par;
+    private final Map<String, AgregatRevenus> parValeur = new HashMap<>();
+    private final Map<Integer, AgregatRevenus> parMois = new HashMap<>();
+    // Les leads d'un même jour tombent dans le même mois : dernier jour vu et son groupe
+    private long dernierJour = Long.MIN_VALUE;
+    private AgregatRevenus groupeDernierJour;
+
+    Histogramme(Regroupement par) {
+        this.par = par;
+    }
+
+    Regroupement par() {
+        return par;
+    }
+
+    void ajouter(LeadLecture l) {
+        switch (par) {
+            case ETAT:
+                ajouterValeur(l.getState(), l.getAnnualRevenue());
+                break;
+            case VILLE:
+                ajouterValeur(l.getCity(), l.getAnnualRevenue());
+                break;
+            default:
+                ajouterDate(l.getCreationMillis(), l.getAnnualRevenue());
+        }
+    }
+
+    // ETAT / VILLE : valeur exacte (null = non renseignée)
+    void ajouterValeur(String valeur, double revenu) {
+        parValeur.computeIfAbsent(valeur == null ? "" : valeur, k -> new AgregatRevenus()).ajouter(revenu);
+    }
+
+    // ETAT / VILLE : groupe déjà agrégé par l'appelant (par code de dictionnaire, par exemple)
+    void fusionnerValeur(String valeur, AgregatRevenus groupe) {
+        parValeur.computeIfAbsent(valeur == null ? "" : valeur, k -> new AgregatRevenus()).fusionner(groupe);
+    }
+
+    // MOIS : date de création en epoch millis (Lead.SANS_DATE = non renseignée)
+    void ajouterDate(long millis, double revenu) {
+        if (millis == Lead.SANS_DATE) {
+            parMois.computeIfAbsent(SANS_MOIS, k -> new AgregatRevenus()).ajouter(revenu);
+            return;
+        }
+        long jour = Math.floorDiv(millis, MILLIS_PAR_JOUR);
+        if (jour != dernierJour || groupeDernierJour == null) {
+            dernierJour = jour;
+            groupeDernierJour = parMois.computeIfAbsent(moisDepuisJour(jour), k -> new AgregatRevenus());
+        }
+        groupeDernierJour.ajouter(revenu);
+    }
+
+    SortedMap<String, AgregatRevenus> resultat() {
+        SortedMap<String, AgregatRevenus> res = new TreeMap<>();
+        switch (par) {
+            case ETAT: {
+                Map<String, String> libelles = new HashMap<>();
+                Map<String, AgregatRevenus> groupes = new HashMap<>();
+                for (Map.Entry<String, AgregatRevenus> e : parValeur.entrySet()) {
+                    String cle = e.getKey().toLowerCase(Locale.ROOT);
+                    libelles.merge(cle, e.getKey(), (a, b) -> a.compareTo(b) <= 0 ? a : b);
+                    groupes.computeIfAbsent(cle, k -> new AgregatRevenus()).fusionner(e.getValue());
+                }
+                for (Map.Entry<String, AgregatRevenus> e : groupes.entrySet()) {
+                    res.put(libelles.get(e.getKey()), e.getValue());
+                }
+                break;
+            }
+            case VILLE:
+                res.putAll(parValeur);
+                break;
+            default:
+                for (Map.Entry<Integer, AgregatRevenus> e : parMois.entrySet()) {
+                    int m = e.getKey();
+                    res.put(m == SANS_MOIS ? "" : String.format("%04d-%02d", Math.floorDiv(m, 12), Math.floorMod(m, 12) + 1),
+                            e.getValue());
+                }
+        }
+        return res;
+    }
+
+    /**
+     * Fusion d'histogrammes calculés séparément (un par shard), avec les mêmes règles de clés
+     * que resultat() : pour ETAT, les orthographes de chaque partie sont de nouveau confrontées.
+     */
+    static SortedMap<String, AgregatRevenus> fusionner(Regroupement par, List<SortedMap<String, AgregatRevenus>> parties) {
+        if (par == Regroupement.ETAT) {
+            Histogramme histo = new Histogramme(par);
+            for (SortedMap<String, AgregatRevenus> partie : parties) {
+                for (Map.Entry<String, AgregatRevenus> e : partie.entrySet()) {
+                    histo.fusionnerValeur(e.getKey(), e.getValue());
+                }
+            }
+            return histo.resultat();
+        }
+        SortedMap<String, AgregatRevenus> res = new TreeMap<>();
+        for (SortedMap<String, AgregatRevenus> partie : parties) {
+            for (Map.Entry<String, AgregatRevenus> e : partie.entrySet()) {
+                res.computeIfAbsent(e.getKey(), k -> new AgregatRevenus()).fusionner(e.getValue());
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Numéro de mois (année * 12 + mois - 1) du jour donné (jours depuis 1970-01-01, UTC).
+     * Algorithme "civil_from_days" de H. Hinnant, sans allocation.
+     */
+    static int moisDepuisJour(long jour) {
+        long z = jour + 719_468;
+        long ere = Math.floorDiv(z, 146_097);
+        long jourEre = z - ere * 146_097;
+        long anneeEre = (jourEre - jourEre / 1_460 + jourEre / 36_524 - jourEre / 146_096) / 365;
+        long jourAnnee = jourEre - (365 * anneeEre + anneeEre / 4 - anneeEre / 100);
+        long mp = (5 * jourAnnee + 2) / 153;
+        long mois = mp < 10 ? mp + 3 : mp - 9;
+        long annee = anneeEre + ere * 400 + (mois <= 2 ? 1 : 0);
+        return (int) (annee * 12 + mois - 1);
+    }
+}
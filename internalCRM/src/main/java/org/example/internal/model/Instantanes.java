@@ -0,0 +1,82 @@
+package org.example.internal.model;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Horloge de versions et lectures par instantané (MVCC) de LeadModelImpl.
+ *
+ * - chaque écriture (création, suppression, lot) réserve une version, fait ses modifications
+ *   en marquant les leads touchés avec cette version, puis la termine
+ * - version visible = plus grande version v telle que toutes les écritures <= v sont terminées :
+ *   une lecture ne voit donc jamais une écriture à moitié appliquée (lot ou suppression
+ *   par template compris), quel que soit l'ordre dans lequel les écrivains terminent
+ * - une lecture s'inscrit avec sa version ; les leads supprimés ne sont retirés des index
+ *   qu'une fois plus vieux que la plus ancienne lecture en cours (limitePurge)
+ *
+ * Les lecteurs ne prennent aucun verrou ; les écrivains n'attendent jamais les lecteurs.
+ * Le moniteur de cette classe ne protège que la file des écritures en cours (quelques opérations).
+ */
+final class Instantanes {
+    // Dernière version réservée, et versions réservées non terminées (croissantes)
+    private long derniere;
+    private final ArrayDeque<Long> enCours = new ArrayDeque<>();
+    private volatile long visible;
+
+    // Lectures en cours : version lue → nombre de lecteurs
+    private final ConcurrentSkipListMap<Long, Integer> lecteurs = new ConcurrentSkipListMap<>();
+
+    // ---------------------------------------------------------------- écrivains
+
+    synchronized long reserver() {
+        enCours.addLast(++derniere);
+        return derniere;
+    }
+
+    // À appeler dans un finally : une version jamais terminée bloquerait la visibilité des suivantes
+    synchronized void terminer(long version) {
+        enCours.remove(version);
+        visible = enCours.isEmpty() ? derniere : enCours.peekFirst() - 1;
+    }
+
+    long visible() {
+        return visible;
+    }
+
+    // ---------------------------------------------------------------- lecteurs
+
+    /**
+     * Ouvre une lecture et renvoie sa version (à refermer avec fermer()).
+     * Inscription puis relecture : une purge lancée avant l'inscription a lu une version
+     * visible <= celle renvoyée, elle n'a donc retiré aucun lead visible dans cet instantané.
+     */
+    long ouvrir() {
+        long v = visible;
+        lecteurs.merge(v, 1, Integer::sum);
+        long relue = visible;
+        if (relue != v) {
+            lecteurs.merge(relue, 1, Integer::sum);
+            desinscrire(v);
+        }
+        return relue;
+    }
+
+    void fermer(long version) {
+        desinscrire(version);
+    }
+
+    private void desinscrire(long version) {
+        lecteurs.computeIfPresent(version, (k, n) -> n == 1 ? null : n - 1);
+    }
+
+    /**
+     * Version jusqu'à laquelle les leads supprimés peuvent être retirés des index :
+     * aucune lecture en cours ne les voit plus. La version visible est lue avant les lecteurs.
+     */
+    long limitePurge() {
+        long limite = visible;
+        Map.Entry<Long, Integer> plusAncienne = lecteurs.firstEntry();
+        return plusAncienne == null ? limite : Math.min(limite, plusAncienne.getKey());
+    }
+}
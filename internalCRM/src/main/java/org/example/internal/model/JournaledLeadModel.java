@@ -0,0 +1,939 @@
+package org.example.internal.model;
+
+import org.example.internal.model.exception.NoSuchLeadException;
+import org.example.internal.model.exception.WrongDateFormatException;
+import org.example.internal.model.exception.WrongOrderForDateException;
+import org.example.internal.model.exception.WrongOrderForRevenueException;
+import org.example.internal.model.exception.WrongStateException;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Modèle persistant : LeadModelImpl + journal d'écriture anticipée (WAL) + instantanés.
+ *
+ * Principe :
+ * - chaque createLead / deleteLead est d'abord ajouté au journal "<préfixe>.wal.<génération>"
+ *   (enregistrement = longueur + CRC32 + contenu), puis appliqué au modèle mémoire : une écriture
+ *   refusée par le journal (disque plein, modèle fermé) ne modifie pas le modèle ; l'id d'une
+ *   création est attribué avant l'enregistrement, la suppression est journalisée avec les ids
+ *   qu'elle va supprimer, pas avec le template
+ * - l'appel ne rend la main qu'une fois l'enregistrement sur disque (fsync) :
+ *     mode "group" (défaut) : un thread dédié regroupe les fsync de tous les écrivains en attente
+ *     mode "each"           : un fsync par opération
+ * - périodiquement, un instantané binaire "<préfixe>.snap" est écrit (fichier temporaire puis
+ *   renommage atomique) et les générations de journal qu'il couvre sont supprimées
+ * - au démarrage : chargement de l'instantané puis rejeu de la fin du journal ; seul un
+ *   enregistrement incomplet ou invalide à la fin physique de la dernière génération (arrêt brutal
+ *   pendant l'écriture) est toléré et coupé du fichier. Ailleurs, c'est une corruption : le
+ *   démarrage échoue plutôt que d'ignorer les enregistrements suivants
+ * - instantané découpé en segments de LEADS_PAR_SEGMENT leads, encodés à l'écriture et décodés /
+ *   indexés au chargement par -Dinternalcrm.snapshot.threads threads (défaut : nombre de cœurs) ;
+ *   les instantanés séquentiels (version 1) restent lisibles
+ * - un seul processus écrit par préfixe : verrou exclusif sur "<préfixe>.lock". Un second
+ *   processus (relève, voir InternalCRMServer) précharge sans le verrou l'instantané et le
+ *   journal en lecture seule pendant que le premier sert encore, attend le verrou (fermeture
+ *   du premier), puis ne rejoue que la fin du journal écrite entre-temps. Pendant ce temps, le
+ *   fichier "<préfixe>.releve" signale au premier qu'un successeur attend (releveEnAttente)
+ *
+ * Les lectures sont déléguées sans verrou au modèle mémoire (une écriture peut y être visible
+ * juste avant que son fsync ne soit terminé ; l'appelant, lui, n'est acquitté qu'après).
+ *
+ * Sélection : -Dinternalcrm.model=journaled (voir LeadModelFactory), préfixe des fichiers via
+ * -Dinternalcrm.model.file, mode de fsync via -Dinternalcrm.wal.sync=group|each,
+ * période des instantanés via -Dinternalcrm.snapshot.interval (secondes, 0 = désactivé).
+ */
+public class JournaledLeadModel implements LeadModel, Closeable {
+
+    public static final String SYNC_PROPERTY = "internalcrm.wal.sync";
+    public static final String SNAPSHOT_INTERVAL_PROPERTY = "internalcrm.snapshot.interval";
+    public static final String SNAPSHOT_THREADS_PROPERTY = "internalcrm.snapshot.threads";
+
+    private static final int MAGIC_INSTANTANE = 0x534E4150; // "SNAP"
+    private static final int VERSION_SEQUENTIELLE = 1;
+    private static final int VERSION = 2;
+    static final int LEADS_PAR_SEGMENT = 65_536;
+
+    private static final byte CREATION = 1;
+    private static final byte SUPPRESSION = 2;
+
+    private final LeadModelImpl model;
+    private final Path prefixe;
+    private final boolean fsyncGroupe;
+    private final int threadsInstantane;
+    private final FileChannel canalVerrou;
+    private final FileLock verrou;
+    // Un seul instantané à la fois (planificateur, arrêt du serveur)
+    private final Object ecritureInstantane = new Object();
+
+    // Verrou d'écriture : ordre d'application au modèle = ordre du journal
+    private final Object journal = new Object();
+    private FileChannel canal;
+    private DataOutputStream sortie;
+    private long generation;
+    private long seqEcrite;
+
+    // Progression des fsync (thread de groupe) et attente des écrivains
+    private final Object durabilite = new Object();
+    private long seqDurable;
+    private IOException erreurFsync;
+    private volatile boolean ferme;
+
+    private final Thread threadFsync;
+    private final ScheduledExecutorService planificateur;
+
+    public JournaledLeadModel(LeadModelImpl model, Path prefixe, boolean fsyncGroupe, long intervalleInstantaneSecondes) {
+        this.model = model;
+        this.prefixe = prefixe;
+        this.fsyncGroupe = fsyncGroupe;
+        this.threadsInstantane = Math.max(1, Integer.getInteger(SNAPSHOT_THREADS_PROPERTY,
+                Runtime.getRuntime().availableProcessors()));
+        try {
+            canalVerrou = FileChannel.open(fichier(".lock"), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            long debut = System.nanoTime();
+            FileLock v = canalVerrou.tryLock();
+            if (v == null) {
+                // Relève : préchargement pendant que l'autre processus écrit encore, puis fin du journal.
+                // Le marqueur ".releve" lui signale qu'un successeur attend le verrou (voir releveEnAttente)
+                System.out.println("[JournaledLeadModel] " + prefixe + " utilisé par un autre processus : "
+                        + "préchargement, reprise de la fin du journal à son arrêt");
+                Files.write(fichier(".releve"), new byte[0]);
+                try {
+                    long[] position = precharger();
+                    v = canalVerrou.lock();
+                    generation = reprendre(position);
+                } finally {
+                    Files.deleteIfExists(fichier(".releve"));
+                }
+            } else {
+                // Verrou obtenu sans attendre : un marqueur restant vient d'une relève interrompue
+                Files.deleteIfExists(fichier(".releve"));
+                generation = rejouerJournal(chargerInstantane());
+            }
+            verrou = v;
+            ouvrirGeneration(generation);
+            if (model.size() > 0) {
+                System.out.printf("[JournaledLeadModel] %d prospects restaurés en %.2f s (%d threads)%n",
+                        model.size(), (System.nanoTime() - debut) / 1e9, threadsInstantane);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Impossible de restaurer le journal " + prefixe, e);
+        }
+
+        if (fsyncGroupe) {
+            threadFsync = new Thread(this::boucleFsync, "internalcrm-wal-fsync");
+            threadFsync.setDaemon(true);
+            threadFsync.start();
+        } else {
+            threadFsync = null;
+        }
+
+        if (intervalleInstantaneSecondes > 0) {
+            planificateur = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "internalcrm-snapshot");
+                t.setDaemon(true);
+                return t;
+            });
+            planificateur.scheduleWithFixedDelay(() -> {
+                try {
+                    instantane();
+                } catch (IOException e) {
+                    System.err.println("[JournaledLeadModel] Échec de l'instantané : " + e.getMessage());
+                }
+            }, intervalleInstantaneSecondes, intervalleInstantaneSecondes, TimeUnit.SECONDS);
+        } else {
+            planificateur = null;
+        }
+    }
+
+    // ---------------------------------------------------------------- lectures (déléguées)
+
+    @Override
+    public List<LeadLecture> findLeads(double low, double high, String state)
+            throws WrongOrderForRevenueException, WrongStateException {
+        return model.findLeads(low, high, state);
+    }
+
+    @Override
+    public FluxLeads findLeadsFlux(double low, double high, String state)
+            throws WrongOrderForRevenueException, WrongStateException {
+        return model.findLeadsFlux(low, high, state);
+    }
+
+    @Override
+    public List<LeadLecture> findLeadsByDate(Calendar from, Calendar to)
+            throws WrongDateFormatException, WrongOrderForDateException {
+        return model.findLeadsByDate(from, to);
+    }
+
+    @Override
+    public int compterParDate(Calendar from, Calendar to)
+            throws WrongDateFormatException, WrongOrderForDateException {
+        return model.compterParDate(from, to);
+    }
+
+    @Override
+    public List<LeadLecture> findLeadsPage(double low, double high, String state, double apresRevenu, long apresId, int limite)
+            throws WrongOrderForRevenueException, WrongStateException {
+        return model.findLeadsPage(low, high, state, apresRevenu, apresId, limite);
+    }
+
+    @Override
+    public List<LeadLecture> findLeadsByDatePage(Calendar from, Calendar to, long apresMillis, long apresId, int limite)
+            throws WrongDateFormatException, WrongOrderForDateException {
+        return model.findLeadsByDatePage(from, to, apresMillis, apresId, limite);
+    }
+
+    @Override
+    public AgregatRevenus agregerRevenus(double low, double high, String state)
+            throws WrongOrderForRevenueException, WrongStateException {
+        return model.agregerRevenus(low, high, state);
+    }
+
+    @Override
+    public SortedMap<String, AgregatRevenus> histogramme(Regroupement par, double low, double high, String state)
+            throws WrongOrderForRevenueException, WrongStateException {
+        return model.histogramme(par, low, high, state);
+    }
+
+    @Override
+    public int size() {
+        return model.size();
+    }
+
+    @Override
+    public long version() {
+        return model.version();
+    }
+
+    // ---------------------------------------------------------------- écritures (journalisées)
+
+    @Override
+    public long createLead(Lead lead) throws WrongStateException {
+        long id;
+        long seq;
+        synchronized (journal) {
+            verifierOuvert();
+            LeadModelImpl.verifierCreation(lead);
+            Lead stocke = LeadModelImpl.copyForStorage(lead);
+            id = model.attribuerId();
+            stocke.setId(id);
+            ByteArrayOutputStream contenu = new ByteArrayOutputStream(128);
+            try {
+                DataOutputStream out = new DataOutputStream(contenu);
+                out.writeByte(CREATION);
+                ecrireLead(out, stocke);
+                seq = ajouter(contenu.toByteArray());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Écriture impossible dans le journal", e);
+            }
+            model.restaurer(stocke);
+        }
+        attendreDurable(seq);
+        return id;
+    }
+
+    /**
+     * Création en lot : un enregistrement par lead valide, mais une seule attente de fsync
+     * (et un seul fsync en mode "each") pour tout le lot, appliqué ensuite sous une seule version.
+     */
+    @Override
+    public long[] createLeads(List<Lead> leads, Map<Integer, String> erreurs) {
+        long[] ids = new long[leads.size()];
+        long seq;
+        synchronized (journal) {
+            verifierOuvert();
+            List<LeadLecture> stockes = new ArrayList<>(leads.size());
+            seq = seqEcrite;
+            try {
+                ByteArrayOutputStream contenu = new ByteArrayOutputStream(128);
+                DataOutputStream out = new DataOutputStream(contenu);
+                for (int i = 0; i < ids.length; i++) {
+                    try {
+                        LeadModelImpl.verifierCreation(leads.get(i));
+                    } catch (WrongStateException e) {
+                        ids[i] = -1;
+                        erreurs.put(i, e.getMessage());
+                        continue;
+                    }
+                    Lead stocke = LeadModelImpl.copyForStorage(leads.get(i));
+                    ids[i] = model.attribuerId();
+                    stocke.setId(ids[i]);
+                    contenu.reset();
+                    out.writeByte(CREATION);
+                    ecrireLead(out, stocke);
+                    seq = ecrire(contenu.toByteArray());
+                    stockes.add(stocke);
+                }
+                publier();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Écriture impossible dans le journal", e);
+            }
+            model.restaurer(stockes);
+        }
+        attendreDurable(seq);
+        return ids;
+    }
+
+    @Override
+    public void deleteLead(Lead template) throws NoSuchLeadException {
+        long seq;
+        synchronized (journal) {
+            verifierOuvert();
+            List<Long> ids = model.idsCorrespondants(template);
+            seq = journaliserSuppression(ids);
+            model.deleteLeads(ids);
+        }
+        attendreDurable(seq);
+    }
+
+    @Override
+    public void deleteLeadById(long id) throws NoSuchLeadException {
+        if (deleteLeads(List.of(id)).isEmpty()) {
+            throw new NoSuchLeadException("Aucun prospect avec l'id " + id);
+        }
+    }
+
+    @Override
+    public List<Long> deleteLeads(List<Long> ids) {
+        List<Long> supprimes;
+        long seq;
+        synchronized (journal) {
+            verifierOuvert();
+            // Seul écrivain du modèle (verrou journal) : les ids présents maintenant sont ceux supprimés
+            supprimes = model.idsPresents(ids);
+            seq = supprimes.isEmpty() ? seqEcrite : journaliserSuppression(supprimes);
+            model.deleteLeads(supprimes);
+        }
+        attendreDurable(seq);
+        return supprimes;
+    }
+
+    // Appelé sous le verrou journal, avant toute modification du modèle
+    private void verifierOuvert() {
+        if (ferme) {
+            throw new IllegalStateException("Journal fermé : écriture refusée");
+        }
+    }
+
+    // Enregistrement SUPPRESSION avec les ids à supprimer (appelé sous le verrou journal)
+    private long journaliserSuppression(List<Long> ids) {
+        ByteArrayOutputStream contenu = new ByteArrayOutputStream(16 + 8 * ids.size());
+        try {
+            DataOutputStream out = new DataOutputStream(contenu);
+            out.writeByte(SUPPRESSION);
+            out.writeInt(ids.size());
+            for (long id : ids) {
+                out.writeLong(id);
+            }
+            return ajouter(contenu.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Écriture impossible dans le journal", e);
+        }
+    }
+
+    /**
+     * Ajoute un enregistrement (appelé sous le verrou journal).
+     * Mode "each" : fsync immédiat ; mode "group" : réveille le thread de fsync.
+     */
+    private long ajouter(byte[] contenu) throws IOException {
+        long seq = ecrire(contenu);
+        publier();
+        return seq;
+    }
+
+    // Écrit un enregistrement dans le tampon du journal, sans le rendre durable
+    private long ecrire(byte[] contenu) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(contenu);
+        sortie.writeInt(contenu.length);
+        sortie.writeInt((int) crc.getValue());
+        sortie.write(contenu);
+        return ++seqEcrite;
+    }
+
+    // Rend durables les enregistrements écrits : fsync immédiat ("each") ou réveil du thread de groupe
+    private void publier() throws IOException {
+        if (fsyncGroupe) {
+            journal.notify();
+        } else {
+            sortie.flush();
+            canal.force(false);
+            seqDurable = seqEcrite;
+        }
+    }
+
+    private void attendreDurable(long seq) {
+        if (!fsyncGroupe) return;
+        synchronized (durabilite) {
+            while (seqDurable < seq) {
+                if (erreurFsync != null) {
+                    throw new UncheckedIOException("fsync du journal en échec", erreurFsync);
+                }
+                try {
+                    durabilite.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrompu en attente du fsync du journal", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Thread de "group commit" : vide le tampon sous le verrou (rapide), puis fait un seul fsync
+     * hors verrou pour tous les enregistrements accumulés pendant le fsync précédent.
+     */
+    private void boucleFsync() {
+        while (true) {
+            long cible;
+            FileChannel c;
+            synchronized (journal) {
+                while (seqEcrite == seqDurableCourant() && !ferme) {
+                    try {
+                        journal.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (ferme && seqEcrite == seqDurableCourant()) return;
+                try {
+                    sortie.flush();
+                } catch (IOException e) {
+                    signalerErreur(e);
+                    return;
+                }
+                cible = seqEcrite;
+                c = canal;
+            }
+            try {
+                c.force(false);
+            } catch (ClosedChannelException e) {
+                // Génération fermée entre-temps par un instantané : elle a été forcée avant fermeture
+            } catch (IOException e) {
+                signalerErreur(e);
+                return;
+            }
+            synchronized (durabilite) {
+                seqDurable = cible;
+                durabilite.notifyAll();
+            }
+        }
+    }
+
+    private long seqDurableCourant() {
+        synchronized (durabilite) {
+            return seqDurable;
+        }
+    }
+
+    private void signalerErreur(IOException e) {
+        synchronized (durabilite) {
+            erreurFsync = e;
+            durabilite.notifyAll();
+        }
+    }
+
+    // ---------------------------------------------------------------- instantanés
+
+    /**
+     * Écrit un instantané complet puis supprime les générations de journal qu'il couvre.
+     * Le verrou journal n'est tenu que pour épingler une version MVCC et changer de génération
+     * (O(1)) ; les leads de cette version sont collectés et sérialisés ensuite sans bloquer les
+     * écrivains. Toute écriture journalisée dans une génération couverte a été appliquée au
+     * modèle sous ce même verrou, donc avant l'épinglage : elle est visible dans la version.
+     */
+    public void instantane() throws IOException {
+        synchronized (ecritureInstantane) {
+            ecrireInstantane();
+        }
+    }
+
+    private void ecrireInstantane() throws IOException {
+        long instantane;
+        long prochainId;
+        long premiereGenerationNonCouverte;
+        synchronized (journal) {
+            instantane = model.ouvrirInstantane();
+            prochainId = model.prochainId();
+            try {
+                sortie.flush();
+                canal.force(false);
+                sortie.close();
+                synchronized (durabilite) {
+                    seqDurable = seqEcrite;
+                    durabilite.notifyAll();
+                }
+                generation++;
+                ouvrirGeneration(generation);
+            } catch (IOException | RuntimeException e) {
+                model.fermerInstantane(instantane);
+                throw e;
+            }
+            premiereGenerationNonCouverte = generation;
+        }
+
+        try {
+            ecrireFichierInstantane(model.leadsStockes(instantane), prochainId, premiereGenerationNonCouverte);
+        } finally {
+            model.fermerInstantane(instantane);
+        }
+
+        for (long g : generationsExistantes()) {
+            if (g < premiereGenerationNonCouverte) {
+                Files.deleteIfExists(fichierJournal(g));
+            }
+        }
+    }
+
+    // .snap.tmp écrit puis renommé atomiquement en .snap
+    private void ecrireFichierInstantane(List<LeadLecture> leads, long prochainId, long premiereGenerationNonCouverte)
+            throws IOException {
+        Path tmp = fichier(".snap.tmp");
+        try (FileChannel fc = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(fc), 1 << 16));
+            out.writeInt(MAGIC_INSTANTANE);
+            out.writeInt(VERSION);
+            out.writeLong(premiereGenerationNonCouverte);
+            out.writeLong(prochainId);
+            out.writeInt(leads.size());
+            ecrireSegments(out, leads);
+            out.flush();
+            fc.force(true);
+        }
+        Files.move(tmp, fichier(".snap"), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Segments de l'instantané : [octets][nombre de leads, leads...], encodés en parallèle et
+     * écrits dans l'ordre (au plus 2 segments encodés d'avance par thread) ; octets = 0 : fin.
+     */
+    private void ecrireSegments(DataOutputStream out, List<LeadLecture> leads) throws IOException {
+        ExecutorService pool = pool("internalcrm-snapshot-write");
+        try {
+            ArrayDeque<Future<byte[]>> enCours = new ArrayDeque<>();
+            for (int debut = 0; debut < leads.size(); debut += LEADS_PAR_SEGMENT) {
+                List<LeadLecture> tranche = leads.subList(debut, Math.min(leads.size(), debut + LEADS_PAR_SEGMENT));
+                enCours.add(pool.submit(() -> encoderSegment(tranche)));
+                if (enCours.size() >= 2 * threadsInstantane) {
+                    ecrireSegment(out, attendre(enCours.poll()));
+                }
+            }
+            while (!enCours.isEmpty()) {
+                ecrireSegment(out, attendre(enCours.poll()));
+            }
+            out.writeInt(0);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static byte[] encoderSegment(List<LeadLecture> tranche) throws IOException {
+        ByteArrayOutputStream contenu = new ByteArrayOutputStream(tranche.size() * 128);
+        DataOutputStream out = new DataOutputStream(contenu);
+        out.writeInt(tranche.size());
+        for (LeadLecture l : tranche) {
+            ecrireLead(out, l);
+        }
+        out.flush();
+        return contenu.toByteArray();
+    }
+
+    private static void ecrireSegment(DataOutputStream out, byte[] segment) throws IOException {
+        out.writeInt(segment.length);
+        out.write(segment);
+    }
+
+    // Charge l'instantané s'il existe ; renvoie la première génération de journal à rejouer
+    // Première génération non couverte par l'instantané sur disque (0 : pas d'instantané)
+    private long premiereGenerationInstantane() throws IOException {
+        Path snap = fichier(".snap");
+        if (!Files.exists(snap)) return 0;
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(snap))) {
+            if (in.readInt() != MAGIC_INSTANTANE) {
+                throw new IOException("Instantané invalide : " + snap);
+            }
+            in.readInt();
+            return in.readLong();
+        }
+    }
+
+    private long chargerInstantane() throws IOException {
+        Path snap = fichier(".snap");
+        if (!Files.exists(snap)) return 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snap), 1 << 16))) {
+            int version = in.readInt() == MAGIC_INSTANTANE ? in.readInt() : -1;
+            if (version != VERSION && version != VERSION_SEQUENTIELLE) {
+                throw new IOException("Instantané invalide : " + snap);
+            }
+            long premiereGeneration = in.readLong();
+            long prochainId = in.readLong();
+            int nombre = in.readInt();
+            if (version == VERSION_SEQUENTIELLE) {
+                for (int i = 0; i < nombre; i++) {
+                    model.restaurer(lireLead(in));
+                }
+            } else {
+                chargerSegments(in);
+            }
+            model.reserverIdsJusqua(prochainId);
+            return premiereGeneration;
+        }
+    }
+
+    /**
+     * Lecture des segments par ce thread (E/S séquentielles), décodage et indexation en parallèle :
+     * les index de LeadModelImpl sont concurrents. Au plus 2 segments lus d'avance par thread.
+     */
+    private void chargerSegments(DataInputStream in) throws IOException {
+        ExecutorService pool = pool("internalcrm-snapshot-load");
+        Semaphore places = new Semaphore(2 * threadsInstantane);
+        List<Future<byte[]>> taches = new ArrayList<>();
+        try {
+            int octets;
+            while ((octets = in.readInt()) > 0) {
+                byte[] segment = new byte[octets];
+                in.readFully(segment);
+                places.acquire();
+                taches.add(pool.submit(() -> {
+                    try {
+                        // ByteBuffer plutôt que DataInputStream : pas d'appel synchronisé par octet
+                        ByteBuffer lecture = ByteBuffer.wrap(segment);
+                        int nombre = lecture.getInt();
+                        List<LeadLecture> leads = new ArrayList<>(nombre);
+                        for (int i = 0; i < nombre; i++) {
+                            leads.add(lireLead(lecture));
+                        }
+                        model.restaurer(leads);
+                        return null;
+                    } finally {
+                        places.release();
+                    }
+                }));
+            }
+            for (Future<byte[]> tache : taches) {
+                attendre(tache);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Chargement de l'instantané interrompu");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static byte[] attendre(Future<byte[]> tache) throws IOException {
+        try {
+            return tache.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Instantané interrompu");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        }
+    }
+
+    private ExecutorService pool(String nom) {
+        return Executors.newFixedThreadPool(threadsInstantane, r -> {
+            Thread t = new Thread(r, nom);
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Rejoue les générations >= premiereGeneration dans l'ordre.
+     * Renvoie la génération à ouvrir pour les nouvelles écritures.
+     */
+    private long rejouerJournal(long premiereGeneration) throws IOException {
+        long suivante = premiereGeneration;
+        List<Long> generations = generationsExistantes();
+        for (long g : generations) {
+            if (g < premiereGeneration) continue;
+            rejouerGeneration(fichierJournal(g), 0, false, g == derniere(generations));
+            suivante = g + 1;
+        }
+        return suivante;
+    }
+
+    private static long derniere(List<Long> generations) {
+        return generations.get(generations.size() - 1);
+    }
+
+    /**
+     * Relève, sans le verrou : instantané puis journal en lecture seule (l'autre processus y
+     * ajoute encore des enregistrements). Renvoie la position atteinte {génération, octets},
+     * d'où reprendre() rejouera la fin du journal une fois le verrou obtenu.
+     */
+    private long[] precharger() throws IOException {
+        long premiereGeneration = chargerInstantane();
+        long[] position = {premiereGeneration, 0};
+        for (long g : generationsExistantes()) {
+            if (g < premiereGeneration) continue;
+            position[0] = g;
+            try {
+                position[1] = rejouerGeneration(fichierJournal(g), 0, true, true);
+            } catch (NoSuchFileException e) {
+                // Couverte par un instantané écrit entre-temps : détecté par reprendre()
+                position[1] = 0;
+                break;
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Relève, verrou obtenu (l'autre processus a fermé le modèle) : rejoue la fin du journal à
+     * partir de la position du préchargement. Si un instantané écrit entre-temps couvre des
+     * générations non lues, le modèle est vidé et rechargé entièrement.
+     * Renvoie la génération à ouvrir pour les nouvelles écritures.
+     */
+    private long reprendre(long[] position) throws IOException {
+        if (premiereGenerationInstantane() > position[0]) {
+            System.out.println("[JournaledLeadModel] Instantané réécrit pendant le préchargement : rechargement complet");
+            model.vider();
+            return rejouerJournal(chargerInstantane());
+        }
+        long suivante = position[0];
+        List<Long> generations = generationsExistantes();
+        for (long g : generations) {
+            if (g < position[0]) continue;
+            rejouerGeneration(fichierJournal(g), g == position[0] ? position[1] : 0, false, g == derniere(generations));
+            suivante = g + 1;
+        }
+        return suivante;
+    }
+
+    /**
+     * Rejoue les enregistrements valides de la génération à partir de l'octet depuis et renvoie
+     * la position après le dernier. Un enregistrement incomplet, ou invalide mais s'étendant
+     * jusqu'à la fin du fichier, n'est accepté que dans la dernière génération : hors lecture
+     * seule il est coupé du fichier ; en lecture seule (préchargement), c'est un enregistrement
+     * en cours d'écriture. Toute autre anomalie est une corruption (IOException).
+     */
+    private long rejouerGeneration(Path fichier, long depuis, boolean lectureSeule, boolean derniere) throws IOException {
+        long valide = depuis;
+        try (FileChannel fc = lectureSeule ? FileChannel.open(fichier, StandardOpenOption.READ)
+                : FileChannel.open(fichier, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            fc.position(depuis);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(fc), 1 << 16));
+            long taille = fc.size();
+            while (valide < taille) {
+                if (valide + 8 > taille) {
+                    finTronquee(fichier, valide, derniere);
+                    break;
+                }
+                int longueur = in.readInt();
+                int crcAttendu = in.readInt();
+                if (longueur < 0) {
+                    throw new IOException("Journal corrompu : longueur " + longueur + " dans " + fichier
+                            + " à l'octet " + valide);
+                }
+                if (valide + 8 + longueur > taille) {
+                    finTronquee(fichier, valide, derniere);
+                    break;
+                }
+                byte[] contenu = new byte[longueur];
+                in.readFully(contenu);
+                CRC32 crc = new CRC32();
+                crc.update(contenu);
+                if ((int) crc.getValue() != crcAttendu) {
+                    if (valide + 8 + longueur < taille) {
+                        throw new IOException("Journal corrompu : CRC invalide dans " + fichier + " à l'octet " + valide
+                                + ", suivi de " + (taille - valide - 8 - longueur) + " octets");
+                    }
+                    finTronquee(fichier, valide, derniere);
+                    break;
+                }
+                appliquer(contenu);
+                valide += 8 + longueur;
+            }
+            if (valide < taille && !lectureSeule) {
+                System.err.println("[JournaledLeadModel] Fin de journal tronquée ignorée dans " + fichier
+                        + " (" + (taille - valide) + " octets)");
+                fc.truncate(valide);
+            }
+        }
+        return valide;
+    }
+
+    // Dernier enregistrement incomplet : écriture interrompue si dernière génération, sinon corruption
+    private static void finTronquee(Path fichier, long position, boolean derniere) throws IOException {
+        if (!derniere) {
+            throw new IOException("Journal corrompu : enregistrement incomplet dans " + fichier + " à l'octet "
+                    + position + " (génération suivante présente)");
+        }
+    }
+
+    private void appliquer(byte[] contenu) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(contenu));
+        byte type = in.readByte();
+        if (type == CREATION) {
+            model.restaurer(lireLead(in));
+        } else if (type == SUPPRESSION) {
+            int nombre = in.readInt();
+            for (int i = 0; i < nombre; i++) {
+                model.supprimerParId(in.readLong());
+            }
+        } else {
+            throw new IOException("Type d'enregistrement inconnu dans le journal : " + type);
+        }
+    }
+
+    private void ouvrirGeneration(long g) throws IOException {
+        canal = FileChannel.open(fichierJournal(g), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        sortie = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(canal), 1 << 16));
+    }
+
+    private List<Long> generationsExistantes() throws IOException {
+        List<Long> generations = new ArrayList<>();
+        String base = prefixe.getFileName() + ".wal.";
+        Path dossier = prefixe.toAbsolutePath().getParent();
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(dossier, base + "*")) {
+            for (Path p : ds) {
+                try {
+                    generations.add(Long.parseLong(p.getFileName().toString().substring(base.length())));
+                } catch (NumberFormatException ignore) {
+                    // fichier étranger au journal
+                }
+            }
+        }
+        Collections.sort(generations);
+        return generations;
+    }
+
+    private Path fichier(String suffixe) {
+        return prefixe.resolveSibling(prefixe.getFileName() + suffixe);
+    }
+
+    private Path fichierJournal(long g) {
+        return fichier(".wal." + g);
+    }
+
+    /**
+     * Vrai si un autre processus (relève) a préchargé l'instantané et attend le verrou pour
+     * reprendre la fin du journal : un instantané final à l'arrêt l'obligerait à tout recharger.
+     */
+    public boolean releveEnAttente() {
+        return Files.exists(fichier(".releve"));
+    }
+
+    /**
+     * Arrêt propre : vide et force la génération courante, arrête les threads d'arrière-plan,
+     * puis libère le verrou des fichiers (une relève en attente reprend alors la fin du journal).
+     */
+    @Override
+    public void close() throws IOException {
+        if (planificateur != null) planificateur.shutdownNow();
+        synchronized (journal) {
+            ferme = true;
+            sortie.flush();
+            canal.force(false);
+            synchronized (durabilite) {
+                seqDurable = seqEcrite;
+                durabilite.notifyAll();
+            }
+            journal.notifyAll();
+            sortie.close();
+        }
+        verrou.release();
+        canalVerrou.close();
+    }
+
+    // ---------------------------------------------------------------- encodage binaire d'un lead
+
+    static void ecrireLead(DataOutputStream out, LeadLecture l) throws IOException {
+        out.writeLong(l.getId());
+        out.writeDouble(l.getAnnualRevenue());
+        out.writeLong(l.getCreationMillis());
+        ecrireChaine(out, l.getFirstName());
+        ecrireChaine(out, l.getLastName());
+        ecrireChaine(out, l.getPhone());
+        ecrireChaine(out, l.getStreet());
+        ecrireChaine(out, l.getPostalCode());
+        ecrireChaine(out, l.getCity());
+        ecrireChaine(out, l.getCountry());
+        ecrireChaine(out, l.getCompanyName());
+        ecrireChaine(out, l.getState());
+    }
+
+    static Lead lireLead(DataInputStream in) throws IOException {
+        Lead l = new Lead();
+        l.setId(in.readLong());
+        l.setAnnualRevenue(in.readDouble());
+        l.setCreationMillis(in.readLong());
+        l.setFirstName(lireChaine(in));
+        l.setLastName(lireChaine(in));
+        l.setPhone(lireChaine(in));
+        l.setStreet(lireChaine(in));
+        l.setPostalCode(lireChaine(in));
+        l.setCity(lireChaine(in));
+        l.setCountry(lireChaine(in));
+        l.setCompanyName(lireChaine(in));
+        l.setState(lireChaine(in));
+        return l;
+    }
+
+    // Même format que lireLead(DataInputStream), depuis un segment d'instantané en mémoire
+    private static Lead lireLead(ByteBuffer in) {
+        Lead l = new Lead();
+        l.setId(in.getLong());
+        l.setAnnualRevenue(in.getDouble());
+        l.setCreationMillis(in.getLong());
+        l.setFirstName(lireChaine(in));
+        l.setLastName(lireChaine(in));
+        l.setPhone(lireChaine(in));
+        l.setStreet(lireChaine(in));
+        l.setPostalCode(lireChaine(in));
+        l.setCity(lireChaine(in));
+        l.setCountry(lireChaine(in));
+        l.setCompanyName(lireChaine(in));
+        l.setState(lireChaine(in));
+        return l;
+    }
+
+    // Chaîne nullable : longueur UTF-8 (-1 = null) puis octets
+    private static void ecrireChaine(DataOutputStream out, String s) throws IOException {
+        if (s == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] octets = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(octets.length);
+        out.write(octets);
+    }
+
+    private static String lireChaine(DataInputStream in) throws IOException {
+        int n = in.readInt();
+        if (n < 0) return null;
+        byte[] octets = new byte[n];
+        in.readFully(octets);
+        return new String(octets, StandardCharsets.UTF_8);
+    }
+
+    private static String lireChaine(ByteBuffer in) {
+        int n = in.getInt();
+        if (n < 0) return null;
+        String s = new String(in.array(), in.arrayOffset() + in.position(), n, StandardCharsets.UTF_8);
+        in.position(in.position() + n);
+        return s;
+    }
+}
@@ -1,7 +1,9 @@
 package org.example.internal.model;
 
 import java.util.Calendar;
+import java.util.GregorianCalendar;
 import java.util.Objects;
+import java.util.TimeZone;
 
 /**
  * Entité métier représentant un prospect (Lead) dans le CRM interne.
@@ -10,12 +12,17 @@ import java.util.Objects;
  * - Identité : prénom, nom, entreprise
  * - Contact : téléphone, adresse complète
  * - Commercial : revenu annuel estimé, région
- * - Date de création : stockée en Calendar (conversion ISO faite par ConverterUtils)
+ * - Date de création : stockée en epoch millis (UTC), exposée aussi en Calendar pour compatibilité
+ *   (conversion ISO faite par ConverterUtils)
  * 
  * IMPORTANT : Les égalités (equals/hashCode) se basent UNIQUEMENT sur l'ID.
  * Deux leads avec le même ID sont considérés identiques, même si leurs données diffèrent.
  */
-public class Lead {
+public class Lead implements LeadLecture {
+    // Valeur de creationMillis quand le lead n'a pas de date
+    public static final long SANS_DATE = Long.MIN_VALUE;
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
     private Long id;
     private String firstName;
     private String lastName;
@@ -25,7 +32,7 @@ public class Lead {
     private String postalCode;
     private String city;
     private String country;
-    private Calendar creationDate; // utilisation de Calendar pour la date
+    private long creationMillis = SANS_DATE; // epoch millis : pas de Calendar par lead
     private String companyName;
     private String state;
 
@@ -50,8 +57,17 @@ public class Lead {
     public void setCity(String city) { this.city = city; }
     public String getCountry() { return country; }
     public void setCountry(String country) { this.country = country; }
-    public Calendar getCreationDate() { return creationDate; }
-    public void setCreationDate(Calendar creationDate) { this.creationDate = creationDate; }
+    // Calendar neuf (UTC) à chaque appel : le modifier ne change pas le lead
+    public Calendar getCreationDate() {
+        if (creationMillis == SANS_DATE) return null;
+        Calendar cal = new GregorianCalendar(UTC);
+        cal.setTimeInMillis(creationMillis);
+        return cal;
+    }
+    public void setCreationDate(Calendar creationDate) { this.creationMillis = (creationDate == null) ? SANS_DATE : creationDate.getTimeInMillis(); }
+    // Date de création en epoch millis (SANS_DATE si absente), sans passer par un Calendar
+    public long getCreationMillis() { return creationMillis; }
+    public void setCreationMillis(long creationMillis) { this.creationMillis = creationMillis; }
     public String getCompanyName() { return companyName; }
     public void setCompanyName(String companyName) { this.companyName = companyName; }
     public String getState() { return state; }
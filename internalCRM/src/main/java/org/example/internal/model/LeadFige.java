@@ -0,0 +1,118 @@
+package org.example.internal.model;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+/**
+ * Lead stocké par LeadModelImpl : immuable (champs finals, pas de setter), il peut donc être
+ * partagé entre threads et renvoyé tel quel. Ce n'est pas un Lead : les recherches renvoient
+ * des LeadLecture, interface commune aux deux.
+ *
+ * Chaque lead stocké porte sa vue de retour (firstName = "Nom, Prénom", lastName vide,
+ * même id et mêmes champs), calculée une seule fois à l'insertion : findLeads et
+ * findLeadsByDate renvoient cette vue sans copie ni concaténation.
+ *
+ * Versions MVCC (voir Instantanes) : version de l'écriture qui l'a créé, et de celle qui l'a
+ * supprimé (Long.MAX_VALUE tant qu'il est vivant). Seule cette dernière change après l'insertion.
+ *
+ * Égalité sur l'id, comme Lead.
+ */
+final class LeadFige implements LeadLecture {
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private final long id;
+    private final String firstName;
+    private final String lastName;
+    private final double annualRevenue;
+    private final String phone;
+    private final String street;
+    private final String postalCode;
+    private final String city;
+    private final String country;
+    private final long creationMillis;
+    private final String companyName;
+    private final String state;
+
+    private final LeadFige vue;
+    private final long creeEn;
+    private volatile long supprimeEn = Long.MAX_VALUE;
+
+    private LeadFige(LeadLecture src, long id, String prenom, String nom, LeadFige vue, long creeEn) {
+        this.id = id;
+        this.firstName = prenom;
+        this.lastName = nom;
+        this.annualRevenue = LeadModelImpl.normaliserRevenu(src.getAnnualRevenue());
+        this.phone = src.getPhone();
+        this.street = src.getStreet();
+        this.postalCode = src.getPostalCode();
+        this.city = src.getCity();
+        this.country = src.getCountry();
+        this.companyName = src.getCompanyName();
+        this.state = src.getState();
+        this.creationMillis = src.getCreationMillis();
+        this.vue = (vue == null) ? this : vue;
+        this.creeEn = creeEn;
+    }
+
+    // Copie figée de src avec l'id donné, et sa vue de retour, créée par l'écriture `version`
+    static LeadFige figer(LeadLecture src, long id, long version) {
+        LeadFige vue = new LeadFige(src, id, LeadModelImpl.nomFormate(src.getLastName(), src.getFirstName()), "", null, version);
+        return new LeadFige(src, id, src.getFirstName(), src.getLastName(), vue, version);
+    }
+
+    // Présent dans l'instantané de version donnée : créé avant (ou par) elle, pas encore supprimé
+    boolean visibleEn(long instantane) {
+        return creeEn <= instantane && instantane < supprimeEn;
+    }
+
+    boolean estSupprime() {
+        return supprimeEn != Long.MAX_VALUE;
+    }
+
+    long supprimeEn() {
+        return supprimeEn;
+    }
+
+    // Appelé une seule fois, par l'écrivain qui a retiré le lead de store
+    void marquerSupprime(long version) {
+        supprimeEn = version;
+    }
+
+    // Vue de retour (nom formaté) ; une vue est sa propre vue
+    LeadFige vue() {
+        return vue;
+    }
+
+    @Override public Long getId() { return id; }
+    @Override public String getFirstName() { return firstName; }
+    @Override public String getLastName() { return lastName; }
+    @Override public double getAnnualRevenue() { return annualRevenue; }
+    @Override public String getPhone() { return phone; }
+    @Override public String getStreet() { return street; }
+    @Override public String getPostalCode() { return postalCode; }
+    @Override public String getCity() { return city; }
+    @Override public String getCountry() { return country; }
+    @Override public long getCreationMillis() { return creationMillis; }
+    @Override public String getCompanyName() { return companyName; }
+    @Override public String getState() { return state; }
+
+    // Calendar neuf (UTC) à chaque appel : le modifier ne change pas le lead
+    @Override
+    public Calendar getCreationDate() {
+        if (creationMillis == Lead.SANS_DATE) return null;
+        Calendar cal = new GregorianCalendar(UTC);
+        cal.setTimeInMillis(creationMillis);
+        return cal;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof LeadFige && id == ((LeadFige) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(id);
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.internal.model;
+
+import java.util.Calendar;
+
+/**
+ * Prospect en lecture seule : type renvoyé par les recherches de LeadModel.
+ *
+ * Implémenté par Lead (prospect modifiable, fourni à createLead / deleteLead) et par les
+ * leads stockés immuables de LeadModelImpl (LeadFige), renvoyés sans copie : un appelant
+ * qui veut modifier un résultat en fait d'abord une copie (Lead).
+ */
+public interface LeadLecture {
+
+    Long getId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    double getAnnualRevenue();
+
+    String getPhone();
+
+    String getStreet();
+
+    String getPostalCode();
+
+    String getCity();
+
+    String getCountry();
+
+    // Calendar neuf (UTC) à chaque appel, null si pas de date
+    Calendar getCreationDate();
+
+    // Date de création en epoch millis (Lead.SANS_DATE si absente), sans passer par un Calendar
+    long getCreationMillis();
+
+    String getCompanyName();
+
+    String getState();
+}
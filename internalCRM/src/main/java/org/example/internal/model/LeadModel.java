@@ -8,9 +8,13 @@ import org.example.internal.model.exception.WrongStateException;
 
 import java.util.List;
 import java.util.Calendar;
+import java.util.Map;
+import java.util.SortedMap;
 
 /**
  * Interface du modèle métier pour gérer les prospects (Lead).
+ * Les recherches renvoient des prospects en lecture seule (LeadLecture), éventuellement
+ * partagés avec le stockage ; les écritures reçoivent des Lead.
  * Les validations robustes (format/date/order/state) sont réalisées dans
  * l'implémentation et peuvent lancer des exceptions métier Java.
  */
@@ -19,21 +23,114 @@ public interface LeadModel {
     /* Retourne la liste des leads dont le chiffre d'affaires est entre low et high
        et, si state non null/empty, appartenant à cet état/département.
        Peut lancer : WrongOrderForRevenueException, WrongStateException */
-    List<Lead> findLeads(double low, double high, String state)
+    List<LeadLecture> findLeads(double low, double high, String state)
             throws WrongOrderForRevenueException, WrongStateException;
 
+    /**
+     * Mêmes leads que findLeads, dans le même ordre, sous forme de flux (envoi Thrift en flux) :
+     * le nombre est connu d'avance et les leads sont lus un par un. Mêmes validations que findLeads.
+     * Par défaut, le flux enveloppe la liste de findLeads ; LeadModelImpl le parcourt dans ses index
+     * sans construire de liste.
+     */
+    default FluxLeads findLeadsFlux(double low, double high, String state)
+            throws WrongOrderForRevenueException, WrongStateException {
+        return FluxLeads.deListe(findLeads(low, high, state));
+    }
+
     /**
      * Retourne la liste des leads créés entre from et to (Calendar).
      * Peut lancer : WrongDateFormatException (si null inattendu), WrongOrderForDateException
      */
-    List<Lead> findLeadsByDate(Calendar from, Calendar to)
+    List<LeadLecture> findLeadsByDate(Calendar from, Calendar to)
+            throws WrongDateFormatException, WrongOrderForDateException;
+
+    /**
+     * Nombre de leads que renverrait findLeadsByDate(from, to), sans construire la liste (estimation
+     * des octets de réponse par le contrôle d'admission). Mêmes validations que findLeadsByDate.
+     * Par défaut, compté page par page (findLeadsByDatePage) : mémoire bornée par une page ;
+     * LeadModelImpl parcourt son index temporel sans rien copier.
+     */
+    default int compterParDate(Calendar from, Calendar to)
+            throws WrongDateFormatException, WrongOrderForDateException {
+        final int taillePage = 1024;
+        int nombre = 0;
+        long apresMillis = Long.MIN_VALUE;
+        long apresId = Long.MIN_VALUE;
+        List<LeadLecture> page;
+        do {
+            page = findLeadsByDatePage(from, to, apresMillis, apresId, taillePage);
+            nombre += page.size();
+            if (!page.isEmpty()) {
+                LeadLecture dernier = page.get(page.size() - 1);
+                apresMillis = dernier.getCreationMillis();
+                apresId = dernier.getId();
+            }
+        } while (page.size() == taillePage);
+        return nombre;
+    }
+
+    /**
+     * Pagination par curseur (keyset) de findLeads : au plus `limite` leads de la tranche,
+     * dans l'ordre (revenu, id), strictement après la position (apresRevenu, apresId).
+     * Première page : apresRevenu = Double.NEGATIVE_INFINITY, apresId = Long.MIN_VALUE.
+     * Le curseur ne dépend que de clés immuables : une page n'est ni dupliquée ni sautée
+     * quand des leads sont créés ou supprimés entre deux appels.
+     */
+    List<LeadLecture> findLeadsPage(double low, double high, String state, double apresRevenu, long apresId, int limite)
+            throws WrongOrderForRevenueException, WrongStateException;
+
+    /**
+     * Pagination par curseur de findLeadsByDate : ordre (date de création en epoch millis, id),
+     * strictement après (apresMillis, apresId). Première page : Long.MIN_VALUE, Long.MIN_VALUE.
+     */
+    List<LeadLecture> findLeadsByDatePage(Calendar from, Calendar to, long apresMillis, long apresId, int limite)
             throws WrongDateFormatException, WrongOrderForDateException;
 
+    /**
+     * Agrégats de revenus (nombre, somme, min, max, moyenne) des leads que renverrait
+     * findLeads(low, high, state), calculés pendant le parcours des index : aucun lead n'est copié.
+     * Mêmes validations que findLeads.
+     */
+    AgregatRevenus agregerRevenus(double low, double high, String state)
+            throws WrongOrderForRevenueException, WrongStateException;
+
+    /**
+     * Mêmes leads que findLeads(low, high, state), regroupés par état, ville ou mois de création :
+     * clé → agrégat, triés par clé ("" = valeur non renseignée). Voir Regroupement pour les clés.
+     */
+    SortedMap<String, AgregatRevenus> histogramme(Regroupement par, double low, double high, String state)
+            throws WrongOrderForRevenueException, WrongStateException;
+
     // Crée un nouveau lead et retourne son identifiant unique.
     // Peut lancer : WrongStateException
     long createLead(Lead lead) throws WrongStateException;
 
+    /**
+     * Création en lot : un id par élément, dans l'ordre de la liste. Un élément refusé
+     * (même règles que createLead) reçoit -1 et son message est placé dans erreurs
+     * (clé = position dans la liste) ; les éléments valides sont créés quand même.
+     */
+    long[] createLeads(List<Lead> leads, Map<Integer, String> erreurs);
+
     // Supprime les leads correspondant au template fourni.
     // Lance NoSuchLeadException si aucun lead supprimé.
     void deleteLead(Lead template) throws NoSuchLeadException;
+
+    // Supprime le lead d'id donné (accès direct, sans comparaison de template).
+    // Lance NoSuchLeadException si aucun lead n'a cet id.
+    void deleteLeadById(long id) throws NoSuchLeadException;
+
+    // Suppression en lot par id : renvoie les ids effectivement supprimés (ids inconnus ignorés).
+    List<Long> deleteLeads(List<Long> ids);
+
+    // Nombre de leads actuellement stockés (permet de ne pas recharger les données
+    // initiales quand le stockage est persistant et déjà rempli).
+    int size();
+
+    /**
+     * Version du contenu : change après chaque création ou suppression effective.
+     * Lue AVANT une recherche, elle identifie un état au moins aussi ancien que le résultat ;
+     * si elle n'a pas changé ensuite, le résultat est toujours valable (cache de réponses).
+     */
+    long version();
 }
@@ -1,18 +1,64 @@
 package org.example.internal.model;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 /**
  * Factory pour obtenir une instance unique (Singleton) du modèle LeadModel.
- * 
+ *
  * Usage :
  *   LeadModel model = LeadModelFactory.getModel();
- * 
+ *
  * Cette approche garantit que tous les services/handlers utilisent
  * la même instance de stockage en mémoire.
+ *
+ * Choix de l'implémentation via la propriété système "internalcrm.model" :
+ *   - absente ou "default" : LeadModelImpl (objets Lead + index secondaires)
+ *   - "columnar"           : ColumnarLeadModel (tableaux primitifs, gros volumes)
+ *   - "sharded"            : ShardedLeadModel (N LeadModelImpl indépendants, ingestion concurrente ;
+ *                            N via "internalcrm.model.shards", défaut : nombre de cœurs)
+ *   - "mapped"             : MappedLeadModel (hors tas, fichiers mappés ; préfixe des
+ *                            fichiers via "internalcrm.model.file", défaut "internalcrm-leads")
+ *   - "journaled"          : LeadModelImpl persisté par journal + instantanés (JournaledLeadModel,
+ *                            même préfixe de fichiers ; "internalcrm.wal.sync" = group|each,
+ *                            "internalcrm.snapshot.interval" en secondes, défaut 300,
+ *                            "internalcrm.snapshot.threads" pour le chargement, défaut : nombre de cœurs)
  */
 public class LeadModelFactory {
-    private static final LeadModel INSTANCE = new LeadModelImpl();
+    public static final String MODEL_PROPERTY = "internalcrm.model";
+    public static final String MODEL_FILE_PROPERTY = "internalcrm.model.file";
+
+    private static final LeadModel INSTANCE = createModel(System.getProperty(MODEL_PROPERTY, "default"));
 
     public static LeadModel getModel() {
         return INSTANCE;
     }
+
+    /**
+     * Instancie l'implémentation correspondant au nom donné (valeurs de "internalcrm.model").
+     * Un nom inconnu est une erreur de configuration : on refuse de démarrer plutôt que de
+     * retomber silencieusement sur l'implémentation par défaut.
+     */
+    public static LeadModel createModel(String name) {
+        switch (name) {
+            case "default":
+                return new LeadModelImpl();
+            case "columnar":
+                return new ColumnarLeadModel();
+            case "sharded":
+                return new ShardedLeadModel();
+            case "mapped":
+                return new MappedLeadModel(fichierModele());
+            case "journaled":
+                return new JournaledLeadModel(new LeadModelImpl(), fichierModele(),
+                        !"each".equals(System.getProperty(JournaledLeadModel.SYNC_PROPERTY, "group")),
+                        Long.getLong(JournaledLeadModel.SNAPSHOT_INTERVAL_PROPERTY, 300));
+            default:
+                throw new IllegalArgumentException("Modèle inconnu pour " + MODEL_PROPERTY + " : " + name);
+        }
+    }
+
+    private static Path fichierModele() {
+        return Paths.get(System.getProperty(MODEL_FILE_PROPERTY, "internalcrm-leads"));
+    }
 }
@@ -8,6 +8,9 @@ import org.example.internal.model.exception.WrongStateException;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -15,140 +18,801 @@ import java.util.concurrent.atomic.AtomicLong;
  *
  * Caractéristiques :
  * - stockage concurrent via ConcurrentHashMap
- * - génération d'ID atomique
- * - copy-on-write : on stocke des copies pour éviter les effets de bord
+ * - index secondaire trié sur le revenu (skip-list concurrente, clé revenu + id)
+ * - index par état : état normalisé (minuscules) → sous-index revenu de cet état
+ * - index temporel trié sur la date de création (epoch millis + id)
+ * - index de hachage nom, prénom, téléphone et code postal pour la suppression par template
+ * - génération d'ID atomique (1, 2, 3... ; ou premierId, premierId + pas... pour un shard)
+ * - leads stockés immuables (LeadFige) : vue de retour "Nom, Prénom" calculée à l'insertion,
+ *   renvoyée telle quelle par les recherches (aucune copie sur le chemin de lecture)
+ * - lectures par instantané (MVCC, voir Instantanes) : chaque lead porte sa version de création
+ *   et de suppression ; une recherche lit une seule version cohérente de tous les index, sans
+ *   verrou, pendant que les écritures continuent. Un lot (createLeads, deleteLeads, suppression
+ *   par template) est une seule version : visible en entier ou pas du tout. Les leads supprimés
+ *   restent dans les index jusqu'à la fin des lectures qui peuvent encore les voir (purge)
  *
  * IMPORTANT : cette implémentation réalise les validations métiers et lance
  * les exceptions Thrift correspondantes (définies dans l'IDL).
  */
 public class LeadModelImpl implements LeadModel {
 
-    private final Map<Long, Lead> store = new ConcurrentHashMap<>();
-    private final AtomicLong idGenerator = new AtomicLong(1);
+    private final Map<Long, LeadFige> store = new ConcurrentHashMap<>();
+    private final AtomicLong idGenerator;
+    // Écart entre deux ids attribués (1, ou le nombre de shards dans ShardedLeadModel)
+    private final long pasId;
+    // Versions des écritures et lectures en cours (MVCC) ; version() = dernière version visible
+    private final Instantanes instantanes = new Instantanes();
+    // Leads supprimés encore indexés, retirés dès qu'aucune lecture en cours ne les voit
+    private final Queue<LeadFige> aPurger = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean purgeEnCours = new AtomicBoolean();
+
+    /**
+     * Ordre de l'index revenu : revenu croissant puis id croissant.
+     * L'id départage les revenus identiques (plusieurs leads peuvent avoir le même CA).
+     */
+    static final Comparator<LeadLecture> PAR_REVENU = (a, b) -> {
+        int c = Double.compare(a.getAnnualRevenue(), b.getAnnualRevenue());
+        return c != 0 ? c : Long.compare(a.getId(), b.getId());
+    };
+
+    /**
+     * Ordre de l'index temporel : date de création (epoch millis) croissante puis id.
+     * Seuls les leads ayant une creationDate y sont insérés.
+     */
+    static final Comparator<LeadLecture> PAR_DATE = (a, b) -> {
+        int c = Long.compare(a.getCreationMillis(), b.getCreationMillis());
+        return c != 0 ? c : Long.compare(a.getId(), b.getId());
+    };
+
+    // Index secondaire : mêmes instances que dans store, triées par (revenu, id)
+    private final NavigableSet<LeadLecture> revenueIndex = new ConcurrentSkipListSet<>(PAR_REVENU);
+
+    /**
+     * Index par état/département : clé = état en minuscules (Locale.ROOT), valeur = sous-index
+     * revenu limité à cet état. Les leads sans état n'y figurent pas.
+     * Les partitions vides ne sont jamais retirées (quelques dizaines de départements au plus),
+     * ce qui évite qu'un createLead concurrent n'écrive dans une partition détachée.
+     */
+    private final Map<String, NavigableSet<LeadLecture>> stateIndex = new ConcurrentHashMap<>();
+
+    // Index temporel : leads datés triés par (creationDate, id) ; les leads sans date en sont exclus
+    private final NavigableSet<LeadLecture> dateIndex = new ConcurrentSkipListSet<>(PAR_DATE);
+
+    /**
+     * Index de hachage (valeur exacte → leads) pour la suppression par template :
+     * le planificateur (candidatsSuppression) part du plus sélectif d'entre eux.
+     * Les leads dont le champ est null n'y figurent pas.
+     */
+    private final IndexValeur nomIndex = new IndexValeur();
+    private final IndexValeur prenomIndex = new IndexValeur();
+    private final IndexValeur telephoneIndex = new IndexValeur();
+    private final IndexValeur codePostalIndex = new IndexValeur();
+
+    public LeadModelImpl() {
+        this(1, 1);
+    }
+
+    /**
+     * Modèle dont les ids sont premierId, premierId + pas, premierId + 2 * pas...
+     * (shard de ShardedLeadModel : l'id désigne directement son shard, sans compteur partagé).
+     */
+    LeadModelImpl(long premierId, long pas) {
+        this.idGenerator = new AtomicLong(premierId);
+        this.pasId = pas;
+    }
 
     @Override
-    public List<Lead> findLeads(double low, double high, String state)
+    public List<LeadLecture> findLeads(double low, double high, String state)
             throws WrongOrderForRevenueException, WrongStateException {
         /**
          * Recherche par fourchette de revenus et filtre optionnel par état.
          * - Validations : vérifie que low <= high et que l'état n'est pas invalide.
-         * - Retourne des copies formatées (nom au format "Nom, Prénom").
+         * - Retourne les vues immuables des leads (nom au format "Nom, Prénom").
          */
-        // Validation : bornes
-        if (low > high) {
-            throw new WrongOrderForRevenueException("La borne basse est supérieure à la borne haute");
+        validerRecherche(low, high, state);
+
+        // Avec un état : on ne parcourt que la partition de cet état, sinon l'index global
+        NavigableSet<LeadLecture> index = indexRevenu(state);
+        if (index == null) {
+            return new ArrayList<>();
         }
-        // Validation : état simple (exemple)
-        if (state != null && state.matches("\\d+")) {
-            throw new WrongStateException("État invalide fourni : " + state);
+
+        // Parcours de la seule tranche [low, high] de l'index : O(log N + k) au lieu de O(N)
+        List<LeadLecture> res = new ArrayList<>();
+        long instantane = instantanes.ouvrir();
+        try {
+            for (LeadLecture l : index.subSet(borneRevenu(low, Long.MIN_VALUE), true,
+                                       borneRevenu(high, Long.MAX_VALUE), true)) {
+                if (visibleEn(l, instantane)) res.add(vueRetour(l));
+            }
+        } finally {
+            fermerLecture(instantane);
         }
+        return res;
+    }
 
-        List<Lead> res = new ArrayList<>();
-        for (Lead l : store.values()) {
-            double r = l.getAnnualRevenue();
-            if (r >= low && r <= high) {
-                if (state == null || state.isEmpty() || state.equalsIgnoreCase(l.getState())) {
-                    res.add(copyForReturn(l));
+    @Override
+    public FluxLeads findLeadsFlux(double low, double high, String state)
+            throws WrongOrderForRevenueException, WrongStateException {
+        validerRecherche(low, high, state);
+        NavigableSet<LeadLecture> index = indexRevenu(state);
+        if (index == null) {
+            return FluxLeads.deListe(Collections.emptyList());
+        }
+        NavigableSet<LeadLecture> tranche = index.subSet(borneRevenu(low, Long.MIN_VALUE), true,
+                                                  borneRevenu(high, Long.MAX_VALUE), true);
+        // Instantané gardé ouvert jusqu'à close() : le comptage et le parcours voient les mêmes leads
+        long instantane = instantanes.ouvrir();
+        int nombre = 0;
+        for (LeadLecture l : tranche) {
+            if (visibleEn(l, instantane)) nombre++;
+        }
+        int total = nombre;
+        return new FluxLeads() {
+            private boolean ferme;
+
+            @Override
+            public int nombre() {
+                return total;
+            }
+
+            @Override
+            public Iterator<LeadLecture> iterator() {
+                Iterator<LeadLecture> it = tranche.iterator();
+                return new Iterator<LeadLecture>() {
+                    private LeadLecture suivant = avancer();
+
+                    private LeadLecture avancer() {
+                        while (it.hasNext()) {
+                            LeadLecture l = it.next();
+                            if (visibleEn(l, instantane)) return vueRetour(l);
+                        }
+                        return null;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return suivant != null;
+                    }
+
+                    @Override
+                    public LeadLecture next() {
+                        if (suivant == null) throw new NoSuchElementException();
+                        LeadLecture l = suivant;
+                        suivant = avancer();
+                        return l;
+                    }
+                };
+            }
+
+            @Override
+            public void close() {
+                if (!ferme) {
+                    ferme = true;
+                    fermerLecture(instantane);
+                }
+            }
+        };
+    }
+
+    @Override
+    public List<LeadLecture> findLeadsPage(double low, double high, String state, double apresRevenu, long apresId, int limite)
+            throws WrongOrderForRevenueException, WrongStateException {
+        validerRecherche(low, high, state);
+        NavigableSet<LeadLecture> index = indexRevenu(state);
+        if (index == null) {
+            return new ArrayList<>();
+        }
+        return lirePage(index, PAR_REVENU, borneRevenu(low, Long.MIN_VALUE), borneRevenu(high, Long.MAX_VALUE),
+                borneRevenu(apresRevenu, apresId), limite);
+    }
+
+    @Override
+    public AgregatRevenus agregerRevenus(double low, double high, String state)
+            throws WrongOrderForRevenueException, WrongStateException {
+        validerRecherche(low, high, state);
+        AgregatRevenus agregat = new AgregatRevenus();
+        NavigableSet<LeadLecture> index = indexRevenu(state);
+        if (index != null) {
+            // Même tranche que findLeads, sans vue ni liste : seul le revenu de chaque lead est lu
+            long instantane = instantanes.ouvrir();
+            try {
+                for (LeadLecture l : index.subSet(borneRevenu(low, Long.MIN_VALUE), true, borneRevenu(high, Long.MAX_VALUE), true)) {
+                    if (visibleEn(l, instantane)) agregat.ajouter(l.getAnnualRevenue());
                 }
+            } finally {
+                fermerLecture(instantane);
             }
         }
-        return res;
+        return agregat;
     }
 
     @Override
-    public List<Lead> findLeadsByDate(java.util.Calendar from, java.util.Calendar to)
+    public SortedMap<String, AgregatRevenus> histogramme(Regroupement par, double low, double high, String state)
+            throws WrongOrderForRevenueException, WrongStateException {
+        validerRecherche(low, high, state);
+        Histogramme histo = new Histogramme(par);
+        NavigableSet<LeadLecture> index = indexRevenu(state);
+        if (index != null) {
+            long instantane = instantanes.ouvrir();
+            try {
+                for (LeadLecture l : index.subSet(borneRevenu(low, Long.MIN_VALUE), true, borneRevenu(high, Long.MAX_VALUE), true)) {
+                    if (visibleEn(l, instantane)) histo.ajouter(l);
+                }
+            } finally {
+                fermerLecture(instantane);
+            }
+        }
+        return histo.resultat();
+    }
+
+    @Override
+    public List<LeadLecture> findLeadsByDate(java.util.Calendar from, java.util.Calendar to)
             throws WrongDateFormatException, WrongOrderForDateException {
         /**
          * Recherche par intervalle de dates (Calendar).
          * - Valide l'ordre from <= to si les deux fournis.
-         * - Renvoie la liste des prospects correspondants (copies sécurisées).
+         * - Renvoie la liste des prospects correspondants (vues immuables).
          */
-        if (from != null && to != null && from.after(to)) {
-            throw new WrongOrderForDateException("La date de début est après la date de fin");
-        }
+        validerDates(from, to);
+
+        // Bornes absentes = intervalle ouvert de ce côté ; fenêtre lue directement dans l'index temporel
+        long debut = (from == null) ? Long.MIN_VALUE : from.getTimeInMillis();
+        long fin = (to == null) ? Long.MAX_VALUE : to.getTimeInMillis();
 
-        List<Lead> res = new ArrayList<>();
-        for (Lead l : store.values()) {
-            java.util.Calendar d = l.getCreationDate();
-            if (d == null) continue;
-            boolean after = (from == null) || !d.before(from);
-            boolean before = (to == null) || !d.after(to);
-            if (after && before) res.add(copyForReturn(l));
+        List<LeadLecture> res = new ArrayList<>();
+        long instantane = instantanes.ouvrir();
+        try {
+            for (LeadLecture l : dateIndex.subSet(borneDate(debut, Long.MIN_VALUE), true,
+                                           borneDate(fin, Long.MAX_VALUE), true)) {
+                if (visibleEn(l, instantane)) res.add(vueRetour(l));
+            }
+        } finally {
+            fermerLecture(instantane);
         }
         return res;
     }
 
+    @Override
+    public int compterParDate(Calendar from, Calendar to)
+            throws WrongDateFormatException, WrongOrderForDateException {
+        validerDates(from, to);
+        long debut = (from == null) ? Long.MIN_VALUE : from.getTimeInMillis();
+        long fin = (to == null) ? Long.MAX_VALUE : to.getTimeInMillis();
+        // Même fenêtre que findLeadsByDate, sans vue ni liste
+        int nombre = 0;
+        long instantane = instantanes.ouvrir();
+        try {
+            for (LeadLecture l : dateIndex.subSet(borneDate(debut, Long.MIN_VALUE), true,
+                                           borneDate(fin, Long.MAX_VALUE), true)) {
+                if (visibleEn(l, instantane)) nombre++;
+            }
+        } finally {
+            fermerLecture(instantane);
+        }
+        return nombre;
+    }
+
+    @Override
+    public List<LeadLecture> findLeadsByDatePage(Calendar from, Calendar to, long apresMillis, long apresId, int limite)
+            throws WrongDateFormatException, WrongOrderForDateException {
+        validerDates(from, to);
+        long debut = (from == null) ? Long.MIN_VALUE : from.getTimeInMillis();
+        long fin = (to == null) ? Long.MAX_VALUE : to.getTimeInMillis();
+        return lirePage(dateIndex, PAR_DATE, borneDate(debut, Long.MIN_VALUE), borneDate(fin, Long.MAX_VALUE),
+                borneDate(apresMillis, apresId), limite);
+    }
+
     @Override
     public long createLead(Lead lead) throws WrongStateException {
         /**
          * Création d'un prospect en mémoire.
          * - Valide l'état (simple check) et génère un identifiant unique.
-         * - Stocke une copie pour éviter effets de bord.
+         * - Stocke une copie immuable (et sa vue de retour) pour éviter effets de bord.
          */
         // Validation état
-        if (lead == null) throw new WrongStateException("Lead vide");
-        if (lead.getState() != null && lead.getState().matches("\\d+")) {
-            throw new WrongStateException("État invalide fourni : " + lead.getState());
+        verifierCreation(lead);
+
+        long version = instantanes.reserver();
+        try {
+            return inserer(lead, version);
+        } finally {
+            terminerEcriture(version);
         }
+    }
 
-        long id = idGenerator.getAndIncrement();
-        Lead copy = copyForStorage(lead);
-        copy.setId(id);
+    @Override
+    public long[] createLeads(List<Lead> leads, Map<Integer, String> erreurs) {
+        long[] ids = new long[leads.size()];
+        // Tout le lot sous une seule version : les lecteurs le voient en entier ou pas du tout
+        long version = instantanes.reserver();
+        try {
+            for (int i = 0; i < ids.length; i++) {
+                try {
+                    verifierCreation(leads.get(i));
+                    ids[i] = inserer(leads.get(i), version);
+                } catch (WrongStateException e) {
+                    ids[i] = -1;
+                    erreurs.put(i, e.getMessage());
+                }
+            }
+        } finally {
+            terminerEcriture(version);
+        }
+        return ids;
+    }
+
+    // Stocke et indexe une copie figée du lead, créée par l'écriture `version` ; renvoie l'id attribué
+    private long inserer(Lead lead, long version) {
+        long id = idGenerator.getAndAdd(pasId);
+        LeadFige copy = LeadFige.figer(lead, id, version);
         store.put(id, copy);
+        indexer(copy);
         return id;
     }
 
     @Override
     public void deleteLead(Lead template) throws NoSuchLeadException {
+        supprimerCorrespondants(template);
+    }
+
+    @Override
+    public void deleteLeadById(long id) throws NoSuchLeadException {
+        if (!supprimerParId(id)) {
+            throw new NoSuchLeadException("Aucun prospect avec l'id " + id);
+        }
+    }
+
+    @Override
+    public List<Long> deleteLeads(List<Long> ids) {
+        // Accès direct par id dans store : pas de balayage ; une seule version pour le lot
+        List<Long> supprimes = new ArrayList<>();
+        long version = instantanes.reserver();
+        try {
+            for (Long id : ids) {
+                if (id != null && retirer(id, version)) {
+                    supprimes.add(id);
+                }
+            }
+        } finally {
+            terminerEcriture(version);
+        }
+        return supprimes;
+    }
+
+    /**
+     * Suppression par template, renvoie les ids effectivement supprimés
+     * (utilisé par le journal pour rejouer la suppression à l'identique).
+     */
+    List<Long> supprimerCorrespondants(Lead template) throws NoSuchLeadException {
+        List<Long> idsToRemove = idsCorrespondants(template);
+        // Supprimer tous les leads correspondants sous une seule version (seul le thread qui retire l'entrée du store la marque)
+        java.util.List<Long> supprimes = new java.util.ArrayList<>();
+        long version = instantanes.reserver();
+        try {
+            for (Long id : idsToRemove) {
+                if (retirer(id, version)) {
+                    supprimes.add(id);
+                }
+            }
+        } finally {
+            terminerEcriture(version);
+        }
+        return supprimes;
+    }
+
+    /**
+     * Ids des leads correspondant au template, sans les supprimer (le journal écrit la
+     * suppression avant de l'appliquer). NoSuchLeadException si aucun.
+     */
+    List<Long> idsCorrespondants(Lead template) throws NoSuchLeadException {
+        // Template compilé une fois (champs renseignés), puis vérifié sur les seuls candidats du plan
+        FiltreSuppression filtre = FiltreSuppression.compiler(template);
         // Collecter les IDs à supprimer d'abord pour éviter les problèmes de modification concurrente
         java.util.List<Long> idsToRemove = new java.util.ArrayList<>();
-        for (Lead candidate : store.values()) {
-            if (equalsWithoutId(template, candidate)) {
-                idsToRemove.add(candidate.getId());
+        if (filtre != null) {
+            for (LeadLecture candidate : candidatsSuppression(filtre)) {
+                // Les leads déjà supprimés (en attente de purge) sont encore dans les index
+                if (!((LeadFige) candidate).estSupprime() && filtre.accepte(candidate)) {
+                    idsToRemove.add(candidate.getId());
+                }
             }
         }
         if (idsToRemove.isEmpty()) {
             throw new NoSuchLeadException("Aucun prospect correspondant trouvé pour suppression");
         }
-        // Supprimer tous les leads correspondants
-        for (Long id : idsToRemove) {
-            store.remove(id);
+        return idsToRemove;
+    }
+
+    // Ids présents dans le stockage, sans doublon, dans l'ordre de la liste (null ignorés)
+    List<Long> idsPresents(List<Long> ids) {
+        Set<Long> presents = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id != null && store.containsKey(id)) {
+                presents.add(id);
+            }
+        }
+        return new ArrayList<>(presents);
+    }
+
+    /**
+     * Planificateur de la suppression par template : choisit la source de candidats la plus
+     * sélective parmi les index correspondant aux champs renseignés, le filtre complet
+     * étant appliqué ensuite à chaque candidat.
+     * - index de hachage (nom, prénom, téléphone, code postal) : taille du seau en O(1)
+     * - tranche [revenu, revenu] de l'index revenu (de la partition de l'état si renseigné),
+     *   ou partition de l'état seule : dénombrées en s'arrêtant à la meilleure taille connue
+     * Le template a toujours un nom ou un prénom, le coût est donc borné par ce seau.
+     */
+    private Iterable<LeadLecture> candidatsSuppression(FiltreSuppression filtre) {
+        Iterable<LeadLecture> meilleur = null;
+        int taille = Integer.MAX_VALUE;
+        for (Set<LeadLecture> seau : Arrays.asList(
+                nomIndex.lire(filtre.nom()), prenomIndex.lire(filtre.prenom()),
+                telephoneIndex.lire(filtre.telephone()), codePostalIndex.lire(filtre.codePostal()))) {
+            if (seau != null && seau.size() < taille) {
+                meilleur = seau;
+                taille = seau.size();
+            }
+        }
+        NavigableSet<LeadLecture> parRevenu = revenueIndex;
+        if (filtre.etat() != null) {
+            parRevenu = stateIndex.get(cleEtat(filtre.etat()));
+            if (parRevenu == null) {
+                return Collections.emptyList();
+            }
         }
+        if (filtre.revenuRenseigne()) {
+            double r = filtre.revenu();
+            NavigableSet<LeadLecture> tranche = parRevenu.subSet(borneRevenu(r, Long.MIN_VALUE), true, borneRevenu(r, Long.MAX_VALUE), true);
+            if (compterJusqua(tranche, taille) < taille) {
+                return tranche;
+            }
+        } else if (filtre.etat() != null && compterJusqua(parRevenu, taille) < taille) {
+            return parRevenu;
+        }
+        return meilleur != null ? meilleur : Collections.emptyList();
     }
 
-    private Lead copyForStorage(Lead src) {
+    // Taille d'un index trié (O(k)), arrêtée dès qu'elle atteint le plafond
+    private static int compterJusqua(Iterable<LeadLecture> leads, int plafond) {
+        int n = 0;
+        for (Iterator<LeadLecture> it = leads.iterator(); it.hasNext() && n < plafond; it.next()) {
+            n++;
+        }
+        return n;
+    }
+
+    // Retire un lead par son id ; false s'il n'existe pas (ou déjà retiré par un autre thread)
+    boolean supprimerParId(long id) {
+        long version = instantanes.reserver();
+        try {
+            return retirer(id, version);
+        } finally {
+            terminerEcriture(version);
+        }
+    }
+
+    /**
+     * Retire le lead de store et le marque supprimé par l'écriture `version`. Il reste dans les
+     * index (les lectures plus anciennes le voient encore) jusqu'à sa purge.
+     */
+    private boolean retirer(long id, long version) {
+        LeadFige removed = (LeadFige) store.remove(id);
+        if (removed == null) {
+            return false;
+        }
+        removed.marquerSupprime(version);
+        aPurger.add(removed);
+        return true;
+    }
+
+    private void terminerEcriture(long version) {
+        instantanes.terminer(version);
+        purger();
+    }
+
+    private void fermerLecture(long instantane) {
+        instantanes.fermer(instantane);
+        purger();
+    }
+
+    /**
+     * Désindexe les leads supprimés qu'aucune lecture en cours ne peut plus voir.
+     * Un seul thread purge à la fois ; s'arrête au premier lead encore visible (la file est
+     * à peu près dans l'ordre des versions, le reste sera traité par une purge suivante).
+     */
+    private void purger() {
+        if (aPurger.isEmpty() || !purgeEnCours.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long limite = instantanes.limitePurge();
+            for (LeadFige l = aPurger.peek(); l != null && l.supprimeEn() <= limite; l = aPurger.peek()) {
+                aPurger.poll();
+                desindexer(l);
+            }
+        } finally {
+            purgeEnCours.set(false);
+        }
+    }
+
+    private static boolean visibleEn(LeadLecture stocke, long instantane) {
+        return ((LeadFige) stocke).visibleEn(instantane);
+    }
+
+    /**
+     * Réinsère un lead avec son id d'origine (rechargement d'instantané / rejeu du journal).
+     * Le lead est figé (LeadFige) avant stockage, sauf s'il l'est déjà.
+     * Le générateur d'ids est avancé au-delà de cet id.
+     */
+    void restaurer(LeadLecture lead) {
+        long version = instantanes.reserver();
+        try {
+            // Toujours refigé : les versions d'un lead venant d'un autre modèle ne valent pas ici
+            LeadFige fige = LeadFige.figer(lead, lead.getId(), version);
+            store.put(fige.getId(), fige);
+            indexer(fige);
+        } finally {
+            terminerEcriture(version);
+        }
+        idGenerator.accumulateAndGet(lead.getId() + pasId, Math::max);
+    }
+
+    /**
+     * Réinsère un lot de leads avec leurs ids d'origine sous une seule version (chargement
+     * d'instantané). Index concurrents : plusieurs lots peuvent être restaurés en parallèle.
+     */
+    void restaurer(List<LeadLecture> leads) {
+        long idMax = 0;
+        long version = instantanes.reserver();
+        try {
+            for (LeadLecture lead : leads) {
+                LeadFige fige = LeadFige.figer(lead, lead.getId(), version);
+                store.put(fige.getId(), fige);
+                indexer(fige);
+                idMax = Math.max(idMax, lead.getId());
+            }
+        } finally {
+            terminerEcriture(version);
+        }
+        idGenerator.accumulateAndGet(idMax + pasId, Math::max);
+    }
+
+    // Attribue l'id d'un lead qui sera inséré ensuite par restaurer (journal : enregistrement écrit d'abord)
+    long attribuerId() {
+        return idGenerator.getAndAdd(pasId);
+    }
+
+    // Prochain id qui sera attribué (sauvegardé dans l'instantané : les ids supprimés ne sont pas réutilisés)
+    long prochainId() {
+        return idGenerator.get();
+    }
+
+    void reserverIdsJusqua(long prochainId) {
+        idGenerator.accumulateAndGet(prochainId, Math::max);
+    }
+
+    /**
+     * Vide le stockage et les index avant un rechargement complet (modèle pas encore publié :
+     * aucune lecture ni écriture concurrente). Le générateur d'ids n'est jamais reculé.
+     */
+    void vider() {
+        store.clear();
+        revenueIndex.clear();
+        stateIndex.clear();
+        dateIndex.clear();
+        nomIndex.vider();
+        prenomIndex.vider();
+        telephoneIndex.vider();
+        codePostalIndex.vider();
+        aPurger.clear();
+    }
+
+    /**
+     * Épingle l'instantané courant : les leads qui y sont visibles ne seront pas purgés avant
+     * fermerInstantane (même version que celle vue par les lectures en cours).
+     */
+    long ouvrirInstantane() {
+        return instantanes.ouvrir();
+    }
+
+    void fermerInstantane(long instantane) {
+        fermerLecture(instantane);
+    }
+
+    /**
+     * Leads visibles dans un instantané épinglé par ouvrirInstantane (instances LeadFige
+     * immuables, noms non formatés : la liste peut donc être sérialisée sans verrou).
+     * L'index revenu contient tous les leads.
+     */
+    List<LeadLecture> leadsStockes(long instantane) {
+        List<LeadLecture> res = new ArrayList<>();
+        for (LeadLecture l : revenueIndex) {
+            if (visibleEn(l, instantane)) res.add(l);
+        }
+        return res;
+    }
+
+    @Override
+    public int size() {
+        return store.size();
+    }
+
+    @Override
+    public long version() {
+        return instantanes.visible();
+    }
+
+    /**
+     * Règles de validation d'un lead à créer, communes à toutes les implémentations
+     * (createLead et createLeads).
+     */
+    static void verifierCreation(Lead lead) throws WrongStateException {
+        if (lead == null) throw new WrongStateException("Lead vide");
+        if (lead.getState() != null && lead.getState().matches("\\d+")) {
+            throw new WrongStateException("État invalide fourni : " + lead.getState());
+        }
+    }
+
+    // Validations communes à findLeads et findLeadsPage
+    static void validerRecherche(double low, double high, String state)
+            throws WrongOrderForRevenueException, WrongStateException {
+        // Validation : bornes (NaN n'est ni avant ni après aucun revenu : refusé)
+        if (Double.isNaN(low) || Double.isNaN(high)) {
+            throw new WrongOrderForRevenueException("Borne de revenu invalide (NaN)");
+        }
+        if (low > high) {
+            throw new WrongOrderForRevenueException("La borne basse est supérieure à la borne haute");
+        }
+        // Validation : état simple (exemple)
+        if (state != null && state.matches("\\d+")) {
+            throw new WrongStateException("État invalide fourni : " + state);
+        }
+    }
+
+    // Validation commune à findLeadsByDate et findLeadsByDatePage
+    static void validerDates(Calendar from, Calendar to) throws WrongOrderForDateException {
+        if (from != null && to != null && from.after(to)) {
+            throw new WrongOrderForDateException("La date de début est après la date de fin");
+        }
+    }
+
+    // Index revenu à parcourir : partition de l'état demandé (null si aucun lead de cet état) ou index global
+    private NavigableSet<LeadLecture> indexRevenu(String state) {
+        if (state != null && !state.isEmpty()) {
+            return stateIndex.get(cleEtat(state));
+        }
+        return revenueIndex;
+    }
+
+    /**
+     * Lit au plus `limite` leads de la tranche [basse, haute] de l'index, strictement après le curseur.
+     * Le curseur n'est qu'une sonde (clé + id) : il n'a pas besoin d'exister dans l'index.
+     */
+    private List<LeadLecture> lirePage(NavigableSet<LeadLecture> index, Comparator<LeadLecture> ordre,
+                                LeadLecture basse, LeadLecture haute, LeadLecture curseur, int limite) {
+        List<LeadLecture> res = new ArrayList<>();
+        boolean apresCurseur = ordre.compare(curseur, basse) >= 0;
+        LeadLecture debut = apresCurseur ? curseur : basse;
+        if (ordre.compare(debut, haute) > 0) {
+            return res;
+        }
+        long instantane = instantanes.ouvrir();
+        try {
+            for (LeadLecture l : index.subSet(debut, !apresCurseur, haute, true)) {
+                if (res.size() >= limite) break;
+                if (visibleEn(l, instantane)) res.add(vueRetour(l));
+            }
+        } finally {
+            fermerLecture(instantane);
+        }
+        return res;
+    }
+
+    // Ajoute un lead déjà présent dans store à tous les index secondaires
+    private void indexer(LeadFige l) {
+        revenueIndex.add(l);
+        if (l.getCreationMillis() != Lead.SANS_DATE) {
+            dateIndex.add(l);
+        }
+        if (l.getState() != null) {
+            stateIndex.computeIfAbsent(cleEtat(l.getState()), k -> new ConcurrentSkipListSet<>(PAR_REVENU)).add(l);
+        }
+        nomIndex.ajouter(l.getLastName(), l);
+        prenomIndex.ajouter(l.getFirstName(), l);
+        telephoneIndex.ajouter(l.getPhone(), l);
+        codePostalIndex.ajouter(l.getPostalCode(), l);
+    }
+
+    // Retire un lead (déjà retiré de store) de tous les index secondaires
+    private void desindexer(LeadFige l) {
+        revenueIndex.remove(l);
+        if (l.getCreationMillis() != Lead.SANS_DATE) {
+            dateIndex.remove(l);
+        }
+        if (l.getState() != null) {
+            NavigableSet<LeadLecture> partition = stateIndex.get(cleEtat(l.getState()));
+            if (partition != null) {
+                partition.remove(l);
+            }
+        }
+        nomIndex.retirer(l.getLastName(), l);
+        prenomIndex.retirer(l.getFirstName(), l);
+        telephoneIndex.retirer(l.getPhone(), l);
+        codePostalIndex.retirer(l.getPostalCode(), l);
+    }
+
+    // Lead "sonde" pour borner l'index temporel (même principe que borneRevenu)
+    private static Lead borneDate(long millis, long id) {
+        Lead borne = new Lead();
+        borne.setCreationMillis(millis);
+        borne.setId(id);
+        return borne;
+    }
+
+    /**
+     * Clé de l'index par état : même sémantique que equalsIgnoreCase,
+     * calculée une seule fois à l'écriture plutôt qu'à chaque lead lu.
+     */
+    private static String cleEtat(String state) {
+        return state.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Lead "sonde" utilisé comme borne de recherche dans l'index revenu.
+     * Avec id = Long.MIN_VALUE / Long.MAX_VALUE, la borne encadre tous les leads de ce revenu.
+     */
+    private static Lead borneRevenu(double revenue, long id) {
+        Lead borne = new Lead();
+        borne.setAnnualRevenue(normaliserRevenu(revenue));
+        borne.setId(id);
+        return borne;
+    }
+
+    /**
+     * -0.0 devient 0.0 (et rien d'autre ne change) : PAR_REVENU trie avec Double.compare, qui
+     * place -0.0 avant 0.0. Appliqué aux revenus stockés et aux bornes de recherche.
+     */
+    static double normaliserRevenu(double revenue) {
+        return revenue + 0.0;
+    }
+
+    static Lead copyForStorage(LeadLecture src) {
         Lead c = new Lead();
         c.setFirstName(src.getFirstName());
         c.setLastName(src.getLastName());
-        c.setAnnualRevenue(src.getAnnualRevenue());
+        c.setAnnualRevenue(normaliserRevenu(src.getAnnualRevenue()));
         c.setPhone(src.getPhone());
         c.setStreet(src.getStreet());
         c.setPostalCode(src.getPostalCode());
         c.setCity(src.getCity());
         c.setCountry(src.getCountry());
-        // Copier le Calendar si présent
-        java.util.Calendar cd = src.getCreationDate();
-        if (cd != null) {
-            java.util.Calendar copyCal = (java.util.Calendar) cd.clone();
-            c.setCreationDate(copyCal);
-        } else {
-            c.setCreationDate(null);
-        }
+        c.setCreationMillis(src.getCreationMillis());
         c.setCompanyName(src.getCompanyName());
         c.setState(src.getState());
         return c;
     }
 
-    private Lead copyForReturn(Lead src) {
-        Lead c = copyForStorage(src);
-        // Mise en forme : "Nom, Prénom" dans firstName, lastName vidé
-        String nom = Optional.ofNullable(c.getLastName()).orElse("").trim();
-        String prenom = Optional.ofNullable(c.getFirstName()).orElse("").trim();
-        String nomComplet = (nom.isEmpty() && prenom.isEmpty()) ? "" : nom + ", " + prenom;
-        c.setFirstName(nomComplet);
+    // Vue de retour précalculée d'un lead stocké : ni copie, ni Calendar, ni concaténation
+    private static LeadLecture vueRetour(LeadLecture stocke) {
+        return ((LeadFige) stocke).vue();
+    }
+
+    /**
+     * Mise en forme de retour : "Nom, Prénom" dans firstName, lastName vidé.
+     * Partagée avec les autres implémentations du modèle (même contrat de sortie).
+     */
+    static void formaterNom(Lead c) {
+        c.setFirstName(nomFormate(c.getLastName(), c.getFirstName()));
         c.setLastName("");
-        c.setId(src.getId());
-        return c;
+    }
+
+    // "Nom, Prénom" (parties trimées), "" si les deux sont vides
+    static String nomFormate(String nom, String prenom) {
+        nom = Optional.ofNullable(nom).orElse("").trim();
+        prenom = Optional.ofNullable(prenom).orElse("").trim();
+        return (nom.isEmpty() && prenom.isEmpty()) ? "" : nom + ", " + prenom;
     }
 
     /**
@@ -160,85 +824,59 @@ public class LeadModelImpl implements LeadModel {
      * @param candidate Le lead candidat à comparer
      * @return true si tous les champs renseignés du template correspondent
      */
-    private boolean equalsWithoutId(Lead template, Lead candidate) {
-        if (template == null || candidate == null) return false;
-        
-        // Vérifier qu'au moins firstName OU lastName est renseigné (obligatoire)
-        boolean hasFirstName = template.getFirstName() != null && !template.getFirstName().trim().isEmpty();
-        boolean hasLastName = template.getLastName() != null && !template.getLastName().trim().isEmpty();
-        
-        if (!hasFirstName && !hasLastName) {
-            // Aucun nom/prénom renseigné, impossible de faire une correspondance
-            return false;
-        }
-        
-        // Comparer firstName si renseigné
-        if (hasFirstName && !safeEq(template.getFirstName(), candidate.getFirstName())) {
-            return false;
-        }
-        
-        // Comparer lastName si renseigné
-        if (hasLastName && !safeEq(template.getLastName(), candidate.getLastName())) {
-            return false;
-        }
-        
-        // Comparer annualRevenue SEULEMENT si défini (>= 0.0 signifie défini, < 0.0 = sentinelle "non défini")
-        if (template.getAnnualRevenue() >= 0.0) {
-            if (Double.compare(template.getAnnualRevenue(), candidate.getAnnualRevenue()) != 0) {
-                return false;
-            }
-        }
-        // Sinon, on ignore ce champ (pas de comparaison)
-        
-        // Comparer les autres champs string SEULEMENT s'ils sont renseignés
-        if (template.getPhone() != null && !template.getPhone().trim().isEmpty()) {
-            if (!safeEq(template.getPhone(), candidate.getPhone())) return false;
-        }
-        
-        if (template.getStreet() != null && !template.getStreet().trim().isEmpty()) {
-            if (!safeEq(template.getStreet(), candidate.getStreet())) return false;
-        }
-        
-        if (template.getPostalCode() != null && !template.getPostalCode().trim().isEmpty()) {
-            if (!safeEq(template.getPostalCode(), candidate.getPostalCode())) return false;
-        }
-        
-        if (template.getCity() != null && !template.getCity().trim().isEmpty()) {
-            if (!safeEq(template.getCity(), candidate.getCity())) return false;
-        }
-        
-        if (template.getCountry() != null && !template.getCountry().trim().isEmpty()) {
-            if (!safeEq(template.getCountry(), candidate.getCountry())) return false;
-        }
-        
-        if (template.getCompanyName() != null && !template.getCompanyName().trim().isEmpty()) {
-            if (!safeEq(template.getCompanyName(), candidate.getCompanyName())) return false;
-        }
-        
-        if (template.getState() != null && !template.getState().trim().isEmpty()) {
-            if (!safeEq(template.getState(), candidate.getState())) return false;
+    static boolean equalsWithoutId(Lead template, LeadLecture candidate) {
+        // Règle portée par FiltreSuppression (champs renseignés calculés une fois par template)
+        FiltreSuppression filtre = FiltreSuppression.compiler(template);
+        return filtre != null && filtre.accepte(candidate);
+    }
+
+    /**
+     * Index de hachage valeur exacte → leads. Un seau d'un seul lead est stocké tel quel
+     * (cas courant du téléphone), au-delà dans un ensemble concurrent : évite une table
+     * de hachage par valeur unique. compute / computeIfPresent rendent chaque mise à jour
+     * de seau atomique.
+     */
+    @SuppressWarnings("unchecked")
+    private static final class IndexValeur {
+        private final Map<String, Object> seaux = new ConcurrentHashMap<>();
+
+        void ajouter(String valeur, LeadLecture l) {
+            if (valeur == null) return;
+            seaux.compute(valeur, (k, seau) -> {
+                if (seau == null) return l;
+                if (seau instanceof LeadLecture) {
+                    Set<LeadLecture> s = ConcurrentHashMap.newKeySet();
+                    s.add((LeadLecture) seau);
+                    s.add(l);
+                    return s;
+                }
+                ((Set<LeadLecture>) seau).add(l);
+                return seau;
+            });
         }
-        
-        // Comparer creationDate SEULEMENT si renseignée
-        if (template.getCreationDate() != null) {
-            if (!safeCalEq(template.getCreationDate(), candidate.getCreationDate())) {
-                return false;
-            }
+
+        void retirer(String valeur, LeadLecture l) {
+            if (valeur == null) return;
+            seaux.computeIfPresent(valeur, (k, seau) -> {
+                if (seau instanceof LeadLecture) {
+                    return seau.equals(l) ? null : seau;
+                }
+                Set<LeadLecture> s = (Set<LeadLecture>) seau;
+                s.remove(l);
+                return s.isEmpty() ? null : s;
+            });
         }
-        // Sinon, on ignore ce champ (pas de comparaison)
-        
-        // Tous les champs renseignés correspondent
-        return true;
-    }
 
-    private boolean safeEq(String x, String y) {
-        if (x == null) return y == null;
-        return x.equals(y);
-    }
+        // Seau de la valeur (vide si aucun lead) ; null si la valeur n'est pas renseignée
+        Set<LeadLecture> lire(String valeur) {
+            if (valeur == null) return null;
+            Object seau = seaux.get(valeur);
+            if (seau == null) return Collections.emptySet();
+            return (seau instanceof LeadLecture) ? Collections.singleton((LeadLecture) seau) : (Set<LeadLecture>) seau;
+        }
 
-    private boolean safeCalEq(java.util.Calendar a, java.util.Calendar b) {
-        if (a == null) return b == null;
-        if (b == null) return false;
-        return a.getTimeInMillis() == b.getTimeInMillis();
+        void vider() {
+            seaux.clear();
+        }
     }
 }
@@ -0,0 +1,625 @@
+package org.example.internal.model;
+
+import org.example.internal.model.exception.NoSuchLeadException;
+import org.example.internal.model.exception.WrongDateFormatException;
+import org.example.internal.model.exception.WrongOrderForDateException;
+import org.example.internal.model.exception.WrongOrderForRevenueException;
+import org.example.internal.model.exception.WrongStateException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Implémentation du modèle LeadModel hors du tas Java, dans des fichiers mappés en mémoire.
+ *
+ * Deux fichiers (préfixe donné par -Dinternalcrm.model.file, défaut "internalcrm-leads") :
+ * - "<préfixe>.rows" : en-tête + un emplacement de taille fixe (64 octets) par prospect
+ *     0  id (long)           8  revenu (double)       16 date de création (long, epoch millis)
+ *     24 drapeaux (int, bit 0 = supprimé)             28 9 références de chaînes (int)
+ * - "<préfixe>.str"  : zone de chaînes en ajout seul, entrée = longueur (int) + UTF-8, alignée sur 4 octets.
+ *   Une référence = position / 4 (jusqu'à 8 Go adressables), 0 = null.
+ *   Ville / pays / entreprise / état sont internés : une seule copie par valeur distincte.
+ *
+ * Les fichiers sont mappés par fenêtres de 64 Mo (MappedByteBuffer, limite 2 Go par mapping).
+ * findLeads et findLeadsByDate lisent directement les colonnes mappées : un Lead n'est construit
+ * que pour les lignes retenues. Au redémarrage, les fichiers sont rouverts tels quels
+ * (pas de rechargement par InitialDataLoader, cf. size()).
+ *
+ * Persistance : les écritures vont dans le cache de pages du système, qui les recopie sur disque
+ * même si le processus est tué ; il n'y a pas de force() par opération (pas de garantie en cas
+ * de coupure de courant). close() force toutes les fenêtres sur disque puis ferme les fichiers
+ * (arrêt propre du serveur) ; toute écriture ultérieure est refusée.
+ *
+ * Sélection : -Dinternalcrm.model=mapped (voir LeadModelFactory).
+ */
+public class MappedLeadModel implements LeadModel, Closeable {
+
+    private static final int MAGIC = 0x4C454144; // "LEAD"
+    private static final int VERSION = 1;
+
+    // En-tête du fichier .rows : magic, version, nombre de lignes, fin de la zone de chaînes
+    private static final int TAILLE_ENTETE = 64;
+    private static final int ENTETE_LIGNES = 8;
+    private static final int ENTETE_FIN_CHAINES = 16;
+
+    // Emplacement d'un prospect
+    private static final int TAILLE_LIGNE = 64;
+    private static final int OFF_ID = 0;
+    private static final int OFF_REVENU = 8;
+    private static final int OFF_DATE = 16;
+    private static final int OFF_DRAPEAUX = 24;
+    private static final int OFF_PRENOM = 28;
+    private static final int OFF_NOM = 32;
+    private static final int OFF_TELEPHONE = 36;
+    private static final int OFF_RUE = 40;
+    private static final int OFF_CODE_POSTAL = 44;
+    private static final int OFF_VILLE = 48;
+    private static final int OFF_PAYS = 52;
+    private static final int OFF_ENTREPRISE = 56;
+    private static final int OFF_ETAT = 60;
+
+    private static final int SUPPRIME = 1;
+    private static final long SANS_DATE = Lead.SANS_DATE;
+    private static final int SANS_CHAINE = 0;
+
+    // Fenêtres de mapping : 2^20 lignes (64 Mo) côté lignes, 64 Mo côté chaînes
+    private static final int BITS_LIGNES_PAR_FENETRE = 20;
+    private static final int LIGNES_PAR_FENETRE = 1 << BITS_LIGNES_PAR_FENETRE;
+    private static final long TAILLE_FENETRE = (long) LIGNES_PAR_FENETRE * TAILLE_LIGNE;
+    private static final int TAILLE_FENETRE_CHAINES = 64 * 1024 * 1024;
+    private static final int DEBUT_CHAINES = 8;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final FileChannel canalLignes;
+    private final FileChannel canalChaines;
+    private final MappedByteBuffer entete;
+    private final List<MappedByteBuffer> fenetresLignes = new ArrayList<>();
+    private final List<MappedByteBuffer> fenetresChaines = new ArrayList<>();
+
+    // Chaînes internées (faible cardinalité) : valeur → référence, et cache référence → valeur
+    private final Map<String, Integer> internees = new HashMap<>();
+    private final Map<Integer, String> valeursInternees = new HashMap<>();
+
+    private long lignes;
+    private long finChaines;
+    private int vivants;
+    // Écrit sous verrou d'écriture (close), lu par les écrivains sous ce même verrou
+    private boolean ferme;
+    // Incrémentée sous verrou d'écriture, lue sans verrou (version())
+    private volatile long version;
+
+    public MappedLeadModel(Path prefixe) {
+        try {
+            Path fichierLignes = prefixe.resolveSibling(prefixe.getFileName() + ".rows");
+            Path fichierChaines = prefixe.resolveSibling(prefixe.getFileName() + ".str");
+            canalLignes = FileChannel.open(fichierLignes,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            canalChaines = FileChannel.open(fichierChaines,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            boolean nouveau = canalLignes.size() == 0;
+            entete = canalLignes.map(FileChannel.MapMode.READ_WRITE, 0, TAILLE_ENTETE);
+            if (nouveau) {
+                entete.putInt(0, MAGIC);
+                entete.putInt(4, VERSION);
+                entete.putLong(ENTETE_LIGNES, 0);
+                entete.putLong(ENTETE_FIN_CHAINES, DEBUT_CHAINES);
+            } else if (entete.getInt(0) != MAGIC || entete.getInt(4) != VERSION) {
+                throw new IOException("Fichier de prospects invalide : " + fichierLignes);
+            }
+            lignes = entete.getLong(ENTETE_LIGNES);
+            finChaines = entete.getLong(ENTETE_FIN_CHAINES);
+            rouvrir();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Impossible d'ouvrir le stockage mappé " + prefixe, e);
+        }
+    }
+
+    /**
+     * Réouverture : mappe toutes les fenêtres existantes (les lecteurs n'en mappent jamais),
+     * recompte les prospects vivants et reconstruit la table d'internement à partir des
+     * colonnes ville/pays/entreprise/état.
+     */
+    private void rouvrir() throws IOException {
+        if (lignes > 0) fenetreLigne(lignes - 1);
+        fenetreChaines(finChaines);
+        int[] colonnesInternees = {OFF_VILLE, OFF_PAYS, OFF_ENTREPRISE, OFF_ETAT};
+        for (long i = 0; i < lignes; i++) {
+            MappedByteBuffer f = fenetreLigne(i);
+            int pos = positionLigne(i);
+            if ((f.getInt(pos + OFF_DRAPEAUX) & SUPPRIME) != 0) continue;
+            vivants++;
+            for (int off : colonnesInternees) {
+                int ref = f.getInt(pos + off);
+                if (ref != SANS_CHAINE && !valeursInternees.containsKey(ref)) {
+                    String valeur = lireChaine(ref);
+                    valeursInternees.put(ref, valeur);
+                    internees.putIfAbsent(valeur, ref);
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<LeadLecture> findLeads(double low, double high, String state)
+            throws WrongOrderForRevenueException, WrongStateException {
+        List<LeadLecture> res = new ArrayList<>();
+        parcourir(low, high, state, (f, pos) -> res.add(materialiser(f, pos)));
+        return res;
+    }
+
+    @Override
+    public AgregatRevenus agregerRevenus(double low, double high, String state)
+            throws WrongOrderForRevenueException, WrongStateException {
+        // Seul le revenu de chaque emplacement est lu (aucune chaîne décodée)
+        AgregatRevenus agregat = new AgregatRevenus();
+        parcourir(low, high, state, (f, pos) -> agregat.ajouter(f.getDouble(pos + OFF_REVENU)));
+        return agregat;
+    }
+
+    @Override
+    public SortedMap<String, AgregatRevenus> histogramme(Regroupement par, double low, double high, String state)
+            throws WrongOrderForRevenueException, WrongStateException {
+        Histogramme histo = new Histogramme(par);
+        if (par == Regroupement.MOIS) {
+            parcourir(low, high, state, (f, pos) -> histo.ajouterDate(f.getLong(pos + OFF_DATE), f.getDouble(pos + OFF_REVENU)));
+            return histo.resultat();
+        }
+        // État / ville : agrégation par référence internée, chaîne décodée une fois par groupe
+        int offset = (par == Regroupement.ETAT) ? OFF_ETAT : OFF_VILLE;
+        Map<Integer, AgregatRevenus> parRef = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            parcourir(low, high, state, (f, pos) ->
+                    parRef.computeIfAbsent(f.getInt(pos + offset), k -> new AgregatRevenus()).ajouter(f.getDouble(pos + OFF_REVENU)));
+            for (Map.Entry<Integer, AgregatRevenus> e : parRef.entrySet()) {
+                histo.fusionnerValeur(lireChaine(e.getKey()), e.getValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lecture impossible dans le stockage mappé", e);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return histo.resultat();
+    }
+
+    // Emplacement d'une ligne retenue par parcourir (fenêtre mappée + position)
+    private interface Visiteur {
+        void visiter(MappedByteBuffer f, int pos);
+    }
+
+    /**
+     * Appelle visiteur pour chaque ligne vivante de revenu dans [low, high] et, si state est renseigné,
+     * de cet état (casse ignorée). Validations de findLeads ; parcours sous verrou de lecture.
+     */
+    private void parcourir(double low, double high, String state, Visiteur visiteur)
+            throws WrongOrderForRevenueException, WrongStateException {
+        LeadModelImpl.validerRecherche(low, high, state);
+
+        lock.readLock().lock();
+        try {
+            // Filtre état résolu en références internées : comparaison d'entiers pendant le parcours
+            Set<Integer> etatsAcceptes = null;
+            if (state != null && !state.isEmpty()) {
+                etatsAcceptes = new HashSet<>();
+                for (Map.Entry<String, Integer> e : internees.entrySet()) {
+                    if (state.equalsIgnoreCase(e.getKey())) etatsAcceptes.add(e.getValue());
+                }
+                if (etatsAcceptes.isEmpty()) return;
+            }
+
+            for (long i = 0; i < lignes; i++) {
+                MappedByteBuffer f = fenetreMappee(i);
+                int pos = positionLigne(i);
+                double r = f.getDouble(pos + OFF_REVENU);
+                if (r < low || r > high) continue;
+                if ((f.getInt(pos + OFF_DRAPEAUX) & SUPPRIME) != 0) continue;
+                if (etatsAcceptes != null && !etatsAcceptes.contains(f.getInt(pos + OFF_ETAT))) continue;
+                visiteur.visiter(f, pos);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<LeadLecture> findLeadsByDate(Calendar from, Calendar to)
+            throws WrongDateFormatException, WrongOrderForDateException {
+        if (from != null && to != null && from.after(to)) {
+            throw new WrongOrderForDateException("La date de début est après la date de fin");
+        }
+        long debut = (from == null) ? Long.MIN_VALUE : from.getTimeInMillis();
+        long fin = (to == null) ? Long.MAX_VALUE : to.getTimeInMillis();
+
+        lock.readLock().lock();
+        try {
+            List<LeadLecture> res = new ArrayList<>();
+            for (long i = 0; i < lignes; i++) {
+                MappedByteBuffer f = fenetreMappee(i);
+                int pos = positionLigne(i);
+                long d = f.getLong(pos + OFF_DATE);
+                if (d == SANS_DATE || d < debut || d > fin) continue;
+                if ((f.getInt(pos + OFF_DRAPEAUX) & SUPPRIME) != 0) continue;
+                res.add(materialiser(f, pos));
+            }
+            return res;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<LeadLecture> findLeadsPage(double low, double high, String state, double apresRevenu, long apresId, int limite)
+            throws WrongOrderForRevenueException, WrongStateException {
+        LeadModelImpl.validerRecherche(low, high, state);
+
+        lock.readLock().lock();
+        try {
+            Set<Integer> etatsAcceptes = null;
+            if (state != null && !state.isEmpty()) {
+                etatsAcceptes = new HashSet<>();
+                for (Map.Entry<String, Integer> e : internees.entrySet()) {
+                    if (state.equalsIgnoreCase(e.getKey())) etatsAcceptes.add(e.getValue());
+                }
+                if (etatsAcceptes.isEmpty()) return new ArrayList<>();
+            }
+
+            // Lignes dans l'ordre d'insertion : balayage avec sélection bornée des `limite` suivants en (revenu, id)
+            SelectionPage page = new SelectionPage(limite, SelectionPage.cleRevenu(apresRevenu), apresId);
+            for (long i = 0; i < lignes; i++) {
+                MappedByteBuffer f = fenetreMappee(i);
+                int pos = positionLigne(i);
+                double r = f.getDouble(pos + OFF_REVENU);
+                if (r < low || r > high) continue;
+                if ((f.getInt(pos + OFF_DRAPEAUX) & SUPPRIME) != 0) continue;
+                if (etatsAcceptes != null && !etatsAcceptes.contains(f.getInt(pos + OFF_ETAT))) continue;
+                page.proposer(SelectionPage.cleRevenu(r), f.getLong(pos + OFF_ID), i);
+            }
+            return materialiser(page.lignesTriees());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<LeadLecture> findLeadsByDatePage(Calendar from, Calendar to, long apresMillis, long apresId, int limite)
+            throws WrongDateFormatException, WrongOrderForDateException {
+        if (from != null && to != null && from.after(to)) {
+            throw new WrongOrderForDateException("La date de début est après la date de fin");
+        }
+        long debut = (from == null) ? Long.MIN_VALUE : from.getTimeInMillis();
+        long fin = (to == null) ? Long.MAX_VALUE : to.getTimeInMillis();
+
+        lock.readLock().lock();
+        try {
+            SelectionPage page = new SelectionPage(limite, apresMillis, apresId);
+            for (long i = 0; i < lignes; i++) {
+                MappedByteBuffer f = fenetreMappee(i);
+                int pos = positionLigne(i);
+                long d = f.getLong(pos + OFF_DATE);
+                if (d == SANS_DATE || d < debut || d > fin) continue;
+                if ((f.getInt(pos + OFF_DRAPEAUX) & SUPPRIME) != 0) continue;
+                page.proposer(d, f.getLong(pos + OFF_ID), i);
+            }
+            return materialiser(page.lignesTriees());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long createLead(Lead lead) throws WrongStateException {
+        LeadModelImpl.verifierCreation(lead);
+
+        lock.writeLock().lock();
+        try {
+            verifierOuvert();
+            return ecrireLigne(lead);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Écriture impossible dans le stockage mappé", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public long[] createLeads(List<Lead> leads, Map<Integer, String> erreurs) {
+        long[] ids = new long[leads.size()];
+        // Un seul passage par le verrou d'écriture pour tout le lot
+        lock.writeLock().lock();
+        try {
+            verifierOuvert();
+            for (int k = 0; k < ids.length; k++) {
+                Lead lead = leads.get(k);
+                try {
+                    LeadModelImpl.verifierCreation(lead);
+                } catch (WrongStateException e) {
+                    ids[k] = -1;
+                    erreurs.put(k, e.getMessage());
+                    continue;
+                }
+                ids[k] = ecrireLigne(lead);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Écriture impossible dans le stockage mappé", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return ids;
+    }
+
+    // Écrit une nouvelle ligne (appelé sous verrou d'écriture) et renvoie l'id attribué
+    private long ecrireLigne(Lead lead) throws IOException {
+        long i = lignes;
+        long id = i + 1;
+        // Chaînes d'abord, puis l'emplacement, puis l'en-tête : une ligne n'est visible
+        // après réouverture qu'une fois entièrement écrite
+        int prenom = ecrireChaine(lead.getFirstName());
+        int nom = ecrireChaine(lead.getLastName());
+        int telephone = ecrireChaine(lead.getPhone());
+        int rue = ecrireChaine(lead.getStreet());
+        int codePostal = ecrireChaine(lead.getPostalCode());
+        int ville = interner(lead.getCity());
+        int pays = interner(lead.getCountry());
+        int entreprise = interner(lead.getCompanyName());
+        int etat = interner(lead.getState());
+
+        MappedByteBuffer f = fenetreLigne(i);
+        int pos = positionLigne(i);
+        f.putLong(pos + OFF_ID, id);
+        f.putDouble(pos + OFF_REVENU, lead.getAnnualRevenue());
+        f.putLong(pos + OFF_DATE, lead.getCreationMillis());
+        f.putInt(pos + OFF_DRAPEAUX, 0);
+        f.putInt(pos + OFF_PRENOM, prenom);
+        f.putInt(pos + OFF_NOM, nom);
+        f.putInt(pos + OFF_TELEPHONE, telephone);
+        f.putInt(pos + OFF_RUE, rue);
+        f.putInt(pos + OFF_CODE_POSTAL, codePostal);
+        f.putInt(pos + OFF_VILLE, ville);
+        f.putInt(pos + OFF_PAYS, pays);
+        f.putInt(pos + OFF_ENTREPRISE, entreprise);
+        f.putInt(pos + OFF_ETAT, etat);
+
+        lignes = i + 1;
+        entete.putLong(ENTETE_FIN_CHAINES, finChaines);
+        entete.putLong(ENTETE_LIGNES, lignes);
+        vivants++;
+        version++;
+        return id;
+    }
+
+    @Override
+    public void deleteLead(Lead template) throws NoSuchLeadException {
+        lock.writeLock().lock();
+        try {
+            verifierOuvert();
+            FiltreSuppression filtre = FiltreSuppression.compiler(template);
+            List<Long> aSupprimer = new ArrayList<>();
+            for (long i = 0; filtre != null && i < lignes; i++) {
+                MappedByteBuffer f = fenetreLigne(i);
+                int pos = positionLigne(i);
+                if ((f.getInt(pos + OFF_DRAPEAUX) & SUPPRIME) != 0) continue;
+                // Pré-filtre nom/prénom avant de reconstruire le Lead complet
+                if (filtre.prenom() != null && !filtre.prenom().equals(lireChaine(f.getInt(pos + OFF_PRENOM)))) continue;
+                if (filtre.nom() != null && !filtre.nom().equals(lireChaine(f.getInt(pos + OFF_NOM)))) continue;
+                if (filtre.accepte(lire(f, pos))) {
+                    aSupprimer.add(i);
+                }
+            }
+            if (aSupprimer.isEmpty()) {
+                throw new NoSuchLeadException("Aucun prospect correspondant trouvé pour suppression");
+            }
+            for (long i : aSupprimer) {
+                fenetreLigne(i).putInt(positionLigne(i) + OFF_DRAPEAUX, SUPPRIME);
+                vivants--;
+            }
+            version++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lecture impossible dans le stockage mappé", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteLeadById(long id) throws NoSuchLeadException {
+        if (deleteLeads(List.of(id)).isEmpty()) {
+            throw new NoSuchLeadException("Aucun prospect avec l'id " + id);
+        }
+    }
+
+    @Override
+    public List<Long> deleteLeads(List<Long> ids) {
+        List<Long> supprimes = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            verifierOuvert();
+            // ligne = id - 1 : accès direct, sans balayage
+            for (Long id : ids) {
+                if (id == null || id < 1 || id > lignes) continue;
+                long i = id - 1;
+                MappedByteBuffer f = fenetreMappee(i);
+                int pos = positionLigne(i);
+                if ((f.getInt(pos + OFF_DRAPEAUX) & SUPPRIME) != 0) continue;
+                f.putInt(pos + OFF_DRAPEAUX, SUPPRIME);
+                vivants--;
+                version++;
+                supprimes.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return supprimes;
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return vivants;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long version() {
+        return version;
+    }
+
+    private Lead lire(MappedByteBuffer f, int pos) throws IOException {
+        Lead l = new Lead();
+        l.setId(f.getLong(pos + OFF_ID));
+        l.setAnnualRevenue(f.getDouble(pos + OFF_REVENU));
+        l.setFirstName(lireChaine(f.getInt(pos + OFF_PRENOM)));
+        l.setLastName(lireChaine(f.getInt(pos + OFF_NOM)));
+        l.setPhone(lireChaine(f.getInt(pos + OFF_TELEPHONE)));
+        l.setStreet(lireChaine(f.getInt(pos + OFF_RUE)));
+        l.setPostalCode(lireChaine(f.getInt(pos + OFF_CODE_POSTAL)));
+        l.setCity(valeursInternees.get(f.getInt(pos + OFF_VILLE)));
+        l.setCountry(valeursInternees.get(f.getInt(pos + OFF_PAYS)));
+        l.setCompanyName(valeursInternees.get(f.getInt(pos + OFF_ENTREPRISE)));
+        l.setState(valeursInternees.get(f.getInt(pos + OFF_ETAT)));
+        l.setCreationMillis(f.getLong(pos + OFF_DATE));
+        return l;
+    }
+
+    // Lead retourné à l'appelant : même format que LeadModelImpl ("Nom, Prénom")
+    private Lead materialiser(MappedByteBuffer f, int pos) {
+        try {
+            Lead l = lire(f, pos);
+            LeadModelImpl.formaterNom(l);
+            return l;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lecture impossible dans le stockage mappé", e);
+        }
+    }
+
+    private List<LeadLecture> materialiser(long[] lignesPage) {
+        List<LeadLecture> res = new ArrayList<>(lignesPage.length);
+        for (long i : lignesPage) {
+            res.add(materialiser(fenetreMappee(i), positionLigne(i)));
+        }
+        return res;
+    }
+
+    private int interner(String valeur) throws IOException {
+        if (valeur == null) return SANS_CHAINE;
+        Integer ref = internees.get(valeur);
+        if (ref == null) {
+            ref = ecrireChaine(valeur);
+            internees.put(valeur, ref);
+            valeursInternees.put(ref, valeur);
+        }
+        return ref;
+    }
+
+    // Ajoute une chaîne en fin de zone ; une entrée ne chevauche jamais deux fenêtres
+    private int ecrireChaine(String valeur) throws IOException {
+        if (valeur == null) return SANS_CHAINE;
+        byte[] octets = valeur.getBytes(StandardCharsets.UTF_8);
+        int taille = (4 + octets.length + 3) & ~3;
+        if (taille > TAILLE_FENETRE_CHAINES) {
+            throw new IOException("Chaîne trop longue pour le stockage mappé (" + octets.length + " octets)");
+        }
+        long position = finChaines;
+        long resteFenetre = TAILLE_FENETRE_CHAINES - (position % TAILLE_FENETRE_CHAINES);
+        if (taille > resteFenetre) {
+            position += resteFenetre;
+        }
+        if ((position >>> 2) > Integer.MAX_VALUE) {
+            throw new IOException("Zone de chaînes pleine");
+        }
+        MappedByteBuffer f = fenetreChaines(position);
+        int pos = (int) (position % TAILLE_FENETRE_CHAINES);
+        f.putInt(pos, octets.length);
+        f.put(pos + 4, octets);
+        finChaines = position + taille;
+        return (int) (position >>> 2);
+    }
+
+    private String lireChaine(int ref) throws IOException {
+        if (ref == SANS_CHAINE) return null;
+        long position = ((long) ref) << 2;
+        MappedByteBuffer f = fenetreChaines(position);
+        int pos = (int) (position % TAILLE_FENETRE_CHAINES);
+        byte[] octets = new byte[f.getInt(pos)];
+        f.get(pos + 4, octets);
+        return new String(octets, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Arrêt propre : force l'en-tête et chaque fenêtre mappée sur disque, puis ferme les deux
+     * fichiers. Les lectures restent possibles sur les fenêtres déjà mappées ; les écritures
+     * sont refusées (IllegalStateException).
+     */
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (ferme) return;
+            ferme = true;
+            for (MappedByteBuffer f : fenetresChaines) {
+                f.force();
+            }
+            for (MappedByteBuffer f : fenetresLignes) {
+                f.force();
+            }
+            // En-tête en dernier : le nombre de lignes ne couvre que des lignes déjà sur disque
+            entete.force();
+            canalChaines.close();
+            canalLignes.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Appelé sous verrou d'écriture
+    private void verifierOuvert() {
+        if (ferme) {
+            throw new IllegalStateException("Stockage mappé fermé");
+        }
+    }
+
+    private static int positionLigne(long ligne) {
+        return (int) (ligne & (LIGNES_PAR_FENETRE - 1)) * TAILLE_LIGNE;
+    }
+
+    // Accès lecteur : la fenêtre d'une ligne < lignes est toujours déjà mappée
+    private MappedByteBuffer fenetreMappee(long ligne) {
+        return fenetresLignes.get((int) (ligne >>> BITS_LIGNES_PAR_FENETRE));
+    }
+
+    /**
+     * Fenêtre contenant la ligne donnée. Une nouvelle fenêtre (qui agrandit le fichier) n'est
+     * mappée que par un écrivain sous verrou d'écriture ou à l'ouverture : les lecteurs ne
+     * consultent que des lignes < lignes, dont la fenêtre existe déjà.
+     */
+    private MappedByteBuffer fenetreLigne(long ligne) throws IOException {
+        int k = (int) (ligne >>> BITS_LIGNES_PAR_FENETRE);
+        while (fenetresLignes.size() <= k) {
+            long debut = TAILLE_ENTETE + fenetresLignes.size() * TAILLE_FENETRE;
+            fenetresLignes.add(canalLignes.map(FileChannel.MapMode.READ_WRITE, debut, TAILLE_FENETRE));
+        }
+        return fenetresLignes.get(k);
+    }
+
+    // Même règle que fenetreLigne pour la zone de chaînes
+    private MappedByteBuffer fenetreChaines(long position) throws IOException {
+        int k = (int) (position / TAILLE_FENETRE_CHAINES);
+        while (fenetresChaines.size() <= k) {
+            long debut = (long) fenetresChaines.size() * TAILLE_FENETRE_CHAINES;
+            fenetresChaines.add(canalChaines.map(FileChannel.MapMode.READ_WRITE, debut, TAILLE_FENETRE_CHAINES));
+        }
+        return fenetresChaines.get(k);
+    }
+}
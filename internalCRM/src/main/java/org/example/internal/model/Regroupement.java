@@ -0,0 +1,33 @@
+package org.example.internal.model;
+
+/**
+ * Critère de regroupement des histogrammes (LeadModel.histogramme).
+ * Le nom est celui attendu dans l'appel Thrift leadHistogram ("state", "city", "month").
+ */
+public enum Regroupement {
+    // État / département, casse ignorée (comme le filtre de findLeads)
+    ETAT("state"),
+    VILLE("city"),
+    // Mois de création "yyyy-MM" (UTC)
+    MOIS("month");
+
+    private final String nom;
+
+    Regroupement(String nom) {
+        this.nom = nom;
+    }
+
+    public String nom() {
+        return nom;
+    }
+
+    // Lance IllegalArgumentException si le nom n'est pas reconnu (casse ignorée)
+    public static Regroupement depuis(String nom) {
+        for (Regroupement r : values()) {
+            if (r.nom.equalsIgnoreCase(nom)) {
+                return r;
+            }
+        }
+        throw new IllegalArgumentException("Regroupement inconnu : " + nom + " (attendu : state, city, month)");
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.internal.model;
+
+import java.util.PriorityQueue;
+
+/**
+ * Sélection d'une page (keyset) pendant un balayage complet, en mémoire bornée.
+ *
+ * Utilisée par les modèles sans index trié (ColumnarLeadModel, MappedLeadModel) :
+ * on garde les `limite` plus petites clés (cle, id) strictement après le curseur,
+ * dans un tas max de taille `limite` ; le balayage reste O(N) mais n'alloue que O(limite).
+ * Les clés sont des long ; un revenu passe par cleRevenu() pour conserver l'ordre de Double.compare.
+ */
+final class SelectionPage {
+    private final int limite;
+    private final long cleApres;
+    private final long idApres;
+    // Éléments {cle, id, ligne}, le plus grand en tête
+    private final PriorityQueue<long[]> tas;
+
+    SelectionPage(int limite, long cleApres, long idApres) {
+        this.limite = Math.max(0, limite);
+        this.cleApres = cleApres;
+        this.idApres = idApres;
+        this.tas = new PriorityQueue<>(Math.max(1, Math.min(this.limite, 1024)), (a, b) -> comparer(b[0], b[1], a[0], a[1]));
+    }
+
+    /**
+     * Clé entière triée comme Double.compare : les bits des négatifs sont inversés
+     * pour que l'ordre des long corresponde à celui des double. -0.0 et 0.0 donnent la même
+     * clé (LeadModelImpl.normaliserRevenu), comme dans l'index revenu de LeadModelImpl.
+     */
+    static long cleRevenu(double revenu) {
+        long bits = Double.doubleToLongBits(LeadModelImpl.normaliserRevenu(revenu));
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    // Propose une ligne ; elle n'est retenue que si elle suit le curseur et fait partie des `limite` premières
+    void proposer(long cle, long id, long ligne) {
+        if (limite == 0 || comparer(cle, id, cleApres, idApres) <= 0) return;
+        if (tas.size() < limite) {
+            tas.add(new long[]{cle, id, ligne});
+            return;
+        }
+        long[] max = tas.peek();
+        if (comparer(cle, id, max[0], max[1]) < 0) {
+            tas.poll();
+            tas.add(new long[]{cle, id, ligne});
+        }
+    }
+
+    // Lignes retenues, dans l'ordre (cle, id) croissant
+    long[] lignesTriees() {
+        long[] lignes = new long[tas.size()];
+        for (int i = lignes.length - 1; i >= 0; i--) {
+            lignes[i] = tas.poll()[2];
+        }
+        return lignes;
+    }
+
+    private static int comparer(long cleA, long idA, long cleB, long idB) {
+        int c = Long.compare(cleA, cleB);
+        return c != 0 ? c : Long.compare(idA, idB);
+    }
+}
@@ -0,0 +1,352 @@
+package org.example.internal.model;
+
+import org.example.internal.model.exception.NoSuchLeadException;
+import org.example.internal.model.exception.WrongDateFormatException;
+import org.example.internal.model.exception.WrongOrderForDateException;
+import org.example.internal.model.exception.WrongOrderForRevenueException;
+import org.example.internal.model.exception.WrongStateException;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Modèle partitionné : N LeadModelImpl indépendants (shards), chacun avec son stockage,
+ * ses index et son générateur d'ids. Deux créations sur des shards différents ne partagent
+ * aucune structure (ni compteur d'ids, ni ConcurrentHashMap, ni skip-list).
+ *
+ * - placement : hachage du nom (du prénom à défaut) ; une suppression par template dont
+ *   le nom est renseigné ne visite donc qu'un shard
+ * - ids entrelacés : le shard s attribue s + 1, s + 1 + N, s + 1 + 2N... ; le shard d'un id
+ *   est (id - 1) mod N, sans table de correspondance ni compteur global
+ * - lectures : chaque shard est interrogé (en parallèle sur le pool ForkJoin commun s'il a
+ *   plus d'un thread), puis les résultats triés sont fusionnés dans l'ordre de LeadModelImpl
+ *   ((revenu, id) ou (date, id)) ; les validations sont faites une fois, avant l'envoi
+ *
+ * Nombre de shards : -Dinternalcrm.model.shards (défaut : nombre de cœurs).
+ */
+public class ShardedLeadModel implements LeadModel {
+    public static final String SHARDS_PROPERTY = "internalcrm.model.shards";
+
+    // Lectures en parallèle seulement si le pool commun a plusieurs threads (sinon aucun gain)
+    private static final boolean PARALLELE = ForkJoinPool.getCommonPoolParallelism() > 1;
+
+    private final LeadModelImpl[] shards;
+
+    public ShardedLeadModel() {
+        this(Integer.getInteger(SHARDS_PROPERTY, Runtime.getRuntime().availableProcessors()));
+    }
+
+    public ShardedLeadModel(int nombreShards) {
+        if (nombreShards < 1) {
+            throw new IllegalArgumentException("Nombre de shards invalide : " + nombreShards);
+        }
+        shards = new LeadModelImpl[nombreShards];
+        for (int s = 0; s < nombreShards; s++) {
+            shards[s] = new LeadModelImpl(s + 1, nombreShards);
+        }
+    }
+
+    public int nombreShards() {
+        return shards.length;
+    }
+
+    // ---------------------------------------------------------------- lectures (fan-out + fusion)
+
+    @Override
+    public List<LeadLecture> findLeads(double low, double high, String state)
+            throws WrongOrderForRevenueException, WrongStateException {
+        LeadModelImpl.validerRecherche(low, high, state);
+        return fusionner(surChaqueShard(s -> shards[s].findLeads(low, high, state)), LeadModelImpl.PAR_REVENU, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Fusion à k voies des flux des shards (chacun trié par (revenu, id)) : un lead en tête par shard,
+     * aucune liste complète. Chaque shard garde son propre instantané jusqu'à close().
+     */
+    @Override
+    public FluxLeads findLeadsFlux(double low, double high, String state)
+            throws WrongOrderForRevenueException, WrongStateException {
+        LeadModelImpl.validerRecherche(low, high, state);
+        List<FluxLeads> parties = new ArrayList<>(shards.length);
+        int total = 0;
+        for (LeadModelImpl shard : shards) {
+            FluxLeads flux = shard.findLeadsFlux(low, high, state);
+            parties.add(flux);
+            total += flux.nombre();
+        }
+        int nombre = total;
+        return new FluxLeads() {
+            @Override
+            public int nombre() {
+                return nombre;
+            }
+
+            @Override
+            public Iterator<LeadLecture> iterator() {
+                // Tête de chaque shard : {lead courant, itérateur du shard}
+                PriorityQueue<Map.Entry<LeadLecture, Iterator<LeadLecture>>> tetes =
+                        new PriorityQueue<>(parties.size(), (a, b) -> LeadModelImpl.PAR_REVENU.compare(a.getKey(), b.getKey()));
+                for (FluxLeads partie : parties) {
+                    Iterator<LeadLecture> it = partie.iterator();
+                    if (it.hasNext()) tetes.add(new AbstractMap.SimpleEntry<>(it.next(), it));
+                }
+                return new Iterator<LeadLecture>() {
+                    @Override
+                    public boolean hasNext() {
+                        return !tetes.isEmpty();
+                    }
+
+                    @Override
+                    public LeadLecture next() {
+                        Map.Entry<LeadLecture, Iterator<LeadLecture>> tete = tetes.poll();
+                        if (tete == null) throw new NoSuchElementException();
+                        Iterator<LeadLecture> it = tete.getValue();
+                        if (it.hasNext()) tetes.add(new AbstractMap.SimpleEntry<>(it.next(), it));
+                        return tete.getKey();
+                    }
+                };
+            }
+
+            @Override
+            public void close() {
+                for (FluxLeads partie : parties) {
+                    partie.close();
+                }
+            }
+        };
+    }
+
+    @Override
+    public List<LeadLecture> findLeadsByDate(Calendar from, Calendar to)
+            throws WrongDateFormatException, WrongOrderForDateException {
+        LeadModelImpl.validerDates(from, to);
+        return fusionner(surChaqueShard(s -> shards[s].findLeadsByDate(from, to)), LeadModelImpl.PAR_DATE, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int compterParDate(Calendar from, Calendar to)
+            throws WrongDateFormatException, WrongOrderForDateException {
+        LeadModelImpl.validerDates(from, to);
+        int total = 0;
+        for (int n : surChaqueShard(s -> shards[s].compterParDate(from, to))) {
+            total += n;
+        }
+        return total;
+    }
+
+    @Override
+    public List<LeadLecture> findLeadsPage(double low, double high, String state, double apresRevenu, long apresId, int limite)
+            throws WrongOrderForRevenueException, WrongStateException {
+        LeadModelImpl.validerRecherche(low, high, state);
+        // Chaque shard renvoie ses `limite` premiers ; les ids étant uniques, le curseur vaut pour tous
+        return fusionner(surChaqueShard(s -> shards[s].findLeadsPage(low, high, state, apresRevenu, apresId, limite)),
+                LeadModelImpl.PAR_REVENU, limite);
+    }
+
+    @Override
+    public List<LeadLecture> findLeadsByDatePage(Calendar from, Calendar to, long apresMillis, long apresId, int limite)
+            throws WrongDateFormatException, WrongOrderForDateException {
+        LeadModelImpl.validerDates(from, to);
+        return fusionner(surChaqueShard(s -> shards[s].findLeadsByDatePage(from, to, apresMillis, apresId, limite)),
+                LeadModelImpl.PAR_DATE, limite);
+    }
+
+    @Override
+    public AgregatRevenus agregerRevenus(double low, double high, String state)
+            throws WrongOrderForRevenueException, WrongStateException {
+        LeadModelImpl.validerRecherche(low, high, state);
+        AgregatRevenus total = new AgregatRevenus();
+        for (AgregatRevenus partiel : surChaqueShard(s -> shards[s].agregerRevenus(low, high, state))) {
+            total.fusionner(partiel);
+        }
+        return total;
+    }
+
+    @Override
+    public SortedMap<String, AgregatRevenus> histogramme(Regroupement par, double low, double high, String state)
+            throws WrongOrderForRevenueException, WrongStateException {
+        LeadModelImpl.validerRecherche(low, high, state);
+        return Histogramme.fusionner(par, surChaqueShard(s -> shards[s].histogramme(par, low, high, state)));
+    }
+
+    @Override
+    public int size() {
+        int n = 0;
+        for (LeadModelImpl shard : shards) {
+            n += shard.size();
+        }
+        return n;
+    }
+
+    // Somme des versions des shards : chacune ne fait que croître, la somme change à chaque écriture
+    @Override
+    public long version() {
+        long v = 0;
+        for (LeadModelImpl shard : shards) {
+            v += shard.version();
+        }
+        return v;
+    }
+
+    // ---------------------------------------------------------------- écritures (routées)
+
+    @Override
+    public long createLead(Lead lead) throws WrongStateException {
+        return shardPourLead(lead).createLead(lead);
+    }
+
+    @Override
+    public long[] createLeads(List<Lead> leads, Map<Integer, String> erreurs) {
+        // Lot découpé par shard (positions d'origine conservées), chaque sous-lot inséré en parallèle
+        List<List<Integer>> positions = new ArrayList<>(shards.length);
+        for (int s = 0; s < shards.length; s++) {
+            positions.add(new ArrayList<>());
+        }
+        for (int i = 0; i < leads.size(); i++) {
+            positions.get(indiceShard(leads.get(i))).add(i);
+        }
+        long[] ids = new long[leads.size()];
+        List<Map<Integer, String>> erreursParShard = surChaqueShard(s -> {
+            List<Integer> mesPositions = positions.get(s);
+            List<Lead> sousLot = new ArrayList<>(mesPositions.size());
+            for (int i : mesPositions) {
+                sousLot.add(leads.get(i));
+            }
+            Map<Integer, String> mesErreurs = new HashMap<>();
+            long[] mesIds = shards[s].createLeads(sousLot, mesErreurs);
+            for (int k = 0; k < mesIds.length; k++) {
+                ids[mesPositions.get(k)] = mesIds[k];
+            }
+            return mesErreurs;
+        });
+        for (int s = 0; s < shards.length; s++) {
+            for (Map.Entry<Integer, String> e : erreursParShard.get(s).entrySet()) {
+                erreurs.put(positions.get(s).get(e.getKey()), e.getValue());
+            }
+        }
+        return ids;
+    }
+
+    @Override
+    public void deleteLead(Lead template) throws NoSuchLeadException {
+        FiltreSuppression filtre = FiltreSuppression.compiler(template);
+        if (filtre == null) {
+            throw new NoSuchLeadException("Aucun prospect correspondant trouvé pour suppression");
+        }
+        if (filtre.nom() != null) {
+            // Les leads de ce nom sont tous dans le même shard
+            shards[indiceShard(filtre.nom())].supprimerCorrespondants(template);
+            return;
+        }
+        int supprimes = 0;
+        for (int n : surChaqueShard(s -> {
+            try {
+                return shards[s].supprimerCorrespondants(template).size();
+            } catch (NoSuchLeadException e) {
+                return 0;
+            }
+        })) {
+            supprimes += n;
+        }
+        if (supprimes == 0) {
+            throw new NoSuchLeadException("Aucun prospect correspondant trouvé pour suppression");
+        }
+    }
+
+    @Override
+    public void deleteLeadById(long id) throws NoSuchLeadException {
+        if (!shardPourId(id).supprimerParId(id)) {
+            throw new NoSuchLeadException("Aucun prospect avec l'id " + id);
+        }
+    }
+
+    @Override
+    public List<Long> deleteLeads(List<Long> ids) {
+        List<Long> supprimes = new ArrayList<>();
+        for (Long id : ids) {
+            if (id != null && shardPourId(id).supprimerParId(id)) {
+                supprimes.add(id);
+            }
+        }
+        return supprimes;
+    }
+
+    // ---------------------------------------------------------------- routage
+
+    private LeadModelImpl shardPourLead(Lead lead) {
+        return shards[indiceShard(lead)];
+    }
+
+    // Un lead null est envoyé au shard 0, qui le refusera (mêmes règles que LeadModelImpl)
+    private int indiceShard(Lead lead) {
+        if (lead == null) return 0;
+        return indiceShard(lead.getLastName() != null ? lead.getLastName() : lead.getFirstName());
+    }
+
+    private int indiceShard(String cle) {
+        if (cle == null) return 0;
+        int h = cle.hashCode();
+        return ((h ^ (h >>> 16)) & 0x7fffffff) % shards.length;
+    }
+
+    private LeadModelImpl shardPourId(long id) {
+        return shards[(int) Math.floorMod(id - 1, (long) shards.length)];
+    }
+
+    // ---------------------------------------------------------------- fan-out
+
+    // Requête sur le shard d'indice s
+    private interface RequeteShard<T> {
+        T executer(int s) throws Exception;
+    }
+
+    /**
+     * Exécute la requête sur chaque shard et renvoie les résultats dans l'ordre des shards.
+     * Les shards 1..N-1 partent sur le pool ForkJoin commun, le shard 0 est traité par l'appelant.
+     * Les validations ayant été faites avant, une exception contrôlée ici est une erreur interne.
+     */
+    private <T> List<T> surChaqueShard(RequeteShard<T> requete) {
+        List<T> res = new ArrayList<>(shards.length);
+        if (!PARALLELE || shards.length == 1) {
+            for (int s = 0; s < shards.length; s++) {
+                res.add(executer(requete, s));
+            }
+            return res;
+        }
+        List<ForkJoinTask<T>> taches = new ArrayList<>(shards.length - 1);
+        for (int s = 1; s < shards.length; s++) {
+            int indice = s;
+            taches.add(ForkJoinPool.commonPool().submit(() -> executer(requete, indice)));
+        }
+        res.add(executer(requete, 0));
+        for (ForkJoinTask<T> tache : taches) {
+            res.add(tache.join());
+        }
+        return res;
+    }
+
+    private static <T> T executer(RequeteShard<T> requete, int s) {
+        try {
+            return requete.executer(s);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Erreur inattendue dans un shard", e);
+        }
+    }
+
+    // Fusion de listes déjà triées (TimSort fusionne les séquences croissantes), tronquée à limite
+    private static List<LeadLecture> fusionner(List<List<LeadLecture>> parties, Comparator<LeadLecture> ordre, int limite) {
+        int total = 0;
+        for (List<LeadLecture> partie : parties) {
+            total += partie.size();
+        }
+        List<LeadLecture> res = new ArrayList<>(total);
+        for (List<LeadLecture> partie : parties) {
+            res.addAll(partie);
+        }
+        res.sort(ordre);
+        return res.size() > limite ? new ArrayList<>(res.subList(0, limite)) : res;
+    }
+}
@@ -0,0 +1,216 @@
+package org.example.internal.service;
+
+import org.apache.thrift.TByteArrayOutputStream;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.transport.TIOStreamTransport;
+import org.apache.thrift.transport.TMemoryInputTransport;
+import org.example.internal.utils.ThriftConfig;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Servlet Thrift en E/S non bloquantes (Servlet 3.1) : remplace TServlet.
+ *
+ * - requête : corps lu par un ReadListener au fil des paquets reçus, aucun thread du conteneur
+ *   n'attend un client lent ; l'appel Thrift est traité quand le corps est complet
+ * - réponse : encodée en mémoire puis écrite par un WriteListener dès que la socket l'accepte,
+ *   avec Content-Length (la connexion reste réutilisable : keep-alive)
+ * - gzip : corps de requête "Content-Encoding: gzip" décompressé ; réponse compressée si le
+ *   client envoie "Accept-Encoding: gzip" et qu'elle dépasse ThriftConfig.gzipMin() octets
+ * - POST uniquement (GET : 405, réponse par défaut de HttpServlet)
+ *
+ * La réponse est entièrement en mémoire avant l'envoi (nécessaire à l'écriture non bloquante
+ * et à la compression) : le budget d'octets du contrôle d'admission borne ce total.
+ * Conteneur ou filtre sans support asynchrone : même traitement en E/S bloquantes.
+ */
+public class AsyncThriftServlet extends HttpServlet {
+
+    // HttpServlet est Serializable ; le conteneur ne sérialise pas cette servlet (processeur non sérialisable)
+    private static final long serialVersionUID = 1L;
+
+    private static final String CONTENT_TYPE = "application/x-thrift";
+    private static final int MORCEAU = 64 * 1024;
+
+    private final transient TProcessor processor;
+    private final transient TProtocolFactory protocolFactory;
+    private final int gzipMin;
+
+    public AsyncThriftServlet(TProcessor processor, TProtocolFactory protocolFactory) {
+        this.processor = processor;
+        this.protocolFactory = protocolFactory;
+        this.gzipMin = ThriftConfig.gzipMin();
+    }
+
+    @Override
+    protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        if (!req.isAsyncSupported()) {
+            try (InputStream in = req.getInputStream()) {
+                Reponse reponse = traiter(req, in.readAllBytes(), req.getContentLength());
+                preparer(resp, reponse);
+                resp.getOutputStream().write(reponse.octets, 0, reponse.longueur);
+            } catch (TException e) {
+                erreur(resp, e);
+            }
+            return;
+        }
+        AsyncContext async = req.startAsync();
+        async.setTimeout(0); // pas de délai côté serveur : le client a son propre timeout de lecture
+        ServletInputStream in = req.getInputStream();
+        in.setReadListener(new Lecture(async, in, req, resp));
+    }
+
+    // ---------------------------------------------------------------- lecture non bloquante
+
+    private final class Lecture implements ReadListener {
+        private final AsyncContext async;
+        private final ServletInputStream in;
+        private final HttpServletRequest req;
+        private final HttpServletResponse resp;
+        private final TByteArrayOutputStream corps;
+        private final byte[] paquet = new byte[8192];
+
+        Lecture(AsyncContext async, ServletInputStream in, HttpServletRequest req, HttpServletResponse resp) {
+            this.async = async;
+            this.in = in;
+            this.req = req;
+            this.resp = resp;
+            this.corps = new TByteArrayOutputStream(Math.max(32, req.getContentLength()));
+        }
+
+        @Override
+        public void onDataAvailable() throws IOException {
+            int n;
+            while (in.isReady() && (n = in.read(paquet)) != -1) {
+                corps.write(paquet, 0, n);
+            }
+        }
+
+        @Override
+        public void onAllDataRead() throws IOException {
+            Reponse reponse;
+            try {
+                reponse = traiter(req, corps.get(), corps.len());
+            } catch (TException e) {
+                erreur(resp, e);
+                async.complete();
+                return;
+            }
+            preparer(resp, reponse);
+            ServletOutputStream out = resp.getOutputStream();
+            out.setWriteListener(new Ecriture(async, out, reponse));
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            System.err.println("[AsyncThriftServlet] Lecture de la requête interrompue : " + t);
+            async.complete();
+        }
+    }
+
+    // ---------------------------------------------------------------- écriture non bloquante
+
+    private static final class Ecriture implements WriteListener {
+        private final AsyncContext async;
+        private final ServletOutputStream out;
+        private final Reponse reponse;
+        private int position;
+
+        Ecriture(AsyncContext async, ServletOutputStream out, Reponse reponse) {
+            this.async = async;
+            this.out = out;
+            this.reponse = reponse;
+        }
+
+        @Override
+        public void onWritePossible() throws IOException {
+            while (out.isReady()) {
+                if (position == reponse.longueur) {
+                    async.complete();
+                    return;
+                }
+                int n = Math.min(MORCEAU, reponse.longueur - position);
+                out.write(reponse.octets, position, n);
+                position += n;
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            System.err.println("[AsyncThriftServlet] Envoi de la réponse interrompu : " + t);
+            async.complete();
+        }
+    }
+
+    // ---------------------------------------------------------------- traitement
+
+    private static final class Reponse {
+        final byte[] octets;
+        final int longueur;
+        final boolean gzip;
+
+        Reponse(byte[] octets, int longueur, boolean gzip) {
+            this.octets = octets;
+            this.longueur = longueur;
+            this.gzip = gzip;
+        }
+    }
+
+    // Décode le corps (gzip éventuel), exécute l'appel Thrift et encode la réponse
+    private Reponse traiter(HttpServletRequest req, byte[] corps, int longueur) throws TException, IOException {
+        if ("gzip".equalsIgnoreCase(req.getHeader("Content-Encoding"))) {
+            try (InputStream gz = new GZIPInputStream(new ByteArrayInputStream(corps, 0, Math.max(0, longueur)))) {
+                corps = gz.readAllBytes();
+            }
+            longueur = corps.length;
+        } else if (longueur < 0) {
+            longueur = corps.length;
+        }
+
+        TByteArrayOutputStream sortie = new TByteArrayOutputStream(1024);
+        processor.process(protocolFactory.getProtocol(new TMemoryInputTransport(corps, 0, longueur)),
+                protocolFactory.getProtocol(new TIOStreamTransport(sortie)));
+
+        if (gzipMin <= 0 || sortie.len() < gzipMin || !accepteGzip(req)) {
+            return new Reponse(sortie.get(), sortie.len(), false);
+        }
+        TByteArrayOutputStream compresse = new TByteArrayOutputStream(sortie.len() / 4 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(compresse, 8192)) {
+            gz.write(sortie.get(), 0, sortie.len());
+        }
+        return new Reponse(compresse.get(), compresse.len(), true);
+    }
+
+    private static boolean accepteGzip(HttpServletRequest req) {
+        String accepte = req.getHeader("Accept-Encoding");
+        return accepte != null && accepte.toLowerCase().contains("gzip");
+    }
+
+    private static void preparer(HttpServletResponse resp, Reponse reponse) {
+        resp.setContentType(CONTENT_TYPE);
+        resp.setContentLength(reponse.longueur);
+        if (reponse.gzip) {
+            resp.setHeader("Content-Encoding", "gzip");
+        }
+        resp.setHeader("Vary", "Accept-Encoding");
+    }
+
+    // Message illisible ou erreur de transport : pas de réponse Thrift possible
+    private static void erreur(HttpServletResponse resp, TException e) throws IOException {
+        System.err.println("[AsyncThriftServlet] Erreur Thrift : " + e);
+        resp.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+    }
+}
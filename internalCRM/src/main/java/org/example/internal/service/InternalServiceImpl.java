@@ -1,13 +1,23 @@
 package org.example.internal.service;
 
+import org.example.internal.InternalBatchResult;
 import org.example.internal.InternalCRM;
+import org.example.internal.InternalLeadBucket;
 import org.example.internal.InternalLeadDTO;
+import org.example.internal.InternalLeadPage;
+import org.example.internal.InternalRevenueStats;
+import org.example.internal.model.AgregatRevenus;
 import org.example.internal.model.Lead;
+import org.example.internal.model.LeadLecture;
 import org.example.internal.model.LeadModel;
 import org.example.internal.model.LeadModelFactory;
+import org.example.internal.model.Regroupement;
 import org.example.internal.utils.ConverterUtils;
+import org.example.internal.utils.PageToken;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service Thrift (implémentation) pour InternalCRM.
@@ -32,7 +42,7 @@ public class InternalServiceImpl implements InternalCRM.Iface {
     public List<InternalLeadDTO> findLeads(double lowAnnualRevenue, double highAnnualRevenue, String state)
             throws org.example.internal.ThriftWrongOrderForRevenueException, org.example.internal.ThriftWrongStateException {
         try {
-            List<Lead> leads = model.findLeads(lowAnnualRevenue, highAnnualRevenue, state);
+            List<LeadLecture> leads = model.findLeads(lowAnnualRevenue, highAnnualRevenue, state);
             return ConverterUtils.toDtoList(leads);
         } catch (org.example.internal.model.exception.WrongOrderForRevenueException e) {
             throw new org.example.internal.ThriftWrongOrderForRevenueException(e.getMessage());
@@ -59,7 +69,7 @@ public class InternalServiceImpl implements InternalCRM.Iface {
                 throw new org.example.internal.ThriftWrongDateFormatException("Format de date invalide : " + endDate);
             }
 
-            List<Lead> leads = model.findLeadsByDate(from, to);
+            List<LeadLecture> leads = model.findLeadsByDate(from, to);
             return ConverterUtils.toDtoList(leads);
         } catch (org.example.internal.model.exception.WrongDateFormatException e) {
             throw new org.example.internal.ThriftWrongDateFormatException(e.getMessage());
@@ -68,6 +78,67 @@ public class InternalServiceImpl implements InternalCRM.Iface {
         }
     }
 
+    /**
+     * findLeadsPage : une page de findLeads (ordre revenu, id) à partir du jeton de la page précédente.
+     * Errors : mêmes exceptions que findLeads + ThriftInvalidPageTokenException (jeton illisible)
+     */
+    @Override
+    public InternalLeadPage findLeadsPage(double lowAnnualRevenue, double highAnnualRevenue, String state,
+                                          int pageSize, String pageToken)
+            throws org.example.internal.ThriftWrongOrderForRevenueException, org.example.internal.ThriftWrongStateException,
+                   org.example.internal.ThriftInvalidPageTokenException {
+        int taille = PageToken.taillePage(pageSize);
+        long[] curseur;
+        try {
+            curseur = PageToken.decoder(pageToken, PageToken.REVENU);
+        } catch (IllegalArgumentException e) {
+            throw new org.example.internal.ThriftInvalidPageTokenException(e.getMessage());
+        }
+        try {
+            // Une ligne de plus que la page : sa présence indique qu'il reste des résultats
+            List<LeadLecture> leads = model.findLeadsPage(lowAnnualRevenue, highAnnualRevenue, state,
+                    Double.longBitsToDouble(curseur[0]), curseur[1], taille + 1);
+            return PageToken.page(leads, taille, PageToken.REVENU);
+        } catch (org.example.internal.model.exception.WrongOrderForRevenueException e) {
+            throw new org.example.internal.ThriftWrongOrderForRevenueException(e.getMessage());
+        } catch (org.example.internal.model.exception.WrongStateException e) {
+            throw new org.example.internal.ThriftWrongStateException(e.getMessage());
+        }
+    }
+
+    /**
+     * findLeadsByDatePage : une page de findLeadsByDate (ordre date de création, id).
+     * Errors : mêmes exceptions que findLeadsByDate + ThriftInvalidPageTokenException
+     */
+    @Override
+    public InternalLeadPage findLeadsByDatePage(String startDate, String endDate, int pageSize, String pageToken)
+            throws org.example.internal.ThriftWrongDateFormatException, org.example.internal.ThriftWrongOrderForDateException,
+                   org.example.internal.ThriftInvalidPageTokenException {
+        java.util.Calendar from = ConverterUtils.isoStringToCalendar(startDate);
+        java.util.Calendar to = ConverterUtils.isoStringToCalendar(endDate);
+        if (startDate != null && from == null) {
+            throw new org.example.internal.ThriftWrongDateFormatException("Format de date invalide : " + startDate);
+        }
+        if (endDate != null && to == null) {
+            throw new org.example.internal.ThriftWrongDateFormatException("Format de date invalide : " + endDate);
+        }
+        int taille = PageToken.taillePage(pageSize);
+        long[] curseur;
+        try {
+            curseur = PageToken.decoder(pageToken, PageToken.DATE);
+        } catch (IllegalArgumentException e) {
+            throw new org.example.internal.ThriftInvalidPageTokenException(e.getMessage());
+        }
+        try {
+            List<LeadLecture> leads = model.findLeadsByDatePage(from, to, curseur[0], curseur[1], taille + 1);
+            return PageToken.page(leads, taille, PageToken.DATE);
+        } catch (org.example.internal.model.exception.WrongDateFormatException e) {
+            throw new org.example.internal.ThriftWrongDateFormatException(e.getMessage());
+        } catch (org.example.internal.model.exception.WrongOrderForDateException e) {
+            throw new org.example.internal.ThriftWrongOrderForDateException(e.getMessage());
+        }
+    }
+
     /**
      * createLead : convertit le DTO en Lead et demande au modèle de le créer.
      * Retour : id généré (i64)
@@ -97,6 +168,93 @@ public class InternalServiceImpl implements InternalCRM.Iface {
         }
     }
 
+    /**
+     * deleteLeadById : supprime le prospect d'id donné (id renvoyé dans InternalLeadDTO).
+     */
+    @Override
+    public void deleteLeadById(long id) throws org.example.internal.ThriftNoSuchLeadException {
+        try {
+            model.deleteLeadById(id);
+        } catch (org.example.internal.model.exception.NoSuchLeadException e) {
+            throw new org.example.internal.ThriftNoSuchLeadException(e.getMessage());
+        }
+    }
+
+    /**
+     * createLeads : création en lot, un seul aller-retour réseau.
+     * Retour : ids alignés sur la liste reçue (-1 pour un élément refusé) + erreurs par position.
+     */
+    @Override
+    public InternalBatchResult createLeads(List<InternalLeadDTO> leads) {
+        Map<Integer, String> erreurs = new HashMap<>();
+        long[] ids = model.createLeads(ConverterUtils.toModelList(leads), erreurs);
+        return ConverterUtils.toCreationResult(ids, erreurs);
+    }
+
+    /**
+     * deleteLeads : suppression en lot par id (accès direct, sans balayage par template).
+     * Retour : ids supprimés + une erreur pour chaque id introuvable.
+     */
+    @Override
+    public InternalBatchResult deleteLeads(List<Long> ids) {
+        return ConverterUtils.toDeletionResult(ids, model.deleteLeads(ids));
+    }
+
+    /**
+     * countLeads : nombre de prospects que renverrait findLeads (calculé sur les index, sans DTO).
+     * Errors : mêmes exceptions que findLeads
+     */
+    @Override
+    public long countLeads(double lowAnnualRevenue, double highAnnualRevenue, String state)
+            throws org.example.internal.ThriftWrongOrderForRevenueException, org.example.internal.ThriftWrongStateException {
+        return agregerRevenus(lowAnnualRevenue, highAnnualRevenue, state).getNombre();
+    }
+
+    /**
+     * revenueStats : nombre, somme, min, max et moyenne des revenus des prospects de findLeads.
+     * Errors : mêmes exceptions que findLeads
+     */
+    @Override
+    public InternalRevenueStats revenueStats(double lowAnnualRevenue, double highAnnualRevenue, String state)
+            throws org.example.internal.ThriftWrongOrderForRevenueException, org.example.internal.ThriftWrongStateException {
+        return ConverterUtils.toRevenueStats(agregerRevenus(lowAnnualRevenue, highAnnualRevenue, state));
+    }
+
+    /**
+     * leadHistogram : nombre et somme des revenus par état, ville ou mois de création.
+     * Errors : mêmes exceptions que findLeads + ThriftInvalidGroupByException (critère inconnu)
+     */
+    @Override
+    public List<InternalLeadBucket> leadHistogram(String groupBy, double lowAnnualRevenue, double highAnnualRevenue,
+                                                  String state)
+            throws org.example.internal.ThriftWrongOrderForRevenueException, org.example.internal.ThriftWrongStateException,
+                   org.example.internal.ThriftInvalidGroupByException {
+        Regroupement par;
+        try {
+            par = Regroupement.depuis(groupBy);
+        } catch (IllegalArgumentException e) {
+            throw new org.example.internal.ThriftInvalidGroupByException(e.getMessage());
+        }
+        try {
+            return ConverterUtils.toBuckets(model.histogramme(par, lowAnnualRevenue, highAnnualRevenue, state));
+        } catch (org.example.internal.model.exception.WrongOrderForRevenueException e) {
+            throw new org.example.internal.ThriftWrongOrderForRevenueException(e.getMessage());
+        } catch (org.example.internal.model.exception.WrongStateException e) {
+            throw new org.example.internal.ThriftWrongStateException(e.getMessage());
+        }
+    }
+
+    private AgregatRevenus agregerRevenus(double low, double high, String state)
+            throws org.example.internal.ThriftWrongOrderForRevenueException, org.example.internal.ThriftWrongStateException {
+        try {
+            return model.agregerRevenus(low, high, state);
+        } catch (org.example.internal.model.exception.WrongOrderForRevenueException e) {
+            throw new org.example.internal.ThriftWrongOrderForRevenueException(e.getMessage());
+        } catch (org.example.internal.model.exception.WrongStateException e) {
+            throw new org.example.internal.ThriftWrongStateException(e.getMessage());
+        }
+    }
+
     // Compare deux leads sur tous les champs sauf l'id
     private boolean equalsWithoutId(Lead a, Lead b) {
         if (a == null || b == null) return false;
@@ -12,6 +12,8 @@ import java.util.Map;
 /**
  * Template utilitaire pour exposer un service Thrift via une servlet HTTP.
  * Usage : étendre cette classe ou l'utiliser comme base pour construire la servlet.
+ * POST uniquement (un appel Thrift a toujours un corps) : GET reçoit la réponse 405 de HttpServlet.
+ * Voir AsyncThriftServlet pour la variante non bloquante avec gzip.
  */
 public class ThriftHttpServletTemplate extends HttpServlet {
     private final TServlet thriftServlet;
@@ -26,10 +28,4 @@ public class ThriftHttpServletTemplate extends HttpServlet {
         // Délégué à la servlet Thrift
         thriftServlet.service(req, resp);
     }
-
-    @Override
-    protected void doGet(javax.servlet.http.HttpServletRequest req, javax.servlet.http.HttpServletResponse resp)
-            throws javax.servlet.ServletException, java.io.IOException {
-        doPost(req, resp);
-    }
 }
@@ -1,30 +1,36 @@
 package org.example.internal.service;
 
-import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.TProcessor;
 import org.apache.thrift.protocol.TProtocolFactory;
-import org.apache.thrift.server.TServlet;
-import org.apache.thrift.transport.TTransportException;
-import org.example.internal.InternalCRM;
+import org.example.internal.admission.AdmissionProcessor;
+import org.example.internal.cache.CachingProcessor;
+import org.example.internal.utils.ThriftConfig;
 
 import javax.servlet.annotation.WebServlet;
 
 /**
  * Servlet Thrift pour InternalCRM (exposée sous /thrift/internalcrm).
- * Elle utilise directement TServlet. Une alternative est d'utiliser
- * `ThriftHttpServletTemplate` pour une intégration plus contrôlée.
+ * Elle s'appuie sur AsyncThriftServlet (E/S non bloquantes, gzip, keep-alive). Une alternative
+ * est d'utiliser `ThriftHttpServletTemplate` (TServlet, E/S bloquantes).
+ * Le protocole suit ThriftConfig (internalcrm.thrift.protocol) ; le transport est HTTP.
  */
-@WebServlet(name = "InternalCRMThrift", urlPatterns = {"/thrift/internalcrm"})
-public class ThriftInternalServiceServlet extends TServlet {
+@WebServlet(name = "InternalCRMThrift", urlPatterns = {"/thrift/internalcrm"}, asyncSupported = true)
+public class ThriftInternalServiceServlet extends AsyncThriftServlet {
+
+    private static final long serialVersionUID = 1L;
 
     public ThriftInternalServiceServlet() {
         super(createProcessor(), createProtocolFactory());
     }
 
-    private static InternalCRM.Processor<InternalServiceImpl> createProcessor() {
-        return new InternalCRM.Processor<>(new InternalServiceImpl());
+    // findLeads servi depuis le cache de réponses encodées si activé (voir CachingProcessor),
+    // derrière le contrôle d'admission (requêtes / octets en cours, voir AdmissionControl)
+    private static TProcessor createProcessor() {
+        TProcessor processor = CachingProcessor.creer("servlet", new InternalServiceImpl(), createProtocolFactory());
+        return AdmissionProcessor.creer("servlet", processor);
     }
 
     private static TProtocolFactory createProtocolFactory() {
-        return new TBinaryProtocol.Factory();
+        return ThriftConfig.protocolFactory();
     }
 }
@@ -0,0 +1,147 @@
+package org.example.internal.services;
+
+import org.apache.thrift.TMultiplexedProcessor;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TMessage;
+import org.example.internal.utils.MessageDejaLu;
+import org.example.internal.utils.ThriftConfig;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Services Thrift multiplexés du serveur (TMultiplexedProcessor) : "query", "bulk" et "admin"
+ * exposent tous l'interface InternalCRM, chacun sur son propre pool de threads. Le nom du service
+ * choisit le pool : des imports en lot (manage) n'occupent jamais les threads des findLeads
+ * interactifs (VirtualCRM).
+ *
+ * - query : -Dinternalcrm.services.queryThreads (défaut : 2 x nombre de cœurs, minimum 4)
+ * - bulk  : -Dinternalcrm.services.bulkThreads  (défaut : nombre de cœurs / 4, minimum 1)
+ * - admin : -Dinternalcrm.services.adminThreads (défaut 2)
+ * - file de chaque pool bornée : -Dinternalcrm.services.queueSize appels en attente (défaut 64) ;
+ *   au-delà, réponse ThriftServerBusyException immédiate (voir ServiceProcessor)
+ *
+ * Le contrôle d'admission (AdmissionProcessor) est placé devant le processeur multiplexé : une
+ * requête refusée n'entre jamais dans une file, et maxConcurrent compte aussi les appels en attente.
+ *
+ * Client multiplexé (TMultiplexedProtocol, voir ThriftConfig.protocole(transport, service)) :
+ * le service est celui du nom reçu. Client non multiplexé (messages sans "service:") : le
+ * service est déduit de la méthode (serviceParDefaut), les anciens clients restent isolés.
+ */
+public class MultiplexedServices {
+
+    public static final String QUERY_THREADS_PROPERTY = "internalcrm.services.queryThreads";
+    public static final String BULK_THREADS_PROPERTY = "internalcrm.services.bulkThreads";
+    public static final String ADMIN_THREADS_PROPERTY = "internalcrm.services.adminThreads";
+    public static final String QUEUE_SIZE_PROPERTY = "internalcrm.services.queueSize";
+    public static final int DEFAULT_QUEUE_SIZE = 64;
+
+    // Lectures (interactives ou non) ; createLeads / deleteLeads : lots ; le reste : admin
+    private static final Set<String> METHODES_QUERY = Set.of("findLeads", "findLeadsByDate", "findLeadsPage",
+            "findLeadsByDatePage", "countLeads", "revenueStats", "leadHistogram");
+    private static final Set<String> METHODES_BULK = Set.of("createLeads", "deleteLeads");
+
+    private final int threadsQuery;
+    private final int threadsBulk;
+    private final int threadsAdmin;
+    private final int capaciteFile;
+    private final ThreadPoolExecutor poolQuery;
+    private final ThreadPoolExecutor poolBulk;
+    private final ThreadPoolExecutor poolAdmin;
+
+    public MultiplexedServices(int threadsQuery, int threadsBulk, int threadsAdmin) {
+        this(threadsQuery, threadsBulk, threadsAdmin, DEFAULT_QUEUE_SIZE);
+    }
+
+    public MultiplexedServices(int threadsQuery, int threadsBulk, int threadsAdmin, int capaciteFile) {
+        this.threadsQuery = Math.max(1, threadsQuery);
+        this.threadsBulk = Math.max(1, threadsBulk);
+        this.threadsAdmin = Math.max(1, threadsAdmin);
+        this.capaciteFile = Math.max(1, capaciteFile);
+        this.poolQuery = pool(ThriftConfig.SERVICE_QUERY, this.threadsQuery, this.capaciteFile);
+        this.poolBulk = pool(ThriftConfig.SERVICE_BULK, this.threadsBulk, this.capaciteFile);
+        this.poolAdmin = pool(ThriftConfig.SERVICE_ADMIN, this.threadsAdmin, this.capaciteFile);
+    }
+
+    // Tailles de pools lues dans les propriétés système
+    public static MultiplexedServices depuisConfiguration() {
+        int cpus = Runtime.getRuntime().availableProcessors();
+        return new MultiplexedServices(
+                Integer.getInteger(QUERY_THREADS_PROPERTY, Math.max(4, cpus * 2)),
+                Integer.getInteger(BULK_THREADS_PROPERTY, Math.max(1, cpus / 4)),
+                Integer.getInteger(ADMIN_THREADS_PROPERTY, 2),
+                Integer.getInteger(QUEUE_SIZE_PROPERTY, DEFAULT_QUEUE_SIZE));
+    }
+
+    /**
+     * Processeur multiplexé : les trois services enregistrés au-dessus du même processeur
+     * (cache, flux, admission...), chacun sur son pool, plus le routage par méthode des
+     * messages non multiplexés.
+     */
+    public TProcessor processeur(TProcessor service) {
+        ServiceProcessor query = new ServiceProcessor(ThriftConfig.SERVICE_QUERY, service, poolQuery);
+        ServiceProcessor bulk = new ServiceProcessor(ThriftConfig.SERVICE_BULK, service, poolBulk);
+        ServiceProcessor admin = new ServiceProcessor(ThriftConfig.SERVICE_ADMIN, service, poolAdmin);
+
+        TMultiplexedProcessor multiplexe = new TMultiplexedProcessor();
+        multiplexe.registerProcessor(query.nom(), query);
+        multiplexe.registerProcessor(bulk.nom(), bulk);
+        multiplexe.registerProcessor(admin.nom(), admin);
+        // TMultiplexedProcessor rejoue l'en-tête déjà lu : on le relit pour choisir le service
+        multiplexe.registerDefault((in, out) -> {
+            TMessage msg = in.readMessageBegin();
+            String nom = serviceParDefaut(msg.name);
+            ServiceProcessor cible = ThriftConfig.SERVICE_QUERY.equals(nom) ? query
+                    : ThriftConfig.SERVICE_BULK.equals(nom) ? bulk : admin;
+            cible.process(new MessageDejaLu(in, msg), out);
+        });
+        System.out.println("[MultiplexedServices] " + description());
+        return multiplexe;
+    }
+
+    // Service d'un appel non multiplexé, d'après le nom de la méthode
+    public static String serviceParDefaut(String methode) {
+        if (METHODES_QUERY.contains(methode)) {
+            return ThriftConfig.SERVICE_QUERY;
+        }
+        return METHODES_BULK.contains(methode) ? ThriftConfig.SERVICE_BULK : ThriftConfig.SERVICE_ADMIN;
+    }
+
+    /** Arrête les trois pools (les appels déjà acceptés se terminent, les suivants sont refusés). */
+    public void arreter() {
+        poolQuery.shutdown();
+        poolBulk.shutdown();
+        poolAdmin.shutdown();
+    }
+
+    public String description() {
+        return "services query (" + threadsQuery + " threads), bulk (" + threadsBulk + "), admin (" + threadsAdmin
+                + "), file de " + capaciteFile + " appels par service";
+    }
+
+    /**
+     * Pool de taille fixe à file bornée (ArrayBlockingQueue) : file pleine ou pool arrêté, la
+     * tâche est rejetée et ServiceProcessor répond ThriftServerBusyException au client.
+     */
+    private static ThreadPoolExecutor pool(String service, int threads, int capaciteFile) {
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capaciteFile), fabrique("internalcrm-" + service), (tache, p) -> {
+                    throw new RejectedExecutionException(p.isShutdown() ? "Service " + service + " arrêté"
+                            : "File du service " + service + " pleine (" + capaciteFile + " appels)");
+                });
+    }
+
+    private static ThreadFactory fabrique(String prefixe) {
+        AtomicInteger numero = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefixe + "-" + numero.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.internal.services;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TProtocol;
+import org.example.internal.ThriftServerBusyException;
+import org.example.internal.admission.AdmissionControl;
+import org.example.internal.admission.Refus;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Processeur Thrift d'un service (query, bulk ou admin) : l'appel est exécuté par le pool du
+ * service, le thread de la connexion attend sa fin. Le nombre d'appels d'un service exécutés en
+ * même temps est ainsi borné par la taille de son pool, quel que soit le nombre de connexions.
+ *
+ * Le pool lit la requête et écrit la réponse dans les protocoles de la connexion : celle-ci ne
+ * traite qu'un appel à la fois et son thread est bloqué pendant ce temps, aucun accès concurrent.
+ *
+ * Appel rejeté par le pool (file bornée pleine, service arrêté) : le thread de la connexion lit
+ * la requête et répond lui-même ThriftServerBusyException (réessayable), sans rien exécuter.
+ */
+public class ServiceProcessor implements TProcessor {
+
+    private final String nom;
+    private final TProcessor delegue;
+    private final ExecutorService pool;
+    private final TProcessor refus;
+
+    public ServiceProcessor(String nom, TProcessor delegue, ExecutorService pool) {
+        this.nom = nom;
+        this.delegue = delegue;
+        this.pool = pool;
+        this.refus = Refus.processeur(() -> new ThriftServerBusyException("Serveur occupé : "
+                + (pool.isShutdown() ? "service " + nom + " arrêté" : "file du service " + nom + " pleine")
+                + ", réessayer plus tard", AdmissionControl.RETRY_AFTER_MS));
+    }
+
+    public String nom() {
+        return nom;
+    }
+
+    @Override
+    public void process(TProtocol in, TProtocol out) throws TException {
+        Future<?> appel;
+        try {
+            appel = pool.submit(() -> {
+                delegue.process(in, out);
+                return null;
+            });
+        } catch (RejectedExecutionException e) {
+            refus.process(in, out);
+            return;
+        }
+        try {
+            appel.get();
+        } catch (InterruptedException e) {
+            appel.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new TException("Appel au service " + nom + " interrompu", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TException) {
+                throw (TException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new TException(cause);
+        }
+    }
+}
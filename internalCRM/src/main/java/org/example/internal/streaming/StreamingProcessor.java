@@ -0,0 +1,130 @@
+package org.example.internal.streaming;
+
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TField;
+import org.apache.thrift.protocol.TList;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolException;
+import org.apache.thrift.protocol.TStruct;
+import org.apache.thrift.protocol.TType;
+import org.example.internal.InternalCRM;
+import org.example.internal.model.FluxLeads;
+import org.example.internal.model.LeadLecture;
+import org.example.internal.model.LeadModel;
+import org.example.internal.utils.ConverterUtils;
+import org.example.internal.utils.MessageDejaLu;
+
+import java.util.Iterator;
+
+/**
+ * Processeur Thrift qui envoie la réponse de findLeads en flux : chaque lead lu dans le modèle
+ * (LeadModel.findLeadsFlux) est converti en DTO puis écrit aussitôt dans le protocole de sortie.
+ * Ni List<Lead>, ni List<InternalLeadDTO>, ni message complet en mémoire : un DTO à la fois.
+ * Les autres méthodes sont transmises au processeur généré.
+ *
+ * Les octets produits sont identiques à ceux du processeur généré (même structure findLeads_result,
+ * champ success = liste dont la taille est écrite en tête). Les erreurs aussi : findLeads ne déclare
+ * aucune exception dans l'IDL, une erreur de validation devient donc INTERNAL_ERROR.
+ *
+ * Mémoire bornée seulement si le transport ne bufferise pas le message entier : c'est le cas de
+ * TSocket (buffer fixe) et de la servlet, pas du transport framed (trame complète avant envoi).
+ */
+public class StreamingProcessor implements TProcessor {
+
+    protected static final String FIND_LEADS = "findLeads";
+
+    // Mêmes descripteurs que InternalCRM.findLeads_result
+    private static final TStruct RESULTAT = new TStruct("findLeads_result");
+    private static final TField SUCCES = new TField("success", TType.LIST, (short) 0);
+
+    private final TProcessor delegue;
+    protected final LeadModel model;
+
+    public StreamingProcessor(InternalCRM.Iface iface, LeadModel model) {
+        this.delegue = new InternalCRM.Processor<>(iface);
+        this.model = model;
+    }
+
+    @Override
+    public void process(TProtocol in, TProtocol out) throws TException {
+        TMessage msg = in.readMessageBegin();
+        if (msg.type != TMessageType.CALL || !FIND_LEADS.equals(msg.name)) {
+            delegue.process(new MessageDejaLu(in, msg), out);
+            return;
+        }
+
+        InternalCRM.findLeads_args args = new InternalCRM.findLeads_args();
+        try {
+            args.read(in);
+        } catch (TProtocolException e) {
+            in.readMessageEnd();
+            ecrireException(out, msg, new TApplicationException(TApplicationException.PROTOCOL_ERROR, e.getMessage()));
+            return;
+        }
+        in.readMessageEnd();
+        repondre(out, msg, args);
+    }
+
+    // Réponse à un appel findLeads dont les arguments sont lus : envoi en flux
+    protected void repondre(TProtocol out, TMessage msg, InternalCRM.findLeads_args args) throws TException {
+        try (FluxLeads flux = ouvrir(out, msg, args)) {
+            if (flux == null) {
+                return;
+            }
+            out.writeMessageBegin(new TMessage(msg.name, TMessageType.REPLY, msg.seqid));
+            ecrireResultat(out, flux);
+            out.writeMessageEnd();
+            out.getTransport().flush();
+        }
+    }
+
+    /**
+     * Ouvre le flux de findLeads ; en cas d'erreur, la réponse d'erreur est déjà écrite
+     * et null est renvoyé.
+     */
+    protected FluxLeads ouvrir(TProtocol out, TMessage msg, InternalCRM.findLeads_args args) throws TException {
+        try {
+            return model.findLeadsFlux(args.lowAnnualRevenue, args.highAnnualRevenue, args.state);
+        } catch (Exception e) {
+            // Même réponse que le processeur généré (méthode sans exception déclarée dans l'IDL)
+            System.err.println("[StreamingProcessor] Erreur dans findLeads : " + e);
+            ecrireException(out, msg, new TApplicationException(TApplicationException.INTERNAL_ERROR,
+                    "Internal error processing findLeads"));
+            return null;
+        }
+    }
+
+    /**
+     * Écrit un findLeads_result (champ success) lead par lead, dans le même encodage que
+     * InternalCRM.findLeads_result.write (schéma standard : protocoles binary et compact).
+     */
+    public static void ecrireResultat(TProtocol out, FluxLeads flux) throws TException {
+        out.writeStructBegin(RESULTAT);
+        out.writeFieldBegin(SUCCES);
+        int nombre = flux.nombre();
+        out.writeListBegin(new TList(TType.STRUCT, nombre));
+        Iterator<LeadLecture> leads = flux.iterator();
+        for (int i = 0; i < nombre; i++) {
+            if (!leads.hasNext()) {
+                // En-tête déjà envoyé : une liste incomplète serait illisible, on coupe la connexion
+                throw new TException("Flux findLeads incohérent : " + i + " leads pour " + nombre + " annoncés");
+            }
+            ConverterUtils.toDto(leads.next()).write(out);
+        }
+        out.writeListEnd();
+        out.writeFieldEnd();
+        out.writeFieldStop();
+        out.writeStructEnd();
+    }
+
+    public static void ecrireException(TProtocol out, TMessage msg, TApplicationException x) throws TException {
+        out.writeMessageBegin(new TMessage(msg.name, TMessageType.EXCEPTION, msg.seqid));
+        x.write(out);
+        out.writeMessageEnd();
+        out.getTransport().flush();
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.internal.utils;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Client HTTP (Apache HttpClient) des transports THttpClient vers la servlet InternalCRM.
+ *
+ * - connexions gardées ouvertes (keep-alive) et réutilisées d'un appel à l'autre, pool partagé
+ *   par tous les THttpClient du processus : -Dinternalcrm.http.maxConnections (défaut 64)
+ * - réponses gzip décompressées à la volée (Accept-Encoding envoyé automatiquement)
+ * - requêtes compressées en gzip à partir de ThriftConfig.gzipMin() octets (createLeads en lot...)
+ *
+ * Sans client partagé, chaque THttpClient passerait par HttpURLConnection sans gzip.
+ */
+public final class ClientHttp {
+
+    public static final String MAX_CONNECTIONS_PROPERTY = "internalcrm.http.maxConnections";
+
+    private static CloseableHttpClient partage;
+
+    private ClientHttp() {}
+
+    // Client partagé, créé au premier appel avec la configuration courante
+    public static synchronized CloseableHttpClient partage() {
+        if (partage == null) {
+            partage = creer(Integer.getInteger(MAX_CONNECTIONS_PROPERTY, 64), ThriftConfig.gzipMin());
+        }
+        return partage;
+    }
+
+    /**
+     * Nouveau client : au plus maxConnexions connexions ouvertes vers la servlet ;
+     * gzipMin <= 0 désactive la compression dans les deux sens.
+     */
+    public static CloseableHttpClient creer(int maxConnexions, int gzipMin) {
+        PoolingHttpClientConnectionManager connexions = new PoolingHttpClientConnectionManager();
+        connexions.setMaxTotal(maxConnexions);
+        connexions.setDefaultMaxPerRoute(maxConnexions);
+        if (gzipMin <= 0) {
+            return HttpClients.custom()
+                    .setConnectionManager(connexions)
+                    .disableContentCompression()
+                    .disableCookieManagement()
+                    .build();
+        }
+        return HttpClients.custom()
+                .setConnectionManager(connexions)
+                .disableCookieManagement()
+                .addInterceptorFirst(compresserRequetes(gzipMin)) // avant le calcul de Content-Length
+                .build();
+    }
+
+    // Remplace le corps (octets Thrift, longueur connue) par sa version gzip au-delà du seuil
+    private static HttpRequestInterceptor compresserRequetes(int gzipMin) {
+        return (requete, contexte) -> {
+            if (!(requete instanceof HttpEntityEnclosingRequest)) {
+                return;
+            }
+            HttpEntityEnclosingRequest avecCorps = (HttpEntityEnclosingRequest) requete;
+            HttpEntity corps = avecCorps.getEntity();
+            if (corps == null || corps.getContentEncoding() != null || corps.getContentLength() < gzipMin) {
+                return;
+            }
+            ByteArrayEntity compresse = new ByteArrayEntity(gzip(EntityUtils.toByteArray(corps)));
+            compresse.setContentType(corps.getContentType());
+            compresse.setContentEncoding("gzip");
+            avecCorps.setEntity(compresse);
+        };
+    }
+
+    private static byte[] gzip(byte[] octets) throws IOException {
+        ByteArrayOutputStream sortie = new ByteArrayOutputStream(octets.length / 4 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(sortie, 8192)) {
+            gz.write(octets);
+        }
+        return sortie.toByteArray();
+    }
+}
@@ -1,15 +1,28 @@
 package org.example.internal.utils;
 
+import org.example.internal.InternalBatchError;
+import org.example.internal.InternalBatchResult;
+import org.example.internal.InternalLeadBucket;
 import org.example.internal.InternalLeadDTO;
+import org.example.internal.InternalRevenueStats;
+import org.example.internal.model.AgregatRevenus;
 import org.example.internal.model.Lead;
+import org.example.internal.model.LeadLecture;
 
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
 import java.util.TimeZone;
+import java.util.TreeMap;
 
 /**
  * Utilitaire de conversion entre le modèle métier `Lead` et le DTO Thrift `InternalLeadDTO`.
@@ -24,7 +37,7 @@ public final class ConverterUtils {
     private ConverterUtils() {}
 
     // Convertit un objet métier en DTO Thrift
-    public static InternalLeadDTO toDto(Lead lead) {
+    public static InternalLeadDTO toDto(LeadLecture lead) {
         InternalLeadDTO dto = new InternalLeadDTO();
         dto.setFirstName(lead.getFirstName());
         dto.setLastName(lead.getLastName());
@@ -34,9 +47,11 @@ public final class ConverterUtils {
         dto.setPostalCode(lead.getPostalCode());
         dto.setCity(lead.getCity());
         dto.setCountry(lead.getCountry());
-        dto.setCreationDate(calendarToIsoString(lead.getCreationDate()));
+        dto.setCreationDate(millisToIsoString(lead.getCreationMillis()));
         dto.setCompanyName(lead.getCompanyName());
         dto.setState(lead.getState());
+        // Id attribué par le serveur : permet ensuite deleteLeadById / deleteLeads
+        dto.setId(lead.getId());
         return dto;
     }
 
@@ -73,7 +88,7 @@ public final class ConverterUtils {
         l.setPostalCode(dto.getPostalCode());
         l.setCity(dto.getCity());
         l.setCountry(dto.getCountry());
-        l.setCreationDate(isoStringToCalendar(dto.getCreationDate()));
+        l.setCreationMillis(isoStringToMillis(dto.getCreationDate()));
         l.setCompanyName(dto.getCompanyName());
         l.setState(dto.getState());
         return l;
@@ -81,43 +96,200 @@ public final class ConverterUtils {
 
     // Convertit une liste de Lead en liste de DTO
 
-    public static List<InternalLeadDTO> toDtoList(List<Lead> leads) {
+    public static List<InternalLeadDTO> toDtoList(List<LeadLecture> leads) {
         List<InternalLeadDTO> out = new ArrayList<>();
         if (leads == null) return out;
-        for (Lead l : leads) out.add(toDto(l));
+        for (LeadLecture l : leads) out.add(toDto(l));
         return out;
     }
 
-    // ----- Conversion ISO-8601 <-> Calendar
+    // Convertit une liste de DTO en objets métier (un élément null reste null : le modèle le refusera)
+    public static List<Lead> toModelList(List<InternalLeadDTO> dtos) {
+        List<Lead> out = new ArrayList<>(dtos.size());
+        for (InternalLeadDTO dto : dtos) out.add(dto == null ? null : toModel(dto));
+        return out;
+    }
+
+    // ----- Résultats des appels en lot
+
+    // createLeads : ids alignés sur l'entrée (-1 = refusé) + une erreur par élément refusé
+    public static InternalBatchResult toCreationResult(long[] ids, Map<Integer, String> erreurs) {
+        InternalBatchResult res = new InternalBatchResult(new ArrayList<>(ids.length), new ArrayList<>());
+        for (long id : ids) res.getIds().add(id);
+        for (Map.Entry<Integer, String> e : new TreeMap<>(erreurs).entrySet()) {
+            res.getErrors().add(new InternalBatchError(e.getKey(), e.getValue()));
+        }
+        return res;
+    }
+
+    // deleteLeads : ids supprimés + une erreur par id demandé introuvable
+    public static InternalBatchResult toDeletionResult(List<Long> demandes, List<Long> supprimes) {
+        InternalBatchResult res = new InternalBatchResult(new ArrayList<>(supprimes), new ArrayList<>());
+        Set<Long> ok = new HashSet<>(supprimes);
+        for (int i = 0; i < demandes.size(); i++) {
+            Long id = demandes.get(i);
+            // Un id présent deux fois dans la demande n'est supprimé qu'une fois : seule la 1re occurrence compte
+            if (id == null || !ok.remove(id)) {
+                res.getErrors().add(new InternalBatchError(i, "Aucun prospect avec l'id " + id));
+            }
+        }
+        return res;
+    }
+
+    // ----- Agrégats (revenueStats, leadHistogram)
+
+    public static InternalRevenueStats toRevenueStats(AgregatRevenus a) {
+        return new InternalRevenueStats(a.getNombre(), a.getSomme(), a.getMin(), a.getMax(), a.getMoyenne());
+    }
+
+    // Un groupe par clé, dans l'ordre de la map (clés triées)
+    public static List<InternalLeadBucket> toBuckets(SortedMap<String, AgregatRevenus> groupes) {
+        List<InternalLeadBucket> out = new ArrayList<>(groupes.size());
+        for (Map.Entry<String, AgregatRevenus> e : groupes.entrySet()) {
+            out.add(new InternalLeadBucket(e.getKey(), e.getValue().getNombre(), e.getValue().getSomme()));
+        }
+        return out;
+    }
+
+    // ----- Conversion ISO-8601 <-> epoch millis / Calendar
+    //
+    // Chemin rapide écrit à la main pour la forme fixe "yyyy-MM-dd'T'HH:mm:ss'Z'" (20 caractères, UTC,
+    // années 1583-9999, champs dans leurs bornes), sans SimpleDateFormat, TimeZone ni Calendar.
+    // Tout le reste passe par le SimpleDateFormat permissif d'origine : mêmes chaînes acceptées et
+    // mêmes valeurs qu'avant (2024-02-30 reporté au 2024-03-01, suffixe après 'Z' ignoré, calendrier
+    // julien avant le 15/10/1582, d'où la borne 1583 du chemin rapide).
     private static final String ISO_PATTERN = "yyyy-MM-dd'T'HH:mm:ss'Z'";
+    private static final int PREMIERE_ANNEE_RAPIDE = 1583;
+    private static final long MILLIS_PAR_JOUR = 86_400_000L;
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
 
     /**
      * Convertit une chaine ISO-8601 en Calendar Java.
      * Retourne null si le format est invalide.
      */
     public static Calendar isoStringToCalendar(String iso) {
-        if (iso == null) return null;
-        SimpleDateFormat sdf = new SimpleDateFormat(ISO_PATTERN);
-        sdf.setTimeZone(TimeZone.getTimeZone("UTC"));
+        long millis = isoStringToMillis(iso);
+        if (millis == Lead.SANS_DATE) return null;
+        Calendar c = new GregorianCalendar(UTC);
+        c.setTimeInMillis(millis);
+        return c;
+    }
+
+    /**
+     * Convertit une chaine ISO-8601 en epoch millis.
+     * Retourne Lead.SANS_DATE si la chaine est null ou invalide (le modèle doit valider).
+     */
+    public static long isoStringToMillis(String iso) {
+        if (iso == null) return Lead.SANS_DATE;
+        if (iso.length() == 20 && iso.charAt(4) == '-' && iso.charAt(7) == '-' && iso.charAt(10) == 'T'
+                && iso.charAt(13) == ':' && iso.charAt(16) == ':' && iso.charAt(19) == 'Z') {
+            long millis = parserFormeFixe(iso);
+            if (millis != Lead.SANS_DATE) return millis;
+        }
         try {
-            Date d = sdf.parse(iso);
-            Calendar c = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
-            c.setTime(d);
-            return c;
+            return formatPermissif().parse(iso).getTime();
         } catch (ParseException e) {
-            // En cas d'échec de parsing, retourner null — le modèle doit valider
-            return null;
+            return Lead.SANS_DATE;
         }
     }
 
+    // Format d'origine (permissif, UTC) ; SimpleDateFormat n'est pas thread-safe : un par appel
+    private static SimpleDateFormat formatPermissif() {
+        SimpleDateFormat sdf = new SimpleDateFormat(ISO_PATTERN);
+        sdf.setTimeZone(UTC);
+        return sdf;
+    }
+
     /**
      * Convertit un Calendar Java en chaine ISO-8601.
      * Format de sortie : "yyyy-MM-dd'T'HH:mm:ss'Z'" (UTC)
      */
     public static String calendarToIsoString(Calendar c) {
         if (c == null) return null;
-        SimpleDateFormat sdf = new SimpleDateFormat(ISO_PATTERN);
-        sdf.setTimeZone(TimeZone.getTimeZone("UTC"));
-        return sdf.format(c.getTime());
+        return millisToIsoString(c.getTimeInMillis());
+    }
+
+    // Même format à partir d'epoch millis (Lead.SANS_DATE = pas de date → null) ; millisecondes tronquées
+    public static String millisToIsoString(long millis) {
+        if (millis == Lead.SANS_DATE) return null;
+        long jour = Math.floorDiv(millis, MILLIS_PAR_JOUR);
+        int secondeDuJour = (int) (Math.floorMod(millis, MILLIS_PAR_JOUR) / 1000);
+        // Date civile (algorithme "civil_from_days" de H. Hinnant, calendrier grégorien proleptique)
+        long z = jour + 719_468;
+        long ere = Math.floorDiv(z, 146_097);
+        long jourDansEre = z - ere * 146_097;
+        long anneeDansEre = (jourDansEre - jourDansEre / 1_460 + jourDansEre / 36_524 - jourDansEre / 146_096) / 365;
+        long jourDansAnnee = jourDansEre - (365 * anneeDansEre + anneeDansEre / 4 - anneeDansEre / 100);
+        long moisDecale = (5 * jourDansAnnee + 2) / 153;
+        int jourDuMois = (int) (jourDansAnnee - (153 * moisDecale + 2) / 5 + 1);
+        int mois = (int) (moisDecale < 10 ? moisDecale + 3 : moisDecale - 9);
+        long annee = anneeDansEre + ere * 400 + (mois <= 2 ? 1 : 0);
+        if (annee < PREMIERE_ANNEE_RAPIDE || annee > 9999) {
+            return formatPermissif().format(new Date(millis));
+        }
+
+        byte[] b = new byte[20];
+        ecrireChiffres(b, 0, (int) annee, 4);
+        b[4] = '-';
+        ecrireChiffres(b, 5, mois, 2);
+        b[7] = '-';
+        ecrireChiffres(b, 8, jourDuMois, 2);
+        b[10] = 'T';
+        ecrireChiffres(b, 11, secondeDuJour / 3600, 2);
+        b[13] = ':';
+        ecrireChiffres(b, 14, secondeDuJour / 60 % 60, 2);
+        b[16] = ':';
+        ecrireChiffres(b, 17, secondeDuJour % 60, 2);
+        b[19] = 'Z';
+        return new String(b, StandardCharsets.ISO_8859_1);
+    }
+
+    // "yyyy-MM-dd'T'HH:mm:ss'Z'" dont les séparateurs ont déjà été vérifiés ;
+    // Lead.SANS_DATE si un champ sort du chemin rapide (laissé au format permissif)
+    private static long parserFormeFixe(String iso) {
+        int annee = lireChiffres(iso, 0, 4);
+        int mois = lireChiffres(iso, 5, 2);
+        int jour = lireChiffres(iso, 8, 2);
+        int heure = lireChiffres(iso, 11, 2);
+        int minute = lireChiffres(iso, 14, 2);
+        int seconde = lireChiffres(iso, 17, 2);
+        if (annee < PREMIERE_ANNEE_RAPIDE || mois < 1 || mois > 12 || jour < 1 || jour > joursDansMois(annee, mois)
+                || heure < 0 || heure > 23 || minute < 0 || minute > 59 || seconde < 0 || seconde > 59) {
+            return Lead.SANS_DATE;
+        }
+        // Jours depuis 1970-01-01 (algorithme "days_from_civil" de H. Hinnant)
+        int a = mois <= 2 ? annee - 1 : annee;
+        int ere = Math.floorDiv(a, 400);
+        int anneeDansEre = a - ere * 400;
+        int jourDansAnnee = (153 * (mois > 2 ? mois - 3 : mois + 9) + 2) / 5 + jour - 1;
+        int jourDansEre = anneeDansEre * 365 + anneeDansEre / 4 - anneeDansEre / 100 + jourDansAnnee;
+        long jours = ere * 146_097L + jourDansEre - 719_468;
+        return jours * MILLIS_PAR_JOUR + (heure * 3600L + minute * 60L + seconde) * 1000L;
+    }
+
+    private static int joursDansMois(int annee, int mois) {
+        if (mois == 2) {
+            boolean bissextile = (annee % 4 == 0 && annee % 100 != 0) || annee % 400 == 0;
+            return bissextile ? 29 : 28;
+        }
+        return (mois == 4 || mois == 6 || mois == 9 || mois == 11) ? 30 : 31;
+    }
+
+    // Entier décimal de n chiffres à partir de debut ; -1 si un caractère n'est pas un chiffre
+    private static int lireChiffres(String s, int debut, int n) {
+        int v = 0;
+        for (int i = debut; i < debut + n; i++) {
+            int c = s.charAt(i) - '0';
+            if (c < 0 || c > 9) return -1;
+            v = v * 10 + c;
+        }
+        return v;
+    }
+
+    private static void ecrireChiffres(byte[] b, int debut, int v, int n) {
+        for (int i = debut + n - 1; i >= debut; i--) {
+            b[i] = (byte) ('0' + v % 10);
+            v /= 10;
+        }
     }
 }
@@ -0,0 +1,39 @@
+package org.example.internal.utils;
+
+import org.apache.thrift.TBase;
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolDecorator;
+import org.apache.thrift.transport.TMemoryBuffer;
+
+/**
+ * Rejoue l'en-tête de message déjà lu pour un autre processeur (même principe que
+ * TMultiplexedProcessor) : le reste du message est lu normalement dans le protocole d'origine.
+ */
+public final class MessageDejaLu extends TProtocolDecorator {
+    private final TMessage msg;
+
+    public MessageDejaLu(TProtocol protocol, TMessage msg) {
+        super(protocol);
+        this.msg = msg;
+    }
+
+    /**
+     * Rejoue un message dont les arguments sont déjà lus eux aussi : en-tête, puis arguments
+     * réencodés en mémoire (binary), lus par le processeur suivant comme dans le protocole d'origine.
+     */
+    public static TProtocol avecArguments(TMessage msg, TBase<?, ?> args) throws TException {
+        TMemoryBuffer buffer = new TMemoryBuffer(256);
+        TProtocol protocole = new TBinaryProtocol(buffer);
+        args.write(protocole);
+        protocole.writeMessageEnd();
+        return new MessageDejaLu(protocole, msg);
+    }
+
+    @Override
+    public TMessage readMessageBegin() {
+        return msg;
+    }
+}
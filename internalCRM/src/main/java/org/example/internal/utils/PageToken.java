@@ -0,0 +1,75 @@
+package org.example.internal.utils;
+
+import org.example.internal.InternalLeadPage;
+import org.example.internal.model.LeadLecture;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Jetons de continuation de findLeadsPage / findLeadsByDatePage.
+ *
+ * Le jeton encode la position du dernier prospect renvoyé (clé de tri + id) :
+ *   "R:<bits du revenu en hexa>:<id>" ou "D:<epoch millis>:<id>", en Base64 URL.
+ * Il est opaque pour les clients et ne référence aucun état serveur (pas d'expiration).
+ */
+public final class PageToken {
+    public static final int TAILLE_DEFAUT = 500;
+    public static final int TAILLE_MAX = 5_000;
+
+    public static final char REVENU = 'R';
+    public static final char DATE = 'D';
+
+    private PageToken() {}
+
+    // Taille de page effective : défaut si <= 0, plafonnée pour borner la mémoire d'une réponse
+    public static int taillePage(int demandee) {
+        return demandee <= 0 ? TAILLE_DEFAUT : Math.min(demandee, TAILLE_MAX);
+    }
+
+    /**
+     * Décode un jeton en {clé, id}. Jeton null ou vide = première page :
+     * {bits de -Infini, Long.MIN_VALUE} pour REVENU, {Long.MIN_VALUE, Long.MIN_VALUE} pour DATE.
+     * Lance IllegalArgumentException si le jeton est illisible ou d'un autre type.
+     */
+    public static long[] decoder(String token, char type) {
+        if (token == null || token.isEmpty()) {
+            long cle = (type == REVENU) ? Double.doubleToLongBits(Double.NEGATIVE_INFINITY) : Long.MIN_VALUE;
+            return new long[]{cle, Long.MIN_VALUE};
+        }
+        try {
+            String brut = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parties = brut.split(":");
+            if (parties.length != 3 || parties[0].length() != 1 || parties[0].charAt(0) != type) {
+                throw new IllegalArgumentException("Jeton de page invalide : " + token);
+            }
+            long cle = (type == REVENU) ? Long.parseUnsignedLong(parties[1], 16) : Long.parseLong(parties[1]);
+            return new long[]{cle, Long.parseLong(parties[2])};
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException et erreurs Base64 sont des IllegalArgumentException
+            throw new IllegalArgumentException("Jeton de page invalide : " + token, e);
+        }
+    }
+
+    /**
+     * Construit la page Thrift à partir de leads lus avec une limite de taille + 1 :
+     * le lead en trop indique seulement qu'une page suivante existe.
+     */
+    public static InternalLeadPage page(List<LeadLecture> leads, int taille, char type) {
+        boolean suite = leads.size() > taille;
+        List<LeadLecture> contenu = suite ? leads.subList(0, taille) : leads;
+        InternalLeadPage page = new InternalLeadPage();
+        page.setLeads(ConverterUtils.toDtoList(contenu));
+        page.setNextToken(suite ? encoder(contenu.get(contenu.size() - 1), type) : "");
+        return page;
+    }
+
+    private static String encoder(LeadLecture dernier, char type) {
+        String cle = (type == REVENU)
+                ? Long.toHexString(Double.doubleToLongBits(dernier.getAnnualRevenue()))
+                : Long.toString(dernier.getCreationMillis());
+        String brut = type + ":" + cle + ":" + dernier.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(brut.getBytes(StandardCharsets.UTF_8));
+    }
+}
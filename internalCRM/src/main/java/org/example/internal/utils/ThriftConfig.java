@@ -0,0 +1,145 @@
+package org.example.internal.utils;
+
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TMultiplexedProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.transport.THttpClient;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.apache.thrift.transport.TTransportFactory;
+import org.apache.thrift.transport.layered.TFramedTransport;
+
+/**
+ * Configuration Thrift commune (protocole + transport) aux quatre points d'accès InternalCRM :
+ * InternalCRMServer, ThriftInternalServiceServlet, InternalCRMClient (virtualCRM)
+ * et InternalCRMThriftClient (manage).
+ *
+ * Les deux côtés d'une connexion doivent utiliser les mêmes valeurs : on les lit donc
+ * partout dans les mêmes propriétés système.
+ *   - "internalcrm.thrift.protocol"  : binary (défaut) | compact
+ *   - "internalcrm.thrift.transport" : socket (défaut) | framed | http
+ *     (http : clients seulement, vers la servlet ; la servlet ignore cette propriété)
+ *   - "internalcrm.thrift.maxFrame"  : taille max d'une trame framed en octets (défaut 64 Mo)
+ *   - "internalcrm.thrift.httpPath"  : chemin de la servlet pour le transport http
+ *     (défaut /thrift/internalcrm, URL = http://host:port + chemin)
+ *   - "internalcrm.http.gzipMinBytes" : corps HTTP compressés en gzip à partir de cette taille,
+ *     requêtes (clients) et réponses (servlet, si le client accepte gzip) ; défaut 1024, 0 = jamais
+ *   - "internalcrm.thrift.multiplex" : true = chaque client nomme son service (query, bulk, admin :
+ *     TMultiplexedProtocol, voir MultiplexedServices) ; défaut false, le serveur déduit alors le
+ *     service de la méthode. Ignorée en transport http ; mode serveur "async" : laisser à false
+ *
+ * Les modes serveur "selector" et "async" imposent le transport framed, quelle que soit la propriété.
+ */
+public final class ThriftConfig {
+    public static final String PROTOCOL_PROPERTY = "internalcrm.thrift.protocol";
+    public static final String TRANSPORT_PROPERTY = "internalcrm.thrift.transport";
+    public static final String MAX_FRAME_PROPERTY = "internalcrm.thrift.maxFrame";
+    public static final String HTTP_PATH_PROPERTY = "internalcrm.thrift.httpPath";
+    public static final String GZIP_MIN_PROPERTY = "internalcrm.http.gzipMinBytes";
+    public static final String MULTIPLEX_PROPERTY = "internalcrm.thrift.multiplex";
+
+    // Services multiplexés du serveur : lectures interactives, imports / suppressions en lot, gestion
+    public static final String SERVICE_QUERY = "query";
+    public static final String SERVICE_BULK = "bulk";
+    public static final String SERVICE_ADMIN = "admin";
+
+    private ThriftConfig() {}
+
+    public static String protocole() {
+        return System.getProperty(PROTOCOL_PROPERTY, "binary");
+    }
+
+    public static boolean framed() {
+        return "framed".equals(System.getProperty(TRANSPORT_PROPERTY, "socket"));
+    }
+
+    public static boolean http() {
+        return "http".equals(System.getProperty(TRANSPORT_PROPERTY, "socket"));
+    }
+
+    // La servlet n'est pas multiplexée : noms de service envoyés seulement vers le serveur socket
+    public static boolean multiplex() {
+        return Boolean.getBoolean(MULTIPLEX_PROPERTY) && !http();
+    }
+
+    // Taille minimale d'un corps HTTP compressé (0 ou négatif : pas de compression)
+    public static int gzipMin() {
+        return Integer.getInteger(GZIP_MIN_PROPERTY, 1024);
+    }
+
+    public static int tailleMaxTrame() {
+        return Integer.getInteger(MAX_FRAME_PROPERTY, 64 * 1024 * 1024);
+    }
+
+    // Fabrique de protocole correspondant au nom donné (valeurs de "internalcrm.thrift.protocol")
+    public static TProtocolFactory protocolFactory(String nom) {
+        switch (nom) {
+            case "binary":
+                return new TBinaryProtocol.Factory();
+            case "compact":
+                return new TCompactProtocol.Factory();
+            default:
+                throw new IllegalArgumentException("Protocole inconnu pour " + PROTOCOL_PROPERTY + " : " + nom);
+        }
+    }
+
+    public static TProtocolFactory protocolFactory() {
+        return protocolFactory(protocole());
+    }
+
+    // Fabrique de transport côté serveur (sockets bloquantes) : trames ou flux brut
+    public static TTransportFactory transportFactory() {
+        return framed() ? new TFramedTransport.Factory(tailleMaxTrame()) : new TTransportFactory();
+    }
+
+    /**
+     * Transport client (non ouvert) vers host:port selon la configuration.
+     * timeoutMs = 0 : pas de timeout.
+     */
+    public static TTransport transportClient(String host, int port, int timeoutMs) throws TTransportException {
+        if (http()) {
+            return transportHttp("http://" + host + ":" + port + System.getProperty(HTTP_PATH_PROPERTY, "/thrift/internalcrm"), timeoutMs);
+        }
+        return transportClient(host, port, timeoutMs, framed());
+    }
+
+    public static TTransport transportClient(String host, int port, int timeoutMs, boolean framed) throws TTransportException {
+        TSocket socket = new TSocket(host, port);
+        if (timeoutMs > 0) socket.setTimeout(timeoutMs);
+        return framed ? new TFramedTransport(socket, tailleMaxTrame()) : socket;
+    }
+
+    /**
+     * Transport HTTP vers la servlet : un POST par appel, sur le client HTTP partagé
+     * (connexions gardées ouvertes et réutilisées, gzip, voir ClientHttp).
+     */
+    public static TTransport transportHttp(String url, int timeoutMs) throws TTransportException {
+        THttpClient transport = new THttpClient(url, ClientHttp.partage());
+        if (timeoutMs > 0) {
+            transport.setConnectTimeout(timeoutMs);
+            transport.setReadTimeout(timeoutMs);
+        }
+        return transport;
+    }
+
+    public static TProtocol protocole(TTransport transport) {
+        return protocolFactory().getProtocol(transport);
+    }
+
+    /**
+     * Protocole client d'un service (SERVICE_QUERY, SERVICE_BULK, SERVICE_ADMIN) : plusieurs
+     * InternalCRM.Client de services différents peuvent partager le même transport.
+     */
+    public static TProtocol protocole(TTransport transport, String service) {
+        TProtocol protocol = protocole(transport);
+        return multiplex() ? new TMultiplexedProtocol(protocol, service) : protocol;
+    }
+
+    // Résumé lisible pour les logs de démarrage
+    public static String description() {
+        return protocole() + "/" + (framed() ? "framed" : http() ? "http" : "socket") + (multiplex() ? "/multiplex" : "");
+    }
+}
@@ -11,22 +11,97 @@ struct InternalLeadDTO {
   8: string country,
   9: string creationDate, // Format ISO-8601 : "yyyy-MM-dd'T'HH:mm:ss'Z'" (ex: "2024-09-15T10:00:00Z")
   10: string companyName,
-  11: string state
+  11: string state,
+  12: optional i64 id // Renseigne par le serveur dans les resultats (ignore a la creation)
+}
+
+// Page de resultats : nextToken vide = derniere page
+struct InternalLeadPage {
+  1: list<InternalLeadDTO> leads,
+  2: string nextToken
+}
+
+// Erreur sur un element d'un appel en lot (index = position dans la liste envoyee)
+struct InternalBatchError {
+  1: i32 index,
+  2: string message
+}
+
+// Resultat d'un appel en lot :
+// createLeads : ids alignes sur la liste envoyee, -1 pour un element refuse (detail dans errors)
+// deleteLeads : ids effectivement supprimes ; les ids introuvables sont signales dans errors
+struct InternalBatchResult {
+  1: list<i64> ids,
+  2: list<InternalBatchError> errors
+}
+
+// Agregats de revenus d'un ensemble de prospects (count = 0 : les autres champs valent 0)
+struct InternalRevenueStats {
+  1: i64 count,
+  2: double sum,
+  3: double min,
+  4: double max,
+  5: double average
+}
+
+// Groupe d'un histogramme : key = etat, ville ou mois "yyyy-MM" (UTC) ; "" = non renseigne
+struct InternalLeadBucket {
+  1: string key,
+  2: i64 count,
+  3: double revenueSum
 }
 
 // Interface du service InternalCRM (section 2.2 de l'enonce)
+// Toutes les methodes peuvent lever ThriftServerBusyException (champ 9, controle d'admission) :
+// requete refusee avant execution, a renvoyer apres retryAfterMillis.
 service InternalCRM {
   // Recherche par fourchette de revenus et region optionnelle
-  list<InternalLeadDTO> findLeads(1: double lowAnnualRevenue, 2: double highAnnualRevenue, 3: string state),
+  list<InternalLeadDTO> findLeads(1: double lowAnnualRevenue, 2: double highAnnualRevenue, 3: string state)
+      throws (9: ThriftServerBusyException busy),
   
   // Recherche par intervalle de dates (format ISO-8601)
-  list<InternalLeadDTO> findLeadsByDate(1: string startDate, 2: string endDate),
+  list<InternalLeadDTO> findLeadsByDate(1: string startDate, 2: string endDate) throws (9: ThriftServerBusyException busy),
   
   // Creation d'un prospect, retourne l'ID genere (i64 = entier 64 bits)
-  i64 createLead(1: InternalLeadDTO lead),
+  i64 createLead(1: InternalLeadDTO lead) throws (9: ThriftServerBusyException busy),
   
   // Suppression d'un prospect par template (correspondance exacte)
-  void deleteLead(1: InternalLeadDTO leadDto) throws (1: ThriftNoSuchLeadException e)
+  void deleteLead(1: InternalLeadDTO leadDto) throws (1: ThriftNoSuchLeadException e, 9: ThriftServerBusyException busy),
+
+  // Suppression directe par id (id renvoye par createLead ou present dans les resultats de recherche)
+  void deleteLeadById(1: i64 id) throws (1: ThriftNoSuchLeadException e, 9: ThriftServerBusyException busy),
+
+  // Pagination par curseur (exports volumineux en memoire bornee) :
+  // pageSize <= 0 = taille par defaut, plafonnee cote serveur ; pageToken vide = premiere page,
+  // sinon le nextToken opaque de la page precedente. Ordre (revenu, id) / (date, id) :
+  // les pages restent stables si des prospects sont crees ou supprimes entre deux appels.
+  InternalLeadPage findLeadsPage(1: double lowAnnualRevenue, 2: double highAnnualRevenue, 3: string state,
+                                 4: i32 pageSize, 5: string pageToken)
+      throws (1: ThriftWrongOrderForRevenueException e1, 2: ThriftWrongStateException e2, 3: ThriftInvalidPageTokenException e3,
+              9: ThriftServerBusyException busy),
+
+  InternalLeadPage findLeadsByDatePage(1: string startDate, 2: string endDate, 3: i32 pageSize, 4: string pageToken)
+      throws (1: ThriftWrongDateFormatException e1, 2: ThriftWrongOrderForDateException e2, 3: ThriftInvalidPageTokenException e3,
+              9: ThriftServerBusyException busy),
+
+  // Creation en lot (un seul aller-retour) : les elements valides sont crees meme si d'autres sont refuses
+  InternalBatchResult createLeads(1: list<InternalLeadDTO> leads) throws (9: ThriftServerBusyException busy),
+
+  // Suppression en lot par id (variante en lot de deleteLeadById)
+  InternalBatchResult deleteLeads(1: list<i64> ids) throws (9: ThriftServerBusyException busy),
+
+  // Agregats calcules cote serveur sur les memes prospects que findLeads (aucune liste transferee)
+  i64 countLeads(1: double lowAnnualRevenue, 2: double highAnnualRevenue, 3: string state)
+      throws (1: ThriftWrongOrderForRevenueException e1, 2: ThriftWrongStateException e2, 9: ThriftServerBusyException busy),
+
+  InternalRevenueStats revenueStats(1: double lowAnnualRevenue, 2: double highAnnualRevenue, 3: string state)
+      throws (1: ThriftWrongOrderForRevenueException e1, 2: ThriftWrongStateException e2, 9: ThriftServerBusyException busy),
+
+  // groupBy : "state" (casse ignoree) | "city" | "month" ; groupes tries par cle
+  list<InternalLeadBucket> leadHistogram(1: string groupBy, 2: double lowAnnualRevenue, 3: double highAnnualRevenue,
+                                         4: string state)
+      throws (1: ThriftWrongOrderForRevenueException e1, 2: ThriftWrongStateException e2,
+              3: ThriftInvalidGroupByException e3, 9: ThriftServerBusyException busy)
 }
 
 // Exceptions métier
@@ -49,3 +124,18 @@ exception ThriftWrongOrderForRevenueException {
 exception ThriftWrongStateException {
   1: string message
 }
+
+exception ThriftInvalidPageTokenException {
+  1: string message
+}
+
+exception ThriftInvalidGroupByException {
+  1: string message
+}
+
+// Serveur sature (trop de requetes en cours ou budget d'octets de reponse depasse) :
+// rien n'a ete execute, l'appel peut etre renvoye tel quel apres retryAfterMillis
+exception ThriftServerBusyException {
+  1: string message,
+  2: i32 retryAfterMillis
+}
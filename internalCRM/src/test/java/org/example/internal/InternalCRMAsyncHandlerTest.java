@@ -0,0 +1,96 @@
+package org.example.internal;
+
+import org.apache.thrift.async.AsyncMethodCallback;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Handler asynchrone : un balayage bloqué n'empêche pas un createLead de répondre (pools séparés),
+ * les exceptions du handler synchrone arrivent dans onError, et après arreter() un appel reçoit
+ * aussitôt une erreur au lieu de rester sans réponse.
+ */
+class InternalCRMAsyncHandlerTest {
+
+    @Test
+    void createLeadServiPendantUnBalayageBloque() throws Exception {
+        CountDownLatch libere = new CountDownLatch(1);
+        InternalCRMAsyncHandler handler = new InternalCRMAsyncHandler(iface(libere), null, 1, 1);
+        try {
+            Resultat<List<InternalLeadDTO>> balayage = new Resultat<>();
+            handler.findLeads(0, 1000, "", balayage);
+            Resultat<Long> creation = new Resultat<>();
+            handler.createLead(new InternalLeadDTO(), creation);
+            assertEquals(42L, creation.get(5, TimeUnit.SECONDS));
+            assertFalse(balayage.isDone());
+            libere.countDown();
+            assertTrue(balayage.get(5, TimeUnit.SECONDS).isEmpty());
+        } finally {
+            libere.countDown();
+            handler.arreter();
+        }
+    }
+
+    @Test
+    void exceptionTransmiseAOnError() throws Exception {
+        InternalCRMAsyncHandler handler = new InternalCRMAsyncHandler(iface(new CountDownLatch(0)), null, 1, 1);
+        try {
+            Resultat<Void> suppression = new Resultat<>();
+            handler.deleteLeadById(7, suppression);
+            ExecutionException e = assertThrows(ExecutionException.class, () -> suppression.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ThriftNoSuchLeadException.class, e.getCause());
+        } finally {
+            handler.arreter();
+        }
+    }
+
+    @Test
+    void appelApresArretRefuse() {
+        InternalCRMAsyncHandler handler = new InternalCRMAsyncHandler(iface(new CountDownLatch(0)), null, 1, 1);
+        handler.arreter();
+        Resultat<Long> creation = new Resultat<>();
+        handler.createLead(new InternalLeadDTO(), creation);
+        // Erreur rendue dans le thread appelant, sans attente
+        assertTrue(creation.isCompletedExceptionally());
+        ExecutionException e = assertThrows(ExecutionException.class, creation::get);
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+    }
+
+    // findLeads attend le loquet, createLead rend 42, deleteLeadById lève ThriftNoSuchLeadException
+    private static InternalCRM.Iface iface(CountDownLatch libere) {
+        return (InternalCRM.Iface) Proxy.newProxyInstance(InternalCRM.Iface.class.getClassLoader(),
+                new Class<?>[]{InternalCRM.Iface.class}, (proxy, methode, args) -> {
+                    switch (methode.getName()) {
+                        case "findLeads":
+                            libere.await();
+                            return List.of();
+                        case "createLead":
+                            return 42L;
+                        case "deleteLeadById":
+                            throw new ThriftNoSuchLeadException("Lead " + args[0] + " introuvable");
+                        default:
+                            throw new UnsupportedOperationException(methode.getName());
+                    }
+                });
+    }
+
+    private static class Resultat<T> extends CompletableFuture<T> implements AsyncMethodCallback<T> {
+        @Override
+        public void onComplete(T response) {
+            complete(response);
+        }
+
+        @Override
+        public void onError(Exception exception) {
+            completeExceptionally(exception);
+        }
+    }
+}
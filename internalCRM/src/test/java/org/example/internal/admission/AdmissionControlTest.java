@@ -0,0 +1,182 @@
+package org.example.internal.admission;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TMultiplexedProtocol;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.example.internal.InternalCRM;
+import org.example.internal.ThriftServerBusyException;
+import org.example.internal.model.Lead;
+import org.example.internal.model.LeadModelImpl;
+import org.example.internal.utils.ConverterUtils;
+import org.example.internal.utils.ThriftConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.Calendar;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Refus du contrôle d'admission : places, budget d'octets, arrêt, et réponse
+ * ThriftServerBusyException renvoyée par AdmissionProcessor sans appeler le processeur suivant.
+ */
+class AdmissionControlTest {
+
+    @Test
+    void refuseAuDelaDeMaxConcurrent() {
+        AdmissionControl admission = new AdmissionControl("test", 2, 0, 0);
+        assertEquals(AdmissionControl.Decision.ADMISE, admission.admettre());
+        assertEquals(AdmissionControl.Decision.ADMISE, admission.admettre());
+        assertEquals(AdmissionControl.Decision.TROP_DE_REQUETES, admission.admettre());
+        assertEquals(2, admission.getActiveRequests());
+
+        admission.liberer(0);
+        assertEquals(AdmissionControl.Decision.ADMISE, admission.admettre());
+        assertEquals(1, admission.getRejectedConcurrency());
+    }
+
+    @Test
+    void budgetOctetsAdmetToujoursUneRequeteSeule() {
+        AdmissionControl admission = new AdmissionControl("test", 0, 1000, 0);
+        assertEquals(AdmissionControl.Decision.ADMISE, admission.admettre());
+        assertEquals(AdmissionControl.Decision.ADMISE, admission.reserverOctets(5000));
+
+        // Budget dépassé : refus, et la place réservée par admettre() est rendue
+        assertEquals(AdmissionControl.Decision.ADMISE, admission.admettre());
+        assertEquals(AdmissionControl.Decision.BUDGET_OCTETS, admission.reserverOctets(10));
+        assertEquals(1, admission.getActiveRequests());
+        assertEquals(1, admission.getRejectedBytes());
+
+        admission.liberer(5000);
+        assertEquals(0, admission.getActiveRequests());
+        assertEquals(0, admission.getInFlightBytes());
+    }
+
+    @Test
+    void estimationSurLaTrancheDemandee() throws Exception {
+        LeadModelImpl model = remplir(3);
+        AdmissionControl admission = new AdmissionControl("test", 0, 1000, 0);
+        assertEquals(0, new AdmissionControl("test", 0, 0, 0).estimerBalayage(model, 0, 1000, null));
+        assertEquals(2L * AdmissionControl.OCTETS_PAR_LEAD, admission.estimerBalayage(model, 0, 1000, null));
+        assertEquals(3L * AdmissionControl.OCTETS_PAR_LEAD, admission.estimerBalayageDates(model, null, null));
+        assertEquals(1L * AdmissionControl.OCTETS_PAR_LEAD,
+                admission.estimerBalayageDates(model, "2024-01-02T00:00:00Z", "2024-01-02T23:59:59Z"));
+        // Requêtes invalides : réponse d'erreur du handler, rien à réserver
+        assertEquals(0, admission.estimerBalayage(model, 1000, 0, null));
+        assertEquals(0, admission.estimerBalayageDates(model, "pas une date", null));
+    }
+
+    @Test
+    void deuxBalayagesEtroitsConcurrentsAdmis() throws Exception {
+        LeadModelImpl model = remplir(100);
+        // Budget de 10 leads, bien en dessous de tout le stockage (100 leads)
+        AdmissionControl admission = new AdmissionControl("test", 0, 10L * AdmissionControl.OCTETS_PAR_LEAD, 0);
+        AtomicInteger appels = new AtomicInteger();
+        AdmissionProcessor[] processeur = new AdmissionProcessor[1];
+        processeur[0] = new AdmissionProcessor((in, out) -> {
+            InternalCRM.findLeads_args args = new InternalCRM.findLeads_args();
+            in.readMessageBegin();
+            args.read(in);
+            in.readMessageEnd();
+            if (appels.incrementAndGet() == 1) {
+                // Premier balayage en cours (2 leads réservés) : un second balayage étroit est admis,
+                // un balayage de tout le stockage est refusé
+                assertEquals(5000, args.lowAnnualRevenue);
+                assertEquals(2L * AdmissionControl.OCTETS_PAR_LEAD, admission.getInFlightBytes());
+                findLeads(processeur[0], 20000, 21000);
+                assertEquals(2, appels.get());
+                assertThrows(ThriftServerBusyException.class, () -> findLeads(processeur[0], 0, 1_000_000));
+            } else {
+                assertEquals(4L * AdmissionControl.OCTETS_PAR_LEAD, admission.getInFlightBytes());
+            }
+        }, model, admission);
+
+        findLeads(processeur[0], 5000, 6000);
+        assertEquals(2, appels.get());
+        assertEquals(1, admission.getRejectedBytes());
+        assertEquals(0, admission.getInFlightBytes());
+        assertEquals(0, admission.getActiveRequests());
+    }
+
+    @Test
+    void arretRefuseLesNouvellesRequetesPuisAttendLesAutres() throws Exception {
+        AdmissionControl admission = new AdmissionControl("test", 0, 0, 0);
+        assertEquals(AdmissionControl.Decision.ADMISE, admission.admettre());
+        admission.arreter();
+        assertEquals(AdmissionControl.Decision.ARRET, admission.admettre());
+        assertFalse(admission.attendreFin(30));
+
+        Thread fin = new Thread(() -> admission.liberer(0));
+        fin.start();
+        assertTrue(admission.attendreFin(5_000));
+        fin.join();
+    }
+
+    @Test
+    void processeurRepondOccupeSansAppelerLeService() throws Exception {
+        AdmissionControl admission = new AdmissionControl("test", 1, 0, 0);
+        AtomicInteger appels = new AtomicInteger();
+        TProcessor service = (in, out) -> appels.incrementAndGet();
+        AdmissionProcessor processeur = new AdmissionProcessor(service, new LeadModelImpl(), admission);
+
+        // Seule place déjà prise : l'appel suivant est refusé
+        assertEquals(AdmissionControl.Decision.ADMISE, admission.admettre());
+        TMemoryBuffer requete = new TMemoryBuffer(256);
+        TMemoryBuffer reponse = new TMemoryBuffer(256);
+        InternalCRM.Client client = new InternalCRM.Client(new TBinaryProtocol(reponse), new TBinaryProtocol(requete));
+        client.send_countLeads(0, 100, "");
+        processeur.process(new TBinaryProtocol(requete), new TBinaryProtocol(reponse));
+
+        ThriftServerBusyException refus = assertThrows(ThriftServerBusyException.class, client::recv_countLeads);
+        assertEquals(AdmissionControl.RETRY_AFTER_MS, refus.getRetryAfterMillis());
+        assertEquals(0, appels.get());
+        assertEquals(1, admission.getActiveRequests());
+    }
+
+    @Test
+    void refusDUnAppelMultiplexe() throws Exception {
+        AdmissionControl admission = new AdmissionControl("test", 1, 0, 0);
+        AdmissionProcessor processeur = new AdmissionProcessor((in, out) -> fail("appel refusé"), new LeadModelImpl(), admission);
+        assertEquals(AdmissionControl.Decision.ADMISE, admission.admettre());
+
+        // Nom "query:countLeads" : la réponse de refus est lue par le client du service query
+        TMemoryBuffer requete = new TMemoryBuffer(256);
+        TMemoryBuffer reponse = new TMemoryBuffer(256);
+        InternalCRM.Client client = new InternalCRM.Client(new TBinaryProtocol(reponse),
+                new TMultiplexedProtocol(new TBinaryProtocol(requete), ThriftConfig.SERVICE_QUERY));
+        client.send_countLeads(0, 100, "");
+        processeur.process(new TBinaryProtocol(requete), new TBinaryProtocol(reponse));
+        assertThrows(ThriftServerBusyException.class, client::recv_countLeads);
+    }
+
+    // Appel findLeads à travers le processeur ; ThriftServerBusyException si refusé
+    private static void findLeads(TProcessor processeur, double low, double high) throws TException {
+        TMemoryBuffer requete = new TMemoryBuffer(256);
+        TMemoryBuffer reponse = new TMemoryBuffer(256);
+        InternalCRM.Client client = new InternalCRM.Client(new TBinaryProtocol(reponse), new TBinaryProtocol(requete));
+        client.send_findLeads(low, high, "");
+        processeur.process(new TBinaryProtocol(requete), new TBinaryProtocol(reponse));
+        if (reponse.length() > 0) {
+            client.recv_findLeads();
+        }
+    }
+
+    // n leads, revenus 0, 1000, 2000... créés les 1er, 2, 3 janvier 2024...
+    private static LeadModelImpl remplir(int n) throws Exception {
+        LeadModelImpl model = new LeadModelImpl();
+        for (int i = 0; i < n; i++) {
+            Lead l = new Lead();
+            l.setFirstName("Prenom" + i);
+            l.setLastName("Nom" + i);
+            l.setAnnualRevenue(1000 * i);
+            l.setState("Vendée");
+            Calendar creation = ConverterUtils.isoStringToCalendar("2024-01-01T12:00:00Z");
+            creation.add(Calendar.DAY_OF_MONTH, i);
+            l.setCreationDate(creation);
+            model.createLead(l);
+        }
+        return model;
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.internal.cache;
+
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.example.internal.InternalCRM;
+import org.example.internal.InternalLeadDTO;
+import org.example.internal.model.Lead;
+import org.example.internal.model.LeadModelImpl;
+import org.example.internal.utils.ConverterUtils;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cache des réponses findLeads : deuxième appel identique servi depuis le cache (même réponse),
+ * entrée périmée dès que la version du stockage change, éviction sous la taille maximale.
+ */
+class CachingProcessorTest {
+
+    @Test
+    void appelIdentiqueServiDepuisLeCache() throws Exception {
+        LeadModelImpl model = new LeadModelImpl();
+        model.createLead(lead("Durand", 1000));
+        model.createLead(lead("Martin", 2000));
+        ResponseCache cache = new ResponseCache("test", 1 << 20);
+        CachingProcessor processeur = new CachingProcessor(handler(model), model, new TBinaryProtocol.Factory(), cache);
+
+        List<InternalLeadDTO> premier = findLeads(processeur, "Vendée");
+        // Même clé : état sans distinction de casse
+        List<InternalLeadDTO> second = findLeads(processeur, "vendée");
+        assertEquals(2, premier.size());
+        assertEquals(premier, second);
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    void ecriturePerimeLaReponse() throws Exception {
+        LeadModelImpl model = new LeadModelImpl();
+        model.createLead(lead("Durand", 1000));
+        ResponseCache cache = new ResponseCache("test", 1 << 20);
+        CachingProcessor processeur = new CachingProcessor(handler(model), model, new TBinaryProtocol.Factory(), cache);
+
+        assertEquals(1, findLeads(processeur, "").size());
+        model.createLead(lead("Martin", 2000));
+        assertEquals(2, findLeads(processeur, "").size());
+        assertEquals(1, cache.getStale());
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    void evictionSousLaTailleMaximale() {
+        ResponseCache cache = new ResponseCache("test", 10_000);
+        for (int i = 0; i < 20; i++) {
+            cache.stocker("cle" + i, 1, new byte[1000]);
+        }
+        assertTrue(cache.getBytes() <= 10_000, "octets : " + cache.getBytes());
+        assertTrue(cache.getEvictions() > 0);
+        assertNotNull(cache.lire("cle19", 1));
+        assertNull(cache.lire("cle0", 1));
+        // Réponse plus grosse que 1/8 du cache : jamais conservée
+        cache.stocker("gros", 1, new byte[2000]);
+        assertNull(cache.lire("gros", 1));
+    }
+
+    // findLeads(0, 1e6, état) encodé, traité par le processeur, puis décodé
+    private static List<InternalLeadDTO> findLeads(CachingProcessor processeur, String etat) throws Exception {
+        TMemoryBuffer requete = new TMemoryBuffer(256);
+        TMemoryBuffer reponse = new TMemoryBuffer(1024);
+        InternalCRM.Client client = new InternalCRM.Client(new TBinaryProtocol(reponse), new TBinaryProtocol(requete));
+        client.send_findLeads(0, 1_000_000, etat);
+        processeur.process(new TBinaryProtocol(requete), new TBinaryProtocol(reponse));
+        return client.recv_findLeads();
+    }
+
+    // Handler réduit à findLeads sur le modèle (les autres méthodes ne sont pas appelées)
+    private static InternalCRM.Iface handler(LeadModelImpl model) {
+        return (InternalCRM.Iface) Proxy.newProxyInstance(InternalCRM.Iface.class.getClassLoader(),
+                new Class<?>[]{InternalCRM.Iface.class}, (proxy, methode, args) -> {
+                    if (!"findLeads".equals(methode.getName())) {
+                        throw new UnsupportedOperationException(methode.getName());
+                    }
+                    return ConverterUtils.toDtoList(model.findLeads((double) args[0], (double) args[1], (String) args[2]));
+                });
+    }
+
+    private static Lead lead(String nom, double revenu) {
+        Lead l = new Lead();
+        l.setFirstName("Jean");
+        l.setLastName(nom);
+        l.setAnnualRevenue(revenu);
+        l.setState("Vendée");
+        return l;
+    }
+}
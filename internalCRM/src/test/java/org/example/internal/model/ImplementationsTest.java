@@ -0,0 +1,186 @@
+package org.example.internal.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mêmes résultats que LeadModelImpl (findLeads, findLeadsByDate, compterParDate, après les suppressions)
+ * pour ColumnarLeadModel, MappedLeadModel (aussi rouvert après close), ShardedLeadModel et
+ * JournaledLeadModel rouvert (instantané + rejeu de la fin du journal). Les ids diffèrent (shards
+ * entrelacés) et l'ordre de findLeads n'est pas garanti : les leads sont comparés sur leurs champs,
+ * triés. Les pages, elles, suivent l'ordre (revenu, id) dans tous les modèles, -0.0 et 0.0 confondus.
+ */
+class ImplementationsTest {
+
+    private static final String[] ETATS = {"Loire-Atlantique", "Vendée", "Sarthe"};
+    private static final long T0 = 1_700_000_000_000L;
+
+    @TempDir
+    Path dossier;
+
+    @Test
+    void columnarCommeLeadModelImpl() throws Exception {
+        assertEquals(scenario(new LeadModelImpl()), scenario(new ColumnarLeadModel()));
+    }
+
+    @Test
+    void mappedCommeLeadModelImpl() throws Exception {
+        assertEquals(scenario(new LeadModelImpl()), scenario(new MappedLeadModel(dossier.resolve("leads"))));
+    }
+
+    @Test
+    void mappedRouvertApresCloseCommeLeadModelImpl() throws Exception {
+        LeadModelImpl reference = new LeadModelImpl();
+        supprimer(reference, remplir(reference));
+
+        Path prefixe = dossier.resolve("ferme");
+        MappedLeadModel mappe = new MappedLeadModel(prefixe);
+        supprimer(mappe, remplir(mappe));
+        mappe.close();
+        // Fichiers fermés : plus d'écriture possible
+        assertThrows(IllegalStateException.class, () -> mappe.createLead(new Lead()));
+
+        MappedLeadModel reouvert = new MappedLeadModel(prefixe);
+        try {
+            assertEquals(requetes(reference), requetes(reouvert));
+            assertEquals(reference.size(), reouvert.size());
+        } finally {
+            reouvert.close();
+        }
+    }
+
+    @Test
+    void shardedCommeLeadModelImpl() throws Exception {
+        assertEquals(scenario(new LeadModelImpl()), scenario(new ShardedLeadModel(3)));
+    }
+
+    @Test
+    void pagesRevenuZeroNegatifCommeLeadModelImpl() throws Exception {
+        List<String> reference = pages(new LeadModelImpl());
+        assertEquals(List.of("Nom, A", "Nom, B", "Nom, C", "Nom, D"), reference);
+        assertEquals(reference, pages(new ColumnarLeadModel()));
+        assertEquals(reference, pages(new MappedLeadModel(dossier.resolve("pages"))));
+    }
+
+    @Test
+    void journaledRouvertCommeLeadModelImpl() throws Exception {
+        LeadModelImpl reference = new LeadModelImpl();
+        supprimer(reference, remplir(reference));
+        // Nom3 (17 leads) puis 20 ids, dont 3 déjà supprimés
+        assertEquals(120 - 17 - 17, reference.size());
+
+        Path prefixe = dossier.resolve("leads");
+        JournaledLeadModel journal = new JournaledLeadModel(new LeadModelImpl(), prefixe, true, 0);
+        List<Long> ids = remplir(journal);
+        // Créations dans l'instantané, suppressions dans la génération suivante du journal
+        journal.instantane();
+        supprimer(journal, ids);
+        journal.close();
+
+        JournaledLeadModel reouvert = new JournaledLeadModel(new LeadModelImpl(), prefixe, true, 0);
+        try {
+            assertEquals(requetes(reference), requetes(reouvert));
+            assertEquals(reference.size(), reouvert.size());
+        } finally {
+            reouvert.close();
+        }
+    }
+
+    // Prénoms lus page par page (2 par page, format de retour "Nom, Prénom") : -0.0 et 0.0 forment une seule clé, départagée par id
+    private static List<String> pages(LeadModel model) throws Exception {
+        double[] revenus = {-0.0, 0.0, -0.0, 500};
+        for (int i = 0; i < revenus.length; i++) {
+            Lead l = new Lead();
+            l.setFirstName(String.valueOf((char) ('A' + i)));
+            l.setLastName("Nom");
+            l.setAnnualRevenue(revenus[i]);
+            model.createLead(l);
+        }
+        List<String> prenoms = new ArrayList<>();
+        double apresRevenu = Double.NEGATIVE_INFINITY;
+        long apresId = Long.MIN_VALUE;
+        List<LeadLecture> page;
+        while (!(page = model.findLeadsPage(0.0, 1000, null, apresRevenu, apresId, 2)).isEmpty()) {
+            for (LeadLecture l : page) {
+                prenoms.add(l.getFirstName());
+            }
+            LeadLecture dernier = page.get(page.size() - 1);
+            apresRevenu = dernier.getAnnualRevenue();
+            apresId = dernier.getId();
+        }
+        return prenoms;
+    }
+
+    // Résultats des requêtes avant puis après les suppressions
+    private static List<List<String>> scenario(LeadModel model) throws Exception {
+        List<Long> ids = remplir(model);
+        List<List<String>> resultats = new ArrayList<>(requetes(model));
+        supprimer(model, ids);
+        resultats.addAll(requetes(model));
+        return resultats;
+    }
+
+    private static List<Long> remplir(LeadModel model) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            Lead l = new Lead();
+            l.setFirstName("Prenom" + i);
+            l.setLastName("Nom" + (i % 7));
+            // Plusieurs leads par revenu (départagés par id dans les index)
+            l.setAnnualRevenue(1000 * (i % 40));
+            l.setPhone("+33 2 40 00 " + i);
+            l.setCity("Nantes");
+            l.setCountry("France");
+            l.setState(ETATS[i % ETATS.length]);
+            if (i % 10 != 0) {
+                l.setCreationDate(utc(T0 + (i % 50) * 3_600_000L));
+            }
+            ids.add(model.createLead(l));
+        }
+        return ids;
+    }
+
+    private static void supprimer(LeadModel model, List<Long> ids) throws Exception {
+        Lead template = new Lead();
+        template.setLastName("Nom3");
+        template.setAnnualRevenue(-1);
+        model.deleteLead(template);
+        model.deleteLeads(ids.subList(40, 60));
+    }
+
+    private static List<List<String>> requetes(LeadModel model) throws Exception {
+        return List.of(
+                champs(model.findLeads(0, Double.MAX_VALUE, null)),
+                champs(model.findLeads(5000, 20000, "Vendée")),
+                champs(model.findLeads(0, 30000, "sarthe")),
+                champs(model.findLeadsByDate(utc(T0 + 5 * 3_600_000L), utc(T0 + 30 * 3_600_000L))),
+                List.of(String.valueOf(model.compterParDate(utc(T0 + 5 * 3_600_000L), utc(T0 + 30 * 3_600_000L))),
+                        String.valueOf(model.findLeadsByDate(utc(T0 + 5 * 3_600_000L), utc(T0 + 30 * 3_600_000L)).size())));
+    }
+
+    private static List<String> champs(List<LeadLecture> leads) {
+        List<String> res = new ArrayList<>();
+        for (LeadLecture l : leads) {
+            res.add(l.getFirstName() + "|" + l.getLastName() + "|" + l.getAnnualRevenue() + "|" + l.getPhone()
+                    + "|" + l.getState() + "|" + l.getCity()
+                    + "|" + (l.getCreationDate() == null ? "" : l.getCreationDate().getTimeInMillis()));
+        }
+        Collections.sort(res);
+        return res;
+    }
+
+    private static Calendar utc(long millis) {
+        Calendar c = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        c.setTimeInMillis(millis);
+        return c;
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.internal.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Journal d'écriture anticipée : écriture refusée sans effet sur le modèle une fois fermé,
+ * relève en attente signalée par son marqueur (marqueur périmé supprimé à l'ouverture),
+ * fin incomplète ou invalide de la dernière génération coupée au rejeu ; enregistrement invalide
+ * suivi d'autres enregistrements, ou incomplet avant une autre génération : démarrage en échec.
+ */
+class JournaledLeadModelTest {
+
+    @TempDir
+    Path dossier;
+
+    @Test
+    void ecritureRefuseeApresFermetureSansModifierLeModele() throws Exception {
+        JournaledLeadModel journal = ouvrir("leads");
+        long id = journal.createLead(lead("A"));
+        journal.close();
+
+        assertThrows(IllegalStateException.class, () -> journal.createLead(lead("B")));
+        assertThrows(IllegalStateException.class, () -> journal.deleteLeads(List.of(id)));
+        assertEquals(1, journal.size());
+    }
+
+    @Test
+    void releveEnAttenteSignaleeParSonMarqueur() throws Exception {
+        JournaledLeadModel journal = ouvrir("releve");
+        assertFalse(journal.releveEnAttente());
+        // Marqueur posé par un successeur qui précharge (autre processus)
+        Files.write(dossier.resolve("releve.releve"), new byte[0]);
+        assertTrue(journal.releveEnAttente());
+        journal.close();
+
+        // Verrou obtenu sans attendre : marqueur d'une relève interrompue, supprimé
+        JournaledLeadModel reouvert = ouvrir("releve");
+        assertFalse(reouvert.releveEnAttente());
+        reouvert.close();
+    }
+
+    @Test
+    void finInvalideDeLaDerniereGenerationCoupee() throws Exception {
+        remplir("crc", 3);
+        Path wal = dossier.resolve("crc.wal.0");
+        long taille = Files.size(wal);
+        // Dernier octet modifié : CRC invalide du dernier enregistrement, rien après
+        modifierOctet(wal, taille - 1);
+        assertRouvertAvec("crc", 2);
+        assertTrue(Files.size(wal) < taille);
+    }
+
+    @Test
+    void enregistrementIncompletDeLaDerniereGenerationCoupe() throws Exception {
+        remplir("incomplet", 3);
+        Path wal = dossier.resolve("incomplet.wal.0");
+        // Arrêt brutal pendant l'écriture du dernier enregistrement
+        try (RandomAccessFile f = new RandomAccessFile(wal.toFile(), "rw")) {
+            f.setLength(f.length() - 3);
+        }
+        assertRouvertAvec("incomplet", 2);
+    }
+
+    @Test
+    void enregistrementIncompletAvantUneAutreGenerationRefuse() throws Exception {
+        remplir("generations", 3);
+        // La réouverture démarre la génération 1 : la 0 n'est plus la dernière
+        assertRouvertAvec("generations", 3);
+        try (RandomAccessFile f = new RandomAccessFile(dossier.resolve("generations.wal.0").toFile(), "rw")) {
+            f.setLength(f.length() - 3);
+        }
+        assertThrows(UncheckedIOException.class, () -> ouvrir("generations"));
+    }
+
+    @Test
+    void crcInvalideSuiviDEnregistrementsRefuse() throws Exception {
+        remplir("leads", 3);
+        Path wal = dossier.resolve("leads.wal.0");
+        // Premier octet du contenu du premier enregistrement (après longueur et CRC)
+        modifierOctet(wal, 8);
+        UncheckedIOException e = assertThrows(UncheckedIOException.class, () -> ouvrir("leads"));
+        assertTrue(e.getCause().getMessage().contains("CRC invalide"), e.getCause().getMessage());
+    }
+
+    private JournaledLeadModel ouvrir(String nom) {
+        return new JournaledLeadModel(new LeadModelImpl(), dossier.resolve(nom), false, 0);
+    }
+
+    private void assertRouvertAvec(String nom, int nombre) throws Exception {
+        JournaledLeadModel reouvert = ouvrir(nom);
+        try {
+            assertEquals(nombre, reouvert.size());
+        } finally {
+            reouvert.close();
+        }
+    }
+
+    private void remplir(String nom, int nombre) throws Exception {
+        JournaledLeadModel journal = ouvrir(nom);
+        for (int i = 0; i < nombre; i++) {
+            journal.createLead(lead("P" + i));
+        }
+        journal.close();
+    }
+
+    private static void modifierOctet(Path fichier, long position) throws Exception {
+        try (RandomAccessFile f = new RandomAccessFile(fichier.toFile(), "rw")) {
+            f.seek(position);
+            int octet = f.read();
+            f.seek(position);
+            f.write(octet ^ 0xFF);
+        }
+    }
+
+    private static Lead lead(String prenom) {
+        Lead l = new Lead();
+        l.setFirstName(prenom);
+        l.setLastName("Nom");
+        l.setAnnualRevenue(1000);
+        l.setState("Vendée");
+        return l;
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.internal.model;
+
+import org.example.internal.model.exception.WrongOrderForRevenueException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Bornes de revenu de LeadModelImpl : NaN refusé (WrongOrderForRevenueException, et non une
+ * IllegalArgumentException de l'index), -0.0 traité comme 0.0 dans les bornes et les revenus stockés.
+ */
+class LeadModelImplTest {
+
+    private LeadModelImpl model;
+
+    @BeforeEach
+    void remplir() throws Exception {
+        model = new LeadModelImpl();
+        model.createLead(lead("Zero", 0.0));
+        model.createLead(lead("ZeroNegatif", -0.0));
+        model.createLead(lead("Mille", 1000));
+    }
+
+    @Test
+    void borneBasseNaNRefusee() {
+        assertThrows(WrongOrderForRevenueException.class, () -> model.findLeads(Double.NaN, 100, null));
+        assertThrows(WrongOrderForRevenueException.class, () -> model.findLeadsFlux(Double.NaN, 100, null));
+        assertThrows(WrongOrderForRevenueException.class, () -> model.findLeadsPage(Double.NaN, 100, null, 0, 0, 10));
+    }
+
+    @Test
+    void borneHauteNaNRefusee() {
+        assertThrows(WrongOrderForRevenueException.class, () -> model.findLeads(0, Double.NaN, null));
+        assertThrows(WrongOrderForRevenueException.class, () -> model.agregerRevenus(0, Double.NaN, null));
+        assertThrows(WrongOrderForRevenueException.class,
+                () -> model.histogramme(Regroupement.ETAT, 0, Double.NaN, null));
+    }
+
+    @Test
+    void zeroNegatifEnBorneHaute() throws Exception {
+        // Double.compare(-0.0, 0.0) < 0 : sans normalisation, subSet(0.0, -0.0) lèverait une exception
+        List<LeadLecture> leads = model.findLeads(0.0, -0.0, null);
+        assertEquals(2, leads.size());
+        assertEquals(2, model.agregerRevenus(0.0, -0.0, null).getNombre());
+        assertEquals(2, model.findLeadsPage(0.0, -0.0, null, -1, Long.MIN_VALUE, 10).size());
+    }
+
+    @Test
+    void revenuZeroNegatifTrouveDepuisZero() throws Exception {
+        assertEquals(3, model.findLeads(0.0, 1000, null).size());
+        assertEquals(2, model.findLeads(-0.0, 0.0, null).size());
+        for (LeadLecture l : model.findLeads(0.0, 0.0, null)) {
+            assertEquals(0, Double.compare(0.0, l.getAnnualRevenue()));
+        }
+    }
+
+    @Test
+    void suppressionParTemplateZeroNegatif() throws Exception {
+        Lead template = new Lead();
+        template.setAnnualRevenue(-0.0);
+        template.setLastName("ZeroNegatif");
+        model.deleteLead(template);
+        assertEquals(2, model.size());
+    }
+
+    private static Lead lead(String nom, double revenu) {
+        Lead l = new Lead();
+        l.setFirstName("Prenom");
+        l.setLastName(nom);
+        l.setAnnualRevenue(revenu);
+        l.setState("Vendée");
+        return l;
+    }
+}
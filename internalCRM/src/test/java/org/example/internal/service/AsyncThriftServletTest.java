@@ -0,0 +1,299 @@
+package org.example.internal.service;
+
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.apache.thrift.transport.TMemoryInputTransport;
+import org.example.internal.InternalCRM;
+import org.example.internal.InternalLeadDTO;
+import org.junit.jupiter.api.Test;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Servlet non bloquante, sans conteneur (requête et réponse simulées) : corps reçu en plusieurs
+ * paquets, réponse écrite quand la socket l'accepte, Content-Length, gzip dans les deux sens,
+ * traitement bloquant quand le conteneur ne gère pas l'asynchrone, GET refusé (405).
+ */
+class AsyncThriftServletTest {
+
+    // findLeads rend 'nombre' leads : 3 leads tiennent sous le seuil gzip (1024 octets), 50 le dépassent
+    private static final double PETIT = 3;
+    private static final double GROS = 50;
+
+    @Test
+    void corpsEnPlusieursPaquetsEtEcritureParMorceaux() throws Exception {
+        Echange echange = new Echange(appel(GROS), false, true);
+        byte[] corps = echange.corps;
+        echange.paquets.add(Arrays.copyOfRange(corps, 0, 10));
+        echange.paquets.add(Arrays.copyOfRange(corps, 10, corps.length));
+        servlet().doPost(echange.requete(), echange.reponse());
+
+        echange.livrer();
+        assertFalse(echange.termine, "réponse envoyée avant la fin du corps");
+        echange.livrerFin();
+        // Socket pleine après chaque écriture : le WriteListener reprend à chaque notification
+        echange.ecrireJusquAuBout();
+        assertEquals(Integer.valueOf(echange.sortie.size()), echange.longueur);
+        assertNull(echange.entetes.get("Content-Encoding"));
+        assertEquals(50, reponse(echange.sortie.toByteArray()).size());
+    }
+
+    @Test
+    void gzipDansLesDeuxSens() throws Exception {
+        Echange echange = new Echange(gzip(appel(GROS)), true, true);
+        echange.entetesRequete.put("Content-Encoding", "gzip");
+        echange.entetesRequete.put("Accept-Encoding", "gzip, deflate");
+        echange.paquets.add(echange.corps);
+        servlet().doPost(echange.requete(), echange.reponse());
+        echange.livrer();
+        echange.livrerFin();
+        echange.ecrireJusquAuBout();
+
+        assertEquals("gzip", echange.entetes.get("Content-Encoding"));
+        assertEquals(Integer.valueOf(echange.sortie.size()), echange.longueur);
+        try (InputStream gz = new GZIPInputStream(new ByteArrayInputStream(echange.sortie.toByteArray()))) {
+            assertEquals(50, reponse(gz.readAllBytes()).size());
+        }
+    }
+
+    @Test
+    void petiteReponseNonCompressee() throws Exception {
+        Echange echange = new Echange(appel(PETIT), false, false);
+        echange.entetesRequete.put("Accept-Encoding", "gzip");
+        servlet().doPost(echange.requete(), echange.reponse());
+
+        // Conteneur sans asynchrone : traitement bloquant dans doPost
+        assertNull(echange.entetes.get("Content-Encoding"));
+        assertEquals(Integer.valueOf(echange.sortie.size()), echange.longueur);
+        assertEquals(3, reponse(echange.sortie.toByteArray()).size());
+    }
+
+    @Test
+    void getRefuse() throws Exception {
+        Echange echange = new Echange(new byte[0], false, false);
+        echange.methode = "GET";
+        servlet().service(echange.requete(), echange.reponse());
+        assertEquals(HttpServletResponse.SC_METHOD_NOT_ALLOWED, echange.erreur);
+    }
+
+    private static AsyncThriftServlet servlet() {
+        InternalCRM.Iface iface = (InternalCRM.Iface) Proxy.newProxyInstance(InternalCRM.Iface.class.getClassLoader(),
+                new Class<?>[]{InternalCRM.Iface.class}, (proxy, methode, args) -> {
+                    if (!"findLeads".equals(methode.getName())) {
+                        throw new UnsupportedOperationException(methode.getName());
+                    }
+                    List<InternalLeadDTO> leads = new ArrayList<>();
+                    for (int i = 0; i < (double) args[0]; i++) {
+                        leads.add(new InternalLeadDTO("Prenom" + i, "Nom" + i, 1000.0 * i, "+33 2 40 00 00 00",
+                                "1 rue de Nantes", "44000", "Nantes", "France", "2024-01-01T00:00:00Z",
+                                "Nantes Métropole", "Loire-Atlantique"));
+                    }
+                    return leads;
+                });
+        return new AsyncThriftServlet(new InternalCRM.Processor<>(iface), new TBinaryProtocol.Factory());
+    }
+
+    // Requête findLeads(nombre, ...) encodée
+    private static byte[] appel(double nombre) throws Exception {
+        TMemoryBuffer requete = new TMemoryBuffer(256);
+        new InternalCRM.Client(new TBinaryProtocol(requete)).send_findLeads(nombre, 0, "");
+        return Arrays.copyOf(requete.getArray(), requete.length());
+    }
+
+    private static List<InternalLeadDTO> reponse(byte[] octets) throws Exception {
+        TBinaryProtocol in = new TBinaryProtocol(new TMemoryInputTransport(octets));
+        assertEquals(TMessageType.REPLY, in.readMessageBegin().type);
+        InternalCRM.findLeads_result resultat = new InternalCRM.findLeads_result();
+        resultat.read(in);
+        return resultat.getSuccess();
+    }
+
+    private static byte[] gzip(byte[] octets) throws IOException {
+        ByteArrayOutputStream sortie = new ByteArrayOutputStream();
+        try (GZIPOutputStream gz = new GZIPOutputStream(sortie)) {
+            gz.write(octets);
+        }
+        return sortie.toByteArray();
+    }
+
+    /**
+     * Requête et réponse simulées : en mode asynchrone, les paquets du corps et les notifications
+     * d'écriture sont délivrés par le test (à la place des threads du conteneur).
+     */
+    private static final class Echange {
+        final byte[] corps;
+        final boolean longueurConnue;
+        final boolean asynchrone;
+        final Map<String, String> entetesRequete = new HashMap<>();
+        final List<byte[]> paquets = new ArrayList<>();
+        final Map<String, String> entetes = new HashMap<>();
+        final ByteArrayOutputStream sortie = new ByteArrayOutputStream();
+        String methode = "POST";
+        Integer longueur;
+        int erreur;
+        boolean termine;
+
+        private ReadListener lecteur;
+        private WriteListener ecrivain;
+        private byte[] paquet = new byte[0];
+        private int position;
+        private boolean place;
+
+        Echange(byte[] corps, boolean longueurConnue, boolean asynchrone) {
+            this.corps = corps;
+            this.longueurConnue = longueurConnue;
+            this.asynchrone = asynchrone;
+        }
+
+        void livrer() throws IOException {
+            for (byte[] p : paquets) {
+                paquet = p;
+                position = 0;
+                lecteur.onDataAvailable();
+            }
+        }
+
+        void livrerFin() throws IOException {
+            lecteur.onAllDataRead();
+        }
+
+        // Notifications d'écriture jusqu'à complete() (borné : une réponse fait quelques morceaux)
+        void ecrireJusquAuBout() throws IOException {
+            for (int i = 0; i < 100 && !termine; i++) {
+                place = true;
+                ecrivain.onWritePossible();
+            }
+            assertTrue(termine, "réponse non terminée");
+        }
+
+        HttpServletRequest requete() {
+            ServletInputStream entree = asynchrone ? new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return false;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return position < paquet.length;
+                }
+
+                @Override
+                public void setReadListener(ReadListener l) {
+                    lecteur = l;
+                }
+
+                @Override
+                public int read() {
+                    return isReady() ? paquet[position++] & 0xff : -1;
+                }
+            } : bloquante(new ByteArrayInputStream(corps));
+            AsyncContext async = (AsyncContext) Proxy.newProxyInstance(AsyncContext.class.getClassLoader(),
+                    new Class<?>[]{AsyncContext.class}, (proxy, m, args) -> {
+                        if ("complete".equals(m.getName())) {
+                            termine = true;
+                        }
+                        return null;
+                    });
+            return (HttpServletRequest) Proxy.newProxyInstance(HttpServletRequest.class.getClassLoader(),
+                    new Class<?>[]{HttpServletRequest.class}, (proxy, m, args) -> {
+                        switch (m.getName()) {
+                            case "getMethod": return methode;
+                            case "getProtocol": return "HTTP/1.1";
+                            case "getHeader": return entetesRequete.get((String) args[0]);
+                            case "getContentLength": return longueurConnue ? corps.length : -1;
+                            case "isAsyncSupported": return asynchrone;
+                            case "startAsync": return async;
+                            case "getInputStream": return entree;
+                            default: return null;
+                        }
+                    });
+        }
+
+        HttpServletResponse reponse() {
+            ServletOutputStream out = new ServletOutputStream() {
+                @Override
+                public boolean isReady() {
+                    // Mode asynchrone : une écriture par notification, puis socket pleine
+                    return !asynchrone || place;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener l) {
+                    ecrivain = l;
+                }
+
+                @Override
+                public void write(int b) {
+                    sortie.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    sortie.write(b, off, len);
+                    place = false;
+                }
+            };
+            return (HttpServletResponse) Proxy.newProxyInstance(HttpServletResponse.class.getClassLoader(),
+                    new Class<?>[]{HttpServletResponse.class}, (proxy, m, args) -> {
+                        switch (m.getName()) {
+                            case "setContentLength": longueur = (Integer) args[0]; return null;
+                            case "setHeader": entetes.put((String) args[0], (String) args[1]); return null;
+                            case "sendError": erreur = (Integer) args[0]; return null;
+                            case "getOutputStream": return out;
+                            default: return null;
+                        }
+                    });
+        }
+
+        private static ServletInputStream bloquante(InputStream in) {
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return false;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener l) {
+                    throw new IllegalStateException("E/S bloquantes");
+                }
+
+                @Override
+                public int read() throws IOException {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+    }
+}
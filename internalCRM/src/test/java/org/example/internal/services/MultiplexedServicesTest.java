@@ -0,0 +1,100 @@
+package org.example.internal.services;
+
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.example.internal.InternalCRM;
+import org.example.internal.ThriftServerBusyException;
+import org.example.internal.utils.ThriftConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Routage des appels non multiplexés et file bornée des pools : file pleine ou service arrêté,
+ * l'appel reçoit ThriftServerBusyException au lieu d'attendre.
+ */
+class MultiplexedServicesTest {
+
+    @Test
+    void serviceDeduitDeLaMethode() {
+        assertEquals(ThriftConfig.SERVICE_QUERY, MultiplexedServices.serviceParDefaut("findLeadsPage"));
+        assertEquals(ThriftConfig.SERVICE_BULK, MultiplexedServices.serviceParDefaut("createLeads"));
+        assertEquals(ThriftConfig.SERVICE_ADMIN, MultiplexedServices.serviceParDefaut("deleteLeadById"));
+    }
+
+    @Test
+    void filePleineRepondOccupe() throws Exception {
+        MultiplexedServices services = new MultiplexedServices(1, 1, 1, 1);
+        CountDownLatch entre = new CountDownLatch(1);
+        CountDownLatch libere = new CountDownLatch(1);
+        TProcessor bloquant = (in, out) -> {
+            entre.countDown();
+            try {
+                libere.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        TProcessor processeur = services.processeur(bloquant);
+        try {
+            // 1er appel : seul thread du pool bulk ; 2e : seule place de la file
+            Thread premier = appelEnFond(processeur);
+            assertTrue(entre.await(5, TimeUnit.SECONDS));
+            Thread second = appelEnFond(processeur);
+            while (second.getState() != Thread.State.WAITING) {
+                Thread.sleep(5);
+            }
+
+            TMemoryBuffer requete = new TMemoryBuffer(256);
+            TMemoryBuffer reponse = new TMemoryBuffer(256);
+            InternalCRM.Client client = new InternalCRM.Client(new TBinaryProtocol(reponse), new TBinaryProtocol(requete));
+            client.send_createLeads(List.of());
+            processeur.process(new TBinaryProtocol(requete), new TBinaryProtocol(reponse));
+            ThriftServerBusyException refus = assertThrows(ThriftServerBusyException.class, client::recv_createLeads);
+            assertTrue(refus.getMessage().contains("bulk"), refus.getMessage());
+
+            libere.countDown();
+            premier.join(5_000);
+            second.join(5_000);
+        } finally {
+            libere.countDown();
+            services.arreter();
+        }
+    }
+
+    @Test
+    void serviceArreteRepondOccupe() throws Exception {
+        MultiplexedServices services = new MultiplexedServices(1, 1, 1, 1);
+        TProcessor processeur = services.processeur((in, out) -> fail("service arrêté"));
+        services.arreter();
+
+        TMemoryBuffer requete = new TMemoryBuffer(256);
+        TMemoryBuffer reponse = new TMemoryBuffer(256);
+        InternalCRM.Client client = new InternalCRM.Client(new TBinaryProtocol(reponse), new TBinaryProtocol(requete));
+        client.send_countLeads(0, 100, "");
+        processeur.process(new TBinaryProtocol(requete), new TBinaryProtocol(reponse));
+        ThriftServerBusyException refus = assertThrows(ThriftServerBusyException.class, client::recv_countLeads);
+        assertTrue(refus.getMessage().contains("arrêté"), refus.getMessage());
+    }
+
+    // createLeads non multiplexé (service bulk) traité dans un thread dédié
+    private static Thread appelEnFond(TProcessor processeur) throws Exception {
+        TMemoryBuffer requete = new TMemoryBuffer(256);
+        new InternalCRM.Client(new TBinaryProtocol(requete)).send_createLeads(List.of());
+        Thread t = new Thread(() -> {
+            try {
+                processeur.process(new TBinaryProtocol(requete), new TBinaryProtocol(new TMemoryBuffer(256)));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        t.setDaemon(true);
+        t.start();
+        return t;
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.internal.streaming;
+
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.example.internal.InternalCRM;
+import org.example.internal.model.FluxLeads;
+import org.example.internal.model.Lead;
+import org.example.internal.model.LeadLecture;
+import org.example.internal.model.LeadModelImpl;
+import org.example.internal.utils.ConverterUtils;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Réponse findLeads en flux : mêmes octets que le processeur généré sur la liste complète,
+ * et FluxLeads annonce puis parcourt exactement les leads de findLeads.
+ */
+class StreamingProcessorTest {
+
+    @Test
+    void memesOctetsQueLeProcesseurGenere() throws Exception {
+        LeadModelImpl model = remplir();
+        InternalCRM.Iface handler = handler(model);
+        byte[] genere = reponse(new InternalCRM.Processor<>(handler), 1000, 50_000, "Vendée");
+        byte[] flux = reponse(new StreamingProcessor(handler, model), 1000, 50_000, "Vendée");
+        assertArrayEquals(genere, flux);
+        // Tranche vide : liste de taille 0
+        assertArrayEquals(reponse(new InternalCRM.Processor<>(handler), 1e9, 2e9, ""),
+                reponse(new StreamingProcessor(handler, model), 1e9, 2e9, ""));
+    }
+
+    @Test
+    void fluxCommeFindLeads() throws Exception {
+        LeadModelImpl model = remplir();
+        List<LeadLecture> attendus = model.findLeads(5000, 30_000, "sarthe");
+        List<LeadLecture> lus = new ArrayList<>();
+        try (FluxLeads flux = model.findLeadsFlux(5000, 30_000, "sarthe")) {
+            assertEquals(attendus.size(), flux.nombre());
+            for (LeadLecture l : flux) {
+                lus.add(l);
+            }
+        }
+        assertEquals(ConverterUtils.toDtoList(attendus), ConverterUtils.toDtoList(lus));
+    }
+
+    private static LeadModelImpl remplir() throws Exception {
+        LeadModelImpl model = new LeadModelImpl();
+        String[] etats = {"Vendée", "Sarthe", "Mayenne"};
+        for (int i = 0; i < 60; i++) {
+            Lead l = new Lead();
+            l.setFirstName("Prenom" + i);
+            l.setLastName("Nom" + i);
+            l.setAnnualRevenue(1000 * (i % 45));
+            l.setCity("Nantes");
+            l.setState(etats[i % etats.length]);
+            model.createLead(l);
+        }
+        return model;
+    }
+
+    // Octets de la réponse du processeur à findLeads(low, high, état)
+    private static byte[] reponse(TProcessor processeur, double low, double high, String etat) throws Exception {
+        TMemoryBuffer requete = new TMemoryBuffer(256);
+        TMemoryBuffer reponse = new TMemoryBuffer(4096);
+        new InternalCRM.Client(new TBinaryProtocol(requete)).send_findLeads(low, high, etat);
+        processeur.process(new TBinaryProtocol(requete), new TBinaryProtocol(reponse));
+        return Arrays.copyOf(reponse.getArray(), reponse.length());
+    }
+
+    // Handler réduit à findLeads sur le modèle (les autres méthodes ne sont pas appelées)
+    private static InternalCRM.Iface handler(LeadModelImpl model) {
+        return (InternalCRM.Iface) Proxy.newProxyInstance(InternalCRM.Iface.class.getClassLoader(),
+                new Class<?>[]{InternalCRM.Iface.class}, (proxy, methode, args) -> {
+                    if (!"findLeads".equals(methode.getName())) {
+                        throw new UnsupportedOperationException(methode.getName());
+                    }
+                    return ConverterUtils.toDtoList(model.findLeads((double) args[0], (double) args[1], (String) args[2]));
+                });
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.internal.utils;
+
+import org.example.internal.model.Lead;
+import org.junit.jupiter.api.Test;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Dates ISO-8601 : mêmes chaînes acceptées et mêmes valeurs que le SimpleDateFormat permissif
+ * d'origine (report des valeurs hors bornes, suffixe ignoré, chiffres non complétés), mêmes
+ * chaînes refusées ; chemin rapide identique au format d'origine sur ses années (1583-9999).
+ */
+class ConverterUtilsTest {
+
+    @Test
+    void formesAccepteesCommeLeFormatDOrigine() throws Exception {
+        for (String iso : new String[]{
+                "2024-01-15T10:20:30Z",
+                "2024-02-29T23:59:59Z",
+                // Reportés au jour / à l'heure / au mois suivant
+                "2024-02-30T00:00:00Z",
+                "2024-01-15T24:00:00Z",
+                "2023-13-01T00:00:00Z",
+                // Chiffres non complétés, suffixe après 'Z'
+                "2024-1-5T1:2:3Z",
+                "2024-01-15T10:20:30Zsuffixe",
+                // Calendrier julien avant le 15/10/1582
+                "1500-06-01T12:00:00Z",
+                "0001-01-01T00:00:00Z"}) {
+            assertEquals(origine(iso), ConverterUtils.isoStringToMillis(iso), iso);
+        }
+        assertEquals(ConverterUtils.isoStringToMillis("2024-03-01T00:00:00Z"),
+                ConverterUtils.isoStringToMillis("2024-02-30T00:00:00Z"));
+    }
+
+    @Test
+    void formesRefusees() {
+        for (String iso : new String[]{"", "pas une date", "2024-01-15", "2024-01-15 10:20:30Z",
+                "2024-01-15T10:20:30", "15/01/2024T10:20:30Z"}) {
+            assertEquals(Lead.SANS_DATE, ConverterUtils.isoStringToMillis(iso), iso);
+            assertNull(ConverterUtils.isoStringToCalendar(iso), iso);
+        }
+        assertEquals(Lead.SANS_DATE, ConverterUtils.isoStringToMillis(null));
+    }
+
+    @Test
+    void cheminRapideCommeLeFormatDOrigine() throws Exception {
+        SimpleDateFormat origine = format();
+        Random rnd = new Random(42);
+        long min = origine.parse("1583-01-01T00:00:00Z").getTime();
+        long max = origine.parse("9999-12-31T23:59:59Z").getTime();
+        for (int i = 0; i < 10_000; i++) {
+            // Secondes entières : le format ne porte pas les millisecondes
+            long millis = (min + (long) (rnd.nextDouble() * (max - min))) / 1000 * 1000;
+            String iso = origine.format(new Date(millis));
+            assertEquals(iso, ConverterUtils.millisToIsoString(millis));
+            assertEquals(millis, ConverterUtils.isoStringToMillis(iso), iso);
+        }
+        // Hors chemin rapide : même texte que le format d'origine, relu à l'identique
+        long ancien = origine.parse("1500-06-01T12:00:00Z").getTime();
+        assertEquals("1500-06-01T12:00:00Z", ConverterUtils.millisToIsoString(ancien));
+    }
+
+    private static long origine(String iso) throws ParseException {
+        return format().parse(iso).getTime();
+    }
+
+    // Format de la version d'origine de ConverterUtils (permissif par défaut)
+    private static SimpleDateFormat format() {
+        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'");
+        sdf.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return sdf;
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.internal.utils;
+
+import org.example.internal.InternalLeadPage;
+import org.example.internal.model.Lead;
+import org.junit.jupiter.api.Test;
+
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Jetons de PageToken : le jeton d'une page décode la position (clé de tri, id) de son dernier
+ * prospect ; jeton vide = première page, dernière page = jeton vide, jeton étranger refusé.
+ */
+class PageTokenTest {
+
+    @Test
+    void jetonRevenuDecodeLeDernierProspect() {
+        InternalLeadPage page = PageToken.page(List.of(lead(1, 1000.5, 10), lead(2, -0.0, 20), lead(3, 3000, 30)),
+                2, PageToken.REVENU);
+        assertEquals(2, page.getLeads().size());
+        long[] position = PageToken.decoder(page.getNextToken(), PageToken.REVENU);
+        assertEquals(-0.0, Double.longBitsToDouble(position[0]));
+        assertEquals(Double.doubleToLongBits(-0.0), position[0]);
+        assertEquals(2, position[1]);
+    }
+
+    @Test
+    void jetonDateDecodeLeDernierProspect() {
+        InternalLeadPage page = PageToken.page(List.of(lead(7, 1000, 1_700_000_000_000L), lead(9, 1000, 1_700_000_060_000L)),
+                1, PageToken.DATE);
+        assertArrayEquals(new long[]{1_700_000_000_000L, 7}, PageToken.decoder(page.getNextToken(), PageToken.DATE));
+    }
+
+    @Test
+    void premiereEtDernierePage() {
+        assertArrayEquals(new long[]{Double.doubleToLongBits(Double.NEGATIVE_INFINITY), Long.MIN_VALUE},
+                PageToken.decoder("", PageToken.REVENU));
+        assertArrayEquals(new long[]{Long.MIN_VALUE, Long.MIN_VALUE}, PageToken.decoder(null, PageToken.DATE));
+        assertEquals("", PageToken.page(List.of(lead(1, 1000, 10)), 1, PageToken.REVENU).getNextToken());
+    }
+
+    @Test
+    void jetonInvalideRefuse() {
+        String jetonDate = PageToken.page(List.of(lead(1, 1000, 10), lead(2, 1000, 20)), 1, PageToken.DATE).getNextToken();
+        assertThrows(IllegalArgumentException.class, () -> PageToken.decoder(jetonDate, PageToken.REVENU));
+        assertThrows(IllegalArgumentException.class, () -> PageToken.decoder("pas un jeton !", PageToken.DATE));
+        assertThrows(IllegalArgumentException.class, () -> PageToken.decoder("RDox", PageToken.REVENU));
+    }
+
+    @Test
+    void taillePageBornee() {
+        assertEquals(PageToken.TAILLE_DEFAUT, PageToken.taillePage(0));
+        assertEquals(PageToken.TAILLE_MAX, PageToken.taillePage(Integer.MAX_VALUE));
+        assertEquals(10, PageToken.taillePage(10));
+    }
+
+    private static Lead lead(long id, double revenu, long creationMillis) {
+        Lead l = new Lead();
+        l.setId(id);
+        l.setFirstName("Prenom" + id);
+        l.setLastName("Nom" + id);
+        l.setAnnualRevenue(revenu);
+        l.setState("Vendée");
+        Calendar date = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        date.setTimeInMillis(creationMillis);
+        l.setCreationDate(date);
+        return l;
+    }
+}
@@ -1,17 +1,19 @@
 package org.example;
 
-import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.protocol.TProtocol;
-import org.apache.thrift.transport.TSocket;
 import org.apache.thrift.transport.TTransport;
+import org.example.internal.InternalBatchResult;
 import org.example.internal.InternalCRM;
 import org.example.internal.InternalLeadDTO;
+import org.example.internal.InternalLeadPage;
 import org.example.internal.ThriftNoSuchLeadException;
 import org.example.internal.ThriftWrongOrderForRevenueException;
 import org.example.internal.ThriftWrongStateException;
+import org.example.internal.utils.ThriftConfig;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -25,14 +27,15 @@ public class InternalCRMThriftClient implements Closeable {
 
     private final TTransport transport;
     private final InternalCRM.Client client;
+    // Même connexion, service "bulk" : lots et exports page par page (pool séparé côté serveur)
+    private final InternalCRM.Client lots;
 
     public InternalCRMThriftClient(String host, int port) throws Exception {
         System.out.println("[InternalCRMThriftClient] Connexion au serveur InternalCRM sur " + host + ":" + port + "...");
-        TSocket socket = new TSocket(host, port);
         // Configurer un timeout de 60 secondes pour la connexion ET les opérations de lecture/écriture
         // Note: ce timeout s'applique à toutes les opérations sur le socket
-        socket.setTimeout(60000);
-        this.transport = socket;
+        // Protocole et transport alignés sur le serveur (internalcrm.thrift.protocol / .transport)
+        this.transport = ThriftConfig.transportClient(host, port, 60000);
         try {
             this.transport.open();
             System.out.println("[InternalCRMThriftClient] Connexion établie avec succès");
@@ -40,25 +43,45 @@ public class InternalCRMThriftClient implements Closeable {
             System.err.println("[InternalCRMThriftClient] ERREUR : Impossible de se connecter au serveur InternalCRM");
             System.err.println("  Vérifiez que le serveur est démarré");
             System.err.println("  Ou démarrez uniquement InternalCRM : ./gradlew :internalCRM:runInternalCRMServer");
-            System.err.println("  NOTE : Le serveur InternalCRM utilise TSimpleServer qui traite une requête à la fois.");
+            System.err.println("  NOTE : En mode \"simple\" (-Pmode=simple), le serveur InternalCRM traite une connexion à la fois.");
             System.err.println("  Si VirtualCRM ou une autre application utilise le serveur, vos requêtes seront bloquées.");
             throw new Exception("Connexion échouée au serveur InternalCRM sur " + host + ":" + port + ". " + e.getMessage(), e);
         }
-        TProtocol protocol = new TBinaryProtocol(transport);
+        // Services "admin" (opérations unitaires) et "bulk" si -Dinternalcrm.thrift.multiplex=true,
+        // sinon le serveur choisit le service d'après la méthode
+        TProtocol protocol = ThriftConfig.protocole(transport, ThriftConfig.SERVICE_ADMIN);
         this.client = new InternalCRM.Client(protocol);
+        this.lots = new InternalCRM.Client(ThriftConfig.protocole(transport, ThriftConfig.SERVICE_BULK));
     }
 
     public InternalCRM.Client getClient() {
         return client;
     }
 
+    // Taille des pages demandées au serveur (plafonnée côté serveur, voir PageToken)
+    public static final int PAGE_SIZE = 1000;
+
     /**
-     * Récupère "tous" les leads internes : on utilise l'astuce
-     * findLeads(0, Double.MAX_VALUE, null) comme tu l'as déjà fait
-     * dans VerificationDataLoader.
+     * Récupère tous les leads internes, page par page (findLeadsPage sur [0, Double.MAX_VALUE]) :
+     * chaque message Thrift reste borné même si le CRM contient des millions de prospects.
      */
     public List<InternalLeadDTO> findAllLeads() throws ThriftWrongOrderForRevenueException, ThriftWrongStateException, org.apache.thrift.TException {
-        return client.findLeads(0.0, Double.MAX_VALUE, null);
+        List<InternalLeadDTO> tous = new ArrayList<>();
+        String token = "";
+        do {
+            InternalLeadPage page = findAllLeadsPage(token);
+            tous.addAll(page.getLeads());
+            token = page.getNextToken();
+        } while (token != null && !token.isEmpty());
+        return tous;
+    }
+
+    /**
+     * Une page de "tous les leads" : token vide pour la première, puis le nextToken de la page précédente
+     * (nextToken vide = dernière page). Permet de traiter un export sans tout garder en mémoire.
+     */
+    public InternalLeadPage findAllLeadsPage(String token) throws ThriftWrongOrderForRevenueException, ThriftWrongStateException, org.apache.thrift.TException {
+        return lots.findLeadsPage(0.0, Double.MAX_VALUE, null, PAGE_SIZE, token);
     }
 
     public long createLead(InternalLeadDTO lead) throws org.example.internal.ThriftWrongStateException, org.apache.thrift.TException {
@@ -85,12 +108,42 @@ public class InternalCRMThriftClient implements Closeable {
             long duration = System.currentTimeMillis() - startTime;
             System.err.println("[InternalCRMThriftClient] Erreur après " + duration + " ms : " + e.getMessage());
             if (e.getCause() instanceof java.net.SocketTimeoutException) {
-                System.err.println("[InternalCRMThriftClient] ⚠️ TIMEOUT : Le serveur InternalCRM utilise TSimpleServer qui traite UNE requête à la fois.");
+                System.err.println("[InternalCRMThriftClient] ⚠️ TIMEOUT : Vérifiez que le serveur InternalCRM n'est pas lancé en mode \"simple\" (UNE connexion à la fois).");
             }
             throw e;
         }
     }
 
+    // Taille des lots envoyés par createLeads (un message Thrift par lot)
+    public static final int BATCH_SIZE = 1000;
+
+    /**
+     * Création en lot : envoie les leads par paquets de BATCH_SIZE (createLeads côté serveur).
+     * Retourne un résultat par paquet, dans l'ordre : ids alignés sur le paquet (-1 = refusé)
+     * et erreurs indexées dans le paquet.
+     */
+    public List<InternalBatchResult> createLeads(List<InternalLeadDTO> leads) throws org.apache.thrift.TException {
+        System.out.println("[InternalCRMThriftClient] Création en lot de " + leads.size() + " leads...");
+        long startTime = System.currentTimeMillis();
+        List<InternalBatchResult> resultats = new ArrayList<>();
+        for (int debut = 0; debut < leads.size(); debut += BATCH_SIZE) {
+            List<InternalLeadDTO> paquet = leads.subList(debut, Math.min(leads.size(), debut + BATCH_SIZE));
+            resultats.add(lots.createLeads(paquet));
+        }
+        System.out.println("[InternalCRMThriftClient] Lot traité en " + (System.currentTimeMillis() - startTime) + " ms");
+        return resultats;
+    }
+
+    // Suppression en lot par id (ids renvoyés par createLead / createLeads)
+    public InternalBatchResult deleteLeads(List<Long> ids) throws org.apache.thrift.TException {
+        return lots.deleteLeads(ids);
+    }
+
+    // Suppression d'un lead par son id (InternalLeadDTO.id renvoyé par findLeads / findLeadsPage)
+    public void deleteLeadById(long id) throws ThriftNoSuchLeadException, org.apache.thrift.TException {
+        client.deleteLeadById(id);
+    }
+
     public void deleteLead(InternalLeadDTO lead) throws ThriftNoSuchLeadException, org.apache.thrift.TException {
         System.out.println("[InternalCRMThriftClient] Suppression d'un lead : " + lead.getFirstName() + " " + lead.getLastName());
         long startTime = System.currentTimeMillis();
@@ -102,7 +155,7 @@ public class InternalCRMThriftClient implements Closeable {
             long duration = System.currentTimeMillis() - startTime;
             System.err.println("[InternalCRMThriftClient] Erreur après " + duration + " ms : " + e.getMessage());
             if (e.getCause() instanceof java.net.SocketTimeoutException) {
-                System.err.println("[InternalCRMThriftClient] ⚠️ TIMEOUT : Le serveur InternalCRM utilise TSimpleServer qui traite UNE requête à la fois.");
+                System.err.println("[InternalCRMThriftClient] ⚠️ TIMEOUT : Vérifiez que le serveur InternalCRM n'est pas lancé en mode \"simple\" (UNE connexion à la fois).");
             }
             throw e;
         }
@@ -1,11 +1,14 @@
 package org.example;
 
+import org.example.internal.InternalBatchError;
+import org.example.internal.InternalBatchResult;
 import org.example.internal.InternalLeadDTO;
-import org.example.internal.ThriftNoSuchLeadException;
+import org.example.internal.InternalLeadPage;
 import org.example.internal.ThriftWrongOrderForRevenueException;
 import org.example.internal.ThriftWrongStateException;
 import org.apache.thrift.TException;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -27,10 +30,10 @@ public class LeadMerger {
 
     /**
      * Merge principal : récupère tous les leads Salesforce, et les ajoute
-     * dans InternalCRM via createLead().
+     * dans InternalCRM via createLeads() (par lots).
      *
      * @param clearInternalFirst si true, on supprime d'abord tous les leads
-     *                           présents dans InternalCRM (en utilisant deleteLead()).
+     *                           présents dans InternalCRM (en utilisant deleteLeads() par id).
      */
     public void mergeLeads(boolean clearInternalFirst) throws Exception {
         if (clearInternalFirst) {
@@ -41,23 +44,21 @@ public class LeadMerger {
         List<InternalLeadDTO> sfLeads = salesforceProvider.fetchAllLeadsAsInternalDto();
         System.out.println("Leads Salesforce à importer : " + sfLeads.size());
 
+        // Création par lots (un aller-retour par paquet de InternalCRMThriftClient.BATCH_SIZE leads)
         int created = 0;
         int failed = 0;
-        for (InternalLeadDTO lead : sfLeads) {
-            try {
-                long id = internalClient.createLead(lead);
-                created++;
-                if (created % 5 == 0) {
-                    System.out.println("  Progression : " + created + "/" + sfLeads.size() + " leads créés...");
-                }
-            } catch (Exception e) {
+        int debutPaquet = 0;
+        for (InternalBatchResult paquet : internalClient.createLeads(sfLeads)) {
+            for (long id : paquet.getIds()) {
+                if (id >= 0) created++;
+            }
+            for (InternalBatchError erreur : paquet.getErrors()) {
                 failed++;
-                System.err.println("  ERREUR lors de la création du lead " + lead.getFirstName() + " " + lead.getLastName() + " : " + e.getMessage());
-                if (failed > 5) {
-                    System.err.println("  Trop d'erreurs, arrêt de l'import");
-                    break;
-                }
+                InternalLeadDTO lead = sfLeads.get(debutPaquet + erreur.getIndex());
+                System.err.println("  ERREUR lors de la création du lead " + lead.getFirstName() + " " + lead.getLastName() + " : " + erreur.getMessage());
             }
+            debutPaquet += paquet.getIds().size();
+            System.out.println("  Progression : " + created + "/" + sfLeads.size() + " leads créés...");
         }
 
         System.out.println("Import terminé. Leads créés : " + created + ", échecs : " + failed);
@@ -65,22 +66,29 @@ public class LeadMerger {
 
     /**
      * Supprime tous les leads présents dans InternalCRM.
-     * Utilise findAllLeads() puis deleteLead() pour chacun.
+     * Parcourt les leads page par page (findAllLeadsPage) et supprime chaque page en un appel
+     * deleteLeads() sur les ids renvoyés : le curseur reste valide même si les leads déjà lus
+     * sont supprimés entre deux pages.
      */
     private void clearInternalCRM() throws ThriftWrongOrderForRevenueException,
             ThriftWrongStateException,
-            ThriftNoSuchLeadException,
             TException {
         System.out.println("Nettoyage : suppression de tous les leads InternalCRM...");
-        List<InternalLeadDTO> existing = internalClient.findAllLeads();
-        System.out.println("Leads trouvés dans InternalCRM : " + existing.size());
 
         int deleted = 0;
-        for (InternalLeadDTO lead : existing) {
-            // deleteLead s'appuie sur un "template" complet, donc on lui passe tel quel
-            internalClient.deleteLead(lead);
-            deleted++;
-        }
+        String token = "";
+        do {
+            InternalLeadPage page = internalClient.findAllLeadsPage(token);
+            List<Long> ids = new ArrayList<>(page.getLeads().size());
+            for (InternalLeadDTO lead : page.getLeads()) {
+                ids.add(lead.getId());
+            }
+            if (!ids.isEmpty()) {
+                InternalBatchResult resultat = internalClient.deleteLeads(ids);
+                deleted += ids.size() - resultat.getErrors().size();
+            }
+            token = page.getNextToken();
+        } while (token != null && !token.isEmpty());
         System.out.println("Leads supprimés : " + deleted);
     }
 
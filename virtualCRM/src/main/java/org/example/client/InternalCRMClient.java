@@ -4,9 +4,8 @@ import org.example.internal.InternalCRM;
 import org.example.internal.InternalLeadDTO;
 import org.example.dto.VirtualLeadDTO;
 import org.example.util.LeadMapper;
-import org.apache.thrift.protocol.TBinaryProtocol;
+import org.example.internal.utils.ThriftConfig;
 import org.apache.thrift.protocol.TProtocol;
-import org.apache.thrift.transport.TSocket;
 import org.apache.thrift.transport.TTransport;
 
 import java.util.List;
@@ -18,9 +17,11 @@ public class InternalCRMClient {
     private final TTransport transport;
 
     InternalCRMClient(String host, int port) throws Exception {
-        this.transport = new TSocket(host, port);
+        // Protocole et transport alignés sur le serveur (internalcrm.thrift.protocol / .transport)
+        this.transport = ThriftConfig.transportClient(host, port, 0);
         transport.open();
-        TProtocol protocol = new TBinaryProtocol(transport);
+        // Service "query" : lectures interactives, pool séparé des imports en lot (-Dinternalcrm.thrift.multiplex)
+        TProtocol protocol = ThriftConfig.protocole(transport, ThriftConfig.SERVICE_QUERY);
         this.client = new InternalCRM.Client(protocol);
     }
 